@@ -148,6 +148,7 @@ module.exports = function (grunt) {
                     '<%= config.node %>/datatables.net/js/jquery.dataTables.js',
                     '<%= config.node %>/datatables.net-buttons/js/dataTables.buttons.js',
                     '<%= config.node %>/datatables.net-keytable/js/dataTables.keyTable.js',
+                    '<%= config.node %>/datatables.net-scroller/js/dataTables.scroller.js',
                     '<%= config.node %>/datatables.net-select/js/dataTables.select.js',
                     '<%= config.node %>/ace-builds/src-noconflict/ace.js',
                     '<%= config.node %>/ace-builds/src-noconflict/ext-modelist.js',
@@ -188,6 +189,7 @@ module.exports = function (grunt) {
                     '<%= config.node %>/datatables.net/js/jquery.dataTables.js',
                     '<%= config.node %>/datatables.net-buttons/js/dataTables.buttons.min.js',
                     '<%= config.node %>/datatables.net-keytable/js/dataTables.keyTable.min.js',
+                    '<%= config.node %>/datatables.net-scroller/js/dataTables.scroller.min.js',
                     '<%= config.node %>/datatables.net-select/js/dataTables.select.min.js',
                     '<%= config.node %>/ace-builds/src-min-noconflict/ace.js',
                     '<%= config.node %>/ace-builds/src-min-noconflict/ext-modelist.js',
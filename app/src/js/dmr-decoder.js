@@ -0,0 +1,41 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ * Decodes base64 encoded DMR responses off the UI thread. The worker receives the raw response as transferable
+ * array buffer and posts back a compact structure which is turned into a model node by ModelNode.fromCompact():
+ *
+ *   objects:             ['o', [key1, node1, key2, node2, ...]]
+ *   lists:               ['l', [node1, node2, ...]]
+ *   properties:          ['p', name, node]
+ *   longs:               ['J', high, low]
+ *   big integers, bytes: ['i'|'b', [byte1, byte2, ...]]
+ *   types:               ['t', typeChar]
+ *   undefined:           ['u']
+ *   all other types:     [typeChar, value]
+ */
+importScripts("dmr-input.js");
+
+self.addEventListener("message", function (e) {
+    var start = Date.now();
+    try {
+        var input = new DataInput(base64Decode(e.data.buffer));
+        var node = input.readNode();
+        self.postMessage({id: e.data.id, data: node, done: true, time: Date.now() - start});
+    } catch (err) {
+        self.postMessage({id: e.data.id, error: "Failed to decode response: " + err, done: true});
+    }
+}, false);
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ * Reads base64 encoded DMR into the compact structure understood by ModelNode.fromCompact(). Shared by the web workers
+ * which decode DMR responses off the UI thread (dmr-decoder.js and rrd-parser.js).
+ */
+self.base64Decode = function (buffer) {
+    var bytes = new Uint8Array(buffer);
+    var chunks = [];
+    var chunkSize = 0x8000;
+    for (var i = 0; i < bytes.length; i += chunkSize) {
+        chunks.push(String.fromCharCode.apply(null, bytes.subarray(i, i + chunkSize)));
+    }
+    var binary = atob(chunks.join("").replace(/\s/g, ""));
+    var decoded = new Uint8Array(binary.length);
+    for (var j = 0; j < binary.length; j++) {
+        decoded[j] = binary.charCodeAt(j);
+    }
+    return decoded;
+};
+
+self.DataInput = function (bytes) {
+    this.bytes = bytes;
+    this.view = new DataView(bytes.buffer);
+    this.pos = 0;
+};
+
+DataInput.prototype.readByte = function () {
+    if (this.pos >= this.bytes.length) {
+        throw "EOF";
+    }
+    return this.bytes[this.pos++];
+};
+
+DataInput.prototype.readInt = function () {
+    var value = this.view.getInt32(this.pos);
+    this.pos += 4;
+    return value;
+};
+
+DataInput.prototype.readDouble = function () {
+    var value = this.view.getFloat64(this.pos);
+    this.pos += 8;
+    return value;
+};
+
+DataInput.prototype.readBytes = function () {
+    var length = this.readInt();
+    var bytes = [];
+    for (var i = 0; i < length; i++) {
+        bytes.push(this.view.getInt8(this.pos++));
+    }
+    return bytes;
+};
+
+DataInput.prototype.readUTF = function () {
+    // modified UTF-8 as written by java.io.DataOutput.writeUTF()
+    var length = this.view.getUint16(this.pos);
+    this.pos += 2;
+    var end = this.pos + length;
+    var chars = [];
+    while (this.pos < end) {
+        var a = this.bytes[this.pos++];
+        if (a < 0x80) {
+            chars.push(a);
+        } else if (a < 0xc0) {
+            chars.push(0x3f); // '?'
+        } else if (a < 0xe0) {
+            var b = this.bytes[this.pos++];
+            chars.push(((a & 0x1f) << 6) | (b & 0x3f));
+        } else if (a < 0xf0) {
+            var b2 = this.bytes[this.pos++];
+            var c = this.bytes[this.pos++];
+            chars.push(((a & 0x0f) << 12) | ((b2 & 0x3f) << 6) | (c & 0x3f));
+        } else {
+            chars.push(0x3f); // '?'
+        }
+    }
+    return String.fromCharCode.apply(null, chars);
+};
+
+DataInput.prototype.readNode = function () {
+    var type = String.fromCharCode(this.readByte());
+    var i, count, values;
+    switch (type) {
+        case "u":
+            return [type];
+        case "Z":
+            return [type, this.readByte() !== 0];
+        case "I":
+            return [type, this.readInt()];
+        case "J":
+            var high = this.readInt();
+            var low = this.readInt();
+            return [type, high, low];
+        case "D":
+            return [type, this.readDouble()];
+        case "d":
+        case "e":
+        case "s":
+        case "S":
+            return [type, this.readUTF()];
+        case "i":
+        case "b":
+            return [type, this.readBytes()];
+        case "t":
+            return [type, String.fromCharCode(this.readByte())];
+        case "o":
+            count = this.readInt();
+            values = [];
+            for (i = 0; i < count; i++) {
+                values.push(this.readUTF());
+                values.push(this.readNode());
+            }
+            return [type, values];
+        case "l":
+            count = this.readInt();
+            values = [];
+            for (i = 0; i < count; i++) {
+                values.push(this.readNode());
+            }
+            return [type, values];
+        case "p":
+            var name = this.readUTF();
+            return [type, name, this.readNode()];
+        default:
+            throw "Invalid type read: " + type;
+    }
+};
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ * Parses the read-resource-description responses of recursive metadata lookups off the UI thread. The worker
+ * receives the raw composite response as transferable array buffer, walks the nested children and posts back flat
+ * descriptions (descriptions w/o children) in chunks of CHUNK_SIZE entries. Each entry is an array
+ *
+ *   [step, kind, base, path, node]
+ *
+ *   step: index of the step in the composite operation
+ *   kind: 'o' - the base address is the address of the operation
+ *         'r' - the base address is the address of the result, which might be relative to the operation address
+ *         'a' - the base address is absolute
+ *   base: base address as flat array [key1, value1, key2, value2, ...] (empty for kind 'o')
+ *   path: address of the child relative to the base address as flat array (empty for top level descriptions)
+ *   node: description w/o children in the compact structure understood by ModelNode.fromCompact()
+ *
+ * Messages are posted as {id, entries, done}. The last message has 'done' set to true. Errors are posted as
+ * {id, error, done: true}.
+ */
+importScripts("dmr-input.js");
+
+var CHUNK_SIZE = 200;
+
+self.addEventListener("message", function (e) {
+    var id = e.data.id;
+    var start = Date.now();
+    var chunk = [];
+    try {
+        var payload = new DataInput(base64Decode(e.data.buffer)).readNode();
+        parseComposite(payload, function (entry) {
+            chunk.push(entry);
+            if (chunk.length === CHUNK_SIZE) {
+                self.postMessage({id: id, data: chunk, done: false});
+                chunk = [];
+            }
+        });
+        self.postMessage({id: id, data: chunk, done: true, time: Date.now() - start});
+    } catch (err) {
+        self.postMessage({id: id, error: "Failed to parse rrd response: " + err, done: true});
+    }
+}, false);
+
+function parseComposite(payload, emit) {
+    var steps = properties(get(payload, "result"));
+    for (var index = 0; index < steps.length; index++) {
+        var step = steps[index][1];
+        if (asString(get(step, "outcome")) === "failed") {
+            throw "Failed step 'step-" + (index + 1) + "' in composite rrd result: " +
+            asString(get(step, "failure-description"));
+        }
+        var result = get(step, "result");
+        if (result[0] === "l") {
+            // multiple rrd results each with its own address
+            var nodes = result[1];
+            for (var i = 0; i < nodes.length; i++) {
+                var nestedResult = get(nodes[i], "result");
+                if (defined(nestedResult)) {
+                    parse(index, "r", address(get(nodes[i], "address")), nestedResult, emit);
+                }
+            }
+        } else {
+            // a single rrd result
+            parse(index, "o", [], result, emit);
+        }
+    }
+}
+
+function parse(step, kind, base, node, emit) {
+    if (node[0] === "l") {
+        var nodes = node[1];
+        for (var i = 0; i < nodes.length; i++) {
+            parseSingle(step, "a", address(get(nodes[i], "address")), [], get(nodes[i], "result"), emit);
+        }
+    } else {
+        parseSingle(step, kind, base, [], node, emit);
+    }
+}
+
+function parseSingle(step, kind, base, path, node, emit) {
+    var children = get(node, "children");
+    if (defined(children)) {
+        emit([step, kind, base, path, without(node, "children")]);
+        var types = properties(children);
+        for (var i = 0; i < types.length; i++) {
+            var modelDescription = get(types[i][1], "model-description");
+            if (defined(modelDescription)) {
+                var descriptions = properties(modelDescription);
+                for (var j = 0; j < descriptions.length; j++) {
+                    parseSingle(step, kind, base, path.concat([types[i][0], descriptions[j][0]]),
+                        descriptions[j][1], emit);
+                }
+            }
+        }
+    } else {
+        emit([step, kind, base, path, node]);
+    }
+}
+
+
+// ------------------------------------------------------ compact structure
+
+function get(node, key) {
+    if (node[0] === "o") {
+        var values = node[1];
+        for (var i = 0; i < values.length; i += 2) {
+            if (values[i] === key) {
+                return values[i + 1];
+            }
+        }
+    }
+    return ["u"];
+}
+
+function defined(node) {
+    return node[0] !== "u";
+}
+
+function without(node, key) {
+    var values = [];
+    for (var i = 0; i < node[1].length; i += 2) {
+        if (node[1][i] !== key) {
+            values.push(node[1][i], node[1][i + 1]);
+        }
+    }
+    return ["o", values];
+}
+
+/* Returns the properties of an object or a list of properties as [[name1, node1], [name2, node2], ...] */
+function properties(node) {
+    var result = [];
+    var i;
+    if (node[0] === "o") {
+        for (i = 0; i < node[1].length; i += 2) {
+            result.push([node[1][i], node[1][i + 1]]);
+        }
+    } else if (node[0] === "l") {
+        for (i = 0; i < node[1].length; i++) {
+            var element = node[1][i];
+            if (element[0] === "p") {
+                result.push([element[1], element[2]]);
+            } else {
+                result = result.concat(properties(element));
+            }
+        }
+    } else if (node[0] === "p") {
+        result.push([node[1], node[2]]);
+    }
+    return result;
+}
+
+/* Returns an address as flat array [key1, value1, key2, value2, ...] */
+function address(node) {
+    var result = [];
+    var segments = properties(node);
+    for (var i = 0; i < segments.length; i++) {
+        result.push(segments[i][0], asString(segments[i][1]));
+    }
+    return result;
+}
+
+function asString(node) {
+    switch (node[0]) {
+        case "u":
+            return undefined;
+        case "o":
+        case "l":
+        case "p":
+            return JSON.stringify(node);
+        case "J":
+            return String(node[1] * 4294967296 + (node[2] >>> 0));
+        default:
+            return String(node[1]);
+    }
+}
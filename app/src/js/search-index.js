@@ -0,0 +1,297 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/*
+ * Global search index. Runs in a web worker and answers queries from a trigram index held in memory. Two kinds of
+ * documents are indexed:
+ *
+ *   tokens:    name tokens with their keywords and resources (sent by the console on initialization)
+ *   resources: resource addresses discovered by read operations (persisted in PouchDB / IndexedDB)
+ *
+ * Messages:
+ *
+ *   {command: "init", database: name, tokens: [{token, keywords: [], resources: []}]}
+ *   {command: "update", parent: address, type: childType, children: [name, ...]}
+ *   {command: "query", id: number, query: string, limit: number}
+ *     -> {id: number, results: [{type, label, token, address}], time: millis}
+ */
+self.importScripts("polyfill.min.js", "pouchdb.min.js");
+
+var N = 3;
+var COMPACT_MIN = 1000;     // compact the postings if at least COMPACT_MIN documents...
+var COMPACT_RATIO = 0.25;   // ...and more than COMPACT_RATIO of all documents have been removed
+var db = null;
+var docs = [];      // internal number -> document (null if removed)
+var ids = {};       // document id -> internal number
+var trigrams = {};  // trigram -> [internal number, ...] (ascending)
+var removed = 0;    // number of removed documents (null entries in docs)
+var pending = Promise.resolve(); // updates run one after another and after the persisted documents are loaded
+
+self.addEventListener("message", function (e) {
+    var data = e.data;
+    switch (data.command) {
+        case "init":
+            init(data.database, data.tokens || []);
+            break;
+        case "update":
+            pending = pending.then(function () {
+                return update(data.parent, data.type, data.children || []);
+            });
+            break;
+        case "query":
+            var start = Date.now();
+            var results = query(data.query, data.limit || 25);
+            self.postMessage({id: data.id, results: results, time: Date.now() - start});
+            break;
+    }
+}, false);
+
+self.init = function (database, tokens) {
+    tokens.forEach(function (t) {
+        index({
+            _id: "token:" + t.token,
+            type: "token",
+            label: t.token,
+            token: t.token,
+            text: [t.token].concat(t.keywords || [], t.resources || []).join("\n")
+        });
+    });
+    db = new PouchDB(database);
+    pending = pending
+        .then(function () {
+            return db.allDocs({include_docs: true});
+        })
+        .then(function (result) {
+            result.rows.forEach(function (row) {
+                index(row.doc);
+            });
+            info("Loaded " + result.rows.length + " resources from " + database);
+        })
+        .catch(function (err) {
+            error("Unable to load " + database + ": " + err);
+        });
+};
+
+/*
+ * Replaces the children of the given type below the parent address. Returns a promise which resolves once the
+ * changes have been persisted, so that the next update sees the revisions of the documents added here.
+ */
+self.update = function (parent, type, children) {
+    var prefix = parent === "" || parent === "/" ? "/" : parent + "/";
+    var current = {};
+    children.forEach(function (name) {
+        current[prefix + type + "=" + name] = name;
+    });
+
+    var changes = [];
+    docs.forEach(function (doc) {
+        if (doc !== null && doc.type === "resource" && doc.parent === parent && doc.childType === type &&
+            !current.hasOwnProperty(doc._id)) {
+            remove(doc);
+            if (doc._rev) {
+                changes.push({_id: doc._id, _rev: doc._rev, _deleted: true});
+            }
+        }
+    });
+    Object.keys(current).forEach(function (id) {
+        if (!ids.hasOwnProperty(id)) {
+            var doc = {
+                _id: id,
+                type: "resource",
+                label: current[id],
+                parent: parent,
+                childType: type,
+                text: id
+            };
+            index(doc);
+            changes.push(doc);
+        }
+    });
+    compact();
+    if (db !== null && changes.length !== 0) {
+        return db.bulkDocs(changes)
+            .then(function (result) {
+                result.forEach(function (r) {
+                    if (r.ok && ids.hasOwnProperty(r.id)) {
+                        docs[ids[r.id]]._rev = r.rev;
+                    }
+                });
+            })
+            .catch(function (err) {
+                error("Unable to update search index: " + err);
+            });
+    }
+    return Promise.resolve();
+};
+
+self.index = function (doc) {
+    if (ids.hasOwnProperty(doc._id)) {
+        remove(docs[ids[doc._id]]);
+    }
+    var n = docs.length;
+    docs.push(doc);
+    ids[doc._id] = n;
+    doc.lower = (doc.label + "\n" + doc.text).toLowerCase();
+    var seen = {};
+    for (var i = 0; i + N <= doc.lower.length; i++) {
+        var t = doc.lower.substr(i, N);
+        if (t.indexOf("\n") === -1 && !seen[t]) {
+            seen[t] = true;
+            (trigrams[t] || (trigrams[t] = [])).push(n);
+        }
+    }
+};
+
+self.remove = function (doc) {
+    // postings are not touched: removed documents are skipped when verifying the candidates until the next compact()
+    docs[ids[doc._id]] = null;
+    delete ids[doc._id];
+    removed++;
+};
+
+/* Drops the removed documents from the documents and the postings if enough documents have been removed. */
+self.compact = function () {
+    if (removed < COMPACT_MIN || removed <= docs.length * COMPACT_RATIO) {
+        return;
+    }
+    var numbers = new Array(docs.length); // old internal number -> new internal number (-1 if removed)
+    var compacted = [];
+    docs.forEach(function (doc, n) {
+        if (doc !== null) {
+            numbers[n] = compacted.length;
+            ids[doc._id] = compacted.length;
+            compacted.push(doc);
+        } else {
+            numbers[n] = -1;
+        }
+    });
+    Object.keys(trigrams).forEach(function (t) {
+        // the new numbers keep the ascending order of the postings
+        var postings = [];
+        trigrams[t].forEach(function (n) {
+            if (numbers[n] !== -1) {
+                postings.push(numbers[n]);
+            }
+        });
+        if (postings.length !== 0) {
+            trigrams[t] = postings;
+        } else {
+            delete trigrams[t];
+        }
+    });
+    info("Compacted search index: removed " + removed + " of " + docs.length + " documents");
+    docs = compacted;
+    removed = 0;
+};
+
+self.query = function (query, limit) {
+    var q = (query || "").trim().toLowerCase();
+    if (q.length === 0) {
+        return [];
+    }
+    var candidates;
+    if (q.length < N) {
+        candidates = null; // linear scan
+    } else {
+        var lists = [];
+        for (var i = 0; i + N <= q.length; i++) {
+            var postings = trigrams[q.substr(i, N)];
+            if (!postings) {
+                return [];
+            }
+            lists.push(postings);
+        }
+        lists.sort(function (a, b) {
+            return a.length - b.length;
+        });
+        candidates = lists[0];
+        for (var j = 1; j < lists.length && candidates.length !== 0; j++) {
+            candidates = intersect(candidates, lists[j]);
+        }
+    }
+
+    // collect the matches in buckets by rank and sort only the buckets needed to fill the limit
+    var buckets = [[], [], [], [], [], []];
+    var count = candidates === null ? docs.length : candidates.length;
+    for (var k = 0; k < count; k++) {
+        var doc = docs[candidates === null ? k : candidates[k]];
+        if (doc !== null && doc.lower.indexOf(q) !== -1) {
+            buckets[rank(doc, q)].push(doc);
+        }
+    }
+    var matches = [];
+    for (var b = 0; b < buckets.length && matches.length < limit; b++) {
+        buckets[b].sort(function (x, y) {
+            return x.label < y.label ? -1 : x.label > y.label ? 1 : 0;
+        });
+        matches = matches.concat(buckets[b].slice(0, limit - matches.length));
+    }
+    return matches.map(function (doc) {
+        return {
+            type: doc.type,
+            label: doc.label,
+            token: doc.token || null,
+            address: doc.type === "resource" ? doc._id : null
+        };
+    });
+};
+
+/* Lower is better: tokens before resources, label matches before text matches, prefix before substring. */
+self.rank = function (doc, q) {
+    var label = doc.label.toLowerCase();
+    var r = doc.type === "token" ? 0 : 3;
+    if (label.indexOf(q) === 0) {
+        return r;
+    } else if (label.indexOf(q) !== -1) {
+        return r + 1;
+    }
+    return r + 2;
+};
+
+self.intersect = function (a, b) {
+    var result = [];
+    var i = 0, j = 0;
+    while (i < a.length && j < b.length) {
+        if (a[i] < b[j]) {
+            i++;
+        } else if (a[i] > b[j]) {
+            j++;
+        } else {
+            result.push(a[i]);
+            i++;
+            j++;
+        }
+    }
+    return result;
+};
+
+self.info = function (message) {
+    // use the same log format as HAL
+    console.info(timestamp() + " INFO  search-index.js                          " + message);
+};
+
+self.error = function (message) {
+    // use the same log format as HAL
+    console.error(timestamp() + " ERROR search-index.js                          " + message);
+};
+
+self.timestamp = function () {
+    var d = new Date();
+    return d.getHours().toString().padStart(2, "0") + ":" +
+        d.getMinutes().toString().padStart(2, "0") + ":" +
+        d.getSeconds().toString().padStart(2, "0") + "." +
+        d.getMilliseconds().toString().padStart(3, "0");
+};
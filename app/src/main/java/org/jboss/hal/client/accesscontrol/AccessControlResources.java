@@ -15,11 +15,13 @@
  */
 package org.jboss.hal.client.accesscontrol;
 
-import com.google.gwt.resources.client.ClientBundle;
-import com.google.gwt.resources.client.TextResource;
+import org.jboss.hal.meta.description.ResourceDescription;
+import org.jboss.hal.spi.StaticDescription;
 
-public interface AccessControlResources extends ClientBundle {
+public interface AccessControlResources {
 
-    @Source("principal.base64")
-    TextResource principal();
+    AccessControlResources INSTANCE = new AccessControlResourcesImpl();
+
+    @StaticDescription("principal.dmr")
+    ResourceDescription principal();
 }
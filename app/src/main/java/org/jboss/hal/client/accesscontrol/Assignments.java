@@ -16,13 +16,22 @@
 package org.jboss.hal.client.accesscontrol;
 
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
 
 import org.jboss.hal.config.Role;
 
+import static java.util.Collections.emptySet;
+
+/**
+ * Holds all assignments. Besides the set of all assignments, secondary indexes by principal and by role are
+ * maintained, each split by the include flag. Lookups by principal or role are done using these indexes and don't
+ * need to iterate over all assignments.
+ */
 class Assignments implements Iterable<Assignment> {
 
     // @formatter:off
@@ -34,47 +43,86 @@ class Assignments implements Iterable<Assignment> {
     // @formatter:on
 
     private final Set<Assignment> assignments;
+    private final Index<Principal> principals;
+    private final Index<Role> roles;
 
     Assignments() {
         assignments = new HashSet<>();
+        principals = new Index<>();
+        roles = new Index<>();
     }
 
     boolean add(final Assignment assignment) {
-        return assignments.add(assignment);
+        boolean added = assignments.add(assignment);
+        if (added) {
+            principals.add(assignment.getPrincipal(), assignment);
+            roles.add(assignment.getRole(), assignment);
+        }
+        return added;
     }
 
     void clear() {
         assignments.clear();
+        principals.clear();
+        roles.clear();
     }
 
     Stream<Assignment> byPrincipal(Principal principal) {
-        return assignments.stream().filter(assignment -> assignment.getPrincipal().equals(principal));
+        return principals.all(principal);
     }
 
     Stream<Assignment> includes(Principal principal) {
-        return assignments.stream()
-                .filter(assignment -> assignment.getPrincipal().equals(principal) && assignment.isInclude());
+        return principals.includes(principal);
     }
 
     Stream<Assignment> excludes(Principal principal) {
-        return assignments.stream()
-                .filter(assignment -> assignment.getPrincipal().equals(principal) && !assignment.isInclude());
+        return principals.excludes(principal);
     }
 
     Stream<Assignment> byRole(Role role) {
-        return assignments.stream().filter(assignment -> assignment.getRole().equals(role));
+        return roles.all(role);
     }
 
     Stream<Assignment> includes(Role role) {
-        return assignments.stream().filter(assignment -> assignment.getRole().equals(role) && assignment.isInclude());
+        return roles.includes(role);
     }
 
     Stream<Assignment> excludes(Role role) {
-        return assignments.stream().filter(assignment -> assignment.getRole().equals(role) && !assignment.isInclude());
+        return roles.excludes(role);
     }
 
     @Override
     public Iterator<Assignment> iterator() {
         return assignments.iterator();
     }
+
+
+    /** Maps a key (principal or role) to its including and excluding assignments. */
+    private static class Index<K> {
+
+        private final Map<K, Set<Assignment>> includes = new HashMap<>();
+        private final Map<K, Set<Assignment>> excludes = new HashMap<>();
+
+        void add(K key, Assignment assignment) {
+            Map<K, Set<Assignment>> map = assignment.isInclude() ? includes : excludes;
+            map.computeIfAbsent(key, k -> new HashSet<>()).add(assignment);
+        }
+
+        void clear() {
+            includes.clear();
+            excludes.clear();
+        }
+
+        Stream<Assignment> all(K key) {
+            return Stream.concat(includes(key), excludes(key));
+        }
+
+        Stream<Assignment> includes(K key) {
+            return includes.getOrDefault(key, emptySet()).stream();
+        }
+
+        Stream<Assignment> excludes(K key) {
+            return excludes.getOrDefault(key, emptySet()).stream();
+        }
+    }
 }
@@ -46,10 +46,9 @@ public class GroupColumn extends PrincipalColumn {
             User currentUser,
             AccessControl accessControl,
             AccessControlTokens tokens,
-            AccessControlResources accessControlResources,
             Resources resources) {
         super(finder, Ids.GROUP, resources.constants().group(), Principal.Type.GROUP,
                 columnActionFactory, dispatcher, eventBus, progress, currentUser, accessControl, tokens,
-                accessControlResources, resources);
+                resources);
     }
 }
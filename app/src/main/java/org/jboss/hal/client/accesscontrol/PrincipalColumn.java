@@ -94,7 +94,6 @@ class PrincipalColumn extends FinderColumn<Principal> {
             User currentUser,
             AccessControl accessControl,
             AccessControlTokens tokens,
-            AccessControlResources accessControlResources,
             Resources resources) {
 
         super(new Builder<Principal>(finder, id, title)
@@ -109,7 +108,7 @@ class PrincipalColumn extends FinderColumn<Principal> {
 
         // we assume that the add operations for INCLUDE_TEMPLATE and EXCLUDE_TEMPLATE have the same rights
         addColumnAction(columnActionFactory.add(Ids.ROLE_ADD, title, INCLUDE_TEMPLATE, column -> {
-            Metadata metadata = Metadata.staticDescription(accessControlResources.principal());
+            Metadata metadata = Metadata.staticDescription(AccessControlResources.INSTANCE.principal());
             Form<ModelNode> form = new ModelNodeForm.Builder<>(Ids.build(id, Ids.FORM), metadata)
                     .addOnly()
                     .include(NAME, REALM, INCLUDE, EXCLUDE)
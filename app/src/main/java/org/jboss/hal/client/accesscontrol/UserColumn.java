@@ -46,10 +46,9 @@ public class UserColumn extends PrincipalColumn {
             final User currentUser,
             final AccessControl accessControl,
             final AccessControlTokens tokens,
-            final AccessControlResources accessControlResources,
             final Resources resources) {
         super(finder, Ids.USER, resources.constants().user(), Principal.Type.USER,
                 columnActionFactory, dispatcher, eventBus, progress, currentUser, accessControl, tokens,
-                accessControlResources, resources);
+                resources);
     }
 }
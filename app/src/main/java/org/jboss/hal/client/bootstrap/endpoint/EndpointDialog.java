@@ -56,7 +56,6 @@ class EndpointDialog {
 
     private static final Constants CONSTANTS = GWT.create(Constants.class);
     private static final Messages MESSAGES = GWT.create(Messages.class);
-    private static final EndpointResources RESOURCES = GWT.create(EndpointResources.class);
 
     private final EndpointManager manager;
     private final EndpointStorage storage;
@@ -72,7 +71,7 @@ class EndpointDialog {
     EndpointDialog(EndpointManager manager, EndpointStorage storage) {
         this.manager = manager;
         this.storage = storage;
-        Metadata metadata = Metadata.staticDescription(RESOURCES.endpoint());
+        Metadata metadata = Metadata.staticDescription(EndpointResources.INSTANCE.endpoint());
 
         table = new ModelNodeTable.Builder<Endpoint>(Ids.ENDPOINT_SELECT, metadata)
                 .button(CONSTANTS.add(), table -> switchTo(ADD))
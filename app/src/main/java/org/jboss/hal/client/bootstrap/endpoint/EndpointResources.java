@@ -15,11 +15,13 @@
  */
 package org.jboss.hal.client.bootstrap.endpoint;
 
-import com.google.gwt.resources.client.ClientBundle;
-import com.google.gwt.resources.client.TextResource;
+import org.jboss.hal.meta.description.ResourceDescription;
+import org.jboss.hal.spi.StaticDescription;
 
-public interface EndpointResources extends ClientBundle {
+public interface EndpointResources {
 
-    @Source("endpoint.base64")
-    TextResource endpoint();
+    EndpointResources INSTANCE = new EndpointResourcesImpl();
+
+    @StaticDescription("endpoint.dmr")
+    ResourceDescription endpoint();
 }
@@ -50,11 +50,14 @@ public class LoadSettings implements BootstrapTask {
     public Completable call(FlowContext context) {
         settings.load(TITLE, Names.BROWSER_DEFAULT_TITLE);
         settings.load(COLLECT_USER_DATA, environment.getHalBuild() == Build.COMMUNITY);
+        settings.load(DECODE_IN_WORKER, false);
+        settings.load(LIFECYCLE_BATCH_SIZE, Settings.DEFAULT_LIFECYCLE_BATCH_SIZE);
         settings.load(LOCALE, Settings.DEFAULT_LOCALE);
         settings.load(PAGE_SIZE, Settings.DEFAULT_PAGE_SIZE);
         settings.load(POLL, true);
         settings.load(POLL_TIME, Settings.DEFAULT_POLL_TIME);
         settings.load(RUN_AS, null);
+        settings.load(SPLIT_METADATA, false);
         logger.debug("Load settings: {}", settings);
         return Completable.complete();
     }
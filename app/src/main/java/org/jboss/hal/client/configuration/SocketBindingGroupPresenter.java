@@ -18,7 +18,6 @@ package org.jboss.hal.client.configuration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Consumer;
 
 import javax.inject.Inject;
 
@@ -65,6 +64,8 @@ import org.jboss.hal.spi.Requires;
 import static java.util.Collections.emptyList;
 import static org.jboss.hal.client.configuration.SocketBinding.INBOUND;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
+import static org.jboss.hal.dmr.ModelNodeHelper.asNamedNodes;
+import static org.jboss.hal.dmr.ModelNodeHelper.failSafePropertyList;
 
 public class SocketBindingGroupPresenter
         extends MbuiPresenter<SocketBindingGroupPresenter.MyView, SocketBindingGroupPresenter.MyProxy>
@@ -81,6 +82,7 @@ public class SocketBindingGroupPresenter
     private final StatementContext statementContext;
     private final Resources resources;
     private String socketBindingGroup;
+    private ModelNode group;
     String inbound;
 
     @Inject
@@ -133,11 +135,29 @@ public class SocketBindingGroupPresenter
 
     @Override
     protected void reload() {
-        reload(result -> getView().update(new NamedNode(result)));
+        crud.readRecursive(SELECTED_TEMPLATE.resolve(statementContext), result -> {
+            group = result;
+            getView().update(new NamedNode(result));
+        });
+    }
+
+    private void refreshSocketBindingGroup() {
+        ResourceAddress address = SELECTED_TEMPLATE.resolve(statementContext);
+        crud.refreshAttributes(address, group, address,
+                result -> getView().updateConfiguration(new NamedNode(result)));
     }
 
-    private void reload(Consumer<ModelNode> consumer) {
-        crud.readRecursive(SELECTED_TEMPLATE.resolve(statementContext), consumer::accept);
+    private void refreshSocketBinding(SocketBinding socketBinding, ResourceAddress address) {
+        crud.refresh(SELECTED_TEMPLATE.resolve(statementContext), group, address,
+                result -> getView().updateSocketBindings(socketBinding,
+                        asNamedNodes(failSafePropertyList(result, socketBinding.resource))));
+    }
+
+    private void refreshSocketBindings(SocketBinding socketBinding) {
+        ResourceAddress address = SELECTED_TEMPLATE.resolve(statementContext);
+        crud.refreshChildren(address, group, address, socketBinding.resource,
+                result -> getView().updateSocketBindings(socketBinding,
+                        asNamedNodes(failSafePropertyList(result, socketBinding.resource))));
     }
 
 
@@ -146,7 +166,8 @@ public class SocketBindingGroupPresenter
     void saveSocketBindingGroup(Map<String, Object> changedValues) {
         Metadata metadata = metadataRegistry.lookup(ROOT_TEMPLATE);
         ResourceAddress address = SELECTED_TEMPLATE.resolve(statementContext);
-        crud.saveSingleton(Names.SOCKET_BINDING_GROUP, address, changedValues, metadata, this::reload);
+        crud.saveSingleton(Names.SOCKET_BINDING_GROUP, address, changedValues, metadata,
+                this::refreshSocketBindingGroup);
     }
 
     void resetSocketBindingGroup(Form<NamedNode> form) {
@@ -155,7 +176,7 @@ public class SocketBindingGroupPresenter
         crud.resetSingleton(Names.SOCKET_BINDING_GROUP, address, form, metadata, new FinishReset<NamedNode>(form) {
             @Override
             public void afterReset(Form<NamedNode> form) {
-                reload();
+                refreshSocketBindingGroup();
             }
         });
     }
@@ -182,7 +203,8 @@ public class SocketBindingGroupPresenter
                     name = nameItem.getValue();
                     ResourceAddress address = SELECTED_TEMPLATE.append(socketBinding.templateSuffix())
                             .resolve(statementContext, name);
-                    crud.add(socketBinding.type, name, address, model, (n, a) -> reload());
+                    crud.add(socketBinding.type, name, address, model,
+                            (n, a) -> refreshSocketBinding(socketBinding, a));
                 });
         dialog.show();
     }
@@ -192,7 +214,8 @@ public class SocketBindingGroupPresenter
         Metadata metadata = metadataRegistry.lookup(ROOT_TEMPLATE.append(socketBinding.templateSuffix()));
         ResourceAddress address = SELECTED_TEMPLATE.append(socketBinding.templateSuffix())
                 .resolve(statementContext, name);
-        crud.save(socketBinding.type, name, address, changedValues, metadata, this::reload);
+        crud.save(socketBinding.type, name, address, changedValues, metadata,
+                () -> refreshSocketBinding(socketBinding, address));
     }
 
     void resetSocketBinding(SocketBinding socketBinding, Form<NamedNode> form) {
@@ -203,7 +226,7 @@ public class SocketBindingGroupPresenter
         crud.reset(socketBinding.type, name, address, form, metadata, new FinishReset<NamedNode>(form) {
             @Override
             public void afterReset(Form<NamedNode> form) {
-                reload();
+                refreshSocketBinding(socketBinding, address);
             }
         });
     }
@@ -211,7 +234,7 @@ public class SocketBindingGroupPresenter
     void removeSocketBinding(SocketBinding socketBinding, String name) {
         ResourceAddress address = SELECTED_TEMPLATE.append(socketBinding.templateSuffix())
                 .resolve(statementContext, name);
-        crud.remove(socketBinding.type, name, address, this::reload);
+        crud.remove(socketBinding.type, name, address, () -> refreshSocketBindings(socketBinding));
     }
 
 
@@ -297,6 +320,8 @@ public class SocketBindingGroupPresenter
     public interface MyView extends MbuiView<SocketBindingGroupPresenter> {
         void reveal();
         void update(NamedNode socketBindingGroup);
+        void updateConfiguration(NamedNode socketBindingGroup);
+        void updateSocketBindings(SocketBinding socketBinding, List<NamedNode> socketBindings);
         void showClientMappings(List<NamedNode> clientMappings);
     }
     // @formatter:on
@@ -163,18 +163,36 @@ public abstract class SocketBindingGroupView extends MbuiViewImpl<SocketBindingG
 
     @Override
     public void update(NamedNode socketBindingGroup) {
-        configurationForm.view(socketBindingGroup);
-
-        inboundForm.clear();
-        inboundTable.update(asNamedNodes(failSafePropertyList(socketBindingGroup, SOCKET_BINDING)));
+        updateConfiguration(socketBindingGroup);
+        for (SocketBinding socketBinding : SocketBinding.values()) {
+            updateSocketBindings(socketBinding,
+                    asNamedNodes(failSafePropertyList(socketBindingGroup, socketBinding.resource)));
+        }
+    }
 
-        outboundLocalForm.clear();
-        outboundLocalTable.update(asNamedNodes(failSafePropertyList(socketBindingGroup,
-                LOCAL_DESTINATION_OUTBOUND_SOCKET_BINDING)));
+    @Override
+    public void updateConfiguration(NamedNode socketBindingGroup) {
+        configurationForm.view(socketBindingGroup);
+    }
 
-        outboundRemoteForm.clear();
-        outboundRemoteTable.update(asNamedNodes(failSafePropertyList(socketBindingGroup,
-                REMOTE_DESTINATION_OUTBOUND_SOCKET_BINDING)));
+    @Override
+    public void updateSocketBindings(SocketBinding socketBinding, List<NamedNode> socketBindings) {
+        switch (socketBinding) {
+            case INBOUND:
+                inboundForm.clear();
+                inboundTable.update(socketBindings);
+                break;
+            case OUTBOUND_LOCAL:
+                outboundLocalForm.clear();
+                outboundLocalTable.update(socketBindings);
+                break;
+            case OUTBOUND_REMOTE:
+                outboundRemoteForm.clear();
+                outboundRemoteTable.update(socketBindings);
+                break;
+            default:
+                break;
+        }
     }
 
     @Override
@@ -136,6 +136,7 @@ public class SubsystemColumn extends FinderColumn<SubsystemMetadata> {
                 .showCount()
                 .withFilter()
                 .pinnable()
+                .cacheItems()
                 .filterDescription(resources.messages().susbsystemFilterDescription())
         );
 
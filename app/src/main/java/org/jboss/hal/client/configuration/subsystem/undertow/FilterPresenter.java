@@ -74,6 +74,7 @@ public class FilterPresenter
     private final MetadataRegistry metadataRegistry;
     private final StatementContext statementContext;
     private final Resources resources;
+    private ModelNode filters;
 
     @Inject
     public FilterPresenter(EventBus eventBus,
@@ -115,7 +116,20 @@ public class FilterPresenter
 
     @Override
     protected void reload() {
-        crud.readRecursive(FILTER_TEMPLATE, result -> getView().update(result));
+        crud.readRecursive(FILTER_TEMPLATE, result -> {
+            filters = result;
+            getView().update(result);
+        });
+    }
+
+    @Override
+    protected void reload(ResourceAddress address) {
+        crud.refresh(resourceAddress(), filters, address, result -> getView().update(result));
+    }
+
+    @Override
+    protected void reloadChildren(ResourceAddress parent, String childType) {
+        crud.refreshChildren(resourceAddress(), filters, parent, childType, result -> getView().update(result));
     }
 
     void addResponseHeader() {
@@ -136,7 +150,7 @@ public class FilterPresenter
                     //noinspection ConstantConditions
                     SafeHtml successMessage = resources.messages()
                             .addResourceSuccess(Names.RESPONSE_HEADER, model.get(HEADER_NAME).asString());
-                    crud.add(name, RESPONSE_HEADER_TEMPLATE, model, successMessage, (n, a) -> reload());
+                    crud.add(name, RESPONSE_HEADER_TEMPLATE, model, successMessage, (n, a) -> reload(a));
                 });
         dialog.show();
     }
@@ -144,18 +158,21 @@ public class FilterPresenter
     void saveResponseHeader(Form<NamedNode> form, Map<String, Object> changedValues) {
         SafeHtml successMessage = resources.messages()
                 .modifyResourceSuccess(Names.RESPONSE_HEADER, form.getModel().get(HEADER_NAME).asString());
-        crud.save(form.getModel().getName(), RESPONSE_HEADER_TEMPLATE, changedValues, successMessage, this::reload);
+        String name = form.getModel().getName();
+        crud.save(name, RESPONSE_HEADER_TEMPLATE, changedValues, successMessage,
+                () -> reload(RESPONSE_HEADER_TEMPLATE.resolve(statementContext, name)));
     }
 
     void resetResponseHeader(Form<NamedNode> form) {
         Metadata metadata = metadataRegistry.lookup(RESPONSE_HEADER_TEMPLATE);
         SafeHtml successMessage = resources.messages()
                 .resetResourceSuccess(Names.RESPONSE_HEADER, form.getModel().get(HEADER_NAME).asString());
-        crud.reset(Names.RESPONSE_HEADER, form.getModel().getName(), RESPONSE_HEADER_TEMPLATE, form, metadata,
+        String name = form.getModel().getName();
+        crud.reset(Names.RESPONSE_HEADER, name, RESPONSE_HEADER_TEMPLATE, form, metadata,
                 successMessage, new Form.FinishReset<NamedNode>(form) {
                     @Override
                     public void afterReset(Form<NamedNode> form) {
-                        reload();
+                        reload(RESPONSE_HEADER_TEMPLATE.resolve(statementContext, name));
                     }
                 });
     }
@@ -172,7 +189,7 @@ public class FilterPresenter
                     dispatcher.execute(operation, result -> {
                         MessageEvent.fire(getEventBus(), Message.success(
                                 resources.messages().removeResourceSuccess(Names.RESPONSE_HEADER, name)));
-                        reload();
+                        reloadChildren(address.getParent(), address.lastName());
                     });
                 });
     }
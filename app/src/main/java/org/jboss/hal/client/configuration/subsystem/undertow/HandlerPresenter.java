@@ -49,6 +49,7 @@ public class HandlerPresenter
     private final FinderPathFactory finderPathFactory;
     private final StatementContext statementContext;
     private final Resources resources;
+    private ModelNode handlers;
 
     @Inject
     public HandlerPresenter(EventBus eventBus,
@@ -86,7 +87,20 @@ public class HandlerPresenter
 
     @Override
     protected void reload() {
-        crud.readRecursive(HANDLER_TEMPLATE, result -> getView().update(result));
+        crud.readRecursive(HANDLER_TEMPLATE, result -> {
+            handlers = result;
+            getView().update(result);
+        });
+    }
+
+    @Override
+    protected void reload(ResourceAddress address) {
+        crud.refresh(resourceAddress(), handlers, address, result -> getView().update(result));
+    }
+
+    @Override
+    protected void reloadChildren(ResourceAddress parent, String childType) {
+        crud.refreshChildren(resourceAddress(), handlers, parent, childType, result -> getView().update(result));
     }
 
 
@@ -109,6 +109,7 @@ public class ServerPresenter
     private String serverName;
     private String hostName;
     private String locationName;
+    private ModelNode server;
 
     @Inject
     public ServerPresenter(
@@ -178,17 +179,27 @@ public class ServerPresenter
 
     @Override
     protected void reload() {
-        reload(result -> getView().update(result));
+        crud.readRecursive(SELECTED_SERVER_TEMPLATE.resolve(statementContext), result -> {
+            server = result;
+            getView().update(result);
+        });
+    }
+
+    /** Re-reads the added, saved or reset resource, patches it into the server model and calls {@code update}. */
+    private void refresh(ResourceAddress address, Consumer<ModelNode> update) {
+        crud.refresh(SELECTED_SERVER_TEMPLATE.resolve(statementContext), server, address, update::accept);
     }
 
-    private void reload(Consumer<ModelNode> payload) {
-        crud.readRecursive(SELECTED_SERVER_TEMPLATE.resolve(statementContext), payload::accept);
+    /** Re-reads the siblings of the removed resource, patches them into the server model and calls {@code update}. */
+    private void refreshSiblings(ResourceAddress address, Consumer<ModelNode> update) {
+        crud.refreshChildren(SELECTED_SERVER_TEMPLATE.resolve(statementContext), server, address.getParent(),
+                address.lastName(), update::accept);
     }
 
     void saveServer(Map<String, Object> changedValues) {
         Metadata metadata = metadataRegistry.lookup(SERVER_TEMPLATE);
         crud.save(Names.SERVER, serverName, SELECTED_SERVER_TEMPLATE.resolve(statementContext), changedValues,
-                metadata, this::reload);
+                metadata, this::refreshServer);
     }
 
     void resetServer(Form<ModelNode> form) {
@@ -197,11 +208,16 @@ public class ServerPresenter
                 new FinishReset<ModelNode>(form) {
                     @Override
                     public void afterReset(Form<ModelNode> form) {
-                        reload();
+                        refreshServer();
                     }
                 });
     }
 
+    private void refreshServer() {
+        ResourceAddress address = SELECTED_SERVER_TEMPLATE.resolve(statementContext);
+        crud.refreshAttributes(address, server, address, result -> getView().updateConfiguration(result));
+    }
+
 
     // ------------------------------------------------------ host
 
@@ -212,7 +228,7 @@ public class ServerPresenter
                 (name, model) -> {
                     ResourceAddress address = SELECTED_SERVER_TEMPLATE.append(HOST + EQUALS + name)
                             .resolve(statementContext);
-                    crud.add(Names.HOST, name, address, model, (n, a) -> reload());
+                    crud.add(Names.HOST, name, address, model, (n, a) -> refresh(a, this::updateHost));
                 });
         dialog.show();
 
@@ -221,7 +237,7 @@ public class ServerPresenter
     void saveHost(String name, Map<String, Object> changedValues) {
         ResourceAddress address = SELECTED_SERVER_TEMPLATE.append(HOST + EQUALS + name).resolve(statementContext);
         Metadata metadata = metadataRegistry.lookup(HOST_TEMPLATE);
-        crud.save(Names.HOST, name, address, changedValues, metadata, this::reload);
+        crud.save(Names.HOST, name, address, changedValues, metadata, () -> refresh(address, this::updateHost));
     }
 
     void resetHost(String name, Form<NamedNode> form) {
@@ -230,14 +246,18 @@ public class ServerPresenter
         crud.reset(Names.HOST, name, address, form, metadata, new FinishReset<NamedNode>(form) {
             @Override
             public void afterReset(Form<NamedNode> form) {
-                reload();
+                refresh(address, ServerPresenter.this::updateHost);
             }
         });
     }
 
     void removeHost(String name) {
         ResourceAddress address = SELECTED_SERVER_TEMPLATE.append(HOST + EQUALS + name).resolve(statementContext);
-        crud.remove(Names.HOST, name, address, this::reload);
+        crud.remove(Names.HOST, name, address, () -> refreshSiblings(address, this::updateHost));
+    }
+
+    private void updateHost(ModelNode server) {
+        getView().updateHost(asNamedNodes(failSafePropertyList(server, HOST)));
     }
 
     void selectHost(String hostName) {
@@ -255,13 +275,14 @@ public class ServerPresenter
 
     void addHostSetting(HostSetting hostSetting) {
         ResourceAddress address = SELECTED_HOST_TEMPLATE.append(hostSetting.templateSuffix()).resolve(statementContext);
-        crud.addSingleton(hostSetting.type, address, null, a -> reload());
+        crud.addSingleton(hostSetting.type, address, null, a -> refresh(a, this::updateHost));
     }
 
     void saveHostSetting(HostSetting hostSetting, Map<String, Object> changedValues) {
         ResourceAddress address = SELECTED_HOST_TEMPLATE.append(hostSetting.templateSuffix()).resolve(statementContext);
         Metadata metadata = metadataRegistry.lookup(HOST_TEMPLATE.append(hostSetting.templateSuffix()));
-        crud.saveSingleton(hostSetting.type, address, changedValues, metadata, this::reload);
+        crud.saveSingleton(hostSetting.type, address, changedValues, metadata,
+                () -> refresh(address, this::updateHost));
     }
 
     void resetHostSetting(HostSetting hostSetting, Form<ModelNode> form) {
@@ -270,7 +291,7 @@ public class ServerPresenter
         crud.resetSingleton(hostSetting.type, address, form, metadata, new FinishReset<ModelNode>(form) {
             @Override
             public void afterReset(Form<ModelNode> form) {
-                reload();
+                refresh(address, ServerPresenter.this::updateHost);
             }
         });
     }
@@ -280,7 +301,7 @@ public class ServerPresenter
         crud.removeSingleton(hostSetting.type, address, new FinishRemove<ModelNode>(form) {
             @Override
             public void afterRemove(Form<ModelNode> form) {
-                reload();
+                refreshSiblings(address, ServerPresenter.this::updateHost);
             }
         });
     }
@@ -305,7 +326,7 @@ public class ServerPresenter
                 (name, model) -> {
                     ResourceAddress address = SELECTED_HOST_TEMPLATE.append(FILTER_REF + EQUALS + name)
                             .resolve(statementContext);
-                    crud.add(Names.FILTER, name, address, model, (n, a) -> reloadFilterRef());
+                    crud.add(Names.FILTER, name, address, model, (n, a) -> refresh(a, this::updateFilterRef));
                 });
         dialog.show();
     }
@@ -314,7 +335,8 @@ public class ServerPresenter
         String name = form.getModel().getName();
         ResourceAddress address = SELECTED_HOST_TEMPLATE.append(FILTER_REF + EQUALS + name).resolve(statementContext);
         Metadata metadata = metadataRegistry.lookup(FILTER_REF_TEMPLATE);
-        crud.save(Names.FILTER, name, address, changedValues, metadata, this::reloadFilterRef);
+        crud.save(Names.FILTER, name, address, changedValues, metadata,
+                () -> refresh(address, this::updateFilterRef));
     }
 
     void resetFilterRef(Form<NamedNode> form) {
@@ -324,22 +346,20 @@ public class ServerPresenter
         crud.reset(Names.FILTER, name, address, form, metadata, new FinishReset<NamedNode>(form) {
             @Override
             public void afterReset(Form<NamedNode> form) {
-                reloadFilterRef();
+                refresh(address, ServerPresenter.this::updateFilterRef);
             }
         });
     }
 
     void removeFilterRef(String name) {
         ResourceAddress address = SELECTED_HOST_TEMPLATE.append(FILTER_REF + EQUALS + name).resolve(statementContext);
-        crud.remove(Names.FILTER, name, address, this::reloadFilterRef);
+        crud.remove(Names.FILTER, name, address, () -> refreshSiblings(address, this::updateFilterRef));
     }
 
-    private void reloadFilterRef() {
-        reload(modelNode -> {
-            getView().update(modelNode);
-            getView().updateFilterRef(
-                    asNamedNodes(failSafePropertyList(modelNode, String.join("/", HOST, hostName, FILTER_REF))));
-        });
+    private void updateFilterRef(ModelNode server) {
+        updateHost(server);
+        getView().updateFilterRef(
+                asNamedNodes(failSafePropertyList(server, String.join("/", HOST, hostName, FILTER_REF))));
     }
 
     // ------------------------------------------------------ host location
@@ -363,7 +383,7 @@ public class ServerPresenter
                     ResourceAddress address = SELECTED_HOST_TEMPLATE
                             .append(LOCATION + EQUALS + encodeValue(name))
                             .resolve(statementContext);
-                    crud.add(Names.LOCATION, name, address, model, (n, a) -> reloadLocation());
+                    crud.add(Names.LOCATION, name, address, model, (n, a) -> refresh(a, this::updateLocation));
                 });
         dialog.show();
     }
@@ -374,7 +394,8 @@ public class ServerPresenter
                 .append(LOCATION + EQUALS + encodeValue(name))
                 .resolve(statementContext);
         Metadata metadata = metadataRegistry.lookup(LOCATION_TEMPLATE);
-        crud.save(Names.LOCATION, name, address, changedValues, metadata, this::reloadLocation);
+        crud.save(Names.LOCATION, name, address, changedValues, metadata,
+                () -> refresh(address, this::updateLocation));
     }
 
     void resetLocation(Form<NamedNode> form) {
@@ -386,7 +407,7 @@ public class ServerPresenter
         crud.reset(Names.LOCATION, name, address, form, metadata, new FinishReset<NamedNode>(form) {
             @Override
             public void afterReset(Form<NamedNode> form) {
-                reloadLocation();
+                refresh(address, ServerPresenter.this::updateLocation);
             }
         });
     }
@@ -395,15 +416,13 @@ public class ServerPresenter
         ResourceAddress address = SELECTED_HOST_TEMPLATE
                 .append(LOCATION + EQUALS + encodeValue(name))
                 .resolve(statementContext);
-        crud.remove(Names.FILTER, name, address, this::reloadLocation);
+        crud.remove(Names.FILTER, name, address, () -> refreshSiblings(address, this::updateLocation));
     }
 
-    private void reloadLocation() {
-        reload(modelNode -> {
-            getView().update(modelNode);
-            getView().updateLocation(asNamedNodes(failSafePropertyList(modelNode,
-                    String.join("/", HOST, hostName, LOCATION))));
-        });
+    private void updateLocation(ModelNode server) {
+        updateHost(server);
+        getView().updateLocation(asNamedNodes(failSafePropertyList(server,
+                String.join("/", HOST, hostName, LOCATION))));
     }
 
     private void selectLocation(String locationName) {
@@ -437,7 +456,8 @@ public class ServerPresenter
                             .append(LOCATION + EQUALS + encodeValue(locationName))
                             .append(FILTER_REF + EQUALS + name)
                             .resolve(statementContext);
-                    crud.add(Names.FILTER, name, address, model, (n, a) -> reloadLocationFilterRef());
+                    crud.add(Names.FILTER, name, address, model,
+                            (n, a) -> refresh(a, this::updateLocationFilterRef));
                 });
         dialog.show();
     }
@@ -449,7 +469,8 @@ public class ServerPresenter
                 .append(FILTER_REF + EQUALS + name)
                 .resolve(statementContext);
         Metadata metadata = metadataRegistry.lookup(LOCATION_FILTER_REF_TEMPLATE);
-        crud.save(Names.FILTER, name, address, changedValues, metadata, this::reloadLocationFilterRef);
+        crud.save(Names.FILTER, name, address, changedValues, metadata,
+                () -> refresh(address, this::updateLocationFilterRef));
 
     }
 
@@ -463,7 +484,7 @@ public class ServerPresenter
         crud.reset(Names.FILTER, name, address, form, metadata, new FinishReset<NamedNode>(form) {
             @Override
             public void afterReset(Form<NamedNode> form) {
-                reloadLocationFilterRef();
+                refresh(address, ServerPresenter.this::updateLocationFilterRef);
             }
         });
 
@@ -474,15 +495,14 @@ public class ServerPresenter
                 .append(LOCATION + EQUALS + encodeValue(locationName))
                 .append(FILTER_REF + EQUALS + name)
                 .resolve(statementContext);
-        crud.remove(Names.FILTER, name, address, this::reloadLocationFilterRef);
+        crud.remove(Names.FILTER, name, address,
+                () -> refreshSiblings(address, this::updateLocationFilterRef));
     }
 
-    private void reloadLocationFilterRef() {
-        reload(modelNode -> {
-            getView().update(modelNode);
-            getView().updateLocationFilterRef(asNamedNodes(failSafePropertyList(modelNode,
-                    String.join("/", HOST, hostName, LOCATION, encodeValue(locationName), FILTER_REF))));
-        });
+    private void updateLocationFilterRef(ModelNode server) {
+        updateHost(server);
+        getView().updateLocationFilterRef(asNamedNodes(failSafePropertyList(server,
+                String.join("/", HOST, hostName, LOCATION, encodeValue(locationName), FILTER_REF))));
     }
 
     // ------------------------------------------------------ listener
@@ -494,7 +514,8 @@ public class ServerPresenter
                 (name, model) -> {
                     ResourceAddress address = SELECTED_SERVER_TEMPLATE.append(listenerType.resource + EQUALS + name)
                             .resolve(statementContext);
-                    crud.add(listenerType.type, name, address, model, (n, a) -> reload());
+                    crud.add(listenerType.type, name, address, model,
+                            (n, a) -> refresh(a, result -> updateListener(listenerType, result)));
                 });
         dialog.show();
     }
@@ -503,7 +524,8 @@ public class ServerPresenter
         ResourceAddress address = SELECTED_SERVER_TEMPLATE.append(listenerType.resource + EQUALS + name)
                 .resolve(statementContext);
         Metadata metadata = metadataRegistry.lookup(SERVER_TEMPLATE.append(listenerType.resource + EQ_WILDCARD));
-        crud.save(listenerType.type, name, address, changedValues, metadata, this::reload);
+        crud.save(listenerType.type, name, address, changedValues, metadata,
+                () -> refresh(address, result -> updateListener(listenerType, result)));
     }
 
     void resetListener(Listener listenerType, String name, Form<NamedNode> form) {
@@ -513,7 +535,7 @@ public class ServerPresenter
         crud.reset(listenerType.type, name, address, form, metadata, new FinishReset<NamedNode>(form) {
             @Override
             public void afterReset(Form<NamedNode> form) {
-                reload();
+                refresh(address, result -> updateListener(listenerType, result));
             }
         });
     }
@@ -521,7 +543,12 @@ public class ServerPresenter
     void removeListener(Listener listenerType, String name) {
         ResourceAddress address = SELECTED_SERVER_TEMPLATE.append(listenerType.resource + EQUALS + name)
                 .resolve(statementContext);
-        crud.remove(listenerType.type, name, address, this::reload);
+        crud.remove(listenerType.type, name, address,
+                () -> refreshSiblings(address, result -> updateListener(listenerType, result)));
+    }
+
+    private void updateListener(Listener listenerType, ModelNode server) {
+        getView().updateListener(listenerType, asNamedNodes(failSafePropertyList(server, listenerType.resource)));
     }
 
     // ------------------------------------------------------ enable / disable ssl context
@@ -598,7 +625,7 @@ public class ServerPresenter
                         dispatcher.execute(composite, (CompositeResult result) -> {
                             MessageEvent.fire(getEventBus(),
                                     Message.success(resources.messages().disableSSLUndertowSuccess(httpsListener)));
-                            reload();
+                            refresh(httpsAddress, payload -> updateListener(Listener.HTTPS, payload));
                         }, (operation, failure) -> {
                             MessageEvent.fire(getEventBus(),
                                     Message.error(
@@ -663,6 +690,9 @@ public class ServerPresenter
 
     public interface MyView extends HalView, HasPresenter<ServerPresenter> {
         void update(ModelNode payload);
+        void updateConfiguration(ModelNode payload);
+        void updateHost(List<NamedNode> hosts);
+        void updateListener(Listener listenerType, List<NamedNode> items);
         void updateFilterRef(List<NamedNode> filters);
         void updateLocation(List<NamedNode> locations);
         void updateLocationFilterRef(List<NamedNode> filters);
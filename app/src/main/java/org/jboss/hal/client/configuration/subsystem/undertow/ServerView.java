@@ -297,16 +297,28 @@ public class ServerView extends HalViewImpl implements ServerPresenter.MyView {
 
     @Override
     public void update(ModelNode payload) {
+        updateConfiguration(payload);
+        updateHost(asNamedNodes(failSafePropertyList(payload, HOST)));
+        for (Listener l : Listener.values()) {
+            updateListener(l, asNamedNodes(failSafePropertyList(payload, l.resource)));
+        }
+    }
+
+    @Override
+    public void updateConfiguration(ModelNode payload) {
         configurationForm.view(payload);
+    }
 
+    @Override
+    public void updateHost(List<NamedNode> hosts) {
         hostForm.clear();
-        hostTable.update(asNamedNodes(failSafePropertyList(payload, HOST)));
+        hostTable.update(hosts);
+    }
 
-        listener.forEach((l, e) -> {
-            List<NamedNode> items = asNamedNodes(failSafePropertyList(payload, l.resource));
-            e.update(items);
-            navigation.updateBadge(Ids.build(l.baseId, Ids.ITEM), items.size());
-        });
+    @Override
+    public void updateListener(Listener listenerType, List<NamedNode> items) {
+        listener.get(listenerType).update(items);
+        navigation.updateBadge(Ids.build(listenerType.baseId, Ids.ITEM), items.size());
     }
 
     @Override
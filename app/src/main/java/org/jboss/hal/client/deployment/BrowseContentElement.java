@@ -39,6 +39,7 @@ import org.jboss.hal.ballroom.dialog.Dialog;
 import org.jboss.hal.ballroom.dialog.DialogFactory;
 import org.jboss.hal.ballroom.editor.AceEditor;
 import org.jboss.hal.ballroom.editor.Options;
+import org.jboss.hal.ballroom.editor.StreamingMode;
 import org.jboss.hal.ballroom.form.FileItem;
 import org.jboss.hal.ballroom.form.Form;
 import org.jboss.hal.ballroom.form.TextBoxItem;
@@ -160,6 +161,7 @@ class BrowseContentElement implements IsElement, Attachable {
     private final EmptyState explodedPreview;
     private final EmptyState unsupportedFileType;
     private final AceEditor editor;
+    private final StreamingMode streaming;
 
     private final HTMLButtonElement collapseButton;
     private final Optional<HTMLButtonElement> addContentButton;
@@ -199,6 +201,7 @@ class BrowseContentElement implements IsElement, Attachable {
         editorOptions.showLineNumbers = true;
         editorOptions.showPrintMargin = false;
         editor = new AceEditor(Ids.CONTENT_EDITOR, editorOptions);
+        streaming = new StreamingMode.Builder(editor).build();
 
         Search contentSearch = new Search.Builder(Ids.CONTENT_SEARCH,
                 query -> editor.getEditor().find(query))
@@ -340,6 +343,7 @@ class BrowseContentElement implements IsElement, Attachable {
     @Override
     public void detach() {
         window.onresize = null;
+        streaming.cancel();
     }
 
     @Override
@@ -520,13 +524,14 @@ class BrowseContentElement implements IsElement, Attachable {
                             .open()
                             .build();
                     JsArray<Node<ContentEntry>> nodes = new JsArray<>();
-                    new ContentParser().parse(root, nodes, result.isDefined() ? result.asList() : emptyList());
+                    ContentParser contentParser = new ContentParser();
+                    contentParser.parse(root, nodes, result.isDefined() ? result.asList() : emptyList());
 
                     if (tree != null) {
                         tree.destroy();
                         tree = null;
                     }
-                    tree = new Tree<>(Ids.CONTENT_TREE, nodes);
+                    tree = new Tree<>(Ids.CONTENT_TREE, nodes, contentParser.index());
                     Elements.removeChildrenFrom(treeContainer);
                     treeContainer.appendChild(tree.element());
                     tree.attach();
@@ -708,12 +713,19 @@ class BrowseContentElement implements IsElement, Attachable {
         adjustEditorHeight();
 
         editorStatus.textContent = contentEntry.name + " - " + Format.humanReadableFileSize(contentEntry.fileSize);
+        streaming.cancel();
+        saveContentButton.ifPresent(button -> button.disabled = true);
         loadContent(contentEntry, result -> {
             editor.setModeFromPath(contentEntry.name);
-            editor.getEditor().getSession().setValue(result);
-            editor.getEditor().getSession().on("change", //NON-NLS
-                    delta -> saveContentButton.ifPresent(button -> button.disabled = false));
-            saveContentButton.ifPresent(button -> button.disabled = true);
+            streaming.setValue(result, timings -> {
+                editor.getEditor().getSession().on("change", //NON-NLS
+                        delta -> {
+                            if (!streaming.isStreaming()) {
+                                saveContentButton.ifPresent(button -> button.disabled = false);
+                            }
+                        });
+                saveContentButton.ifPresent(button -> button.disabled = true);
+            });
         });
     }
 
@@ -25,6 +25,7 @@ import com.google.common.base.Splitter;
 import com.google.common.collect.Iterables;
 import elemental2.core.JsArray;
 import org.jboss.hal.ballroom.tree.Node;
+import org.jboss.hal.ballroom.tree.TreeIndex;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.resources.Ids;
 
@@ -41,6 +42,17 @@ class ContentParser {
 
     static final Function<String, String> NODE_ID = path -> Ids.build("bct", path, "node");
 
+    private final TreeIndex index;
+
+    ContentParser() {
+        this.index = new TreeIndex();
+    }
+
+    /** @return the index over the paths of the nodes parsed so far */
+    TreeIndex index() {
+        return index;
+    }
+
     @SuppressWarnings("unchecked")
     void parse(Node<ContentEntry> root, JsArray<Node<ContentEntry>> nodes, List<ModelNode> content) {
         nodes.push(root);
@@ -94,6 +106,7 @@ class ContentParser {
                 .folder()
                 .build();
         nodes.push(node);
+        index.add(node.id, contentEntry.path);
         return node;
     }
 
@@ -105,6 +118,7 @@ class ContentParser {
                 .icon(fontAwesome("file-text-o"))
                 .build();
         nodes.push(node);
+        index.add(node.id, contentEntry.path);
         return node;
     }
 
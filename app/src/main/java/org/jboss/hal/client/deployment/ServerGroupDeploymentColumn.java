@@ -17,6 +17,7 @@ package org.jboss.hal.client.deployment;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
@@ -40,11 +41,13 @@ import org.jboss.hal.client.deployment.wizard.NamesStep;
 import org.jboss.hal.client.deployment.wizard.UploadDeploymentStep;
 import org.jboss.hal.client.deployment.wizard.DeploymentState;
 import org.jboss.hal.config.Environment;
+import org.jboss.hal.core.BatchOperations;
 import org.jboss.hal.core.CrudOperations;
 import org.jboss.hal.core.SuccessfulOutcome;
 import org.jboss.hal.core.deployment.Content;
 import org.jboss.hal.core.deployment.Deployment.Status;
 import org.jboss.hal.core.deployment.ServerGroupDeployment;
+import org.jboss.hal.core.finder.BulkActionDialog;
 import org.jboss.hal.core.finder.ColumnAction;
 import org.jboss.hal.core.finder.ColumnActionFactory;
 import org.jboss.hal.core.finder.Finder;
@@ -95,6 +98,7 @@ import static org.jboss.hal.core.runtime.TopologyTasks.runningServers;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
 import static org.jboss.hal.dmr.ModelNodeHelper.properties;
 import static org.jboss.hal.flow.Flow.series;
+import static org.jboss.hal.resources.CSS.fontAwesome;
 import static org.jboss.hal.resources.CSS.pfIcon;
 
 /** The deployments of a server group. */
@@ -109,6 +113,7 @@ public class ServerGroupDeploymentColumn extends FinderColumn<ServerGroupDeploym
     private final Environment environment;
     private final EventBus eventBus;
     private final Dispatcher dispatcher;
+    private final BatchOperations batchOperations;
     private final StatementContext statementContext;
     private final MetadataRegistry metadataRegistry;
     private final Provider<Progress> progress;
@@ -121,6 +126,7 @@ public class ServerGroupDeploymentColumn extends FinderColumn<ServerGroupDeploym
             Environment environment,
             EventBus eventBus,
             Dispatcher dispatcher,
+            BatchOperations batchOperations,
             Places places,
             CrudOperations crud,
             ServerActions serverActions,
@@ -133,11 +139,13 @@ public class ServerGroupDeploymentColumn extends FinderColumn<ServerGroupDeploym
                 .useFirstActionAsBreadcrumbHandler()
                 .pinnable()
                 .showCount()
-                .withFilter());
+                .withFilter()
+                .cacheItems());
 
         this.environment = environment;
         this.eventBus = eventBus;
         this.dispatcher = dispatcher;
+        this.batchOperations = batchOperations;
         this.statementContext = statementContext;
         this.metadataRegistry = metadataRegistry;
         this.progress = progress;
@@ -161,6 +169,11 @@ public class ServerGroupDeploymentColumn extends FinderColumn<ServerGroupDeploym
                 .build());
         addColumnActions(Ids.SERVER_GROUP_DEPLOYMENT_ADD_ACTIONS, pfIcon("add-circle-o"), resources.constants().add(),
                 addActions);
+        List<ColumnAction<ServerGroupDeployment>> bulkActions = new ArrayList<>();
+        bulkActions.add(bulkAction(DEPLOY, resources.constants().enable(), sgd -> !sgd.isEnabled()));
+        bulkActions.add(bulkAction(UNDEPLOY, resources.constants().disable(), ServerGroupDeployment::isEnabled));
+        addColumnActions(Ids.SERVER_GROUP_DEPLOYMENT_BULK_ACTIONS, fontAwesome("check-square-o"),
+                resources.constants().bulkOperations(), bulkActions);
         addColumnAction(columnActionFactory.refresh(Ids.SERVER_GROUP_DEPLOYMENT_REFRESH));
 
         ItemsProvider<ServerGroupDeployment> itemsProvider = (context, callback) -> {
@@ -429,6 +442,57 @@ public class ServerGroupDeploymentColumn extends FinderColumn<ServerGroupDeploym
         enableDisable(sgd, UNDEPLOY, resources.messages().deploymentDisabledSuccess(sgd.getName()));
     }
 
+    private ColumnAction<ServerGroupDeployment> bulkAction(String operation, String title,
+            Predicate<ServerGroupDeployment> applicable) {
+        String id = Ids.build(Ids.SERVER_GROUP_DEPLOYMENT_BULK_ACTIONS, operation);
+        return new ColumnAction.Builder<ServerGroupDeployment>(id)
+                .title(title)
+                .handler(column -> {
+                    List<ServerGroupDeployment> deployments = getCurrentItems().stream()
+                            .filter(applicable)
+                            .collect(toList());
+                    if (deployments.isEmpty()) {
+                        MessageEvent.fire(eventBus,
+                                Message.warning(resources.messages().bulkOperationNoItems(title)));
+                    } else {
+                        new BulkActionDialog.Builder<ServerGroupDeployment>(id, title, resources)
+                                .column(Names.DEPLOYMENT, ServerGroupDeployment::getName)
+                                .column(resources.constants().status(), sgd -> sgd.isEnabled()
+                                        ? resources.constants().enabled()
+                                        : resources.constants().disabled())
+                                .items(deployments)
+                                .onSelection(selection -> bulkEnableDisable(selection, operation, title))
+                                .build()
+                                .show();
+                    }
+                })
+                .constraint(Constraint.executable(SERVER_GROUP_DEPLOYMENT_TEMPLATE, operation))
+                .build();
+    }
+
+    /** Enables or disables the deployments using bounded composites. */
+    private void bulkEnableDisable(List<ServerGroupDeployment> deployments, String operation, String title) {
+        deployments.forEach(sgd -> ItemMonitor.startProgress(
+                Ids.serverGroupDeployment(sgd.getServerGroup(), sgd.getName())));
+        batchOperations.execute(deployments,
+                sgd -> new Operation.Builder(new ResourceAddress()
+                        .add(SERVER_GROUP, sgd.getServerGroup())
+                        .add(DEPLOYMENT, sgd.getName()), operation).build(),
+                result -> {
+                    deployments.forEach(sgd -> ItemMonitor.stopProgress(
+                            Ids.serverGroupDeployment(sgd.getServerGroup(), sgd.getName())));
+                    refresh(RESTORE_SELECTION);
+                    if (result.isSuccessful()) {
+                        MessageEvent.fire(eventBus, Message.success(
+                                resources.messages().bulkOperationSuccess(title, result.size())));
+                    } else {
+                        MessageEvent.fire(eventBus, Message.error(
+                                resources.messages().bulkOperationError(title, result.failed().size(), result.size()),
+                                result.failureDetails(ServerGroupDeployment::getName)));
+                    }
+                });
+    }
+
     private void enableDisable(ServerGroupDeployment sgd, String operation, SafeHtml message) {
         String id = Ids.serverGroupDeployment(sgd.getServerGroup(), sgd.getName());
         ResourceAddress address = new ResourceAddress()
@@ -18,6 +18,7 @@ package org.jboss.hal.client.deployment;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
@@ -38,10 +39,12 @@ import org.jboss.hal.client.deployment.wizard.UploadDeploymentStep;
 import org.jboss.hal.client.shared.uploadwizard.UploadElement;
 import org.jboss.hal.client.deployment.wizard.DeploymentState;
 import org.jboss.hal.config.Environment;
+import org.jboss.hal.core.BatchOperations;
 import org.jboss.hal.core.CrudOperations;
 import org.jboss.hal.core.SuccessfulOutcome;
 import org.jboss.hal.core.deployment.Deployment;
 import org.jboss.hal.core.deployment.Deployment.Status;
+import org.jboss.hal.core.finder.BulkActionDialog;
 import org.jboss.hal.core.finder.ColumnAction;
 import org.jboss.hal.core.finder.ColumnActionFactory;
 import org.jboss.hal.core.finder.Finder;
@@ -101,6 +104,7 @@ public class StandaloneDeploymentColumn extends FinderColumn<Deployment> {
 
     private final Environment environment;
     private final Dispatcher dispatcher;
+    private final BatchOperations batchOperations;
     private final StatementContext statementContext;
     private final EventBus eventBus;
     private final MetadataRegistry metadataRegistry;
@@ -114,6 +118,7 @@ public class StandaloneDeploymentColumn extends FinderColumn<Deployment> {
             Environment environment,
             ServerActions serverActions,
             Dispatcher dispatcher,
+            BatchOperations batchOperations,
             CrudOperations crud,
             StatementContext statementContext,
             EventBus eventBus,
@@ -146,6 +151,7 @@ public class StandaloneDeploymentColumn extends FinderColumn<Deployment> {
 
         this.environment = environment;
         this.dispatcher = dispatcher;
+        this.batchOperations = batchOperations;
         this.statementContext = statementContext;
         this.eventBus = eventBus;
         this.metadataRegistry = metadataRegistry;
@@ -169,6 +175,11 @@ public class StandaloneDeploymentColumn extends FinderColumn<Deployment> {
                 .constraint(Constraint.executable(DEPLOYMENT_TEMPLATE, ADD))
                 .build());
         addColumnActions(Ids.DEPLOYMENT_ADD_ACTIONS, pfIcon("add-circle-o"), resources.constants().add(), addActions);
+        List<ColumnAction<Deployment>> bulkActions = new ArrayList<>();
+        bulkActions.add(bulkAction(DEPLOY, resources.constants().enable(), deployment -> !deployment.isEnabled()));
+        bulkActions.add(bulkAction(UNDEPLOY, resources.constants().disable(), Deployment::isEnabled));
+        addColumnActions(Ids.DEPLOYMENT_BULK_ACTIONS, fontAwesome("check-square-o"),
+                resources.constants().bulkOperations(), bulkActions);
         addColumnAction(columnActionFactory.refresh(Ids.DEPLOYMENT_REFRESH));
 
         setItemRenderer(item -> new ItemDisplay<Deployment>() {
@@ -425,6 +436,51 @@ public class StandaloneDeploymentColumn extends FinderColumn<Deployment> {
                 });
     }
 
+    private ColumnAction<Deployment> bulkAction(String operation, String title, Predicate<Deployment> applicable) {
+        String id = Ids.build(Ids.DEPLOYMENT_BULK_ACTIONS, operation);
+        return new ColumnAction.Builder<Deployment>(id)
+                .title(title)
+                .handler(column -> {
+                    List<Deployment> deployments = getCurrentItems().stream().filter(applicable).collect(toList());
+                    if (deployments.isEmpty()) {
+                        MessageEvent.fire(eventBus,
+                                Message.warning(resources.messages().bulkOperationNoItems(title)));
+                    } else {
+                        new BulkActionDialog.Builder<Deployment>(id, title, resources)
+                                .column(Names.DEPLOYMENT, Deployment::getName)
+                                .column(resources.constants().status(), deployment -> deployment.isEnabled()
+                                        ? resources.constants().enabled()
+                                        : resources.constants().disabled())
+                                .items(deployments)
+                                .onSelection(selection -> bulkEnableDisable(selection, operation, title))
+                                .build()
+                                .show();
+                    }
+                })
+                .constraint(Constraint.executable(DEPLOYMENT_TEMPLATE, operation))
+                .build();
+    }
+
+    /** Enables or disables the deployments using bounded composites. */
+    private void bulkEnableDisable(List<Deployment> deployments, String operation, String title) {
+        deployments.forEach(deployment -> ItemMonitor.startProgress(Ids.deployment(deployment.getName())));
+        batchOperations.execute(deployments,
+                deployment -> new Operation.Builder(new ResourceAddress().add(DEPLOYMENT, deployment.getName()),
+                        operation).build(),
+                result -> {
+                    deployments.forEach(deployment -> ItemMonitor.stopProgress(Ids.deployment(deployment.getName())));
+                    refresh(RESTORE_SELECTION);
+                    if (result.isSuccessful()) {
+                        MessageEvent.fire(eventBus, Message.success(
+                                resources.messages().bulkOperationSuccess(title, result.size())));
+                    } else {
+                        MessageEvent.fire(eventBus, Message.error(
+                                resources.messages().bulkOperationError(title, result.failed().size(), result.size()),
+                                result.failureDetails(Deployment::getName)));
+                    }
+                });
+    }
+
     private void explode(Deployment deployment) {
         ResourceAddress address = new ResourceAddress().add(DEPLOYMENT, deployment.getName());
         Operation operation = new Operation.Builder(address, EXPLODE).build();
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.client.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.LogRecord;
+
+/**
+ * Bounded ring buffer which keeps the last {@code capacity} log records. The records are stored as is and only
+ * formatted when they're read.
+ */
+class LogBuffer {
+
+    static final int DEFAULT_CAPACITY = 2000;
+
+    private final LogRecord[] records;
+    private int next;
+    private int size;
+
+    LogBuffer(int capacity) {
+        this.records = new LogRecord[Math.max(1, capacity)];
+        this.next = 0;
+        this.size = 0;
+    }
+
+    void add(LogRecord record) {
+        records[next] = record;
+        next = (next + 1) % records.length;
+        if (size < records.length) {
+            size++;
+        }
+    }
+
+    /** @return all records, oldest first */
+    List<LogRecord> records() {
+        return tail(size);
+    }
+
+    /** @return the last {@code count} records, oldest first */
+    List<LogRecord> tail(int count) {
+        int n = Math.max(0, Math.min(count, size));
+        List<LogRecord> tail = new ArrayList<>(n);
+        int start = next - n;
+        for (int i = 0; i < n; i++) {
+            tail.add(records[(start + i + records.length) % records.length]);
+        }
+        return tail;
+    }
+
+    void clear() {
+        for (int i = 0; i < records.length; i++) {
+            records[i] = null;
+        }
+        next = 0;
+        size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return records.length;
+    }
+}
@@ -52,10 +52,18 @@ public final class LogConfiguration {
         }
         root.setUseParentHandlers(false);
         setLevels(root);
-        root.addHandler(new LogHandler());
+        LogHandler handler = new LogHandler();
+        handler.setConsoleLevel(root.getLevel());
+        root.addHandler(handler);
+        Logging.handler = handler;
         console.info("Set log level to " + root.getLevel());
     }
 
+    /** @return the level for the specified name or {@code null} if the name is unknown */
+    static Level level(String name) {
+        return name != null ? KNOWN_LEVELS.get(name.toUpperCase()) : null;
+    }
+
     private static void setLevels(java.util.logging.Logger l) {
         Level level = null;
         String levelParam = Window.Location.getParameter("logLevel");
@@ -15,15 +15,27 @@
  */
 package org.jboss.hal.client.logging;
 
+import java.util.List;
 import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
 import static elemental2.dom.DomGlobal.console;
+import static java.util.stream.Collectors.toList;
 
+/**
+ * Keeps the last log records in a {@link LogBuffer} and writes the records which are at or above the console level
+ * to the browser console. Only the latter are formatted right away. Records below the console level cost nothing
+ * but a slot in the buffer and are formatted only when the buffer is read using {@link Logging}.
+ */
 public class LogHandler extends Handler {
 
+    private final LogBuffer buffer;
+    private Level consoleLevel;
+
     LogHandler() {
+        this.buffer = new LogBuffer(LogBuffer.DEFAULT_CAPACITY);
+        this.consoleLevel = Level.ALL;
         setFormatter(new LogFormatter());
         setLevel(Level.ALL);
     }
@@ -33,8 +45,12 @@ public class LogHandler extends Handler {
         if (!isLoggable(record)) {
             return;
         }
-        String message = getFormatter().format(record);
+        buffer.add(record);
         int val = record.getLevel().intValue();
+        if (val < consoleLevel.intValue()) {
+            return;
+        }
+        String message = getFormatter().format(record);
         if (val >= Level.SEVERE.intValue()) {
             console.error(message);
         } else if (val >= Level.WARNING.intValue()) {
@@ -55,4 +71,26 @@ public class LogHandler extends Handler {
     public void close() throws SecurityException {
         // No action needed
     }
+
+    /** @return the last {@code count} records formatted, oldest first */
+    List<String> tail(int count) {
+        return buffer.tail(count).stream().map(getFormatter()::format).collect(toList());
+    }
+
+    /** @return all records formatted, oldest first */
+    List<String> records() {
+        return tail(buffer.size());
+    }
+
+    void clear() {
+        buffer.clear();
+    }
+
+    Level getConsoleLevel() {
+        return consoleLevel;
+    }
+
+    void setConsoleLevel(Level consoleLevel) {
+        this.consoleLevel = consoleLevel;
+    }
 }
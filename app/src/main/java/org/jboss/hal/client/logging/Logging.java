@@ -0,0 +1,103 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.client.logging;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import jsinterop.annotations.JsType;
+import jsinterop.base.JsPropertyMap;
+import org.jboss.hal.ballroom.export.Download;
+
+import static elemental2.dom.DomGlobal.console;
+
+/**
+ * Runtime access to the log configuration and the log buffer. Use the following methods in the browser console:
+ * <ul>
+ * <li>{@code hal.logging.level("org.jboss.hal.meta", "debug")} to change the level of a logger (pass {@code null}
+ * as level to remove the override),</li>
+ * <li>{@code hal.logging.console("debug")} to change which records are written to the console,</li>
+ * <li>{@code hal.logging.tail(50)} to get the last records and {@code hal.logging.dump()} to download all
+ * records</li>
+ * </ul>
+ */
+@JsType(namespace = "hal", name = "logging")
+public class Logging {
+
+    private static final String DUMP_FILENAME = "hal.log";
+
+    static LogHandler handler;
+    private static final Map<String, Level> overrides = new TreeMap<>();
+
+    private Logging() {
+    }
+
+    /** Sets the level of the specified logger. Pass {@code null} as level to remove the override. */
+    public static void level(String logger, String level) {
+        Level l = null;
+        if (level != null) {
+            l = LogConfiguration.level(level);
+            if (l == null) {
+                console.error("Unknown log level '" + level + "'");
+                return;
+            }
+        }
+        Logger.getLogger(logger).setLevel(l);
+        if (l != null) {
+            overrides.put(logger, l);
+        } else {
+            overrides.remove(logger);
+        }
+    }
+
+    /** Returns the loggers with an overridden level. */
+    public static JsPropertyMap<Object> levels() {
+        JsPropertyMap<Object> map = JsPropertyMap.of();
+        overrides.forEach((logger, level) -> map.set(logger, level.getName()));
+        return map;
+    }
+
+    /** Sets the minimal level of the records which are written to the console. */
+    public static void console(String level) {
+        Level l = LogConfiguration.level(level);
+        if (l == null) {
+            console.error("Unknown log level '" + level + "'");
+        } else if (handler != null) {
+            handler.setConsoleLevel(l);
+        }
+    }
+
+    /** Returns the last {@code count} records. */
+    public static String[] tail(int count) {
+        return handler != null ? handler.tail(count).toArray(new String[0]) : new String[0];
+    }
+
+    /** Downloads all records of the log buffer. */
+    public static void dump() {
+        if (handler != null) {
+            Download.text(String.join("\n", handler.records()), "text/plain", DUMP_FILENAME);
+        }
+    }
+
+    /** Removes all records from the log buffer. */
+    public static void clear() {
+        if (handler != null) {
+            handler.clear();
+        }
+    }
+}
@@ -26,9 +26,6 @@ public interface RhcpResources extends ClientBundle {
     RhcpResources INSTANCE = GWT.create(RhcpResources.class);
     JsonObject DISCOGRAPHY = Json.parse(INSTANCE.discography().getText());
 
-    @Source("underTheBridge.base64")
-    TextResource underTheBridge();
-
     @Source("discography.json")
     TextResource discography();
 }
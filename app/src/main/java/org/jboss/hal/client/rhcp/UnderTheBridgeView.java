@@ -38,7 +38,6 @@ import org.jboss.hal.meta.AddressTemplate;
 import org.jboss.hal.meta.Metadata;
 import org.jboss.hal.meta.StatementContext;
 import org.jboss.hal.meta.description.ResourceDescription;
-import org.jboss.hal.meta.description.StaticResourceDescription;
 import org.jboss.hal.resources.Ids;
 
 import static org.jboss.gwt.elemento.core.Elements.h;
@@ -112,7 +111,7 @@ public class UnderTheBridgeView extends HalViewImpl implements UnderTheBridgePre
         this.forms = new ArrayList<>();
 
         Tabs tabs = new Tabs("utb-tab-container");
-        ResourceDescription description = StaticResourceDescription.from(RhcpResources.INSTANCE.underTheBridge());
+        ResourceDescription description = UnderTheBridgeResources.INSTANCE.underTheBridge();
         Form.SaveCallback<ModelNode> saveCallback = (form, changedValues) -> presenter.saveModel(form.getModel());
 
         for (Map.Entry<String, String[]> entry : ATTRIBUTES.entrySet()) {
@@ -32,6 +32,7 @@ import org.jboss.hal.core.finder.PreviewContent;
 import org.jboss.hal.core.finder.StaticItem;
 import org.jboss.hal.core.finder.StaticItemColumn;
 import org.jboss.hal.core.mvp.Places;
+import org.jboss.hal.core.runtime.TopologyCache;
 import org.jboss.hal.core.runtime.group.ServerGroupActions;
 import org.jboss.hal.core.runtime.host.HostActions;
 import org.jboss.hal.core.runtime.server.ServerActions;
@@ -90,13 +91,14 @@ public class BrowseByColumn extends StaticItemColumn {
             HostActions hostActions,
             ServerGroupActions serverGroupActions,
             ServerActions serverActions,
+            TopologyCache topologyCache,
             Resources resources) {
         super(finder, Ids.DOMAIN_BROWSE_BY, resources.constants().browseBy(),
                 Arrays.asList(
                         new StaticItem.Builder(Names.TOPOLOGY)
                                 .onPreview(new TopologyPreview(securityContextRegistry, environment,
                                         dispatcher, progress, eventBus, places, finderPathFactory, hostActions,
-                                        serverGroupActions, serverActions, resources))
+                                        serverGroupActions, serverActions, topologyCache, resources))
                                 .build(),
                         new StaticItem.Builder(Names.HOSTS)
                                 .nextColumn(Ids.HOST)
@@ -41,6 +41,7 @@ import org.jboss.hal.core.runtime.server.ServerActions;
 import org.jboss.hal.core.runtime.server.ServerResultEvent;
 import org.jboss.hal.core.runtime.server.ServerResultEvent.ServerResultHandler;
 import org.jboss.hal.dmr.dispatch.ProcessStateEvent;
+import org.jboss.hal.dmr.dispatch.ProcessStateProcessor;
 import org.jboss.hal.dmr.dispatch.ServerState;
 import org.jboss.hal.dmr.dispatch.ServerState.State;
 import org.jboss.hal.flow.Progress;
@@ -63,6 +64,9 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.SERVER_STATE;
  * messages} if necessary. Messages are emitted only if there was no message in the last {@value #MESSAGE_TIMEOUT} ms
  * and if the server was not restarted recently (a server restart resets the timeout).
  * <p>
+ * {@link ProcessStateProcessor} fires events only if a server enters a reload / restart required state. Successful
+ * lifecycle operations reset the tracked state, so that the next reload / restart required state is reported again.
+ * <p>
  * In standalone mode the message contains an action link to reload / restart the server. Whereas in domain mode
  * there's no direct way to reload / restart the affected servers (there might be just too many of them). Instead the
  * message contains a link to the topology.
@@ -81,6 +85,7 @@ public class ProcessStateHandler implements ApplicationReadyHandler, ProcessStat
     private final Places places;
     private final Finder finder;
     private final ServerActions serverActions;
+    private final ProcessStateProcessor processStateProcessor;
     private final Provider<Progress> progress;
     private final Resources resources;
     private boolean applicationReady;
@@ -93,6 +98,7 @@ public class ProcessStateHandler implements ApplicationReadyHandler, ProcessStat
             final Places places,
             final Finder finder,
             final ServerActions serverActions,
+            final ProcessStateProcessor processStateProcessor,
             @Footer final Provider<Progress> progress,
             final Resources resources) {
 
@@ -102,6 +108,7 @@ public class ProcessStateHandler implements ApplicationReadyHandler, ProcessStat
         this.places = places;
         this.finder = finder;
         this.serverActions = serverActions;
+        this.processStateProcessor = processStateProcessor;
         this.progress = progress;
         this.resources = resources;
         this.applicationReady = false;
@@ -164,6 +171,7 @@ public class ProcessStateHandler implements ApplicationReadyHandler, ProcessStat
     public void onHostResult(final HostResultEvent event) {
         if (event.getResult() == Result.SUCCESS) {
             resetTimeout();
+            processStateProcessor.reset();
         }
     }
 
@@ -171,6 +179,7 @@ public class ProcessStateHandler implements ApplicationReadyHandler, ProcessStat
     public void onServerGroupResult(final ServerGroupResultEvent event) {
         if (event.getResult() == Result.SUCCESS) {
             resetTimeout();
+            processStateProcessor.reset();
         }
     }
 
@@ -188,6 +197,7 @@ public class ProcessStateHandler implements ApplicationReadyHandler, ProcessStat
         progress.get().finish(); // finish in any case
         if (event.getResult() == Result.SUCCESS) {
             resetTimeout();
+            processStateProcessor.reset();
         }
         if (environment.isStandalone() && NameTokens.RUNTIME
                 .equals(placeManager.getCurrentPlaceRequest().getNameToken())) {
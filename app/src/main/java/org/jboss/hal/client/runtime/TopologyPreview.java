@@ -23,6 +23,7 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 import javax.inject.Provider;
 
@@ -44,7 +45,6 @@ import org.jboss.gwt.elemento.core.EventCallbackFn;
 import org.jboss.gwt.elemento.core.builder.HtmlContentBuilder;
 import org.jboss.hal.ballroom.Format;
 import org.jboss.hal.ballroom.LabelBuilder;
-import org.jboss.hal.client.runtime.server.ServerStatusSwitch;
 import org.jboss.hal.config.Environment;
 import org.jboss.hal.core.finder.FinderPath;
 import org.jboss.hal.core.finder.FinderPathFactory;
@@ -53,6 +53,8 @@ import org.jboss.hal.core.finder.PreviewAttributes.PreviewAttribute;
 import org.jboss.hal.core.finder.PreviewContent;
 import org.jboss.hal.core.finder.StaticItem;
 import org.jboss.hal.core.mvp.Places;
+import org.jboss.hal.core.runtime.TopologyCache;
+import org.jboss.hal.core.runtime.TopologySnapshot;
 import org.jboss.hal.core.runtime.TopologyTasks;
 import org.jboss.hal.core.runtime.group.ServerGroup;
 import org.jboss.hal.core.runtime.group.ServerGroupActionEvent;
@@ -72,6 +74,8 @@ import org.jboss.hal.core.runtime.server.ServerActionEvent;
 import org.jboss.hal.core.runtime.server.ServerActionEvent.ServerActionHandler;
 import org.jboss.hal.core.runtime.server.ServerActions;
 import org.jboss.hal.core.runtime.server.ServerPreviewAttributes;
+import org.jboss.hal.core.runtime.server.ServerProgressEvent;
+import org.jboss.hal.core.runtime.server.ServerProgressEvent.ServerProgressHandler;
 import org.jboss.hal.core.runtime.server.ServerResultEvent;
 import org.jboss.hal.core.runtime.server.ServerResultEvent.ServerResultHandler;
 import org.jboss.hal.dmr.ModelNode;
@@ -98,7 +102,6 @@ import static com.google.common.collect.Lists.asList;
 import static elemental2.dom.DomGlobal.clearTimeout;
 import static elemental2.dom.DomGlobal.document;
 import static elemental2.dom.DomGlobal.setTimeout;
-import static java.util.Comparator.comparing;
 import static java.util.stream.Collectors.toList;
 import static org.jboss.gwt.elemento.core.Elements.*;
 import static org.jboss.gwt.elemento.core.EventType.click;
@@ -136,7 +139,8 @@ import static org.jboss.hal.resources.CSS.withProgress;
 import static org.jboss.hal.resources.UIConstants.MEDIUM_TIMEOUT;
 
 class TopologyPreview extends PreviewContent<StaticItem> implements HostActionHandler, HostResultHandler,
-        ServerGroupActionHandler, ServerGroupResultHandler, ServerActionHandler, ServerResultHandler {
+        ServerGroupActionHandler, ServerGroupResultHandler, ServerActionHandler, ServerProgressHandler,
+        ServerResultHandler {
 
     private static final String DOT = ".";
     private static final String CONTAINER = "container";
@@ -150,6 +154,7 @@ class TopologyPreview extends PreviewContent<StaticItem> implements HostActionHa
     private final HostActions hostActions;
     private final ServerGroupActions serverGroupActions;
     private final ServerActions serverActions;
+    private final TopologyCache topologyCache;
     private final Resources resources;
     private final HTMLElement loadingSection;
     private final HTMLElement topologySection;
@@ -161,6 +166,7 @@ class TopologyPreview extends PreviewContent<StaticItem> implements HostActionHa
     private final PreviewAttributes<Server> serverAttributes;
     private final HTMLElement serverUrl;
     private final LabelBuilder labelBuilder;
+    private TopologySnapshot snapshot;
 
     TopologyPreview(SecurityContextRegistry securityContextRegistry,
             Environment environment,
@@ -172,6 +178,7 @@ class TopologyPreview extends PreviewContent<StaticItem> implements HostActionHa
             HostActions hostActions,
             ServerGroupActions serverGroupActions,
             ServerActions serverActions,
+            TopologyCache topologyCache,
             Resources resources) {
         super(Names.TOPOLOGY, resources.previews().runtimeTopology());
         this.securityContextRegistry = securityContextRegistry;
@@ -183,14 +190,17 @@ class TopologyPreview extends PreviewContent<StaticItem> implements HostActionHa
         this.hostActions = hostActions;
         this.serverGroupActions = serverGroupActions;
         this.serverActions = serverActions;
+        this.topologyCache = topologyCache;
         this.resources = resources;
         this.labelBuilder = new LabelBuilder();
+        this.snapshot = TopologySnapshot.EMPTY;
 
         eventBus.addHandler(HostActionEvent.getType(), this);
         eventBus.addHandler(HostResultEvent.getType(), this);
         eventBus.addHandler(ServerGroupActionEvent.getType(), this);
         eventBus.addHandler(ServerGroupResultEvent.getType(), this);
         eventBus.addHandler(ServerActionEvent.getType(), this);
+        eventBus.addHandler(ServerProgressEvent.getType(), this);
         eventBus.addHandler(ServerResultEvent.getType(), this);
 
         previewBuilder()
@@ -310,7 +320,7 @@ class TopologyPreview extends PreviewContent<StaticItem> implements HostActionHa
         HTMLElement element = (HTMLElement) document.querySelector(DOT + topology + " ." + selected);
         String hostName = element != null ? String.valueOf(element.dataset.get("host")) : null;
         String serverGroupName = element != null ? String.valueOf(element.dataset.get("serverGroup")) : null;
-        String serverName = element != null ? String.valueOf(element.dataset.get("server")) : null;
+        String serverId = element != null ? String.valueOf(element.dataset.get("server")) : null;
 
         clearSelected();
         setVisible(loadingSection, false);
@@ -335,39 +345,33 @@ class TopologyPreview extends PreviewContent<StaticItem> implements HostActionHa
                         setVisible(loadingSection, false);
                         Elements.removeChildrenFrom(topologySection);
 
-                        List<Host> hosts = context.get(TopologyTasks.HOSTS);
-                        List<ServerGroup> serverGroups = context.get(TopologyTasks.SERVER_GROUPS);
-                        List<Server> servers = context.get(TopologyTasks.SERVERS);
-
-                        topologySection.appendChild(buildTable(hosts, serverGroups, servers));
+                        snapshot = context.get(TopologyTasks.TOPOLOGY);
+                        topologyCache.set(snapshot);
+                        topologySection.appendChild(buildTable(snapshot));
                         setVisible(topologySection, true);
                         adjustTdHeight();
 
                         // restore selection
-                        if (hostName != null) {
-                            hosts.stream()
-                                    .filter(host -> hostName.equals(host.getName()))
-                                    .findAny()
-                                    .ifPresent(host -> hostDetails(host));
+                        if (hostName != null && snapshot.indexOfHost(hostName) >= 0) {
+                            hostDetails(snapshot.host(snapshot.indexOfHost(hostName)));
                         }
-                        if (serverGroupName != null) {
-                            serverGroups.stream()
-                                    .filter(serverGroup -> serverGroupName.equals(serverGroup.getName()))
-                                    .findAny()
-                                    .ifPresent(serverGroup -> serverGroupDetails(serverGroup));
+                        if (serverGroupName != null && snapshot.indexOfServerGroup(serverGroupName) >= 0) {
+                            serverGroupDetails(snapshot.serverGroup(snapshot.indexOfServerGroup(serverGroupName)));
                         }
-                        if (serverName != null) {
-                            servers.stream()
-                                    .filter(server -> serverName.equals(server.getName()))
-                                    .findAny()
-                                    .ifPresent(server -> serverDetails(server));
+                        if (serverId != null && snapshot.indexOfServer(serverId) >= 0) {
+                            serverDetails(snapshot.server(snapshot.indexOfServer(serverId)));
                         }
                     }
                 });
     }
 
+    /**
+     * Reads the specified server and updates the snapshot in place. Only the elements of the server, its host and its
+     * server group are replaced. Falls back to a full update if the server is not part of the current snapshot.
+     */
     private void updateServer(Server server) {
-        series(new FlowContext(progress.get()), topology(environment, dispatcher))
+        series(new FlowContext(progress.get()),
+                TopologyTasks.server(environment, dispatcher, server.getHost(), server.getName()))
                 .subscribe(new Outcome<FlowContext>() {
                     @Override
                     public void onError(FlowContext context, Throwable error) {
@@ -378,47 +382,32 @@ class TopologyPreview extends PreviewContent<StaticItem> implements HostActionHa
 
                     @Override
                     public void onSuccess(FlowContext context) {
-                        Host host = null;
-                        List<Host> hosts = context.get(TopologyTasks.HOSTS);
-                        for (Host h : hosts) {
-                            if (h.getName().equals(server.getHost())) {
-                                host = h;
-                                break;
-                            }
-                        }
-                        ServerGroup serverGroup = null;
-                        List<ServerGroup> serverGroups = context.get(TopologyTasks.SERVER_GROUPS);
-                        for (ServerGroup sg : serverGroups) {
-                            if (sg.getName().equals(server.getServerGroup())) {
-                                serverGroup = sg;
-                                break;
-                            }
+                        Server updatedServer = context.get(TopologyTasks.SERVER);
+                        if (updatedServer == null || !snapshot.update(updatedServer)) {
+                            update(null);
+                            return;
                         }
 
-                        if (host != null && serverGroup != null) {
-                            // Does not matter where we take the updated server from (must be included in both
-                            // host and server group)
-                            Host finalHost = host;
-                            ServerGroup finalServerGroup = serverGroup;
-                            host.getServers().stream()
-                                    .filter(srv -> srv.getId().equals(server.getId()))
-                                    .findAny()
-                                    .ifPresent(updatedServer -> {
-                                        String updatedContainerId = Ids.build(updatedServer.getId(), CONTAINER);
-                                        replaceElement(document.getElementById(updatedContainerId),
-                                                () -> serverElement(updatedServer),
-                                                whatever -> serverDetails(updatedServer));
-                                    });
-
-                            // Update not only the server, but also the host and server group elements. Since the
-                            // server's state has changed the host and server group dropdown links need to be updated
-                            // as well.
-                            replaceElement(document.querySelector(hostSelector(host)),
-                                    () -> hostElement(finalHost),
-                                    whatever -> hostDetails(finalHost));
-                            replaceElement(document.querySelector(serverGroupSelector(serverGroup)),
-                                    () -> serverGroupElement(finalServerGroup),
-                                    updatedElement -> serverGroupDetails(finalServerGroup));
+                        TopologySnapshot current = snapshot;
+                        int index = current.indexOfServer(updatedServer.getId());
+                        String updatedContainerId = Ids.build(current.serverId(index), CONTAINER);
+                        replaceElement(document.getElementById(updatedContainerId),
+                                () -> serverElement(current, index),
+                                whatever -> serverDetails(updatedServer));
+
+                        // Update not only the server, but also the host and server group elements. Since the
+                        // server's state has changed the host and server group dropdown links need to be updated
+                        // as well.
+                        int host = current.hostOf(index);
+                        replaceElement(document.querySelector(hostSelector(current.hostName(host))),
+                                () -> hostElement(current, host),
+                                whatever -> hostDetails(current.host(host)));
+                        int serverGroup = current.serverGroupOf(index);
+                        if (serverGroup >= 0) {
+                            String selector = serverGroupSelector(current.serverGroupName(serverGroup));
+                            replaceElement(document.querySelector(selector),
+                                    () -> serverGroupElement(current, serverGroup),
+                                    updatedElement -> serverGroupDetails(current.serverGroup(serverGroup)));
                         }
                     }
                 });
@@ -427,14 +416,14 @@ class TopologyPreview extends PreviewContent<StaticItem> implements HostActionHa
 
     // ------------------------------------------------------ UI methods
 
-    private HTMLElement buildTable(List<Host> hosts, List<ServerGroup> serverGroups, List<Server> servers) {
+    private HTMLElement buildTable(TopologySnapshot snapshot) {
         HTMLTableElement table = table().css(topology).element();
 
         // <colgroup>
-        double width = 100.0 / (serverGroups.size() + 1);
+        double width = 100.0 / (snapshot.serverGroupCount() + 1);
         HtmlContentBuilder<HTMLTableColElement> colgroup = colgroup()
                 .add(col().attr("width", width + "%"));
-        for (int i = 0; i < serverGroups.size(); i++) {
+        for (int i = 0; i < snapshot.serverGroupCount(); i++) {
             colgroup.add(col().attr("width", width + "%"));
         }
         table.appendChild(colgroup.element());
@@ -449,29 +438,28 @@ class TopologyPreview extends PreviewContent<StaticItem> implements HostActionHa
                                         .appendHtmlConstant("&rarr;").appendHtmlConstant("<br/>")
                                         .appendEscaped(Names.HOSTS + " ")
                                         .appendHtmlConstant("&darr;").toSafeHtml()))
-                        .addAll(serverGroups.stream().map(this::serverGroupElement).collect(toList())));
+                        .addAll(IntStream.range(0, snapshot.serverGroupCount())
+                                .mapToObj(sg -> serverGroupElement(snapshot, sg))
+                                .collect(toList())));
         table.appendChild(thead.element());
         // </thead>
 
         // <tbody>
         HTMLElement tbody = tbody().element();
-        for (Host host : hosts) {
+        for (int h = 0; h < snapshot.hostCount(); h++) {
             HTMLElement tr;
             tbody.appendChild(tr = tr().element());
-            tr.appendChild(hostElement(host));
-            for (ServerGroup serverGroup : serverGroups) {
-                List<HTMLElement> matchingServers = servers.stream()
-                        .filter(sc -> host.getName().equals(sc.getHost()) &&
-                                serverGroup.getName().equals(sc.getServerGroup()))
-                        .sorted(comparing(Server::getName))
-                        .map(this::serverElement)
-                        .collect(toList());
-                if (matchingServers.isEmpty()) {
+            tr.appendChild(hostElement(snapshot, h));
+            for (int sg = 0; sg < snapshot.serverGroupCount(); sg++) {
+                int[] servers = snapshot.servers(h, sg); // already ordered by name
+                if (servers.length == 0) {
                     tr.appendChild(td().css(empty).element());
                 } else {
-                    tr.appendChild(td()
-                            .add(div().css(CSS.servers)
-                                    .addAll(matchingServers)).element());
+                    HTMLElement serversElement = div().css(CSS.servers).element();
+                    for (int server : servers) {
+                        serversElement.appendChild(serverElement(snapshot, server));
+                    }
+                    tr.appendChild(td().add(serversElement).element());
                 }
             }
         }
@@ -481,38 +469,40 @@ class TopologyPreview extends PreviewContent<StaticItem> implements HostActionHa
         return table;
     }
 
-    private HTMLElement hostElement(Host host) {
+    private HTMLElement hostElement(TopologySnapshot snapshot, int host) {
+        String hostName = snapshot.hostName(host);
         HTMLElement dropdown;
         HTMLTableCellElement th = th()
-                .css(asList(rowHeader, statusCss(host)).toArray(new String[]{}))
-                .on(click, event -> hostDetails(host))
-                .data("host", host.getName()) //NON-NLS
+                .css(asList(rowHeader, statusCss(hostName)).toArray(new String[]{}))
+                .on(click, event -> hostDetails(snapshot.host(host)))
+                .data("host", hostName) //NON-NLS
                 .add(div().css(hostContainer)
                         .add(dropdown = div().css(CSS.dropdown).element())).element();
 
         HTMLElement hostNameElement;
-        if (host.isAlive() && !hostActions.isPending(host) && isAllowed(host)) {
-            String hostDropDownId = Ids.host(host.getAddressName());
+        if (snapshot.isHostAlive(host) && !hostActions.isPending(hostName)
+                && isHostAllowed(snapshot.hostAddressName(host))) {
+            String hostDropDownId = Ids.host(snapshot.hostAddressName(host));
             dropdown.appendChild(hostNameElement = a()
                     .id(hostDropDownId)
                     .css(clickable, dropdownToggle, name)
                     .data(UIConstants.TOGGLE, UIConstants.DROPDOWN)
                     .aria(UIConstants.HAS_POPUP, UIConstants.TRUE)
-                    .title(host.getName()).element());
+                    .title(hostName).element());
             dropdown.appendChild(ul()
                     .css(dropdownMenu)
                     .attr(UIConstants.ROLE, UIConstants.MENU)
                     .aria(UIConstants.LABELLED_BY, hostDropDownId)
-                    .addAll(hostActions(host)).element());
+                    .addAll(hostActions(snapshot, host)).element());
         } else {
-            dropdown.appendChild(hostNameElement = span().css(name).title(host.getName()).element());
+            dropdown.appendChild(hostNameElement = span().css(name).title(hostName).element());
         }
-        hostNameElement.appendChild(hostNameElement.ownerDocument.createTextNode(host.getName()));
-        if (!host.isConnected()) {
+        hostNameElement.appendChild(hostNameElement.ownerDocument.createTextNode(hostName));
+        if (!snapshot.isHostConnected(host)) {
             hostNameElement.classList.add(disconnected);
             hostNameElement.title = hostNameElement.title + " (" + resources.constants().disconnected() + ")";
         }
-        if (host.isDomainController()) {
+        if (snapshot.isDomainController(host)) {
             hostNameElement.appendChild(
                     span().css(fontAwesome("star"), marginLeft5).title(Names.DOMAIN_CONTROLLER).element());
         }
@@ -520,64 +510,67 @@ class TopologyPreview extends PreviewContent<StaticItem> implements HostActionHa
         return th;
     }
 
-    private HTMLElement serverGroupElement(ServerGroup serverGroup) {
+    private HTMLElement serverGroupElement(TopologySnapshot snapshot, int serverGroup) {
+        String serverGroupName = snapshot.serverGroupName(serverGroup);
         HTMLElement dropdown;
         HTMLTableCellElement element = th()
-                .on(click, event -> serverGroupDetails(serverGroup))
-                .data("serverGroup", serverGroup.getName()) //NON-NLS
+                .on(click, event -> serverGroupDetails(snapshot.serverGroup(serverGroup)))
+                .data("serverGroup", serverGroupName) //NON-NLS
                 .add(div().css(serverGroupContainer)
                         .add(dropdown = div().css(CSS.dropdown).element())).element();
 
-        if (!serverGroupActions.isPending(serverGroup) && isAllowed(serverGroup)) {
-            String serverGroupDropDownId = Ids.serverGroup(serverGroup.getName());
+        if (!serverGroupActions.isPending(serverGroupName) && isServerGroupAllowed(serverGroupName)) {
+            String serverGroupDropDownId = Ids.serverGroup(serverGroupName);
             dropdown.appendChild(a()
                     .id(serverGroupDropDownId)
                     .css(clickable, dropdownToggle, name)
                     .data(UIConstants.TOGGLE, UIConstants.DROPDOWN)
                     .aria(UIConstants.HAS_POPUP, UIConstants.TRUE)
-                    .title(serverGroup.getName())
-                    .textContent(serverGroup.getName()).element());
+                    .title(serverGroupName)
+                    .textContent(serverGroupName).element());
             dropdown.appendChild(ul()
                     .css(dropdownMenu)
                     .attr(UIConstants.ROLE, UIConstants.MENU)
                     .aria(UIConstants.LABELLED_BY, serverGroupDropDownId)
-                    .addAll(serverGroupActions(serverGroup)).element());
+                    .addAll(serverGroupActions(snapshot, serverGroup)).element());
         } else {
             dropdown.appendChild(span()
                     .css(name)
-                    .title(serverGroup.getName())
-                    .textContent(serverGroup.getName()).element());
+                    .title(serverGroupName)
+                    .textContent(serverGroupName).element());
         }
         return element;
     }
 
-    private HTMLElement serverElement(Server srv) {
+    private HTMLElement serverElement(TopologySnapshot snapshot, int srv) {
+        String serverId = snapshot.serverId(srv);
+        String serverName = snapshot.serverName(srv);
         HTMLElement dropdown;
         HTMLDivElement element = div()
-                .id(Ids.build(srv.getId(), CONTAINER))
-                .css(asList(server, statusCss(srv)).toArray(new String[]{}))
-                .data(SERVER, srv.getId())
-                .on(click, event -> serverDetails(srv))
+                .id(Ids.build(serverId, CONTAINER))
+                .css(asList(server, statusCss(snapshot, srv)).toArray(new String[]{}))
+                .data(SERVER, serverId)
+                .on(click, event -> serverDetails(snapshot.server(srv)))
                 .add(dropdown = div().css(CSS.dropdown).element()).element();
 
-        if (!serverActions.isPending(srv) && isAllowed(srv)) {
+        if (!serverActions.isPending(serverId) && isServerAllowed(snapshot.hostAddressName(snapshot.hostOf(srv)))) {
             dropdown.appendChild(a()
-                    .id(srv.getId())
+                    .id(serverId)
                     .css(clickable, dropdownToggle, name)
                     .data(UIConstants.TOGGLE, UIConstants.DROPDOWN)
                     .aria(UIConstants.HAS_POPUP, UIConstants.TRUE)
-                    .title(srv.getName())
-                    .textContent(srv.getName()).element());
+                    .title(serverName)
+                    .textContent(serverName).element());
             dropdown.appendChild(ul()
                     .css(dropdownMenu)
                     .attr(UIConstants.ROLE, UIConstants.MENU)
-                    .aria(UIConstants.LABELLED_BY, srv.getId())
-                    .addAll(serverActions(srv)).element());
+                    .aria(UIConstants.LABELLED_BY, serverId)
+                    .addAll(serverActions(snapshot, srv)).element());
         } else {
             dropdown.appendChild(span()
                     .css(name)
-                    .title(srv.getName())
-                    .textContent(srv.getName()).element());
+                    .title(serverName)
+                    .textContent(serverName).element());
         }
         return element;
     }
@@ -656,7 +649,7 @@ class TopologyPreview extends PreviewContent<StaticItem> implements HostActionHa
 
     private void hostDetails(Host host) {
         clearSelected();
-        HTMLElement element = (HTMLElement) document.querySelector(hostSelector(host));
+        HTMLElement element = (HTMLElement) document.querySelector(hostSelector(host.getName()));
         if (element != null) {
             element.classList.add(selected);
         }
@@ -667,21 +660,21 @@ class TopologyPreview extends PreviewContent<StaticItem> implements HostActionHa
         setVisible(serverAttributesSection, false);
     }
 
-    private boolean isAllowed(Host host) {
+    private boolean isHostAllowed(String addressName) {
         // To keep it simple, we take a all or nothing approach:
         // We check *one* action and assume that the other actions have the same constraints
         return AuthorisationDecision.from(environment, securityContextRegistry)
-                .isAllowed(Constraint.executable(AddressTemplate.of("/host=" + host.getAddressName()), RELOAD));
+                .isAllowed(Constraint.executable(AddressTemplate.of("/host=" + addressName), RELOAD));
     }
 
-    private List<HTMLElement> hostActions(Host host) {
+    private List<HTMLElement> hostActions(TopologySnapshot snapshot, int host) {
         List<HTMLElement> actions = new ArrayList<>();
-        actions.add(actionLink(event -> hostActions.reload(host), resources.constants().reload()));
-        actions.add(actionLink(event -> hostActions.restart(host), resources.constants().restart()));
+        actions.add(actionLink(event -> hostActions.reload(snapshot.host(host)), resources.constants().reload()));
+        actions.add(actionLink(event -> hostActions.restart(snapshot.host(host)), resources.constants().restart()));
         return actions;
     }
 
-    private String[] statusCss(Host host) {
+    private String[] statusCss(String host) {
         return hostActions.isPending(host) ? new String[]{withProgress} : new String[]{};
     }
 
@@ -691,11 +684,11 @@ class TopologyPreview extends PreviewContent<StaticItem> implements HostActionHa
             Host host = event.getHost();
 
             disableDropdown(Ids.host(host.getAddressName()), host.getName());
-            startProgress(hostSelector(host));
+            startProgress(hostSelector(host.getName()));
 
             event.getServers().forEach(server -> {
                 disableDropdown(server.getId(), server.getName());
-                startProgress(serverSelector(server));
+                startProgress(serverSelector(server.getId()));
             });
         }
     }
@@ -705,14 +698,14 @@ class TopologyPreview extends PreviewContent<StaticItem> implements HostActionHa
         if (isVisible()) {
             Host host = event.getHost();
 
-            stopProgress(hostSelector(host));
-            event.getServers().forEach(server -> stopProgress(serverSelector(server)));
+            stopProgress(hostSelector(host.getName()));
+            event.getServers().forEach(server -> stopProgress(serverSelector(server.getId())));
             update(null);
         }
     }
 
-    private String hostSelector(Host host) {
-        return "[data-host='" + host.getName() + "']"; //NON-NLS
+    private String hostSelector(String host) {
+        return "[data-host='" + host + "']"; //NON-NLS
     }
 
 
@@ -720,7 +713,7 @@ class TopologyPreview extends PreviewContent<StaticItem> implements HostActionHa
 
     private void serverGroupDetails(ServerGroup serverGroup) {
         clearSelected();
-        HTMLElement element = (HTMLElement) document.querySelector(serverGroupSelector(serverGroup));
+        HTMLElement element = (HTMLElement) document.querySelector(serverGroupSelector(serverGroup.getName()));
         if (element != null) {
             element.classList.add(selected);
         }
@@ -731,43 +724,53 @@ class TopologyPreview extends PreviewContent<StaticItem> implements HostActionHa
         setVisible(serverAttributesSection, false);
     }
 
-    private boolean isAllowed(ServerGroup serverGroup) {
+    private boolean isServerGroupAllowed(String serverGroup) {
         // To keep it simple, we take a all or nothing approach:
         // We check *one* action and assume that the other actions have the same constraints
         Constraints constraints = Constraints.or(
                 Constraint.executable(AddressTemplate.of("/server-group=*"), RELOAD_SERVERS),
-                Constraint.executable(AddressTemplate.of("/server-group=" + serverGroup.getName()), RELOAD_SERVERS));
+                Constraint.executable(AddressTemplate.of("/server-group=" + serverGroup), RELOAD_SERVERS));
         return AuthorisationDecision.from(environment, securityContextRegistry)
                 .isAllowed(constraints);
     }
 
-    private List<HTMLElement> serverGroupActions(ServerGroup serverGroup) {
+    private List<HTMLElement> serverGroupActions(TopologySnapshot snapshot, int sg) {
         List<HTMLElement> actions = new ArrayList<>();
+        Supplier<ServerGroup> serverGroup = () -> snapshot.serverGroup(sg);
 
         // Order is: reload, restart, suspend, resume, stop, start
-        if (serverGroup.hasServers(Server::isStarted)) {
-            actions.add(actionLink(event -> serverGroupActions.reload(serverGroup), resources.constants().reload()));
-            actions.add(actionLink(event -> serverGroupActions.restart(serverGroup), resources.constants().restart()));
+        boolean started = snapshot.hasServers(sg, snapshot::isStarted);
+        if (started) {
+            actions.add(actionLink(event -> serverGroupActions.reload(serverGroup.get()),
+                    resources.constants().reload()));
+            actions.add(actionLink(event -> serverGroupActions.restart(serverGroup.get()),
+                    resources.constants().restart()));
         }
-        if (serverGroup.getServers(Server::isStarted).size() - serverGroup.getServers(Server::isSuspended).size() > 0) {
-            actions.add(actionLink(event -> serverGroupActions.suspend(serverGroup), resources.constants().suspend()));
+        if (snapshot.countServers(sg, snapshot::isStarted) - snapshot.countServers(sg, snapshot::isSuspended) > 0) {
+            actions.add(actionLink(event -> serverGroupActions.suspend(serverGroup.get()),
+                    resources.constants().suspend()));
         }
-        if (serverGroup.hasServers(Server::isSuspended)) {
-            actions.add(actionLink(event -> serverGroupActions.resume(serverGroup), resources.constants().resume()));
+        if (snapshot.hasServers(sg, snapshot::isSuspended)) {
+            actions.add(actionLink(event -> serverGroupActions.resume(serverGroup.get()),
+                    resources.constants().resume()));
         }
-        if (serverGroup.hasServers(Server::isStarted)) {
-            actions.add(actionLink(event -> serverGroupActions.stop(serverGroup), resources.constants().stop()));
+        if (started) {
+            actions.add(actionLink(event -> serverGroupActions.stop(serverGroup.get()),
+                    resources.constants().stop()));
         }
-        if (serverGroup.hasServers(server -> server.isStopped() || server.isFailed())) {
-            actions.add(actionLink(event -> serverGroupActions.start(serverGroup), resources.constants().start()));
+        if (snapshot.hasServers(sg, server -> snapshot.isStopped(server) || snapshot.isFailed(server))) {
+            actions.add(actionLink(event -> serverGroupActions.start(serverGroup.get()),
+                    resources.constants().start()));
         }
         // add kill link regardless of state to destroy and kill servers which might show a wrong state
-        actions.add(actionLink(event -> serverGroupActions.destroy(serverGroup), resources.constants().destroy()));
-        actions.add(actionLink(event -> serverGroupActions.kill(serverGroup), resources.constants().kill()));
+        actions.add(actionLink(event -> serverGroupActions.destroy(serverGroup.get()),
+                resources.constants().destroy()));
+        actions.add(actionLink(event -> serverGroupActions.kill(serverGroup.get()), resources.constants().kill()));
 
         // add remove action to groups which have only stopped servers or no servers at all
-        if (!serverGroup.hasServers(Server::isStarted)) {
-            actions.add(actionLink(event -> serverGroupActions.remove(serverGroup), resources.constants().remove()));
+        if (!started) {
+            actions.add(actionLink(event -> serverGroupActions.remove(serverGroup.get()),
+                    resources.constants().remove()));
         }
         return actions;
     }
@@ -779,7 +782,7 @@ class TopologyPreview extends PreviewContent<StaticItem> implements HostActionHa
             disableDropdown(Ids.serverGroup(serverGroup.getName()), serverGroup.getName());
             event.getServers().forEach(server -> {
                 disableDropdown(server.getId(), server.getName());
-                startProgress(serverSelector(server));
+                startProgress(serverSelector(server.getId()));
             });
         }
     }
@@ -787,13 +790,13 @@ class TopologyPreview extends PreviewContent<StaticItem> implements HostActionHa
     @Override
     public void onServerGroupResult(ServerGroupResultEvent event) {
         if (isVisible()) {
-            event.getServers().forEach(server -> stopProgress(serverSelector(server)));
+            event.getServers().forEach(server -> stopProgress(serverSelector(server.getId())));
             update(null);
         }
     }
 
-    private String serverGroupSelector(ServerGroup serverGroup) {
-        return "[data-server-group='" + serverGroup.getName() + "']"; //NON-NLS
+    private String serverGroupSelector(String serverGroup) {
+        return "[data-server-group='" + serverGroup + "']"; //NON-NLS
     }
 
 
@@ -801,7 +804,7 @@ class TopologyPreview extends PreviewContent<StaticItem> implements HostActionHa
 
     private void serverDetails(Server server) {
         clearSelected();
-        HTMLElement element = (HTMLElement) document.querySelector(serverSelector(server));
+        HTMLElement element = (HTMLElement) document.querySelector(serverSelector(server.getId()));
         if (element != null) {
             element.classList.add(selected);
         }
@@ -826,101 +829,63 @@ class TopologyPreview extends PreviewContent<StaticItem> implements HostActionHa
         }
     }
 
-    private boolean isAllowed(Server server) {
+    private boolean isServerAllowed(String host) {
         // To keep it simple, we take a all or nothing approach:
         // We check *one* action and assume that the other actions have the same constraints
         return AuthorisationDecision.from(environment, securityContextRegistry)
-                .isAllowed(Constraint.executable(AddressTemplate.of("/host=" + server.getHost() + "/server-config=*"),
-                        RELOAD));
+                .isAllowed(Constraint.executable(AddressTemplate.of("/host=" + host + "/server-config=*"), RELOAD));
     }
 
-    private List<HTMLElement> serverActions(Server server) {
+    private List<HTMLElement> serverActions(TopologySnapshot snapshot, int srv) {
         List<HTMLElement> actions = new ArrayList<>();
+        Supplier<Server> server = () -> snapshot.server(srv);
 
-        if (!server.isStarted()) {
-            actions.add(actionLink(event -> serverActions.start(server), resources.constants().start()));
+        if (!snapshot.isStarted(srv)) {
+            actions.add(actionLink(event -> serverActions.start(server.get()), resources.constants().start()));
         } else {
-            actions.add(actionLink(event -> serverActions.editUrl(server, () -> {
+            actions.add(actionLink(event -> serverActions.editUrl(server.get(), () -> {
                 if (isVisible()) {
-                    updateServer(server);
+                    updateServer(server.get());
                 }
             }), resources.constants().editURL()));
             actions.add(li().css(divider).attr(UIConstants.ROLE, UIConstants.SEPARATOR).element());
             // Order is: reload, restart, (resume | suspend), stop
-            actions.add(actionLink(event -> serverActions.reload(server), resources.constants().reload()));
-            actions.add(actionLink(event -> serverActions.restart(server), resources.constants().restart()));
-            if (server.isSuspended()) {
-                actions.add(actionLink(event -> serverActions.resume(server), resources.constants().resume()));
+            actions.add(actionLink(event -> serverActions.reload(server.get()), resources.constants().reload()));
+            actions.add(actionLink(event -> serverActions.restart(server.get()), resources.constants().restart()));
+            if (snapshot.isSuspended(srv)) {
+                actions.add(actionLink(event -> serverActions.resume(server.get()), resources.constants().resume()));
             } else {
-                actions.add(actionLink(event -> serverActions.suspend(server), resources.constants().suspend()));
+                actions.add(actionLink(event -> serverActions.suspend(server.get()),
+                        resources.constants().suspend()));
             }
-            actions.add(actionLink(event -> serverActions.stop(server), resources.constants().stop()));
+            actions.add(actionLink(event -> serverActions.stop(server.get()), resources.constants().stop()));
         }
         // add kill link regardless of state to destroy and kill servers which might show a wrong state
-        actions.add(actionLink(event -> serverActions.destroy(server), resources.constants().destroy()));
-        actions.add(actionLink(event -> serverActions.kill(server), resources.constants().kill()));
+        actions.add(actionLink(event -> serverActions.destroy(server.get()), resources.constants().destroy()));
+        actions.add(actionLink(event -> serverActions.kill(server.get()), resources.constants().kill()));
 
         return actions;
     }
 
-    private String[] statusCss(Server server) {
+    private String[] statusCss(TopologySnapshot snapshot, int srv) {
+        // same order as in ServerStatusSwitch, but evaluated on the snapshot
         Set<String> status = new HashSet<>();
-        ServerStatusSwitch sss = new ServerStatusSwitch(serverActions) {
-            @Override
-            protected void onPending(Server server) {
-            }
-
-            @Override
-            protected void onBootErrors(Server server) {
-                status.add(error);
-            }
-
-            @Override
-            protected void onFailed(Server server) {
-                status.add(error);
-            }
-
-            @Override
-            protected void onAdminMode(Server server) {
-                status.add(inactive);
-            }
-
-            @Override
-            protected void onStarting(Server server) {
-            }
-
-            @Override
-            protected void onSuspended(Server server) {
-                status.add(suspended);
-            }
-
-            @Override
-            protected void onNeedsReload(Server server) {
-                status.add(warning);
-            }
-
-            @Override
-            protected void onNeedsRestart(Server server) {
-                status.add(warning);
-            }
-
-            @Override
-            protected void onRunning(Server server) {
-                status.add(ok);
-            }
-
-            @Override
-            protected void onStopped(Server server) {
-                status.add(inactive);
-            }
-
-            @Override
-            protected void onUnknown(Server server) {
-            }
-        };
-        sss.accept(server);
-        if (serverActions.isPending(server) || server.isStandalone()) {
+        if (serverActions.isPending(snapshot.serverId(srv))) {
             status.add(withProgress);
+        } else if (snapshot.hasBootErrors(srv) || snapshot.isFailed(srv)) {
+            status.add(error);
+        } else if (snapshot.isAdminMode(srv)) {
+            status.add(inactive);
+        } else if (snapshot.isStarting(srv)) {
+            // no additional status
+        } else if (snapshot.isSuspended(srv)) {
+            status.add(suspended);
+        } else if (snapshot.needsReload(srv) || snapshot.needsRestart(srv)) {
+            status.add(warning);
+        } else if (snapshot.isRunning(srv)) {
+            status.add(ok);
+        } else if (snapshot.isStopped(srv)) {
+            status.add(inactive);
         }
         return status.toArray(new String[0]);
     }
@@ -930,19 +895,27 @@ class TopologyPreview extends PreviewContent<StaticItem> implements HostActionHa
         if (isVisible()) {
             Server server = event.getServer();
             disableDropdown(server.getId(), server.getName());
-            startProgress(serverSelector(server));
+            startProgress(serverSelector(server.getId()));
+        }
+    }
+
+    @Override
+    public void onServerProgress(ServerProgressEvent event) {
+        if (isVisible()) {
+            // no update(): the topology is refreshed once when the server group action has finished
+            stopProgress(serverSelector(event.getServer().getId()));
         }
     }
 
     @Override
     public void onServerResult(ServerResultEvent event) {
         if (isVisible()) {
-            stopProgress(serverSelector(event.getServer()));
+            stopProgress(serverSelector(event.getServer().getId()));
             updateServer(event.getServer());
         }
     }
 
-    private String serverSelector(Server server) {
-        return "[data-server='" + server.getId() + "']"; //NON-NLS
+    private String serverSelector(String serverId) {
+        return "[data-server='" + serverId + "']"; //NON-NLS
     }
 }
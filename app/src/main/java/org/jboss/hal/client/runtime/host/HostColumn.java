@@ -35,6 +35,8 @@ import org.jboss.hal.core.finder.ItemAction;
 import org.jboss.hal.core.finder.ItemActionFactory;
 import org.jboss.hal.core.finder.ItemMonitor;
 import org.jboss.hal.core.finder.ItemsProvider;
+import org.jboss.hal.core.runtime.TopologyCache;
+import org.jboss.hal.core.runtime.TopologySnapshot;
 import org.jboss.hal.core.runtime.TopologyTasks;
 import org.jboss.hal.core.runtime.host.Host;
 import org.jboss.hal.core.runtime.host.HostActionEvent;
@@ -108,6 +110,7 @@ public class HostColumn extends FinderColumn<Host> implements HostActionHandler,
             ColumnActionFactory columnActionFactory,
             ItemActionFactory itemActionFactory,
             HostActions hostActions,
+            TopologyCache topologyCache,
             Resources resources,
             MetadataRegistry metadataRegistry) {
 
@@ -153,13 +156,16 @@ public class HostColumn extends FinderColumn<Host> implements HostActionHandler,
 
                     @Override
                     public void onSuccess(FlowContext context) {
-                        List<Host> hosts = context.get(TopologyTasks.HOSTS);
-                        callback.onSuccess(hosts);
+                        TopologySnapshot topology = context.get(TopologyTasks.TOPOLOGY);
+                        topologyCache.set(topology);
+                        callback.onSuccess(topology.getHosts());
 
                         // Restore pending visualization
-                        hosts.stream()
-                                .filter(hostActions::isPending)
-                                .forEach(host -> ItemMonitor.startProgress(Ids.host(host.getAddressName())));
+                        for (int i = 0; i < topology.hostCount(); i++) {
+                            if (hostActions.isPending(topology.hostName(i))) {
+                                ItemMonitor.startProgress(Ids.host(topology.hostAddressName(i)));
+                            }
+                        }
                     }
                 });
         setItemsProvider(itemsProvider);
@@ -22,6 +22,7 @@ import javax.inject.Inject;
 import org.jboss.hal.ballroom.EmptyState;
 import org.jboss.hal.ballroom.Toolbar;
 import org.jboss.hal.ballroom.dataprovider.DataProvider;
+import org.jboss.hal.ballroom.export.Export;
 import org.jboss.hal.core.mbui.listview.ModelNodeListView;
 import org.jboss.hal.core.mvp.HalViewImpl;
 import org.jboss.hal.meta.Metadata;
@@ -33,6 +34,7 @@ import org.jboss.hal.resources.Messages;
 import org.jboss.hal.resources.Resources;
 
 import static java.util.Comparator.comparing;
+import static org.jboss.hal.ballroom.export.Export.attribute;
 import static org.jboss.hal.client.runtime.managementoperations.ManagementOperationsPresenter.ACTIVE_OPERATIONS_TEMPLATE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
 import static org.jboss.hal.resources.Ids.ACTIVE_OPERATION;
@@ -82,6 +84,16 @@ public class ManagementOperationsView extends HalViewImpl implements ManagementO
                 .toolbarAction(new Toolbar.Action(Ids.build(ACTIVE_OPERATION, Ids.CANCEL_NON_PROGRESSING_OPERATION),
                         constants.cancelNonProgressingOperation(), cancelDescription,
                         () -> presenter.cancelNonProgressingOperation()))
+                .export(new Export.Builder<ManagementOperations>(ACTIVE_OPERATION)
+                        .column(OPERATION, ManagementOperations::getOperation)
+                        .column(ADDRESS, ManagementOperations::getAddress)
+                        .column(ACCESS_MECHANISM, ManagementOperations::getAccessMechanism)
+                        .column(EXECUTION_STATUS, attribute(EXECUTION_STATUS))
+                        .column(CALLER_THREAD, attribute(CALLER_THREAD))
+                        .column(RUNNING_TIME, attribute(RUNNING_TIME))
+                        .column(EXCLUSIVE_RUNNING_TIME, attribute(EXCLUSIVE_RUNNING_TIME))
+                        .column(CANCELLED, attribute(CANCELLED))
+                        .build())
                 .noItems(constants.noItems(), messages.noItems())
                 .emptyState(EMPTY, emptyState)
                 .build();
@@ -20,6 +20,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
@@ -36,6 +38,7 @@ import org.jboss.hal.client.runtime.BrowseByColumn;
 import org.jboss.hal.config.Environment;
 import org.jboss.hal.core.CrudOperations;
 import org.jboss.hal.core.configuration.ProfileSelectionEvent;
+import org.jboss.hal.core.finder.BulkActionDialog;
 import org.jboss.hal.core.finder.ColumnAction;
 import org.jboss.hal.core.finder.ColumnActionFactory;
 import org.jboss.hal.core.finder.Finder;
@@ -52,6 +55,7 @@ import org.jboss.hal.core.mbui.dialog.AddResourceDialog;
 import org.jboss.hal.core.mbui.dialog.NameItem;
 import org.jboss.hal.core.mbui.form.ModelNodeForm;
 import org.jboss.hal.core.mvp.Places;
+import org.jboss.hal.core.runtime.TopologyCache;
 import org.jboss.hal.core.runtime.TopologyTasks;
 import org.jboss.hal.core.runtime.group.ServerGroupSelectionEvent;
 import org.jboss.hal.core.runtime.host.HostSelectionEvent;
@@ -59,6 +63,8 @@ import org.jboss.hal.core.runtime.server.Server;
 import org.jboss.hal.core.runtime.server.ServerActionEvent;
 import org.jboss.hal.core.runtime.server.ServerActionEvent.ServerActionHandler;
 import org.jboss.hal.core.runtime.server.ServerActions;
+import org.jboss.hal.core.runtime.server.ServerProgressEvent;
+import org.jboss.hal.core.runtime.server.ServerProgressEvent.ServerProgressHandler;
 import org.jboss.hal.core.runtime.server.ServerResultEvent;
 import org.jboss.hal.core.runtime.server.ServerResultEvent.ServerResultHandler;
 import org.jboss.hal.core.runtime.server.ServerSelectionEvent;
@@ -88,9 +94,12 @@ import org.jboss.hal.resources.Names;
 import org.jboss.hal.resources.Resources;
 import org.jboss.hal.spi.Column;
 import org.jboss.hal.spi.Footer;
+import org.jboss.hal.spi.Message;
+import org.jboss.hal.spi.MessageEvent;
 import org.jboss.hal.spi.Requires;
 
 import static elemental2.dom.DomGlobal.document;
+import static elemental2.dom.DomGlobal.setTimeout;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Comparator.comparing;
@@ -101,14 +110,17 @@ import static org.jboss.hal.core.runtime.TopologyTasks.serversOfHost;
 import static org.jboss.hal.core.runtime.TopologyTasks.serversOfServerGroup;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
 import static org.jboss.hal.flow.Flow.series;
+import static org.jboss.hal.resources.CSS.fontAwesome;
 import static org.jboss.hal.resources.Ids.FORM;
 
 @Column(Ids.SERVER)
 @Requires(value = {"/host=*/server-config=*", "/host=*/server=*",
         "opt:///host=*/server=*" + CONFIGURATION_CHANGES_ADDRESS}, recursive = false)
-public class ServerColumn extends FinderColumn<Server> implements ServerActionHandler, ServerResultHandler {
+public class ServerColumn extends FinderColumn<Server>
+        implements ServerActionHandler, ServerProgressHandler, ServerResultHandler {
 
     static final String HOST_KEY = "/host=";
+    private static final AddressTemplate SERVER_CONFIG_TEMPLATE = AddressTemplate.of("/host=*/server-config=*");
 
     static AddressTemplate serverConfigTemplate(Server server) {
         return server.isStandalone() ? AddressTemplate.ROOT : serverConfigTemplate(server.getHost());
@@ -130,6 +142,8 @@ public class ServerColumn extends FinderColumn<Server> implements ServerActionHa
     private final CrudOperations crud;
     private final Resources resources;
     private FinderPath refreshPath;
+    private Runnable scheduledRefresh;
+    private boolean refreshScheduled;
 
     @Inject
     public ServerColumn(Finder finder,
@@ -146,6 +160,7 @@ public class ServerColumn extends FinderColumn<Server> implements ServerActionHa
             ColumnActionFactory columnActionFactory,
             ItemActionFactory itemActionFactory,
             ServerActions serverActions,
+            TopologyCache topologyCache,
             CrudOperations crud,
             Resources resources,
             MetadataRegistry metadataRegistry) {
@@ -196,6 +211,7 @@ public class ServerColumn extends FinderColumn<Server> implements ServerActionHa
                 .pinnable()
                 .showCount()
                 .withFilter()
+                .cacheItems()
                 .filterDescription(resources.messages().serverFilterDescription())
                 .onPreview(item -> new ServerPreview(serverActions, item, dispatcher, eventBus, progress,
                         statementContext, placeManager, places, finderPathFactory, resources))
@@ -216,6 +232,12 @@ public class ServerColumn extends FinderColumn<Server> implements ServerActionHa
             List<Task<FlowContext>> tasks;
             if (BrowseByColumn.browseByHosts(context)) {
                 processAddColumnAction(statementContext.selectedHost());
+                // the host column or the topology preview might have just read the servers of the host
+                List<Server> servers = topologyCache.servers(statementContext.selectedHost());
+                if (servers != null) {
+                    serversLoaded(servers, callback);
+                    return;
+                }
                 tasks = serversOfHost(environment, dispatcher, statementContext.selectedHost());
 
             } else {
@@ -232,16 +254,7 @@ public class ServerColumn extends FinderColumn<Server> implements ServerActionHa
                         @Override
                         public void onSuccess(FlowContext context) {
                             List<Server> servers = context.get(TopologyTasks.SERVERS);
-                            if (servers == null) {
-                                servers = emptyList();
-                            }
-                            callback.onSuccess(servers.stream().sorted(comparing(Server::getName))
-                                    .collect(toList()));
-
-                            // Restore pending servers visualization
-                            servers.stream()
-                                    .filter(serverActions::isPending)
-                                    .forEach(server -> ItemMonitor.startProgress(server.getId()));
+                            serversLoaded(servers != null ? servers : emptyList(), callback);
                         }
                     });
         };
@@ -435,9 +448,21 @@ public class ServerColumn extends FinderColumn<Server> implements ServerActionHa
                 .handler(column -> addServer(BrowseByColumn.browseByHosts(finder.getContext())))
                 .build();
         addColumnAction(addAction);
+        List<ColumnAction<Server>> bulkActions = new ArrayList<>();
+        bulkActions.add(bulkAction(RELOAD, resources.constants().reload(), Server::isStarted,
+                serverActions::reload));
+        bulkActions.add(bulkAction(RESTART, resources.constants().restart(), Server::isStarted,
+                serverActions::restart));
+        bulkActions.add(bulkAction(START, resources.constants().start(),
+                server -> server.isStopped() || server.isFailed(), serverActions::start));
+        bulkActions.add(bulkAction(STOP, resources.constants().stop(), Server::isStarted,
+                serverActions::stop));
+        addColumnActions(Ids.SERVER_BULK_ACTIONS, fontAwesome("check-square-o"),
+                resources.constants().bulkOperations(), bulkActions);
         addColumnAction(columnActionFactory.refresh(Ids.SERVER_REFRESH));
 
         eventBus.addHandler(ServerActionEvent.getType(), this);
+        eventBus.addHandler(ServerProgressEvent.getType(), this);
         eventBus.addHandler(ServerResultEvent.getType(), this);
     }
 
@@ -512,10 +537,50 @@ public class ServerColumn extends FinderColumn<Server> implements ServerActionHa
         }
     }
 
+    private ColumnAction<Server> bulkAction(String operation, String title, Predicate<Server> applicable,
+            Consumer<List<Server>> action) {
+        String id = Ids.build(Ids.SERVER_BULK_ACTIONS, operation);
+        return new ColumnAction.Builder<Server>(id)
+                .title(title)
+                .handler(column -> {
+                    List<Server> servers = getCurrentItems().stream()
+                            .filter(server -> !serverActions.isPending(server))
+                            .filter(applicable)
+                            .collect(toList());
+                    if (servers.isEmpty()) {
+                        MessageEvent.fire(eventBus,
+                                Message.warning(resources.messages().bulkOperationNoItems(title)));
+                    } else {
+                        boolean browseByHosts = BrowseByColumn.browseByHosts(finder.getContext());
+                        new BulkActionDialog.Builder<Server>(id, title, resources)
+                                .column(Names.SERVER, Server::getName)
+                                .column(browseByHosts ? Names.SERVER_GROUP : Names.HOST,
+                                        server -> browseByHosts ? server.getServerGroup() : server.getHost())
+                                .column(resources.constants().status(),
+                                        server -> ModelNodeHelper.asAttributeValue(server.getServerConfigStatus()))
+                                .items(servers)
+                                .onSelection(action)
+                                .build()
+                                .show();
+                    }
+                })
+                .constraint(Constraint.executable(SERVER_CONFIG_TEMPLATE, operation))
+                .build();
+    }
+
     private void copyServer(Server server) {
         serverActions.copyServer(server, () -> refresh(RESTORE_SELECTION));
     }
 
+    private void serversLoaded(List<Server> servers, AsyncCallback<List<Server>> callback) {
+        callback.onSuccess(servers.stream().sorted(comparing(Server::getName)).collect(toList()));
+
+        // Restore pending servers visualization
+        servers.stream()
+                .filter(serverActions::isPending)
+                .forEach(server -> ItemMonitor.startProgress(server.getId()));
+    }
+
     private boolean serverIsLastSegment() {
         FinderSegment segment = Iterables.getLast(finder.getContext().getPath(), null);
         return segment != null && Ids.SERVER.equals(segment.getColumnId());
@@ -538,7 +603,15 @@ public class ServerColumn extends FinderColumn<Server> implements ServerActionHa
             // remember current selection for onServerResult()
             refreshPath = finder.getContext().getPath().copy();
             ItemMonitor.startProgress(event.getServer().getId());
-            refresh(RESTORE_SELECTION);
+            scheduleRefresh(() -> refresh(RESTORE_SELECTION));
+        }
+    }
+
+    @Override
+    public void onServerProgress(ServerProgressEvent event) {
+        if (isVisible()) {
+            // the server group action is still running: don't refresh the column until the final result is in
+            ItemMonitor.stopProgress(event.getServer().getId());
         }
     }
 
@@ -559,8 +632,30 @@ public class ServerColumn extends FinderColumn<Server> implements ServerActionHa
                 }
                 path = woRuntime;
             }
-            finder.refresh(path);
-            refreshPath = null;
+            FinderPath finalPath = path;
+            scheduleRefresh(() -> {
+                finder.refresh(finalPath);
+                refreshPath = null;
+            });
+        }
+    }
+
+    /**
+     * Bulk operations fire one event per server in a row. Defer the refresh, so that these events result in only one
+     * refresh. If several refreshes are scheduled, the last one wins.
+     */
+    private void scheduleRefresh(Runnable refresh) {
+        scheduledRefresh = refresh;
+        if (!refreshScheduled) {
+            refreshScheduled = true;
+            setTimeout(o -> {
+                Runnable r = scheduledRefresh;
+                refreshScheduled = false;
+                scheduledRefresh = null;
+                if (r != null) {
+                    r.run();
+                }
+            }, 0);
         }
     }
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2015-2018 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.client.runtime.subsystem.elytron;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.hal.ballroom.table.Table;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.meta.Metadata;
+
+import static org.jboss.hal.ballroom.table.RefreshMode.HOLD;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_ALIAS;
+
+/**
+ * Local copy of the alias names shown in an alias table. After an alias has been added, changed or removed, the copy
+ * is patched and the table is redrawn instead of reading all aliases again. Certificate details are read on demand and
+ * cached per alias.
+ */
+class Aliases {
+
+    /** Whether the resource supports the {@code read-alias} operation and the current user may execute it. */
+    static boolean readAliasSupported(Metadata metadata) {
+        return metadata.getDescription().findOperation(READ_ALIAS) != null &&
+                metadata.getSecurityContext().isExecutable(READ_ALIAS);
+    }
+
+    private final Table<ModelNode> table;
+    private final List<String> names;
+    private final Map<String, String> details;
+
+    Aliases(Table<ModelNode> table) {
+        this.table = table;
+        this.names = new ArrayList<>();
+        this.details = new HashMap<>();
+    }
+
+    void reset(List<ModelNode> aliases) {
+        names.clear();
+        details.clear();
+        aliases.forEach(alias -> names.add(alias.asString()));
+        table.update(asNodes());
+    }
+
+    void add(String alias) {
+        if (!names.contains(alias)) {
+            names.add(alias);
+        }
+        details.remove(alias);
+        refresh();
+    }
+
+    void change(String alias, String newAlias) {
+        int index = names.indexOf(alias);
+        if (index != -1) {
+            names.set(index, newAlias);
+        } else if (!names.contains(newAlias)) {
+            names.add(newAlias);
+        }
+        details.remove(alias);
+        details.remove(newAlias);
+        refresh();
+    }
+
+    void remove(String alias) {
+        names.remove(alias);
+        details.remove(alias);
+        refresh();
+    }
+
+    void clearDetails() {
+        details.clear();
+    }
+
+    String getDetails(String alias) {
+        return details.get(alias);
+    }
+
+    void setDetails(String alias, String value) {
+        details.put(alias, value);
+    }
+
+    private void refresh() {
+        // keep the current page and selection
+        table.update(asNodes(), HOLD, ModelNode::asString);
+    }
+
+    private List<ModelNode> asNodes() {
+        List<ModelNode> nodes = new ArrayList<>();
+        names.forEach(name -> nodes.add(new ModelNode().set(name)));
+        return nodes;
+    }
+}
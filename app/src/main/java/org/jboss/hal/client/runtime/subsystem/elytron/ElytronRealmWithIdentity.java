@@ -27,6 +27,7 @@ import org.jboss.hal.ballroom.Attachable;
 import org.jboss.hal.ballroom.Button;
 import org.jboss.hal.ballroom.LabelBuilder;
 import org.jboss.hal.ballroom.Pages;
+import org.jboss.hal.ballroom.export.Export;
 import org.jboss.hal.ballroom.form.Form;
 import org.jboss.hal.ballroom.table.InlineAction;
 import org.jboss.hal.ballroom.table.Table;
@@ -77,6 +78,10 @@ public class ElytronRealmWithIdentity implements IsElement<HTMLElement>, Attacha
                         Constraint.executable(template, ADD_IDENTITY))
                 .column(NAME, (cell, type, row, meta) -> row.getName())
                 .column(new InlineAction<>(resources.constants().editIdentity(), this::showIdentityPage))
+                .export(new Export.Builder<NamedNode>(id(TABLE))
+                        .column(NAME, NamedNode::getName)
+                        .build())
+                .virtualScroll()
                 .build();
 
         form = new ModelNodeForm.Builder<NamedNode>(id(FORM), metadata)
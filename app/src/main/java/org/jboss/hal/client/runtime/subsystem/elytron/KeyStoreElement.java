@@ -15,9 +15,7 @@
  */
 package org.jboss.hal.client.runtime.subsystem.elytron;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import elemental2.dom.HTMLElement;
 import org.jboss.gwt.elemento.core.IsElement;
@@ -33,7 +31,6 @@ import org.jboss.hal.core.mbui.form.ModelNodeForm;
 import org.jboss.hal.core.mbui.table.ModelNodeTable;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.NamedNode;
-import org.jboss.hal.meta.AddressTemplate;
 import org.jboss.hal.meta.Metadata;
 import org.jboss.hal.meta.security.Constraint;
 import org.jboss.hal.resources.Constants;
@@ -62,9 +59,11 @@ public class KeyStoreElement implements IsElement<HTMLElement>, Attachable {
     private HTMLElement root;
     private String selectedKeystore;
     private PreTextItem aliasDetails;
-    private Map<String, String> aliasDetailsMapping = new HashMap<>();
+    private final Aliases aliases;
+    private final Metadata metadata;
 
     KeyStoreElement(Resources resources, Metadata metadata) {
+        this.metadata = metadata;
 
         LabelBuilder labelBuilder = new LabelBuilder();
         Constants cons = resources.constants();
@@ -74,10 +73,10 @@ public class KeyStoreElement implements IsElement<HTMLElement>, Attachable {
                 .button(new Button<>(cons.store(), table -> presenter.storeKeyStore(table.selectedRow().getName()),
                         Constraint.executable(KEY_STORE_TEMPLATE, STORE)))
                 .button(new Button<>(cons.generateKeyPair(),
-                        table -> presenter.generateKeyPair(metadata, table.selectedRow().getName()),
+                        table -> generateKeyPair(table.selectedRow().getName()),
                         Constraint.executable(KEY_STORE_TEMPLATE, GENERATE_KEY_PAIR)))
                 .button(new Button<>(cons.importCertificate(),
-                        table -> presenter.importCertificate(metadata, table.selectedRow().getName()),
+                        table -> importCertificate(table.selectedRow().getName()),
                         Constraint.executable(KEY_STORE_TEMPLATE, IMPORT_CERTIFICATE)))
                 .button(new Button<>(cons.obtain(), cons.obtainCertificate(),
                         table -> presenter.obtainCertificate(metadata, table.selectedRow().getName()),
@@ -86,7 +85,7 @@ public class KeyStoreElement implements IsElement<HTMLElement>, Attachable {
                 .column(new InlineAction<>(cons.aliases(),
                         row -> {
                             selectedKeystore = row.getName();
-                            showAliases(metadata.getTemplate(), row.getName());
+                            showAliases(row.getName());
                         }))
                 .build();
 
@@ -124,6 +123,7 @@ public class KeyStoreElement implements IsElement<HTMLElement>, Attachable {
                         Constraint.executable(KEY_STORE_TEMPLATE, SHOULD_RENEW_CERTIFICATE)))
                 .column(ALIAS, (cell, t, row, meta) -> row.asString())
                 .build();
+        aliases = new Aliases(aliasesTable);
 
         aliasDetails = new PreTextItem(CERTIFICATE_DETAILS);
         aliasDetails.setEnabled(false);
@@ -198,11 +198,14 @@ public class KeyStoreElement implements IsElement<HTMLElement>, Attachable {
             table1.enableButton(6, table1.hasSelection());
             if (table1.hasSelection()) {
                 String alias = table1.selectedRow().asString();
-                String value = aliasDetailsMapping.get(alias);
+                String value = aliases.getDetails(alias);
                 if (value != null) {
                     aliasDetails.setValue(value);
-                } else  {
+                } else {
                     aliasDetails.clearValue();
+                    if (Aliases.readAliasSupported(metadata)) {
+                        presenter.readAlias(metadata, selectedKeystore, alias, this::updateAliasDetails);
+                    }
                 }
             }
         });
@@ -227,31 +230,52 @@ public class KeyStoreElement implements IsElement<HTMLElement>, Attachable {
     public void update(List<NamedNode> items) {
         form.clear();
         table.update(items);
-        aliasDetailsMapping.clear();
+        aliases.clearDetails();
         toggleKeyStoreButtons();
     }
 
     // -------------- aliases operations
 
-    private void showAliases(AddressTemplate template, String resource) {
-        presenter.readAliases(template, resource, aliasesTable::update);
+    private void showAliases(String resource) {
+        presenter.readAliases(metadata, resource, items -> {
+            aliases.reset(items);
+            formAlias.clear();
+        });
         pages.showPage(id(ALIAS, PAGE));
         toggleAliasesButtons();
     }
 
-    private void updateAliases(List<ModelNode> items) {
-        aliasesTable.update(items);
-        formAlias.clear();
-    }
-
     private void updateAliasDetails(ModelNode details) {
+        String alias = details.get(ALIAS).asString();
         String value = details.toString();
-        aliasDetails.setValue(value);
-        aliasDetailsMapping.put(details.get(ALIAS).asString(), value);
+        aliases.setDetails(alias, value);
+        // the selection might have changed in the meantime
+        if (aliasesTable.hasSelection() && alias.equals(aliasesTable.selectedRow().asString())) {
+            aliasDetails.setValue(value);
+        }
+    }
+
+    private void generateKeyPair(String keystore) {
+        presenter.generateKeyPair(metadata, keystore, alias -> {
+            if (keystore.equals(selectedKeystore)) {
+                aliases.add(alias);
+            }
+        });
+    }
+
+    private void importCertificate(String keystore) {
+        presenter.importCertificate(metadata, keystore, alias -> {
+            if (keystore.equals(selectedKeystore)) {
+                aliases.add(alias);
+            }
+        });
     }
 
     private void removeKeyStoreAlias(Metadata metadata, String alias) {
-        presenter.removeAlias(metadata, selectedKeystore, alias, this::updateAliases);
+        presenter.removeAlias(metadata, selectedKeystore, alias, removed -> {
+            aliases.remove(removed);
+            formAlias.clear();
+        });
     }
 
     private void readKeystoreAlias(Metadata metadata, String alias) {
@@ -259,7 +283,10 @@ public class KeyStoreElement implements IsElement<HTMLElement>, Attachable {
     }
 
     private void changeAlias(Metadata metadata, String alias) {
-        presenter.changeAlias(metadata, selectedKeystore, alias, this::updateAliases);
+        presenter.changeAlias(metadata, selectedKeystore, alias, newAlias -> {
+            aliases.change(alias, newAlias);
+            formAlias.clear();
+        });
     }
 
     private void exportCertificate(Metadata metadata, String alias) {
@@ -16,9 +16,7 @@
 package org.jboss.hal.client.runtime.subsystem.elytron;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import elemental2.dom.HTMLElement;
 import org.jboss.gwt.elemento.core.IsElement;
@@ -33,7 +31,6 @@ import org.jboss.hal.core.mbui.form.ModelNodeForm;
 import org.jboss.hal.core.mbui.table.ModelNodeTable;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.NamedNode;
-import org.jboss.hal.meta.AddressTemplate;
 import org.jboss.hal.meta.Metadata;
 import org.jboss.hal.resources.Ids;
 import org.jboss.hal.resources.Resources;
@@ -61,7 +58,7 @@ public class StoreElement implements IsElement<HTMLElement>, Attachable {
     private Builder builder;
     private String selectedResource;
     private PreTextItem aliasDetails;
-    private Map<String, String> aliasDetailsMapping = new HashMap<>();
+    private final Aliases aliases;
 
     private StoreElement(Builder builder) {
         this.builder = builder;
@@ -74,7 +71,7 @@ public class StoreElement implements IsElement<HTMLElement>, Attachable {
                 .column(new InlineAction<>(builder.resources.constants().aliases(),
                         row -> {
                             selectedResource = row.getName();
-                            showAliases(builder.metadata.getTemplate(), row.getName());
+                            showAliases(row.getName());
                         }))
                 .build();
 
@@ -96,6 +93,7 @@ public class StoreElement implements IsElement<HTMLElement>, Attachable {
         aliasesTable = aliasTableBuilder
                 .column(ALIAS, (cell, t, row, meta) -> row.asString())
                 .build();
+        aliases = new Aliases(aliasesTable);
 
         aliasDetails = new PreTextItem(CERTIFICATE_DETAILS);
         aliasDetails.setEnabled(false);
@@ -145,11 +143,14 @@ public class StoreElement implements IsElement<HTMLElement>, Attachable {
             }
             if (table1.hasSelection()) {
                 String alias = table1.selectedRow().asString();
-                String value = aliasDetailsMapping.get(alias);
+                String value = aliases.getDetails(alias);
                 if (value != null) {
                     aliasDetails.setValue(value);
-                } else  {
+                } else {
                     aliasDetails.clearValue();
+                    if (Aliases.readAliasSupported(builder.metadata)) {
+                        presenter.readAlias(builder.metadata, selectedResource, alias, this::updateAliasDetails);
+                    }
                 }
             }
         });
@@ -178,18 +179,25 @@ public class StoreElement implements IsElement<HTMLElement>, Attachable {
     public void update(List<NamedNode> items) {
         form.clear();
         table.update(items);
-        aliasDetailsMapping.clear();
+        aliases.clearDetails();
     }
 
     // -------------- aliases operations
 
-    private void showAliases(AddressTemplate template, String resource) {
-        presenter.readAliases(template, resource, aliases -> aliasesTable.update(aliases));
+    private void showAliases(String resource) {
+        presenter.readAliases(builder.metadata, resource, items -> {
+            aliases.reset(items);
+            formAlias.clear();
+        });
         pages.showPage(id(ALIAS, PAGE));
     }
 
-    public void updateAliases(List<ModelNode> items) {
-        aliasesTable.update(items);
+    void aliasAdded(String alias) {
+        aliases.add(alias);
+    }
+
+    void aliasRemoved(String alias) {
+        aliases.remove(alias);
         formAlias.clear();
     }
 
@@ -198,9 +206,13 @@ public class StoreElement implements IsElement<HTMLElement>, Attachable {
     }
 
     void updateAliasDetails(ModelNode details) {
+        String alias = details.get(ALIAS).asString();
         String value = details.toString();
-        aliasDetails.setValue(value);
-        aliasDetailsMapping.put(details.get(ALIAS).asString(), value);
+        aliases.setDetails(alias, value);
+        // the selection might have changed in the meantime
+        if (aliasesTable.hasSelection() && alias.equals(aliasesTable.selectedRow().asString())) {
+            aliasDetails.setValue(value);
+        }
     }
 
     private void disableTableButtons() {
@@ -16,7 +16,6 @@
 package org.jboss.hal.client.runtime.subsystem.elytron;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.function.Consumer;
@@ -53,8 +52,10 @@ import org.jboss.hal.core.mvp.SupportsExpertMode;
 import org.jboss.hal.dmr.Composite;
 import org.jboss.hal.dmr.CompositeResult;
 import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.ModelType;
 import org.jboss.hal.dmr.NamedNode;
 import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.Property;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
 import org.jboss.hal.flow.FlowContext;
@@ -169,7 +170,7 @@ public class StoresPresenter extends ApplicationFinderPresenter<StoresPresenter.
                         Message.error(resources.messages().reloadError(resource, exception.getMessage()))));
     }
 
-    void addAlias(Metadata metadata, String name, Consumer<List<ModelNode>> callback) {
+    void addAlias(Metadata metadata, String name, Consumer<String> callback) {
         AddressTemplate template = metadata.getTemplate();
         Metadata opMetadata = metadata.forOperation(ADD_ALIAS);
         Form<ModelNode> form = new ModelNodeForm.Builder<>(Ids.build(template.lastName(), ADD_ALIAS), opMetadata)
@@ -177,25 +178,15 @@ public class StoresPresenter extends ApplicationFinderPresenter<StoresPresenter.
         form.attach();
         AddResourceDialog dialog = new AddResourceDialog(resources.constants().addAlias(), form, (name1, model) -> {
             ResourceAddress address = template.resolve(statementContext, name);
-            Composite composite = new Composite();
-            Operation addOp = new Operation.Builder(address, ADD_ALIAS)
+            Operation operation = new Operation.Builder(address, ADD_ALIAS)
                     .payload(model)
                     .build();
-            composite.add(addOp);
-            Operation operation = new Operation.Builder(address, READ_ALIASES_OPERATION)
-                    .build();
-            composite.add(operation);
             String alias = model.get(ALIAS).asString();
             String resource = Names.CREDENTIAL_STORE + SPACE + name;
-            dispatcher.execute(composite, (CompositeResult result) -> {
+            dispatcher.execute(operation, result -> {
                         MessageEvent.fire(getEventBus(),
                                 Message.success(resources.messages().addSuccess(ALIAS, alias, resource)));
-                        ModelNode aliases = result.step(1).get(RESULT);
-                        if (aliases.isDefined()) {
-                            callback.accept(aliases.asList());
-                        } else {
-                            callback.accept(Collections.emptyList());
-                        }
+                        callback.accept(alias);
                     },
                     (op, failure) -> MessageEvent.fire(getEventBus(),
                             Message.error(resources.messages().addError(ALIAS, alias, resource, failure))),
@@ -265,7 +256,7 @@ public class StoresPresenter extends ApplicationFinderPresenter<StoresPresenter.
                         Message.error(resources.messages().storeError(name, exception.getMessage()))));
     }
 
-    void changeAlias(Metadata metadata, String name, String alias, Consumer<List<ModelNode>> callback) {
+    void changeAlias(Metadata metadata, String name, String alias, Consumer<String> callback) {
         AddressTemplate template = metadata.getTemplate();
         String resource = Names.KEY_STORE + SPACE + name;
         metadata = metadata.forOperation(CHANGE_ALIAS);
@@ -291,14 +282,6 @@ public class StoresPresenter extends ApplicationFinderPresenter<StoresPresenter.
                 return dispatcher.execute(operation)
                         .toCompletable();
             });
-            tasks.add(flowContext -> {
-                Operation operation = new Operation.Builder(address, READ_ALIASES_OPERATION)
-                        .build();
-
-                return dispatcher.execute(operation)
-                        .doOnSuccess(flowContext::push)
-                        .toCompletable();
-            });
 
             series(new FlowContext(progress.get()), tasks)
                     .subscribe(new SuccessfulOutcome<FlowContext>(getEventBus(), resources) {
@@ -307,12 +290,7 @@ public class StoresPresenter extends ApplicationFinderPresenter<StoresPresenter.
                             MessageEvent.fire(getEventBus(),
                                     Message.success(
                                             resources.messages().changeAliasSuccess(alias, newAlias, resource)));
-                            ModelNode aliases = flowContext.pop();
-                            if (aliases.isDefined()) {
-                                callback.accept(aliases.asList());
-                            } else {
-                                callback.accept(Collections.emptyList());
-                            }
+                            callback.accept(newAlias);
                         }
 
                         @Override
@@ -414,7 +392,7 @@ public class StoresPresenter extends ApplicationFinderPresenter<StoresPresenter.
 
     }
 
-    void generateKeyPair(Metadata metadata, String name) {
+    void generateKeyPair(Metadata metadata, String name, Consumer<String> callback) {
         AddressTemplate template = metadata.getTemplate();
         String resource = Names.KEY_STORE + SPACE + name;
         metadata = metadata.forOperation(GENERATE_KEY_PAIR);
@@ -439,13 +417,6 @@ public class StoresPresenter extends ApplicationFinderPresenter<StoresPresenter.
                 return dispatcher.execute(operation)
                         .toCompletable();
             });
-            tasks.add(flowContext -> {
-                Operation operation = new Operation.Builder(address, READ_ALIASES_OPERATION)
-                        .build();
-
-                return dispatcher.execute(operation)
-                        .toCompletable();
-            });
 
             series(new FlowContext(progress.get()), tasks)
                     .subscribe(new SuccessfulOutcome<FlowContext>(getEventBus(), resources) {
@@ -453,6 +424,7 @@ public class StoresPresenter extends ApplicationFinderPresenter<StoresPresenter.
                         public void onSuccess(FlowContext flowContext) {
                             MessageEvent.fire(getEventBus(),
                                     Message.success(resources.messages().generateKeyPairSuccess(alias, resource)));
+                            callback.accept(alias);
                         }
 
                         @Override
@@ -478,7 +450,7 @@ public class StoresPresenter extends ApplicationFinderPresenter<StoresPresenter.
         form.edit(new ModelNode());
     }
 
-    void importCertificate(Metadata metadata, String name) {
+    void importCertificate(Metadata metadata, String name, Consumer<String> callback) {
         AddressTemplate template = metadata.getTemplate();
         String resource = Names.KEY_STORE + SPACE + name;
         metadata = metadata.forOperation(IMPORT_CERTIFICATE);
@@ -513,15 +485,6 @@ public class StoresPresenter extends ApplicationFinderPresenter<StoresPresenter.
                                 Message.error(resources.messages().storeError(resource, ex.getMessage()))))
                         .toCompletable();
             });
-            tasks.add(flowContext -> {
-                Operation operation = new Operation.Builder(address, READ_ALIASES_OPERATION)
-                        .build();
-
-                return dispatcher.execute(operation)
-                        .doOnError(ex -> MessageEvent.fire(getEventBus(),
-                                Message.error(resources.messages().readAliasesError(resource, ex.getMessage()))))
-                        .toCompletable();
-            });
 
             series(new FlowContext(progress.get()), tasks)
                     .subscribe(new SuccessfulOutcome<FlowContext>(getEventBus(), resources) {
@@ -530,6 +493,7 @@ public class StoresPresenter extends ApplicationFinderPresenter<StoresPresenter.
                             MessageEvent.fire(getEventBus(),
                                     Message.success(
                                             resources.messages().importCertificateSuccess(alias, path, resource)));
+                            callback.accept(alias);
                         }
 
                         @Override
@@ -703,18 +667,38 @@ public class StoresPresenter extends ApplicationFinderPresenter<StoresPresenter.
 
     // ----------------- common methods
 
-    void readAliases(AddressTemplate template, String resource, Consumer<List<ModelNode>> viewCallback) {
+    /**
+     * Reads the alias names of the specified store. If supported by the store, the aliases are read non-recursive
+     * without certificate details. Details are read lazily using {@link #readAlias(Metadata, String, String,
+     * Consumer)}.
+     */
+    void readAliases(Metadata metadata, String resource, Consumer<List<ModelNode>> viewCallback) {
+        AddressTemplate template = metadata.getTemplate();
         ResourceAddress address = template.resolve(statementContext, resource);
-        Operation operation = new Operation.Builder(address, READ_ALIASES_OPERATION)
-                .build();
+        Operation.Builder builder = new Operation.Builder(address, READ_ALIASES_OPERATION);
+        Property readAliases = metadata.getDescription().findOperation(READ_ALIASES_OPERATION);
+        if (readAliases != null) {
+            ModelNode parameters = readAliases.getValue().get(REQUEST_PROPERTIES);
+            if (parameters.has(RECURSIVE)) {
+                builder.param(RECURSIVE, false);
+            }
+            if (parameters.has(VERBOSE)) {
+                builder.param(VERBOSE, false);
+            }
+        }
+        Operation operation = builder.build();
         LabelBuilder labelBuilder = new LabelBuilder();
         String resourceName = labelBuilder.label(template.lastName()) + SPACE + resource;
         dispatcher.execute(operation, result -> {
+                    List<ModelNode> aliases = new ArrayList<>();
                     if (result.isDefined()) {
-                        viewCallback.accept(result.asList());
-                    } else {
-                        viewCallback.accept(Collections.emptyList());
+                        for (ModelNode node : result.asList()) {
+                            // just keep the names even if the store returned details
+                            aliases.add(node.getType() == ModelType.OBJECT ? new ModelNode().set(
+                                    node.get(ALIAS).asString()) : node);
+                        }
                     }
+                    viewCallback.accept(aliases);
                 },
                 (operation1, failure) -> MessageEvent.fire(getEventBus(),
                         Message.error(resources.messages().readAliasesError(resourceName, failure))),
@@ -724,7 +708,7 @@ public class StoresPresenter extends ApplicationFinderPresenter<StoresPresenter.
 
     }
 
-    void removeAlias(Metadata metadata, String name, String alias, Consumer<List<ModelNode>> callback) {
+    void removeAlias(Metadata metadata, String name, String alias, Consumer<String> callback) {
         AddressTemplate template = metadata.getTemplate();
         LabelBuilder labelBuilder = new LabelBuilder();
         String resource = labelBuilder.label(template.lastName()) + SPACE + name;
@@ -752,16 +736,6 @@ public class StoresPresenter extends ApplicationFinderPresenter<StoresPresenter.
                                 Message.error(resources.messages().storeError(resource, ex.getMessage()))))
                         .toCompletable();
             });
-            tasks.add(flowContext -> {
-                Operation operation = new Operation.Builder(address, READ_ALIASES_OPERATION)
-                        .build();
-
-                return dispatcher.execute(operation)
-                        .doOnSuccess(flowContext::push)
-                        .doOnError(ex -> MessageEvent.fire(getEventBus(),
-                                Message.error(resources.messages().readAliasesError(resource, ex.getMessage()))))
-                        .toCompletable();
-            });
 
             series(new FlowContext(progress.get()), tasks)
                     .subscribe(new SuccessfulOutcome<FlowContext>(getEventBus(), resources) {
@@ -769,12 +743,7 @@ public class StoresPresenter extends ApplicationFinderPresenter<StoresPresenter.
                         public void onSuccess(FlowContext flowContext) {
                             MessageEvent.fire(getEventBus(),
                                     Message.success(resources.messages().removeAliasSuccess(alias, resource)));
-                            ModelNode aliases = flowContext.pop();
-                            if (aliases.isDefined()) {
-                                callback.accept(aliases.asList());
-                            } else {
-                                callback.accept(Collections.emptyList());
-                            }
+                            callback.accept(alias);
                         }
 
                         @Override
@@ -126,22 +126,22 @@ public class StoresView extends HalViewImpl implements StoresPresenter.MyView {
 
     private void addCredentialStoreAlias(Metadata metadata) {
         presenter.addAlias(metadata, credentialStoreElement.getSelectedResource(),
-                credentialStoreElement::updateAliases);
+                credentialStoreElement::aliasAdded);
     }
 
     private void removeCredentialStoreAlias(Metadata metadata, String alias) {
         presenter.removeAlias(metadata, credentialStoreElement.getSelectedResource(),
-                alias, credentialStoreElement::updateAliases);
+                alias, credentialStoreElement::aliasRemoved);
     }
 
     private void removeFilteringKeyStoreAlias(Metadata metadata, String alias) {
         presenter.removeAlias(metadata, filteringStoreElement.getSelectedResource(), alias,
-                filteringStoreElement::updateAliases);
+                filteringStoreElement::aliasRemoved);
     }
 
     private void removeLdapKeyStoreAlias(Metadata metadata, String alias) {
         presenter.removeAlias(metadata, ldapKeystoreElement.getSelectedResource(), alias,
-                ldapKeystoreElement::updateAliases);
+                ldapKeystoreElement::aliasRemoved);
     }
 
     private void readFilteringAlias(Metadata metadata, String alias) {
@@ -20,6 +20,7 @@ import java.util.List;
 import com.google.common.base.Strings;
 import elemental2.core.JsArray;
 import org.jboss.hal.ballroom.tree.Node;
+import org.jboss.hal.ballroom.tree.TreeIndex;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.ModelType;
 import org.jboss.hal.dmr.Property;
@@ -32,6 +33,17 @@ import static org.jboss.hal.resources.CSS.fontAwesome;
 
 class JndiParser {
 
+    private final TreeIndex index;
+
+    JndiParser() {
+        this.index = new TreeIndex();
+    }
+
+    /** @return the index over the names and URIs of the nodes parsed so far */
+    TreeIndex index() {
+        return index;
+    }
+
     @SuppressWarnings("unchecked")
     void parse(JsArray<Node<JndiContext>> nodes, Node<JndiContext> root, List<Property> children) {
         nodes.push(root);
@@ -91,6 +103,7 @@ class JndiParser {
                 .folder()
                 .build();
         nodes.push(node);
+        index.add(node.id, name, jndiContext.uri);
         return node;
     }
 
@@ -102,6 +115,7 @@ class JndiParser {
                 .icon(fontAwesome("file-text-o"))
                 .build();
         nodes.push(node);
+        index.add(node.id, name, jndiContext.uri);
         return node;
     }
 }
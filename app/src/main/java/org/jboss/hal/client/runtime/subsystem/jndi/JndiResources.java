@@ -15,11 +15,13 @@
  */
 package org.jboss.hal.client.runtime.subsystem.jndi;
 
-import com.google.gwt.resources.client.ClientBundle;
-import com.google.gwt.resources.client.TextResource;
+import org.jboss.hal.meta.description.ResourceDescription;
+import org.jboss.hal.spi.StaticDescription;
 
-public interface JndiResources extends ClientBundle {
+public interface JndiResources {
 
-    @Source("jndi.base64")
-    TextResource jndi();
+    JndiResources INSTANCE = new JndiResourcesImpl();
+
+    @StaticDescription("jndi.dmr")
+    ResourceDescription jndi();
 }
@@ -58,13 +58,13 @@ public class JndiView extends HalViewImpl implements JndiPresenter.MyView {
     private JndiPresenter presenter;
 
     @Inject
-    public JndiView(JndiResources jndiResources, Resources resources) {
+    public JndiView(Resources resources) {
 
         search = new Search.Builder(Ids.JNDI_SEARCH, query -> tree.search(query))
                 .onClear(() -> tree.clearSearch())
                 .build();
 
-        Metadata metadata = Metadata.staticDescription(jndiResources.jndi());
+        Metadata metadata = Metadata.staticDescription(JndiResources.INSTANCE.jndi());
         details = new ModelNodeForm.Builder<>(Ids.JNDI_DETAILS, metadata)
                 .include("uri", CLASS_NAME, VALUE)
                 .readOnly()
@@ -141,7 +141,7 @@ public class JndiView extends HalViewImpl implements JndiPresenter.MyView {
             jndiParser.parse(nodes, root, jndi.get(APPLICATIONS).asPropertyList());
         }
 
-        tree = new Tree<>(Ids.JNDI_TREE, nodes);
+        tree = new Tree<>(Ids.JNDI_TREE, nodes, jndiParser.index());
         Elements.removeChildrenFrom(treeContainer);
         treeContainer.appendChild(tree.element());
 
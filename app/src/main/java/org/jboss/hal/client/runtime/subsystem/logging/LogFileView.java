@@ -30,6 +30,7 @@ import org.jboss.hal.ballroom.Skeleton;
 import org.jboss.hal.ballroom.Tooltip;
 import org.jboss.hal.ballroom.editor.AceEditor;
 import org.jboss.hal.ballroom.editor.Options;
+import org.jboss.hal.ballroom.editor.StreamingMode;
 import org.jboss.hal.ballroom.form.SwitchBridge;
 import org.jboss.hal.config.Environment;
 import org.jboss.hal.core.mvp.HalViewImpl;
@@ -74,6 +75,7 @@ public class LogFileView extends HalViewImpl implements LogFilePresenter.MyView
 
     private final Search search;
     private AceEditor editor;
+    private StreamingMode streaming;
     private LogFilePresenter presenter;
 
     @Inject
@@ -95,6 +97,10 @@ public class LogFileView extends HalViewImpl implements LogFilePresenter.MyView
         editorOptions.showLineNumbers = true;
         editorOptions.showPrintMargin = false;
         editor = new AceEditor(Ids.LOG_FILE_EDITOR, editorOptions);
+        streaming = new StreamingMode.Builder(editor)
+                .maxLines(LogFiles.LINES)
+                .visibleRowsOnly()
+                .build();
 
         HTMLDivElement root = div().css(row)
                 .add(div().css(column(12, columnLg, columnMd, columnSm))
@@ -177,6 +183,7 @@ public class LogFileView extends HalViewImpl implements LogFilePresenter.MyView
     public void detach() {
         super.detach();
         window.onresize = null;
+        streaming.cancel();
 
         SwitchBridge.Api.element(tailMode).destroy();
     }
@@ -232,15 +239,13 @@ public class LogFileView extends HalViewImpl implements LogFilePresenter.MyView
         download.setAttribute(UIConstants.HREF,
                 logFiles.downloadUrl(logFile.getFilename(), logFile.getLoggingProfile()));
 
-        editor.getEditor().getSession().setValue(content);
-        editor.getEditor().gotoLine(lines, 0, false);
+        streaming.setValue(content, timings -> editor.getEditor().gotoLine(lines, 0, false));
     }
 
     @Override
     public void refresh(int lines, String content) {
         statusUpdate(lines);
-        editor.getEditor().getSession().setValue(content);
-        editor.getEditor().gotoLine(lines, 0, false);
+        streaming.setValue(content, timings -> editor.getEditor().gotoLine(lines, 0, false));
     }
 
     @Override
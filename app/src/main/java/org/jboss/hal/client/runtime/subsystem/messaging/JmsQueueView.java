@@ -23,6 +23,7 @@ import org.jboss.hal.ballroom.EmptyState;
 import org.jboss.hal.ballroom.Toolbar;
 import org.jboss.hal.ballroom.Toolbar.Attribute;
 import org.jboss.hal.ballroom.dataprovider.DataProvider;
+import org.jboss.hal.ballroom.export.Export;
 import org.jboss.hal.core.mbui.listview.ModelNodeListView;
 import org.jboss.hal.core.mvp.HalViewImpl;
 import org.jboss.hal.meta.Metadata;
@@ -33,6 +34,7 @@ import org.jboss.hal.resources.Ids;
 import org.jboss.hal.resources.Resources;
 
 import static java.util.Comparator.comparing;
+import static org.jboss.hal.ballroom.export.Export.attribute;
 import static org.jboss.hal.client.runtime.subsystem.messaging.AddressTemplates.MESSAGING_CORE_QUEUE_TEMPLATE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
 
@@ -102,6 +104,14 @@ public class JmsQueueView extends HalViewImpl implements JmsQueuePresenter.MyVie
                         Constraint.executable(MESSAGING_CORE_QUEUE_TEMPLATE, REMOVE_MESSAGES),
                         this::remove))
 
+                .export(new Export.Builder<JmsMessage>(Ids.JMS_MESSAGE_LIST)
+                        .column(JMS_MESSAGE_ID, JmsMessage::getMessageId)
+                        .column(JMS_TIMESTAMP, attribute(JMS_TIMESTAMP))
+                        .column(JMS_EXPIRATION, attribute(JMS_EXPIRATION))
+                        .column(JMS_PRIORITY, attribute(JMS_PRIORITY))
+                        .column(JMS_DELIVERY_MODE, attribute(JMS_DELIVERY_MODE))
+                        .build())
+
                 .emptyState(TOO_MANY_MESSAGES, tooManyMessages)
                 .multiSelect(true)
                 .build();
@@ -21,7 +21,6 @@ import java.util.List;
 import javax.inject.Inject;
 
 import com.google.common.collect.ImmutableMap;
-import com.google.gwt.core.client.GWT;
 import com.google.web.bindery.event.shared.EventBus;
 import com.gwtplatform.mvp.client.annotations.NameToken;
 import com.gwtplatform.mvp.client.annotations.ProxyCodeSplit;
@@ -60,7 +59,7 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
 public class ServerPresenter extends ApplicationFinderPresenter<ServerPresenter.MyView, ServerPresenter.MyProxy>
         implements SupportsExpertMode {
 
-    private static final ServerResources RESOURCES = GWT.create(ServerResources.class);
+    private static final ServerResources RESOURCES = ServerResources.INSTANCE;
     static final Metadata CONNECTION_METADATA = Metadata.staticDescription(ServerPresenter.RESOURCES.connection());
     static final Metadata CONNECTOR_METADATA = Metadata.staticDescription(ServerPresenter.RESOURCES.connector());
     static final Metadata CONSUMER_METADATA = Metadata.staticDescription(ServerPresenter.RESOURCES.consumer());
@@ -15,26 +15,28 @@
  */
 package org.jboss.hal.client.runtime.subsystem.messaging;
 
-import com.google.gwt.resources.client.ClientBundle;
-import com.google.gwt.resources.client.TextResource;
+import org.jboss.hal.meta.description.ResourceDescription;
+import org.jboss.hal.spi.StaticDescription;
 
-public interface ServerResources extends ClientBundle {
+public interface ServerResources {
 
-    @Source("connection.base64")
-    TextResource connection();
+    ServerResources INSTANCE = new ServerResourcesImpl();
 
-    @Source("connector.base64")
-    TextResource connector();
+    @StaticDescription("connection.dmr")
+    ResourceDescription connection();
 
-    @Source("consumer.base64")
-    TextResource consumer();
+    @StaticDescription("connector.dmr")
+    ResourceDescription connector();
 
-    @Source("producer.base64")
-    TextResource producer();
+    @StaticDescription("consumer.dmr")
+    ResourceDescription consumer();
 
-    @Source("session.base64")
-    TextResource session();
+    @StaticDescription("producer.dmr")
+    ResourceDescription producer();
 
-    @Source("transaction.base64")
-    TextResource transaction();
+    @StaticDescription("session.dmr")
+    ResourceDescription session();
+
+    @StaticDescription("transaction.dmr")
+    ResourceDescription transaction();
 }
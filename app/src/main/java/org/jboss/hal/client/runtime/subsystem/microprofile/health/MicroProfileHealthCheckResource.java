@@ -1,5 +1,5 @@
 /*
- * Copyright 2015-2018 Red Hat, Inc, and individual contributors.
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,11 +15,13 @@
  */
 package org.jboss.hal.client.runtime.subsystem.microprofile.health;
 
-import com.google.gwt.resources.client.ClientBundle;
-import com.google.gwt.resources.client.TextResource;
+import org.jboss.hal.meta.description.ResourceDescription;
+import org.jboss.hal.spi.StaticDescription;
 
-public interface MicroProfileHealthCheckResource extends ClientBundle {
+public interface MicroProfileHealthCheckResource {
 
-    @Source("microprofile-health-checks.base64")
-    TextResource checksOperationDescription();
+    MicroProfileHealthCheckResource INSTANCE = new MicroProfileHealthCheckResourceImpl();
+
+    @StaticDescription("microprofile-health-checks.dmr")
+    ResourceDescription checksOperationDescription();
 }
@@ -51,12 +51,12 @@ public class MicroProfileHealthView extends HalViewImpl implements MicroProfileH
     private Alert outcomeDown;
 
     @Inject
-    public MicroProfileHealthView(Resources resources, MicroProfileHealthCheckResource mpCheckResource) {
+    public MicroProfileHealthView(Resources resources) {
 
         this.outcomeUp = new Alert(Icons.OK, resources.messages().microprofileHealthOutcome(UP));
         this.outcomeDown = new Alert(Icons.ERROR, resources.messages().microprofileHealthOutcome(DOWN));
 
-        Metadata metadata = Metadata.staticDescription(mpCheckResource.checksOperationDescription());
+        Metadata metadata = Metadata.staticDescription(MicroProfileHealthCheckResource.INSTANCE.checksOperationDescription());
 
         checkTable = new ModelNodeTable.Builder<>(Ids.build(MICRO_PROFILE_HEALTH, TABLE), metadata)
                 .button(resources.constants().refresh(), table -> presenter.reload())
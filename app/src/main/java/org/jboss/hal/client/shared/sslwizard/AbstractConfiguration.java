@@ -15,7 +15,6 @@
  */
 package org.jboss.hal.client.shared.sslwizard;
 
-import com.google.gwt.core.client.GWT;
 import elemental2.dom.Element;
 import elemental2.dom.HTMLElement;
 import elemental2.dom.HTMLHRElement;
@@ -30,7 +29,6 @@ import org.jboss.hal.meta.AddressTemplate;
 import org.jboss.hal.meta.Metadata;
 import org.jboss.hal.meta.capabilitiy.Capabilities;
 import org.jboss.hal.meta.description.ResourceDescription;
-import org.jboss.hal.meta.description.StaticResourceDescription;
 import org.jboss.hal.resources.Ids;
 
 import static org.jboss.hal.dmr.ModelDescriptionConstants.KEY_STORE;
@@ -72,7 +70,6 @@ public class AbstractConfiguration extends WizardStep<EnableSSLContext, EnableSS
     static final String CAA_ALIAS = "certificate-authority-alias";
     static final String CAA_DOMAIN_NAMES = "certificate-domain-names";
     static final String CAA_STAGING = "certificate-staging";
-    private static final EnableSSLResources RESOURCES = GWT.create(EnableSSLResources.class);
 
     protected ResourceDescription description;
     final Form<ModelNode> form;
@@ -85,7 +82,7 @@ public class AbstractConfiguration extends WizardStep<EnableSSLContext, EnableSS
 
         String mode = editMode ? "edit" : "read";
         String id = Ids.build(MANAGEMENT, "enable-ssl", mode, Ids.FORM);
-        description = StaticResourceDescription.from(RESOURCES.enableSslWizard());
+        description = EnableSSLResources.INSTANCE.enableSslWizard();
         // the button to enable/disable ssl has a contraint to write-attribute to ssl-context
         // then, even as the metadata has RWX permission, it can only be created when he has permission to the above constraint
         Metadata metadata = new Metadata(template, () -> RWX, new ResourceDescription(description),
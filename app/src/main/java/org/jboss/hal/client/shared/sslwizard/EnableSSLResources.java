@@ -13,14 +13,15 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-
 package org.jboss.hal.client.shared.sslwizard;
 
-import com.google.gwt.resources.client.ClientBundle;
-import com.google.gwt.resources.client.TextResource;
+import org.jboss.hal.meta.description.ResourceDescription;
+import org.jboss.hal.spi.StaticDescription;
+
+public interface EnableSSLResources {
 
-public interface EnableSSLResources extends ClientBundle {
+    EnableSSLResources INSTANCE = new EnableSSLResourcesImpl();
 
-    @Source("ssl-mgmt-wizard.base64")
-    TextResource enableSslWizard();
+    @StaticDescription("ssl-mgmt-wizard.dmr")
+    ResourceDescription enableSslWizard();
 }
@@ -36,12 +36,14 @@ import org.jboss.hal.core.expression.ExpressionDialog;
 import org.jboss.hal.core.expression.ExpressionResolver;
 import org.jboss.hal.core.mvp.HalView;
 import org.jboss.hal.core.mvp.HasPresenter;
+import org.jboss.hal.dmr.dispatch.Metrics;
 import org.jboss.hal.dmr.macro.MacroFinishedEvent;
 import org.jboss.hal.dmr.macro.MacroFinishedEvent.MacroFinishedHandler;
 import org.jboss.hal.dmr.macro.MacroOperationEvent;
 import org.jboss.hal.dmr.macro.MacroOperationEvent.MacroOperationHandler;
 import org.jboss.hal.dmr.macro.Macros;
 import org.jboss.hal.dmr.macro.Recording;
+import org.jboss.hal.meta.search.GlobalSearch;
 import org.jboss.hal.meta.token.NameTokens;
 import org.jboss.hal.resources.Resources;
 import org.jboss.hal.spi.Message;
@@ -54,6 +56,8 @@ public class FooterPresenter extends PresenterWidget<FooterPresenter.MyView>
     private final PlaceManager placeManager;
     private final Settings settings;
     private final Macros macros;
+    private final Metrics metrics;
+    private final GlobalSearch globalSearch;
     private final ExpressionResolver expressionResolver;
     private final Resources resources;
     private final AboutDialog aboutDialog;
@@ -68,6 +72,8 @@ public class FooterPresenter extends PresenterWidget<FooterPresenter.MyView>
             PlaceManager placeManager,
             Settings settings,
             Macros macros,
+            Metrics metrics,
+            GlobalSearch globalSearch,
             ExpressionResolver expressionResolver,
             Resources resources) {
         super(eventBus, view);
@@ -75,6 +81,8 @@ public class FooterPresenter extends PresenterWidget<FooterPresenter.MyView>
         this.placeManager = placeManager;
         this.settings = settings;
         this.macros = macros;
+        this.metrics = metrics;
+        this.globalSearch = globalSearch;
         this.expressionResolver = expressionResolver;
         this.resources = resources;
         this.aboutDialog = new AboutDialog(environment, endpoints, resources);
@@ -109,10 +117,18 @@ public class FooterPresenter extends PresenterWidget<FooterPresenter.MyView>
         placeManager.revealPlace(new PlaceRequest.Builder().nameToken(NameTokens.MODEL_BROWSER).build());
     }
 
+    void onGlobalSearch() {
+        new GlobalSearchDialog(globalSearch, placeManager, resources).show();
+    }
+
     void onExpressionResolver() {
         new ExpressionDialog(expressionResolver, environment, resources).show();
     }
 
+    void onMetrics() {
+        new MetricsDialog(metrics, resources).show();
+    }
+
     void onMacroRecording() {
         if (recording) {
             recording = false;
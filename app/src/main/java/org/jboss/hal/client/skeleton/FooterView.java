@@ -69,7 +69,9 @@ public class FooterView extends HalViewImpl implements FooterPresenter.MyView {
         ProgressElement progress = new ProgressElement(XS, NONE, false);
         HTMLElement showVersion;
         HTMLElement modelBrowser;
+        HTMLElement globalSearch;
         HTMLElement expressionResolver;
+        HTMLElement metrics;
         HTMLElement settings;
         HTMLElement root = footer().css(footer)
                 .add(nav().css(navbar, navbarFooter, navbarFixedBottom)
@@ -107,10 +109,18 @@ public class FooterView extends HalViewImpl implements FooterPresenter.MyView {
                                                         .add(modelBrowser = a().css(clickable)
                                                                 .textContent(resources.constants().modelBrowser())
                                                                 .element()))
+                                                .add(li()
+                                                        .add(globalSearch = a().css(clickable)
+                                                                .textContent(resources.constants().globalSearch())
+                                                                .element()))
                                                 .add(li()
                                                         .add(expressionResolver = a().css(clickable)
                                                                 .textContent(resources.constants().expressionResolver())
                                                                 .element()))
+                                                .add(li()
+                                                        .add(metrics = a().css(clickable)
+                                                                .textContent(resources.constants().metrics())
+                                                                .element()))
                                                 .add(li()
                                                         .add(macroRecorder = a().css(clickable)
                                                                 .textContent(resources.constants().startMacro())
@@ -133,7 +143,9 @@ public class FooterView extends HalViewImpl implements FooterPresenter.MyView {
 
         bind(showVersion, click, event -> presenter.onShowVersion());
         bind(modelBrowser, click, event -> presenter.onModelBrowser());
+        bind(globalSearch, click, event -> presenter.onGlobalSearch());
         bind(expressionResolver, click, event -> presenter.onExpressionResolver());
+        bind(metrics, click, event -> presenter.onMetrics());
         bind(macroRecorder, click, event -> presenter.onMacroRecording());
         bind(macroEditor, click, event -> presenter.onMacroEditor());
         bind(settings, click, event -> presenter.onSettings());
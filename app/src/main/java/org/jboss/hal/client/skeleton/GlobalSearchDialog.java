@@ -0,0 +1,122 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.client.skeleton;
+
+import java.util.List;
+
+import com.gwtplatform.mvp.client.proxy.PlaceManager;
+import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
+import elemental2.dom.HTMLElement;
+import elemental2.dom.HTMLInputElement;
+import org.jboss.hal.ballroom.dialog.Dialog;
+import org.jboss.hal.core.mvp.Places;
+import org.jboss.hal.meta.search.GlobalSearch;
+import org.jboss.hal.meta.search.GlobalSearch.SearchResult;
+import org.jboss.hal.meta.token.NameTokens;
+import org.jboss.hal.resources.Ids;
+import org.jboss.hal.resources.Resources;
+import org.jboss.hal.resources.UIConstants;
+
+import static org.jboss.gwt.elemento.core.Elements.*;
+import static org.jboss.gwt.elemento.core.EventType.click;
+import static org.jboss.gwt.elemento.core.EventType.keyup;
+import static org.jboss.gwt.elemento.core.InputType.search;
+import static org.jboss.hal.resources.CSS.*;
+
+/**
+ * Searches name tokens, keywords and known resources using {@link GlobalSearch}. The query is executed while typing.
+ * Selecting a token reveals the related place, selecting a resource opens the model browser scoped to that resource.
+ */
+class GlobalSearchDialog {
+
+    private static final int LIMIT = 50;
+
+    private final GlobalSearch globalSearch;
+    private final PlaceManager placeManager;
+    private final Resources resources;
+    private final Dialog dialog;
+    private final HTMLInputElement searchBox;
+    private final HTMLElement results;
+    private int sequence;
+
+    GlobalSearchDialog(GlobalSearch globalSearch, PlaceManager placeManager, Resources resources) {
+        this.globalSearch = globalSearch;
+        this.placeManager = placeManager;
+        this.resources = resources;
+        this.sequence = 0;
+
+        dialog = new Dialog.Builder(resources.constants().globalSearch())
+                .add(searchBox = input(search)
+                        .id(Ids.GLOBAL_SEARCH)
+                        .css(formControl)
+                        .attr(UIConstants.PLACEHOLDER, resources.constants().search())
+                        .on(keyup, event -> search())
+                        .element())
+                .add(results = div().css(listGroup, marginTopLarge).element())
+                .closeOnly()
+                .size(Dialog.Size.MEDIUM)
+                .build();
+    }
+
+    private void search() {
+        // only the results of the latest query are shown
+        int current = ++sequence;
+        String query = searchBox.value;
+        globalSearch.search(query, LIMIT, list -> {
+            if (current == sequence) {
+                show(query, list);
+            }
+        });
+    }
+
+    private void show(String query, List<SearchResult> list) {
+        removeChildrenFrom(results);
+        if (list.isEmpty()) {
+            if (query.trim().length() != 0) {
+                results.appendChild(div().css(listGroupItem)
+                        .textContent(resources.constants().noMatchingItems())
+                        .element());
+            }
+        } else {
+            for (SearchResult result : list) {
+                boolean token = GlobalSearch.TOKEN.equals(result.type);
+                results.appendChild(a().css(listGroupItem, clickable)
+                        .on(click, event -> select(result))
+                        .add(span().css(fontAwesome(token ? "map-signs" : "file-text-o"), marginRight5))
+                        .add(span().textContent(token ? result.label : result.address))
+                        .element());
+            }
+        }
+    }
+
+    private void select(SearchResult result) {
+        PlaceRequest place;
+        if (GlobalSearch.TOKEN.equals(result.type)) {
+            place = new PlaceRequest.Builder().nameToken(result.token).build();
+        } else {
+            place = new PlaceRequest.Builder().nameToken(NameTokens.MODEL_BROWSER)
+                    .with(Places.ADDRESS_PARAM, result.address)
+                    .build();
+        }
+        dialog.close();
+        placeManager.revealPlace(place);
+    }
+
+    void show() {
+        dialog.show();
+        searchBox.focus();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.client.skeleton;
+
+import elemental2.dom.HTMLElement;
+import org.jboss.hal.ballroom.Format;
+import org.jboss.hal.ballroom.dialog.Dialog;
+import org.jboss.hal.dmr.dispatch.Histogram;
+import org.jboss.hal.dmr.dispatch.Metrics;
+import org.jboss.hal.dmr.dispatch.Metrics.OperationMetrics;
+import org.jboss.hal.dmr.dispatch.Metrics.Sample;
+import org.jboss.hal.resources.Resources;
+
+import static org.jboss.gwt.elemento.core.Elements.*;
+import static org.jboss.hal.resources.CSS.*;
+
+/** Lists the costs of the DMR operations recorded by {@link Metrics} in this session. */
+class MetricsDialog {
+
+    private static final String P95 = "p95"; //NON-NLS
+    private static final String MS = " ms"; //NON-NLS
+
+    private final Dialog dialog;
+
+    MetricsDialog(Metrics metrics, Resources resources) {
+        HTMLElement operations = tbody().element();
+        for (OperationMetrics om : metrics.operations()) {
+            operations.appendChild(tr()
+                    .add(td().textContent(om.getName()))
+                    .add(td().css(textRight).textContent(String.valueOf(om.getNetwork().count())))
+                    .add(td().css(textRight).textContent(times(om.getNetwork())))
+                    .add(td().css(textRight).textContent(times(om.getDecode())))
+                    .add(td().css(textRight).textContent(times(om.getCallback())))
+                    .add(td().css(textRight)
+                            .textContent(Format.humanReadableFileSize((long) om.getBytes().mean())))
+                    .element());
+        }
+
+        HTMLElement slowest = tbody().element();
+        for (Sample sample : metrics.slowest()) {
+            slowest.appendChild(tr()
+                    .add(td().add(code().textContent(sample.getOperation().asCli())))
+                    .add(td().css(textRight).textContent(ms(sample.total())))
+                    .add(td().css(textRight).textContent(ms(sample.getNetwork())))
+                    .add(td().css(textRight).textContent(ms(sample.getDecode())))
+                    .add(td().css(textRight).textContent(ms(sample.getCallback())))
+                    .add(td().css(textRight).textContent(Format.humanReadableFileSize(sample.getBytes())))
+                    .element());
+        }
+
+        String timesHeader = resources.constants().average() + " / " + P95;
+        dialog = new Dialog.Builder(resources.constants().metrics())
+                .add(table().css(table, tableStriped)
+                        .add(thead()
+                                .add(tr()
+                                        .add(th().textContent(resources.constants().operation()))
+                                        .add(th().css(textRight).textContent(resources.constants().count()))
+                                        .add(th().css(textRight).textContent(
+                                                resources.constants().network() + " (" + timesHeader + ")"))
+                                        .add(th().css(textRight).textContent(
+                                                resources.constants().decode() + " (" + timesHeader + ")"))
+                                        .add(th().css(textRight).textContent(
+                                                resources.constants().callback() + " (" + timesHeader + ")"))
+                                        .add(th().css(textRight).textContent(resources.constants().size()))))
+                        .add(operations)
+                        .element())
+                .add(h(2, resources.constants().slowestOperations()).css(marginTopLarge).element())
+                .add(table().css(table, tableStriped)
+                        .add(thead()
+                                .add(tr()
+                                        .add(th().textContent(resources.constants().operation()))
+                                        .add(th().css(textRight).textContent(resources.constants().total()))
+                                        .add(th().css(textRight).textContent(resources.constants().network()))
+                                        .add(th().css(textRight).textContent(resources.constants().decode()))
+                                        .add(th().css(textRight).textContent(resources.constants().callback()))
+                                        .add(th().css(textRight).textContent(resources.constants().size()))))
+                        .add(slowest)
+                        .element())
+                .closeOnly()
+                .primary(resources.constants().reset(), () -> {
+                    metrics.clear();
+                    return true;
+                })
+                .size(Dialog.Size.MAX)
+                .build();
+    }
+
+    private String times(Histogram histogram) {
+        return Math.round(histogram.mean()) + " / " + Math.round(histogram.percentile(95)) + MS;
+    }
+
+    private String ms(double value) {
+        return Math.round(value) + MS;
+    }
+
+    void show() {
+        dialog.show();
+    }
+}
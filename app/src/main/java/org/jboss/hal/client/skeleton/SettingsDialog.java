@@ -19,7 +19,6 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.google.common.base.Strings;
-import com.google.gwt.core.client.GWT;
 import org.jboss.gwt.elemento.core.Elements;
 import org.jboss.hal.ballroom.dialog.DialogFactory;
 import org.jboss.hal.ballroom.form.Form;
@@ -45,8 +44,6 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.DEFAULT;
 
 class SettingsDialog {
 
-    private static final SettingsResources RESOURCES = GWT.create(SettingsResources.class);
-
     private final Settings settings;
     private final ModifyResourceDialog dialog;
     private final boolean multipleLocales;
@@ -62,7 +59,7 @@ class SettingsDialog {
         locales.sort(naturalOrder());
         multipleLocales = locales.size() > 1;
 
-        Metadata metadata = Metadata.staticDescription(RESOURCES.settings());
+        Metadata metadata = Metadata.staticDescription(SettingsResources.INSTANCE.settings());
         defaultPollTime = metadata.getDescription().get(ATTRIBUTES).get(POLL_TIME.key()).get(DEFAULT).asInt();
         if (multipleLocales) {
             Property locale = metadata.getDescription().findAttribute(ATTRIBUTES, LOCALE.key());
@@ -83,6 +80,7 @@ class SettingsDialog {
         }
         attributes.add(POLL.key());
         attributes.add(POLL_TIME.key());
+        attributes.add(LIFECYCLE_BATCH_SIZE.key());
         ModelNodeForm<ModelNode> form = new ModelNodeForm.Builder<>(Ids.SETTINGS_FORM, metadata)
                 .include(attributes)
                 .customFormItem(PAGE_SIZE.key(),
@@ -116,6 +114,8 @@ class SettingsDialog {
             modelNode.get(LOCALE.key()).set(settings.get(LOCALE).value());
         }
         modelNode.get(PAGE_SIZE.key()).set(settings.get(PAGE_SIZE).asInt(Settings.DEFAULT_PAGE_SIZE));
+        modelNode.get(LIFECYCLE_BATCH_SIZE.key())
+                .set(settings.get(LIFECYCLE_BATCH_SIZE).asInt(Settings.DEFAULT_LIFECYCLE_BATCH_SIZE));
         dialog.show(modelNode);
     }
 
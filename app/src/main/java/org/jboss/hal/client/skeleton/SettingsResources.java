@@ -15,11 +15,13 @@
  */
 package org.jboss.hal.client.skeleton;
 
-import com.google.gwt.resources.client.ClientBundle;
-import com.google.gwt.resources.client.TextResource;
+import org.jboss.hal.meta.description.ResourceDescription;
+import org.jboss.hal.spi.StaticDescription;
 
-public interface SettingsResources extends ClientBundle {
+public interface SettingsResources {
 
-    @Source("settings.base64")
-    TextResource settings();
+    SettingsResources INSTANCE = new SettingsResourcesImpl();
+
+    @StaticDescription("settings.dmr")
+    ResourceDescription settings();
 }
@@ -15,12 +15,14 @@
  */
 package org.jboss.hal.client.tools;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
 
 import com.google.common.collect.Ordering;
+import com.google.gwt.safehtml.shared.SafeHtml;
 import com.google.web.bindery.event.shared.EventBus;
 import com.gwtplatform.mvp.client.annotations.NameToken;
 import com.gwtplatform.mvp.client.annotations.ProxyStandard;
@@ -30,6 +32,8 @@ import org.jboss.hal.ballroom.HasTitle;
 import org.jboss.hal.core.mvp.ApplicationPresenter;
 import org.jboss.hal.core.mvp.HalView;
 import org.jboss.hal.core.mvp.HasPresenter;
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
 import org.jboss.hal.dmr.macro.Macro;
 import org.jboss.hal.dmr.macro.Macros;
@@ -42,9 +46,9 @@ import org.jboss.hal.resources.Resources;
 import org.jboss.hal.spi.Footer;
 import org.jboss.hal.spi.Message;
 import org.jboss.hal.spi.MessageEvent;
+import rx.Observable;
 
 import static elemental2.dom.DomGlobal.alert;
-import static java.util.stream.Collectors.toList;
 import static org.jboss.hal.flow.Flow.series;
 
 public class MacroEditorPresenter
@@ -110,10 +114,17 @@ public class MacroEditorPresenter
     }
 
     void play(Macro macro) {
-        List<MacroOperationTask> tasks = macro.getOperations().stream()
-                .map(operation -> new MacroOperationTask(dispatcher, operation)).collect(toList());
+        play(macro, 1);
+    }
+
+    void playInBatches(Macro macro) {
+        play(macro, MacroPlayback.DEFAULT_BATCH_SIZE);
+    }
+
+    private void play(Macro macro, int batchSize) {
+        MacroPlayback playback = new MacroPlayback(macro, batchSize);
         getView().disableMacro(macro);
-        series(new FlowContext(progress.get()), tasks)
+        series(new FlowContext(progress.get()), playback.tasks(dispatcher))
                 .subscribe(new Outcome<FlowContext>() {
                     @Override
                     public void onError(FlowContext context, Throwable error) {
@@ -126,11 +137,58 @@ public class MacroEditorPresenter
                     public void onSuccess(FlowContext context) {
                         getView().enableMacro(macro);
                         MessageEvent.fire(getEventBus(),
-                                Message.success(resources.messages().macroPlaybackSuccessful()));
+                                Message.success(resources.messages().macroPlaybackSuccessful(), playback.report()));
                     }
                 });
     }
 
+    void dryRun(Macro macro) {
+        MacroPlayback playback = new MacroPlayback(macro, 1);
+        Composite composite = playback.dryRun();
+        if (composite.isEmpty()) {
+            dryRunResult(playback, 0, new ArrayList<>());
+            return;
+        }
+        getView().disableMacro(macro);
+        dispatcher.execute(composite, (CompositeResult result) -> {
+            getView().enableMacro(macro);
+            dryRunResult(playback, composite.size(), playback.validate(result));
+        }, (operation, failure) -> {
+            // a composite fails as a whole if one of its steps fails:
+            // read the operation descriptions one by one to find the failed steps
+            Observable.from(composite)
+                    .concatMap(step -> dispatcher.execute(step)
+                            .map(MacroPlayback::successfulStep)
+                            .onErrorReturn(MacroPlayback::failedStep)
+                            .toObservable())
+                    .toList()
+                    .subscribe(steps -> {
+                        getView().enableMacro(macro);
+                        dryRunResult(playback, composite.size(), playback.validate(steps));
+                    });
+        }, (operation, exception) -> {
+            getView().enableMacro(macro);
+            MessageEvent.fire(getEventBus(), Message.error(resources.messages().macroDryRunError(),
+                    exception.getMessage()));
+        });
+    }
+
+    private void dryRunResult(MacroPlayback playback, int validated, List<String> problems) {
+        int skipped = playback.skipped();
+        if (problems.isEmpty()) {
+            SafeHtml message = resources.messages().macroDryRunSuccessful(validated);
+            MessageEvent.fire(getEventBus(), skipped == 0
+                    ? Message.success(message)
+                    : Message.success(message, resources.messages().macroDryRunSkipped(skipped).asString()));
+        } else {
+            if (skipped != 0) {
+                problems.add(resources.messages().macroDryRunSkipped(skipped).asString());
+            }
+            MessageEvent.fire(getEventBus(), Message.error(resources.messages().macroDryRunError(),
+                    String.join("\n", problems)));
+        }
+    }
+
     void rename(Macro macro) {
         alert(Names.NYI);
     }
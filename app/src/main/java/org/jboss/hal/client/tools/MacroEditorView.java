@@ -57,6 +57,8 @@ import static org.jboss.hal.resources.CSS.*;
 public class MacroEditorView extends HalViewImpl implements MacroEditorPresenter.MyView {
 
     private static final String PLAY_ACTION = "play";
+    private static final String PLAY_IN_BATCHES_ACTION = "play-in-batches";
+    private static final String DRY_RUN_ACTION = "dry-run";
     private static final String RENAME_ACTION = "rename";
     private static final String REMOVE_ACTION = "remove";
     private static final int MIN_HEIGHT = 70;
@@ -107,6 +109,10 @@ public class MacroEditorView extends HalViewImpl implements MacroEditorPresenter
                 return asList(
                         new ItemAction<>(PLAY_ACTION, resources.constants().play(),
                                 macro -> presenter.play(macro)),
+                        new ItemAction<>(PLAY_IN_BATCHES_ACTION, resources.constants().playInBatches(),
+                                macro -> presenter.playInBatches(macro)),
+                        new ItemAction<>(DRY_RUN_ACTION, resources.constants().dryRun(),
+                                macro -> presenter.dryRun(macro)),
                         // new ItemAction<Macro>(RENAME_ACTION, resources.constants().rename(),
                         //         macro -> presenter.rename(macro)),
                         new ItemAction<>(REMOVE_ACTION, resources.constants().remove(),
@@ -201,6 +207,8 @@ public class MacroEditorView extends HalViewImpl implements MacroEditorPresenter
     @Override
     public void enableMacro(Macro macro) {
         macroList.enableAction(macro, PLAY_ACTION);
+        macroList.enableAction(macro, PLAY_IN_BATCHES_ACTION);
+        macroList.enableAction(macro, DRY_RUN_ACTION);
         macroList.enableAction(macro, RENAME_ACTION);
         macroList.enableAction(macro, REMOVE_ACTION);
     }
@@ -208,6 +216,8 @@ public class MacroEditorView extends HalViewImpl implements MacroEditorPresenter
     @Override
     public void disableMacro(Macro macro) {
         macroList.disableAction(macro, PLAY_ACTION);
+        macroList.disableAction(macro, PLAY_IN_BATCHES_ACTION);
+        macroList.disableAction(macro, DRY_RUN_ACTION);
         macroList.disableAction(macro, RENAME_ACTION);
         macroList.disableAction(macro, REMOVE_ACTION);
     }
@@ -15,24 +15,37 @@
  */
 package org.jboss.hal.client.tools;
 
+import java.util.List;
+
+import org.jboss.hal.dmr.Composite;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
 import org.jboss.hal.flow.FlowContext;
 import org.jboss.hal.flow.Task;
 import rx.Completable;
 
+/** Executes a batch of macro operations either as single operation or as composite and records the latency. */
 class MacroOperationTask implements Task<FlowContext> {
 
     private final Dispatcher dispatcher;
-    private final Operation operation;
+    private final MacroPlayback playback;
+    private final int step;
+    private final List<Operation> operations;
 
-    MacroOperationTask(Dispatcher dispatcher, Operation operation) {
+    MacroOperationTask(Dispatcher dispatcher, MacroPlayback playback, int step, List<Operation> operations) {
         this.dispatcher = dispatcher;
-        this.operation = operation;
+        this.playback = playback;
+        this.step = step;
+        this.operations = operations;
     }
 
     @Override
     public Completable call(FlowContext context) {
-        return dispatcher.execute(operation).toCompletable();
+        long start = System.currentTimeMillis();
+        Completable completable = operations.size() == 1
+                ? dispatcher.execute(operations.get(0)).toCompletable()
+                : dispatcher.execute(new Composite(operations)).toCompletable();
+        return completable.doOnCompleted(
+                () -> playback.record(step, operations.size(), System.currentTimeMillis() - start));
     }
 }
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.client.tools;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.Property;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.dmr.macro.Macro;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
+
+/**
+ * Plays back the operations of a macro. Consecutive operations are packed into composite operations of at most
+ * {@code batchSize} steps. A batch size of one plays back each operation on its own.
+ * <p>
+ * Composites keep the order of the operations, but a failing step rolls back the other steps of its batch. Batches
+ * which have already been executed are not rolled back (same as the operations played back one by one). Recorded
+ * composites, operations with headers and lifecycle operations like {@code reload} are always executed on their
+ * own.
+ */
+class MacroPlayback {
+
+    static final int DEFAULT_BATCH_SIZE = 50;
+    private static final Set<String> LIFECYCLE_OPERATIONS = new HashSet<>(asList(RELOAD, RESTART, RESUME, SHUTDOWN,
+            START, STOP, SUSPEND));
+
+    private final Macro macro;
+    private final int batchSize;
+    private final List<Timing> timings;
+
+    MacroPlayback(Macro macro, int batchSize) {
+        this.macro = macro;
+        this.batchSize = Math.max(1, batchSize);
+        this.timings = new ArrayList<>();
+    }
+
+
+    // ------------------------------------------------------ playback
+
+    List<MacroOperationTask> tasks(Dispatcher dispatcher) {
+        List<MacroOperationTask> tasks = new ArrayList<>();
+        int step = 0;
+        for (List<Operation> batch : batches()) {
+            tasks.add(new MacroOperationTask(dispatcher, this, step, batch));
+            step += batch.size();
+        }
+        return tasks;
+    }
+
+    List<List<Operation>> batches() {
+        List<List<Operation>> batches = new ArrayList<>();
+        List<Operation> current = new ArrayList<>();
+        for (Operation operation : macro.getOperations()) {
+            if (batchable(operation)) {
+                current.add(operation);
+                if (current.size() == batchSize) {
+                    batches.add(current);
+                    current = new ArrayList<>();
+                }
+            } else {
+                if (!current.isEmpty()) {
+                    batches.add(current);
+                    current = new ArrayList<>();
+                }
+                batches.add(asList(operation));
+            }
+        }
+        if (!current.isEmpty()) {
+            batches.add(current);
+        }
+        return batches;
+    }
+
+    private boolean batchable(Operation operation) {
+        return batchSize > 1 &&
+                !(operation instanceof Composite) &&
+                !operation.getHeader().isDefined() &&
+                !LIFECYCLE_OPERATIONS.contains(operation.getName());
+    }
+
+    void record(int step, int size, long millis) {
+        timings.add(new Timing(step, size, millis));
+    }
+
+    /** @return one line per executed batch with the latency of the batch and of its steps */
+    String report() {
+        StringBuilder builder = new StringBuilder();
+        for (Timing timing : timings) {
+            if (builder.length() != 0) {
+                builder.append("\n");
+            }
+            builder.append(timing);
+        }
+        return builder.toString();
+    }
+
+
+    // ------------------------------------------------------ dry run
+
+    /**
+     * Returns a composite with one {@code read-operation-description} step for each operation of the macro. Steps of
+     * recorded composites are validated one by one. Operations on resources which are added earlier in the macro are
+     * skipped: Those resources don't exist yet, so their operations can't be described.
+     */
+    Composite dryRun() {
+        List<Operation> steps = steps();
+        return new Composite(dryRunSteps(steps).stream()
+                .map(index -> new Operation.Builder(steps.get(index).getAddress(),
+                        READ_OPERATION_DESCRIPTION_OPERATION)
+                        .param(NAME, steps.get(index).getName())
+                        .build())
+                .collect(toList()));
+    }
+
+    /** @return the number of operations which are skipped by the dry run */
+    int skipped() {
+        List<Operation> steps = steps();
+        return steps.size() - dryRunSteps(steps).size();
+    }
+
+    /**
+     * Validates the parameters of the operations against the descriptions read by {@link #dryRun()}.
+     *
+     * @return a list of problems which is empty if all operations are valid
+     */
+    List<String> validate(CompositeResult result) {
+        return validate(result.stream().collect(toList()));
+    }
+
+    /**
+     * Validates the parameters of the operations against the descriptions read by the steps of {@link #dryRun()}.
+     * Use this method if the steps were executed one by one: Each step is either a successful step or a failed step
+     * with a failure description (see {@link #successfulStep(ModelNode)} and {@link #failedStep(Throwable)}).
+     *
+     * @return a list of problems which is empty if all operations are valid
+     */
+    List<String> validate(List<ModelNode> results) {
+        List<String> problems = new ArrayList<>();
+        List<Operation> steps = steps();
+        List<Integer> indexes = dryRunSteps(steps);
+        for (int i = 0; i < indexes.size() && i < results.size(); i++) {
+            int index = indexes.get(i);
+            Operation operation = steps.get(index);
+            ModelNode step = results.get(i);
+            if (step.hasDefined(FAILURE_DESCRIPTION)) {
+                problems.add(problem(index, operation, step.get(FAILURE_DESCRIPTION).asString()));
+                continue;
+            }
+            ModelNode properties = step.get(RESULT).get(REQUEST_PROPERTIES);
+            Set<String> parameters = operation.getParameter().isDefined()
+                    ? operation.getParameter().keys()
+                    : new HashSet<>();
+            for (String parameter : parameters) {
+                if (!properties.hasDefined(parameter)) {
+                    problems.add(problem(index, operation, "unknown parameter '" + parameter + "'"));
+                }
+            }
+            if (properties.isDefined()) {
+                for (Property property : properties.asPropertyList()) {
+                    ModelNode description = property.getValue();
+                    boolean required = description.hasDefined(REQUIRED) && description.get(REQUIRED).asBoolean()
+                            && !description.hasDefined(DEFAULT);
+                    if (required && !parameters.contains(property.getName())) {
+                        problems.add(problem(index, operation,
+                                "missing required parameter '" + property.getName() + "'"));
+                    }
+                }
+            }
+        }
+        return problems;
+    }
+
+    static ModelNode successfulStep(ModelNode result) {
+        ModelNode step = new ModelNode();
+        step.get(OUTCOME).set(SUCCESS);
+        step.get(RESULT).set(result);
+        return step;
+    }
+
+    static ModelNode failedStep(Throwable error) {
+        ModelNode step = new ModelNode();
+        step.get(OUTCOME).set(FAILED);
+        step.get(FAILURE_DESCRIPTION).set(String.valueOf(error.getMessage()));
+        return step;
+    }
+
+    /** @return the indexes of the steps which are validated by the dry run */
+    private List<Integer> dryRunSteps(List<Operation> steps) {
+        List<Integer> indexes = new ArrayList<>();
+        List<String> added = new ArrayList<>();
+        for (int i = 0; i < steps.size(); i++) {
+            Operation operation = steps.get(i);
+            String address = operation.getAddress().toString();
+            if (added.stream().noneMatch(a -> address.equals(a) || address.startsWith(a + "/"))) {
+                indexes.add(i);
+            }
+            if (ADD.equals(operation.getName())) {
+                added.add(address);
+            }
+        }
+        return indexes;
+    }
+
+    private List<Operation> steps() {
+        List<Operation> steps = new ArrayList<>();
+        for (Operation operation : macro.getOperations()) {
+            if (operation instanceof Composite) {
+                for (Operation step : (Composite) operation) {
+                    steps.add(step);
+                }
+            } else {
+                steps.add(operation);
+            }
+        }
+        return steps;
+    }
+
+    private String problem(int index, Operation operation, String problem) {
+        return "#" + (index + 1) + " " + operation.asCli() + ": " + problem;
+    }
+
+
+    private static class Timing {
+
+        private final int step;
+        private final int size;
+        private final long millis;
+
+        private Timing(int step, int size, long millis) {
+            this.step = step;
+            this.size = size;
+            this.millis = millis;
+        }
+
+        @Override
+        public String toString() {
+            if (size == 1) {
+                return "#" + (step + 1) + ": " + millis + " ms";
+            }
+            return "#" + (step + 1) + " - #" + (step + size) + ": " + millis + " ms (" + (millis / size) +
+                    " ms per operation)";
+        }
+    }
+}
@@ -21,9 +21,11 @@ import com.google.web.bindery.event.shared.EventBus;
 import com.gwtplatform.mvp.client.annotations.NameToken;
 import com.gwtplatform.mvp.client.annotations.ProxyStandard;
 import com.gwtplatform.mvp.client.proxy.ProxyPlace;
+import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
 import org.jboss.hal.ballroom.HasTitle;
 import org.jboss.hal.core.mvp.ApplicationPresenter;
 import org.jboss.hal.core.mvp.HalView;
+import org.jboss.hal.core.mvp.Places;
 import org.jboss.hal.core.mvp.SupportsExternalMode;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.meta.token.NameTokens;
@@ -31,13 +33,14 @@ import org.jboss.hal.resources.Resources;
 
 /**
  * Presenter which uses the {@link org.jboss.hal.core.modelbrowser.ModelBrowser} to view and modify the management
- * model.
+ * model. If the place request contains an {@link Places#ADDRESS_PARAM} the model browser is scoped to this address.
  */
 public class ModelBrowserPresenter
         extends ApplicationPresenter<ModelBrowserPresenter.MyView, ModelBrowserPresenter.MyProxy>
         implements HasTitle, SupportsExternalMode {
 
     private final Resources resources;
+    private ResourceAddress root;
 
     @Inject
     public ModelBrowserPresenter(EventBus eventBus, MyView view, MyProxy proxy, Resources resources) {
@@ -50,10 +53,17 @@ public class ModelBrowserPresenter
         return resources.constants().modelBrowser();
     }
 
+    @Override
+    public void prepareFromRequest(PlaceRequest request) {
+        super.prepareFromRequest(request);
+        String address = request.getParameter(Places.ADDRESS_PARAM, null);
+        root = address == null || address.equals("/") ? ResourceAddress.root() : ResourceAddress.from(address);
+    }
+
     @Override
     protected void onReset() {
         super.onReset();
-        getView().setRoot(ResourceAddress.root());
+        getView().setRoot(root != null ? root : ResourceAddress.root());
     }
 
 
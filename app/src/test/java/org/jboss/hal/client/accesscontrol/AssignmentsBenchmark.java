@@ -0,0 +1,84 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.client.accesscontrol;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.util.stream.Collectors.toList;
+import static org.jboss.hal.client.accesscontrol.AssignmentsFixture.PRINCIPALS;
+
+/**
+ * Compares principal lookups using the index of {@link Assignments} with linear scans. Not part of the default test
+ * suite: Run with {@code mvn test -Pbenchmark}.
+ */
+@SuppressWarnings("HardCodedStringLiteral")
+public class AssignmentsBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(AssignmentsBenchmark.class);
+    private static final int LOOKUPS = 1000;
+    private static final int ROUNDS = 5;
+
+    private Assignments assignments;
+    private List<Assignment> all;
+    private List<Principal> principals;
+
+    @Before
+    public void setUp() {
+        AssignmentsFixture fixture = new AssignmentsFixture();
+        assignments = fixture.assignments;
+        principals = fixture.principals;
+        all = new ArrayList<>();
+        assignments.forEach(all::add);
+    }
+
+    @Test
+    public void lookup() {
+        // warm up
+        lookup(false);
+        lookup(true);
+
+        long linear = 0;
+        long indexed = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            linear += lookup(false);
+            indexed += lookup(true);
+        }
+        logger.info("{} principal lookups in {} assignments: linear {} ms, indexed {} ms", LOOKUPS, all.size(),
+                linear / ROUNDS / 1_000_000.0, indexed / ROUNDS / 1_000_000.0);
+    }
+
+    /** @return the time in nanoseconds to look up the includes of {@link #LOOKUPS} principals */
+    private long lookup(boolean indexed) {
+        long start = System.nanoTime();
+        for (int i = 0; i < LOOKUPS; i++) {
+            Principal principal = principals.get(i * (PRINCIPALS / LOOKUPS));
+            if (indexed) {
+                assignments.includes(principal).collect(toList());
+            } else {
+                all.stream()
+                        .filter(a -> a.getPrincipal().equals(principal) && a.isInclude())
+                        .collect(toList());
+            }
+        }
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.client.accesscontrol;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.hal.config.Role;
+
+/**
+ * 2500 principals x 4 roles = 10.000 assignments. Every 4th principal excludes the last role, all other assignments
+ * are includes.
+ */
+@SuppressWarnings("HardCodedStringLiteral")
+class AssignmentsFixture {
+
+    static final int PRINCIPALS = 2500;
+    static final Role[] ROLES = new Role[]{Role.ADMINISTRATOR, Role.DEPLOYER, Role.MONITOR, Role.OPERATOR};
+
+    final Assignments assignments;
+    final List<Principal> principals;
+
+    AssignmentsFixture() {
+        this(Assignment::new);
+    }
+
+    AssignmentsFixture(AssignmentFactory factory) {
+        assignments = new Assignments();
+        principals = new ArrayList<>();
+        for (int i = 0; i < PRINCIPALS; i++) {
+            Principal.Type type = i % 2 == 0 ? Principal.Type.USER : Principal.Type.GROUP;
+            String name = "principal-" + i;
+            Principal principal = new Principal(type, Principal.buildResourceName(type, name, null), name, null);
+            principals.add(principal);
+            for (int j = 0; j < ROLES.length; j++) {
+                boolean include = i % 4 != 0 || j != ROLES.length - 1;
+                assignments.add(factory.create(principal, ROLES[j], include));
+            }
+        }
+    }
+
+
+    @FunctionalInterface
+    interface AssignmentFactory {
+
+        Assignment create(Principal principal, Role role, boolean include);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.client.accesscontrol;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jboss.hal.config.Role;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+import static org.jboss.hal.client.accesscontrol.AssignmentsFixture.PRINCIPALS;
+import static org.jboss.hal.client.accesscontrol.AssignmentsFixture.ROLES;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings({"HardCodedStringLiteral", "DuplicateStringLiteralInspection"})
+public class AssignmentsTest {
+
+    private Assignments assignments;
+    private List<Principal> principals;
+    private int visits;
+
+    @Before
+    public void setUp() {
+        AssignmentsFixture fixture = new AssignmentsFixture(CountingAssignment::new);
+        assignments = fixture.assignments;
+        principals = fixture.principals;
+    }
+
+    @Test
+    public void add() {
+        Principal principal = principals.get(0);
+        assertFalse(assignments.add(new Assignment(principal, Role.ADMINISTRATOR, true)));
+        assertTrue(assignments.add(new Assignment(principal, Role.AUDITOR, true)));
+        assertEquals(5, assignments.byPrincipal(principal).count());
+        assertEquals(1, assignments.byRole(Role.AUDITOR).count());
+    }
+
+    @Test
+    public void clear() {
+        assignments.clear();
+        assertFalse(assignments.iterator().hasNext());
+        assertEquals(0, assignments.byPrincipal(principals.get(0)).count());
+        assertEquals(0, assignments.byRole(Role.ADMINISTRATOR).count());
+    }
+
+    @Test
+    public void byPrincipal() {
+        Principal excluding = principals.get(0);
+        assertEquals(4, assignments.byPrincipal(excluding).count());
+        assertEquals(3, assignments.includes(excluding).count());
+        assertEquals(1, assignments.excludes(excluding).count());
+        assertEquals(Role.OPERATOR, assignments.excludes(excluding).findFirst().get().getRole());
+
+        Principal including = principals.get(1);
+        assertEquals(4, assignments.includes(including).count());
+        assertEquals(0, assignments.excludes(including).count());
+    }
+
+    @Test
+    public void byRole() {
+        assertEquals(PRINCIPALS, assignments.byRole(Role.ADMINISTRATOR).count());
+        assertEquals(PRINCIPALS, assignments.includes(Role.ADMINISTRATOR).count());
+        assertEquals(PRINCIPALS, assignments.byRole(Role.OPERATOR).count());
+        assertEquals(PRINCIPALS - PRINCIPALS / 4, assignments.includes(Role.OPERATOR).count());
+        assertEquals(PRINCIPALS / 4, assignments.excludes(Role.OPERATOR).count());
+        assertEquals(0, assignments.byRole(Role.AUDITOR).count());
+    }
+
+    @Test
+    public void lookup() {
+        List<Assignment> all = new ArrayList<>();
+        assignments.forEach(all::add);
+        assertEquals(PRINCIPALS * ROLES.length, all.size());
+
+        for (Principal principal : principals) {
+            Set<Assignment> linear = all.stream()
+                    .filter(a -> a.getPrincipal().equals(principal) && a.isInclude())
+                    .collect(toSet());
+
+            // the index must not visit the assignments of other principals...
+            visits = 0;
+            List<Assignment> indexed = assignments.includes(principal).collect(toList());
+            assertTrue("Lookup visited " + visits + " assignments", visits <= ROLES.length);
+
+            // ...and return exactly the assignments a linear scan finds
+            assertEquals(linear, new HashSet<>(indexed));
+        }
+    }
+
+
+    /** Counts the calls which a lookup needs to match an assignment. */
+    private class CountingAssignment extends Assignment {
+
+        CountingAssignment(Principal principal, Role role, boolean include) {
+            super(principal, role, include);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            visits++;
+            return super.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            return super.hashCode();
+        }
+
+        @Override
+        Principal getPrincipal() {
+            visits++;
+            return super.getPrincipal();
+        }
+
+        @Override
+        Role getRole() {
+            visits++;
+            return super.getRole();
+        }
+
+        @Override
+        boolean isInclude() {
+            visits++;
+            return super.isInclude();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.client.logging;
+
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class LogBufferTest {
+
+    private LogBuffer buffer;
+
+    @Before
+    public void setUp() {
+        buffer = new LogBuffer(5);
+    }
+
+    @Test
+    public void empty() {
+        assertEquals(0, buffer.size());
+        assertTrue(buffer.records().isEmpty());
+        assertTrue(buffer.tail(3).isEmpty());
+    }
+
+    @Test
+    public void partial() {
+        add(3);
+        assertEquals(3, buffer.size());
+        assertEquals(asList("0", "1", "2"), messages(buffer.records()));
+        assertEquals(asList("1", "2"), messages(buffer.tail(2)));
+    }
+
+    @Test
+    public void wrap() {
+        add(12);
+        assertEquals(5, buffer.size());
+        assertEquals(5, buffer.capacity());
+        assertEquals(asList("7", "8", "9", "10", "11"), messages(buffer.records()));
+        assertEquals(asList("9", "10", "11"), messages(buffer.tail(3)));
+        assertEquals(asList("7", "8", "9", "10", "11"), messages(buffer.tail(42)));
+    }
+
+    @Test
+    public void clear() {
+        add(7);
+        buffer.clear();
+        assertEquals(0, buffer.size());
+        add(1);
+        assertEquals(singletonList("0"), messages(buffer.records()));
+    }
+
+    private void add(int count) {
+        for (int i = 0; i < count; i++) {
+            buffer.add(new LogRecord(Level.INFO, String.valueOf(i)));
+        }
+    }
+
+    private List<String> messages(List<LogRecord> records) {
+        return records.stream().map(LogRecord::getMessage).collect(toList());
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.client.tools;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.macro.Macro;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings({"HardCodedStringLiteral", "DuplicateStringLiteralInspection"})
+public class MacroPlaybackTest {
+
+    private Macro macro;
+
+    @Before
+    public void setUp() {
+        macro = new Macro("test", null);
+    }
+
+    @Test
+    public void oneByOne() {
+        addWrites(5);
+        List<List<Operation>> batches = new MacroPlayback(macro, 1).batches();
+        assertEquals(5, batches.size());
+        batches.forEach(batch -> assertEquals(1, batch.size()));
+    }
+
+    @Test
+    public void maxSize() {
+        addWrites(120);
+        List<List<Operation>> batches = new MacroPlayback(macro, 50).batches();
+        assertEquals(3, batches.size());
+        assertEquals(50, batches.get(0).size());
+        assertEquals(50, batches.get(1).size());
+        assertEquals(20, batches.get(2).size());
+        assertOrder(batches);
+    }
+
+    @Test
+    public void lifecycleOperation() {
+        addWrites(3);
+        macro.addOperation(new Operation.Builder(ResourceAddress.root(), RELOAD).build());
+        addWrites(2);
+        List<List<Operation>> batches = new MacroPlayback(macro, 50).batches();
+        assertEquals(3, batches.size());
+        assertEquals(3, batches.get(0).size());
+        assertEquals(RELOAD, batches.get(1).get(0).getName());
+        assertEquals(2, batches.get(2).size());
+        assertOrder(batches);
+    }
+
+    @Test
+    public void compositeAndHeaders() {
+        addWrites(2);
+        macro.addOperation(new Composite(write(100), write(101)));
+        macro.addOperation(new Operation.Builder(address(102), WRITE_ATTRIBUTE_OPERATION)
+                .param(NAME, "value")
+                .param(VALUE, 102)
+                .header(ALLOW_RESOURCE_SERVICE_RESTART, true)
+                .build());
+        addWrites(2);
+        List<List<Operation>> batches = new MacroPlayback(macro, 50).batches();
+        assertEquals(4, batches.size());
+        assertEquals(2, batches.get(0).size());
+        assertTrue(batches.get(1).get(0) instanceof Composite);
+        assertEquals(1, batches.get(2).size());
+        assertEquals(2, batches.get(3).size());
+    }
+
+    @Test
+    public void dryRun() {
+        addWrites(2);
+        macro.addOperation(new Composite(write(100), write(101)));
+        Composite dryRun = new MacroPlayback(macro, 50).dryRun();
+        assertEquals(4, dryRun.size());
+        for (Operation operation : dryRun) {
+            assertEquals(READ_OPERATION_DESCRIPTION_OPERATION, operation.getName());
+            assertEquals(WRITE_ATTRIBUTE_OPERATION, operation.get(NAME).asString());
+        }
+    }
+
+    @Test
+    public void validate() {
+        addWrites(1);
+        macro.addOperation(new Operation.Builder(address(1), WRITE_ATTRIBUTE_OPERATION)
+                .param("unknown", true)
+                .build());
+        macro.addOperation(new Operation.Builder(address(2), "foo").build());
+
+        ModelNode steps = new ModelNode();
+        steps.get("step-1").set(writeAttributeDescription());
+        steps.get("step-2").set(writeAttributeDescription());
+        steps.get("step-3").get(OUTCOME).set(FAILED);
+        steps.get("step-3").get(FAILURE_DESCRIPTION).set("Operation foo not found");
+
+        List<String> problems = new MacroPlayback(macro, 50).validate(new CompositeResult(steps));
+        assertEquals(4, problems.size());
+        assertTrue(problems.get(0).startsWith("#2") && problems.get(0).endsWith("unknown parameter 'unknown'"));
+        assertTrue(problems.get(1).endsWith("missing required parameter 'name'"));
+        assertTrue(problems.get(2).endsWith("missing required parameter 'value'"));
+        assertTrue(problems.get(3).startsWith("#3") && problems.get(3).endsWith("Operation foo not found"));
+    }
+
+    @Test
+    public void validateOneByOne() {
+        addWrites(2);
+        MacroPlayback playback = new MacroPlayback(macro, 50);
+
+        List<String> problems = playback.validate(asList(
+                MacroPlayback.successfulStep(writeAttributeDescription().get(RESULT)),
+                MacroPlayback.failedStep(new RuntimeException("Resource not found"))));
+        assertEquals(1, problems.size());
+        assertTrue(problems.get(0).startsWith("#2") && problems.get(0).endsWith("Resource not found"));
+    }
+
+    @Test
+    public void skipAddedResources() {
+        addWrites(1);
+        ResourceAddress added = address(1);
+        macro.addOperation(new Operation.Builder(added, ADD).build());
+        macro.addOperation(write(1));
+        macro.addOperation(new Operation.Builder(address(1).add("child", "c1"), ADD).build());
+        addWrites(1);
+
+        MacroPlayback playback = new MacroPlayback(macro, 50);
+        List<Operation> dryRun = new ArrayList<>();
+        playback.dryRun().forEach(dryRun::add);
+        assertEquals(2, playback.skipped());
+        assertEquals(3, dryRun.size());
+        assertEquals(ADD, dryRun.get(1).get(NAME).asString());
+        assertEquals(added, dryRun.get(1).getAddress());
+
+        // problems are reported with the index of the operation in the macro
+        ModelNode steps = new ModelNode();
+        steps.get("step-1").set(writeAttributeDescription());
+        steps.get("step-2").set(MacroPlayback.successfulStep(new ModelNode()));
+        steps.get("step-3").set(writeAttributeDescription());
+        steps.get("step-3").get(RESULT).get(REQUEST_PROPERTIES).remove(VALUE);
+        List<String> problems = playback.validate(new CompositeResult(steps));
+        assertEquals(1, problems.size());
+        assertTrue(problems.get(0).startsWith("#5") && problems.get(0).endsWith("unknown parameter 'value'"));
+    }
+
+    private void addWrites(int count) {
+        int offset = macro.getOperationCount();
+        for (int i = 0; i < count; i++) {
+            macro.addOperation(write(offset + i));
+        }
+    }
+
+    private Operation write(int index) {
+        return new Operation.Builder(address(index), WRITE_ATTRIBUTE_OPERATION)
+                .param(NAME, "value")
+                .param(VALUE, index)
+                .build();
+    }
+
+    private ResourceAddress address(int index) {
+        return new ResourceAddress().add(SUBSYSTEM, "test").add("resource", "r" + index);
+    }
+
+    private ModelNode writeAttributeDescription() {
+        ModelNode step = new ModelNode();
+        step.get(OUTCOME).set(SUCCESS);
+        ModelNode properties = step.get(RESULT).get(REQUEST_PROPERTIES);
+        properties.get(NAME).get(REQUIRED).set(true);
+        properties.get(VALUE).get(REQUIRED).set(true);
+        return step;
+    }
+
+    private void assertOrder(List<List<Operation>> batches) {
+        int index = 0;
+        for (List<Operation> batch : batches) {
+            for (Operation operation : batch) {
+                if (WRITE_ATTRIBUTE_OPERATION.equals(operation.getName())) {
+                    assertEquals(index, operation.get(VALUE).asInt());
+                }
+                index++;
+            }
+        }
+    }
+}
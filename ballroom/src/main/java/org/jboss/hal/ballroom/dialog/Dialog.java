@@ -197,8 +197,11 @@ public class Dialog implements IsElement {
         PatternFly.initComponents(SELECTOR_ID);
     }
 
-    /** Please call this method only if the dialog neither have a close icon, esc handler nor a close button. */
-    void close() {
+    /**
+     * Closes the dialog. Please call this method only if the dialog neither have a close icon, esc handler nor a
+     * close button or if the dialog is closed as a result of an action inside the dialog's content.
+     */
+    public void close() {
         attachables.forEach(Attachable::detach);
         $(SELECTOR_ID).modal("hide");
         if (builder.closed != null) {
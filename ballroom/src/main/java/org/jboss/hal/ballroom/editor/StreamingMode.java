@@ -0,0 +1,310 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.ballroom.editor;
+
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static elemental2.dom.DomGlobal.cancelAnimationFrame;
+import static elemental2.dom.DomGlobal.performance;
+import static elemental2.dom.DomGlobal.requestAnimationFrame;
+
+/**
+ * Streaming mode for {@link AceEditor}s which show large, mostly read-only content like log files. Instead of setting
+ * the whole text at once, the text is appended in chunks of lines across animation frames. Optionally syntax
+ * highlighting is limited to the visible rows and the number of lines kept in the editor is capped. If more lines are
+ * added, the oldest lines are evicted.
+ * <p>
+ * Please note that the editor has to be {@linkplain AceEditor#attach() attached} before using the streaming mode.
+ */
+public class StreamingMode {
+
+    /** Default number of lines appended per animation frame */
+    public static final int CHUNK_SIZE = 2000;
+
+    /** Use this value for {@code maxLines} to keep all lines */
+    public static final int UNLIMITED = 0;
+
+    private static final Logger logger = LoggerFactory.getLogger(StreamingMode.class);
+
+    private final AceEditor editor;
+    private final int chunkSize;
+    private final int maxLines;
+    private final boolean visibleRowsOnly;
+    private boolean highlightingDeferred;
+    private String text;
+    private int position;
+    private double frame;
+    private Timings timings;
+    private Consumer<Timings> callback;
+
+    private StreamingMode(Builder builder) {
+        this.editor = builder.editor;
+        this.chunkSize = builder.chunkSize;
+        this.maxLines = builder.maxLines;
+        this.visibleRowsOnly = builder.visibleRowsOnly;
+        this.highlightingDeferred = false;
+        this.frame = -1;
+    }
+
+    /**
+     * Replaces the content of the editor. If the text contains more than {@code maxLines} lines, only the last
+     * {@code maxLines} lines are used.
+     *
+     * @param text     the new content
+     * @param callback called once the whole text has been added
+     */
+    public void setValue(String text, Consumer<Timings> callback) {
+        cancel();
+        Session session = editor.getEditor().getSession();
+        deferHighlighting(session);
+        session.setValue("");
+        stream(text, skipLines(text), callback);
+    }
+
+    /**
+     * Appends the text at the end of the editor and evicts the oldest lines if there are more than {@code maxLines}
+     * lines. If there's a pending stream, the text is added after the pending text.
+     *
+     * @param text     the text to append
+     * @param callback called once the whole text has been added
+     */
+    public void append(String text, Consumer<Timings> callback) {
+        deferHighlighting(editor.getEditor().getSession());
+        if (isStreaming()) {
+            this.text = this.text.substring(position) + text;
+            this.position = 0;
+            this.callback = callback;
+        } else {
+            stream(text, 0, callback);
+        }
+    }
+
+    /** Stops streaming. Text which was already added stays in the editor. */
+    public void cancel() {
+        if (frame != -1) {
+            cancelAnimationFrame(frame);
+            frame = -1;
+        }
+        text = null;
+        callback = null;
+    }
+
+    /** @return {@code true} if there's text which is not yet added to the editor */
+    public boolean isStreaming() {
+        return text != null;
+    }
+
+    /** @return the timings of the current or last stream or {@code null} if nothing was streamed so far */
+    public Timings getTimings() {
+        return timings;
+    }
+
+    private void stream(String text, int position, Consumer<Timings> callback) {
+        this.text = text;
+        this.position = position;
+        this.callback = callback;
+        this.timings = new Timings();
+        this.frame = requestAnimationFrame(timestamp -> nextChunk());
+    }
+
+    private void nextChunk() {
+        frame = -1;
+        if (text == null) {
+            return;
+        }
+
+        double start = performance.now();
+        int end = position;
+        int lines = 0;
+        while (lines < chunkSize && end < text.length()) {
+            int newline = text.indexOf('\n', end);
+            end = newline == -1 ? text.length() : newline + 1;
+            lines++;
+        }
+        Session session = editor.getEditor().getSession();
+        appendText(session, text.substring(position, end));
+        if (maxLines != UNLIMITED) {
+            evict(session, maxLines);
+        }
+        position = end;
+        timings.update(lines, performance.now() - start);
+
+        if (position < text.length()) {
+            frame = requestAnimationFrame(timestamp -> nextChunk());
+        } else {
+            Consumer<Timings> finished = callback;
+            text = null;
+            callback = null;
+            timings.finish();
+            logger.debug("Streamed {} lines in {} frames in {} ms (longest frame {} ms)", timings.lines,
+                    timings.frames, (int) timings.total, (int) timings.longestFrame);
+            if (finished != null) {
+                finished.accept(timings);
+            }
+        }
+    }
+
+    /** @return the offset of the first of the last {@code maxLines} lines */
+    private int skipLines(String text) {
+        if (maxLines != UNLIMITED) {
+            int index = text.length();
+            if (text.endsWith("\n")) {
+                index--;
+            }
+            for (int i = 0; i < maxLines && index > 0; i++) {
+                index = text.lastIndexOf('\n', index - 1);
+            }
+            return index > 0 ? index + 1 : 0;
+        }
+        return 0;
+    }
+
+    private void deferHighlighting(Session session) {
+        if (visibleRowsOnly && !highlightingDeferred) {
+            deferTokenizing(session);
+            highlightingDeferred = true;
+        }
+    }
+
+    /**
+     * Stops the background tokenizer of the session whenever it's (re)started. The renderer still tokenizes the rows
+     * on demand, so only visible rows are highlighted.
+     */
+    private static native void deferTokenizing(Session session) /*-{
+        var tokenizer = session.bgTokenizer;
+        if (tokenizer) {
+            var start = tokenizer.start;
+            tokenizer.start = function (startRow) {
+                start.call(this, startRow);
+                this.stop();
+            };
+            tokenizer.stop();
+        }
+    }-*/;
+
+    private static native void appendText(Session session, String text) /*-{
+        var document = session.getDocument();
+        var row = document.getLength() - 1;
+        document.insert({row: row, column: document.getLine(row).length}, text);
+    }-*/;
+
+    private static native void evict(Session session, int maxLines) /*-{
+        var document = session.getDocument();
+        var length = document.getLength();
+        if (length > maxLines) {
+            document.removeFullLines(0, length - maxLines - 1);
+        }
+    }-*/;
+
+
+    public static class Builder {
+
+        private final AceEditor editor;
+        private int chunkSize;
+        private int maxLines;
+        private boolean visibleRowsOnly;
+
+        public Builder(AceEditor editor) {
+            this.editor = editor;
+            this.chunkSize = CHUNK_SIZE;
+            this.maxLines = UNLIMITED;
+            this.visibleRowsOnly = false;
+        }
+
+        /** The number of lines to append per animation frame. Defaults to {@link #CHUNK_SIZE}. */
+        public Builder chunkSize(int chunkSize) {
+            this.chunkSize = Math.max(1, chunkSize);
+            return this;
+        }
+
+        /**
+         * The maximum number of lines to keep in the editor. If more lines are added, the oldest lines are evicted.
+         * Defaults to {@link #UNLIMITED}.
+         */
+        public Builder maxLines(int maxLines) {
+            this.maxLines = Math.max(UNLIMITED, maxLines);
+            return this;
+        }
+
+        /**
+         * Highlights only the visible rows instead of tokenizing the whole document in the background. Use this for
+         * modes which don't rely on state spanning multiple lines (e.g. log files).
+         */
+        public Builder visibleRowsOnly() {
+            this.visibleRowsOnly = true;
+            return this;
+        }
+
+        public StreamingMode build() {
+            return new StreamingMode(this);
+        }
+    }
+
+
+    /** Timings of a stream. All durations are in milliseconds. */
+    public static class Timings {
+
+        private final double start;
+        private int lines;
+        private int frames;
+        private double busy;
+        private double longestFrame;
+        private double total;
+
+        private Timings() {
+            this.start = performance.now();
+        }
+
+        private void update(int lines, double duration) {
+            this.lines += lines;
+            this.frames++;
+            this.busy += duration;
+            this.longestFrame = Math.max(longestFrame, duration);
+        }
+
+        private void finish() {
+            total = performance.now() - start;
+        }
+
+        /** @return the number of lines added */
+        public int getLines() {
+            return lines;
+        }
+
+        /** @return the number of animation frames used to add the lines */
+        public int getFrames() {
+            return frames;
+        }
+
+        /** @return the time spent to add the lines (w/o the time between the frames) */
+        public double getBusy() {
+            return busy;
+        }
+
+        /** @return the longest time spent in one frame */
+        public double getLongestFrame() {
+            return longestFrame;
+        }
+
+        /** @return the time between the start and the end of the stream */
+        public double getTotal() {
+            return total;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.ballroom.export;
+
+import elemental2.dom.Blob;
+import elemental2.dom.Blob.ConstructorBlobPartsArrayUnionType;
+import elemental2.dom.BlobPropertyBag;
+import elemental2.dom.HTMLAnchorElement;
+import elemental2.dom.URL;
+
+import static elemental2.dom.DomGlobal.document;
+import static elemental2.dom.DomGlobal.setTimeout;
+import static org.jboss.gwt.elemento.core.Elements.a;
+
+/** Saves a blob or text as file using a temporary object URL. */
+public final class Download {
+
+    /**
+     * Some browsers cancel the download if the object URL is revoked right after the click. Large files are affected
+     * most, so the URL is revoked after this delay.
+     */
+    private static final double REVOKE_DELAY = 1000;
+
+    public static void text(String text, String mimeType, String filename) {
+        BlobPropertyBag options = BlobPropertyBag.create();
+        options.setType(mimeType);
+        blob(new Blob(new ConstructorBlobPartsArrayUnionType[]{ConstructorBlobPartsArrayUnionType.of(text)},
+                options), filename);
+    }
+
+    public static void blob(Blob blob, String filename) {
+        String url = URL.createObjectURL(blob);
+        HTMLAnchorElement anchor = a(url).apply(a -> a.download = filename).element();
+        document.body.appendChild(anchor);
+        anchor.click();
+        document.body.removeChild(anchor);
+        setTimeout(o -> URL.revokeObjectURL(url), REVOKE_DELAY);
+    }
+
+    private Download() {
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.ballroom.export;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+import com.google.gwt.core.client.Scheduler;
+import elemental2.dom.Blob;
+import elemental2.dom.Blob.ConstructorBlobPartsArrayUnionType;
+import elemental2.dom.BlobPropertyBag;
+import org.jboss.hal.ballroom.dataprovider.DataProvider;
+import org.jboss.hal.ballroom.table.Table;
+import org.jboss.hal.dmr.ModelNode;
+
+/**
+ * Exports items as CSV or JSON file. The columns of the export are defined using the {@link Builder}:
+ *
+ * <pre>
+ * Export&lt;JmsMessage&gt; export = new Export.Builder&lt;JmsMessage&gt;("messages")
+ *     .column(JMS_MESSAGE_ID, JmsMessage::getMessageId)
+ *     .column(JMS_PRIORITY, message -&gt; String.valueOf(message.getPriority()))
+ *     .build();
+ * export.download(ExportFormat.CSV, dataProvider);
+ * </pre>
+ * <p>
+ * The items are serialized incrementally: {@value #ROWS_PER_STEP} rows are written in one {@linkplain
+ * Scheduler#scheduleIncremental(Scheduler.RepeatingCommand) scheduler step}. The serialized chunks are collected as
+ * blob parts and merged into intermediate blobs from time to time. The export never builds one big string.
+ */
+public class Export<T> {
+
+    static final int ROWS_PER_STEP = 500;
+    private static final int PARTS_PER_BLOB = 32;
+
+    /** @return a function which returns the value of the attribute or {@code null} if the attribute is undefined */
+    public static <T extends ModelNode> Function<T, String> attribute(String name) {
+        return node -> node.hasDefined(name) ? node.get(name).asString() : null;
+    }
+
+
+    private final String filename;
+    private final String[] names;
+    private final List<Function<T, String>> values;
+
+    private Export(Builder<T> builder) {
+        this.filename = builder.filename;
+        this.names = builder.names.toArray(new String[0]);
+        this.values = builder.values;
+    }
+
+    /** Exports the filtered items of the data provider in their current order. */
+    public void download(ExportFormat format, DataProvider<T> dataProvider) {
+        download(format, dataProvider.getFilteredItems());
+    }
+
+    /** Exports the rows of the table which match the current search in their current order. */
+    public void download(ExportFormat format, Table<T> table) {
+        download(format, table.getFilteredRows());
+    }
+
+    public void download(ExportFormat format, Iterable<T> items) {
+        BlobParts parts = new BlobParts(format.mimeType());
+        ExportWriter writer = new ExportWriter(format, names, parts::add);
+        Iterator<T> iterator = items.iterator();
+        writer.start();
+        Scheduler.get().scheduleIncremental(() -> {
+            write(writer, iterator, ROWS_PER_STEP);
+            if (iterator.hasNext()) {
+                return true;
+            }
+            writer.finish();
+            Download.blob(parts.blob(), filename + "." + format.extension());
+            return false;
+        });
+    }
+
+    /** Writes at most {@code max} items to the writer. */
+    void write(ExportWriter writer, Iterator<T> iterator, int max) {
+        for (int i = 0; i < max && iterator.hasNext(); i++) {
+            T item = iterator.next();
+            String[] row = new String[values.size()];
+            for (int j = 0; j < row.length; j++) {
+                row[j] = values.get(j).apply(item);
+            }
+            writer.row(row);
+        }
+    }
+
+
+    private static class BlobParts {
+
+        private final String mimeType;
+        private final List<ConstructorBlobPartsArrayUnionType> parts;
+
+        private BlobParts(String mimeType) {
+            this.mimeType = mimeType;
+            this.parts = new ArrayList<>();
+        }
+
+        private void add(String chunk) {
+            parts.add(ConstructorBlobPartsArrayUnionType.of(chunk));
+            if (parts.size() == PARTS_PER_BLOB) {
+                // merge the parts so that the browser can take care of the data
+                Blob merged = blob();
+                parts.clear();
+                parts.add(ConstructorBlobPartsArrayUnionType.of(merged));
+            }
+        }
+
+        private Blob blob() {
+            BlobPropertyBag options = BlobPropertyBag.create();
+            options.setType(mimeType);
+            return new Blob(parts.toArray(new ConstructorBlobPartsArrayUnionType[0]), options);
+        }
+    }
+
+
+    public static class Builder<T> {
+
+        private final String filename;
+        private final List<String> names;
+        private final List<Function<T, String>> values;
+
+        /** @param filename the name of the exported file w/o extension */
+        public Builder(String filename) {
+            this.filename = filename;
+            this.names = new ArrayList<>();
+            this.values = new ArrayList<>();
+        }
+
+        /**
+         * Adds a column to the export.
+         *
+         * @param name  the name used as CSV header and JSON key
+         * @param value returns the value for an item. {@code null} values are exported as empty CSV fields and
+         *              {@code null} in JSON.
+         */
+        public Builder<T> column(String name, Function<T, String> value) {
+            names.add(name);
+            values.add(value);
+            return this;
+        }
+
+        public Export<T> build() {
+            if (names.isEmpty()) {
+                throw new IllegalStateException("Empty columns in export builder!");
+            }
+            return new Export<>(this);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.ballroom.export;
+
+import java.util.function.Consumer;
+
+/**
+ * Serializes rows as CSV or JSON. The writer doesn't build the complete result, but passes chunks of about {@link
+ * #CHUNK_SIZE} characters to a consumer.
+ */
+class ExportWriter {
+
+    static final int CHUNK_SIZE = 64 * 1024;
+
+    private static final String CRLF = "\r\n";
+
+    private final ExportFormat format;
+    private final String[] names;
+    private final Consumer<String> chunks;
+    private final StringBuilder buffer;
+    private int rows;
+
+    ExportWriter(ExportFormat format, String[] names, Consumer<String> chunks) {
+        this.format = format;
+        this.names = names;
+        this.chunks = chunks;
+        this.buffer = new StringBuilder();
+        this.rows = 0;
+    }
+
+    void start() {
+        if (format == ExportFormat.CSV) {
+            csv(names);
+        } else {
+            buffer.append('[');
+        }
+    }
+
+    void row(String[] values) {
+        if (format == ExportFormat.CSV) {
+            csv(values);
+        } else {
+            json(values);
+        }
+        rows++;
+        if (buffer.length() >= CHUNK_SIZE) {
+            flush();
+        }
+    }
+
+    void finish() {
+        if (format == ExportFormat.JSON) {
+            buffer.append(rows == 0 ? "]" : CRLF + "]");
+        }
+        flush();
+    }
+
+    int rows() {
+        return rows;
+    }
+
+    private void flush() {
+        if (buffer.length() != 0) {
+            chunks.accept(buffer.toString());
+            buffer.setLength(0);
+        }
+    }
+
+
+    // ------------------------------------------------------ csv
+
+    private void csv(String[] values) {
+        for (int i = 0; i < values.length; i++) {
+            if (i != 0) {
+                buffer.append(',');
+            }
+            String value = values[i];
+            if (value != null) {
+                if (needsQuotes(value)) {
+                    buffer.append('"');
+                    for (int j = 0; j < value.length(); j++) {
+                        char c = value.charAt(j);
+                        if (c == '"') {
+                            buffer.append('"');
+                        }
+                        buffer.append(c);
+                    }
+                    buffer.append('"');
+                } else {
+                    buffer.append(value);
+                }
+            }
+        }
+        buffer.append(CRLF);
+    }
+
+    private boolean needsQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    // ------------------------------------------------------ json
+
+    private void json(String[] values) {
+        buffer.append(rows == 0 ? CRLF : "," + CRLF).append('{');
+        for (int i = 0; i < values.length; i++) {
+            if (i != 0) {
+                buffer.append(',');
+            }
+            jsonString(names[i]);
+            buffer.append(':');
+            if (values[i] == null) {
+                buffer.append("null");
+            } else {
+                jsonString(values[i]);
+            }
+        }
+        buffer.append('}');
+    }
+
+    private void jsonString(String value) {
+        buffer.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    buffer.append("\\\"");
+                    break;
+                case '\\':
+                    buffer.append("\\\\");
+                    break;
+                case '\n':
+                    buffer.append("\\n");
+                    break;
+                case '\r':
+                    buffer.append("\\r");
+                    break;
+                case '\t':
+                    buffer.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        String hex = Integer.toHexString(c);
+                        buffer.append("\\u");
+                        for (int j = hex.length(); j < 4; j++) {
+                            buffer.append('0');
+                        }
+                        buffer.append(hex);
+                    } else {
+                        buffer.append(c);
+                    }
+                    break;
+            }
+        }
+        buffer.append('"');
+    }
+}
@@ -229,6 +229,16 @@ public class DataTable<T> implements Table<T> {
         return asList(api().rows(selectorModifier).data().toArray());
     }
 
+    @Override
+    public List<T> getFilteredRows() {
+        SelectorModifier selectorModifier = new SelectorModifierBuilder()
+                .order(SelectorModifier.Order.current)
+                .page(SelectorModifier.Page.all)
+                .search(SelectorModifier.Search.applied)
+                .build();
+        return asList(api().rows(selectorModifier).data().toArray());
+    }
+
     @Override
     public void onSelectionChange(SelectionChangeHandler<T> handler) {
         api().on(SELECT, CallbackUnionType.of((SelectCallback) (event, api, type) -> {
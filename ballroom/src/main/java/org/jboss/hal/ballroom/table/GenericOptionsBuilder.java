@@ -22,6 +22,8 @@ import java.util.Map;
 
 import com.google.gwt.core.client.GWT;
 import org.jboss.hal.ballroom.LabelBuilder;
+import org.jboss.hal.ballroom.export.Export;
+import org.jboss.hal.ballroom.export.ExportFormat;
 import org.jboss.hal.config.Settings;
 import org.jboss.hal.meta.security.Constraint;
 import org.jboss.hal.meta.security.Constraints;
@@ -42,6 +44,7 @@ import static org.jboss.hal.resources.CSS.*;
 public abstract class GenericOptionsBuilder<B extends GenericOptionsBuilder<B, T>, T> {
 
     private static final int INLINE_ACTIONS_DEFAULT_WIDTH = 10;
+    private static final String VIRTUAL_SCROLL_DEFAULT_HEIGHT = "400px";
     private static final Constants CONSTANTS = GWT.create(Constants.class);
 
     protected List<Api.Button<T>> buttons;
@@ -52,6 +55,7 @@ public abstract class GenericOptionsBuilder<B extends GenericOptionsBuilder<B, T
     private Map<String, InlineActionHandler<T>> columnActionHandler;
     private int pageLength;
     private boolean paging;
+    private String virtualScrollHeight;
     private Options<T> options;
 
     protected GenericOptionsBuilder() {
@@ -124,6 +128,12 @@ public abstract class GenericOptionsBuilder<B extends GenericOptionsBuilder<B, T
         return that();
     }
 
+    /** Adds buttons to export the rows which match the current search as CSV and JSON. */
+    public B export(Export<T> export) {
+        button(CONSTANTS.exportCsv(), table -> export.download(ExportFormat.CSV, table));
+        return button(CONSTANTS.exportJson(), table -> export.download(ExportFormat.JSON, table));
+    }
+
     public B column(String name, Column.RenderCallback<T, String> render) {
         return column(new ColumnBuilder<>(name, new LabelBuilder().label(name), render).build());
     }
@@ -216,6 +226,29 @@ public abstract class GenericOptionsBuilder<B extends GenericOptionsBuilder<B, T
         return that();
     }
 
+    /**
+     * Turns on virtual scrolling using the DataTables Scroller extension: Rows are rendered on demand when they become
+     * visible in a scrolling viewport of {@value #VIRTUAL_SCROLL_DEFAULT_HEIGHT}. Use this mode for tables which might
+     * contain thousands of rows.
+     */
+    public B virtualScroll() {
+        return virtualScroll(VIRTUAL_SCROLL_DEFAULT_HEIGHT);
+    }
+
+    /**
+     * Turns on virtual scrolling using the DataTables Scroller extension: Rows are rendered on demand when they become
+     * visible in a scrolling viewport of the specified height. Use this mode for tables which might contain thousands
+     * of rows.
+     *
+     * @param height the height of the scrolling viewport as CSS value
+     */
+    public B virtualScroll(String height) {
+        assertNoOptions();
+
+        this.virtualScrollHeight = height;
+        return that();
+    }
+
     public B searching(boolean searching) {
         assertNoOptions();
 
@@ -257,6 +290,17 @@ public abstract class GenericOptionsBuilder<B extends GenericOptionsBuilder<B, T
         options.keys = keys;
         options.paging = paging;
         options.pageLength = pageLength;
+        if (virtualScrollHeight != null) {
+            // the scroller requires paging, but replaces the paging controls
+            options.dom = buttons.isEmpty()
+                    ? "<'dataTables_header' f i><'table-responsive' t>"
+                    : "<'dataTables_header' f B i><'table-responsive' t>";
+            options.deferRender = true;
+            options.paging = true;
+            options.scrollCollapse = true;
+            options.scroller = true;
+            options.scrollY = virtualScrollHeight;
+        }
         options.searching = searching;
         options.select = select;
 
@@ -35,10 +35,14 @@ public class Options<T> {
 
     public Api.Buttons<T> buttons;
     public Column<T>[] columns;
+    public boolean deferRender;
     public String dom;
     public boolean keys;
     public boolean paging;
     public int pageLength;
+    public boolean scrollCollapse;
+    public boolean scroller;
+    public String scrollY;
     public boolean searching;
     public Api.Select select;
     // not part of the DataTables API, but used internally
@@ -48,6 +48,10 @@ public interface Table<T> extends IsElement, Attachable {
     @JsIgnore
     List<T> getRows();
 
+    /** @return the rows which match the current search in their current order */
+    @JsIgnore
+    List<T> getFilteredRows();
+
     void onSelectionChange(SelectionChangeHandler<T> handler);
 
     @JsIgnore
@@ -40,6 +40,9 @@ class Api<T> {
     @JsMethod
     native void open_node(String id, JsCallback callback);
 
+    @JsMethod
+    native void _open_to(String id);
+
     @JsMethod
     native void refresh_node(String id);
 
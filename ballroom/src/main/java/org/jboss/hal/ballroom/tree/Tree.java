@@ -15,6 +15,10 @@
  */
 package org.jboss.hal.ballroom.tree;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import elemental2.core.JsArray;
 import elemental2.dom.Element;
 import elemental2.dom.HTMLElement;
@@ -29,10 +33,16 @@ import static org.jboss.hal.resources.UIConstants.HASH;
 public class Tree<T> implements IsElement, Attachable {
 
     private static final String ROOT_NODE = HASH;
+    private static final String ANCHOR = "_anchor";
+    private static final String SEARCH_MATCH = "jstree-search";
+    /** Maximum number of matches opened and highlighted by an indexed search. */
+    static final int MAX_MATCHES = 250;
 
     private final String id;
     private final HTMLElement div;
     private final Options options;
+    private final TreeIndex index;
+    private final Set<String> matches;
     private Bridge<T> bridge;
     private Api<T> api;
 
@@ -44,6 +54,8 @@ public class Tree<T> implements IsElement, Attachable {
         this.id = id;
         this.div = div().id(id).element();
         this.options = initOptions();
+        this.index = null;
+        this.matches = new HashSet<>();
         this.options.core.data = (DataFunction<T>) (node, callback) -> {
             if (ROOT_NODE.equals(node.id)) {
                 Node<T>[] rootNodes = new Node[]{root};
@@ -61,10 +73,22 @@ public class Tree<T> implements IsElement, Attachable {
      * If you use this constructor you must ensure that {@code T} can be turned into JSON.
      */
     public Tree(String id, JsArray<Node<T>> nodes) {
+        this(id, nodes, null);
+    }
+
+    /**
+     * Creates a tree and populates the tree with the specified nodes. Searches are answered using the specified index
+     * instead of letting jsTree match every node. Only the paths to the matching nodes are opened.
+     * <p>
+     * If you use this constructor you must ensure that {@code T} can be turned into JSON.
+     */
+    public Tree(String id, JsArray<Node<T>> nodes, TreeIndex index) {
         this.id = id;
         this.div = div().id(id).element();
         this.options = initOptions();
         this.options.core.data = nodes;
+        this.index = index;
+        this.matches = new HashSet<>();
     }
 
     private Options<T> initOptions() {
@@ -101,6 +125,10 @@ public class Tree<T> implements IsElement, Attachable {
             bridge = Bridge.select(HASH + id);
             bridge.jstree(options);
             api = bridge.jstree(true);
+            if (index != null) {
+                // opening a node re-renders its children: restore the highlighted matches
+                bridge.on("after_open.jstree", (event, payload) -> highlightMatches());
+            }
         }
     }
 
@@ -165,11 +193,54 @@ public class Tree<T> implements IsElement, Attachable {
     }
 
     public void search(String query) {
-        api().search(query);
+        if (index != null) {
+            indexedSearch(query);
+        } else {
+            api().search(query);
+        }
     }
 
     public void clearSearch() {
-        api().clear_search();
+        if (index != null) {
+            clearMatches();
+        } else {
+            api().clear_search();
+        }
+    }
+
+    private void indexedSearch(String query) {
+        clearMatches();
+        List<String> ids = index.search(query, MAX_MATCHES);
+        matches.addAll(ids);
+        for (String id : ids) {
+            api()._open_to(id);
+        }
+        highlightMatches();
+        if (!ids.isEmpty()) {
+            Element element = document.getElementById(ids.get(0) + ANCHOR);
+            if (element != null) {
+                element.scrollIntoView(false);
+            }
+        }
+    }
+
+    private void highlightMatches() {
+        for (String id : matches) {
+            Element element = document.getElementById(id + ANCHOR);
+            if (element != null) {
+                element.classList.add(SEARCH_MATCH);
+            }
+        }
+    }
+
+    private void clearMatches() {
+        for (String id : matches) {
+            Element element = document.getElementById(id + ANCHOR);
+            if (element != null) {
+                element.classList.remove(SEARCH_MATCH);
+            }
+        }
+        matches.clear();
     }
 
 
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.ballroom.tree;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Trigram index over the nodes of a {@link Tree}. Each node is indexed by one or more texts (e.g. name and path).
+ * Queries are answered by intersecting the posting lists of the trigrams of the query and verifying the remaining
+ * candidates with a substring match. Queries shorter than three characters fall back to a linear scan over the
+ * indexed texts, which is still much cheaper than letting jsTree walk all nodes.
+ * <p>
+ * All matches are case insensitive.
+ */
+public class TreeIndex {
+
+    private static final int N = 3;
+    private static final char SEPARATOR = '\n';
+
+    private final List<String> ids;
+    private final List<String> texts;
+    private final Map<String, Postings> trigrams;
+
+    public TreeIndex() {
+        this.ids = new ArrayList<>();
+        this.texts = new ArrayList<>();
+        this.trigrams = new HashMap<>();
+    }
+
+    /** Adds a node to the index. The order of the calls defines the order of the search results. */
+    public void add(String id, String text, String... more) {
+        StringBuilder builder = new StringBuilder(text.toLowerCase());
+        for (String m : more) {
+            if (m != null && !m.isEmpty()) {
+                builder.append(SEPARATOR).append(m.toLowerCase());
+            }
+        }
+        String value = builder.toString();
+        int index = ids.size();
+        ids.add(id);
+        texts.add(value);
+        for (int i = 0; i + N <= value.length(); i++) {
+            String trigram = value.substring(i, i + N);
+            if (trigram.indexOf(SEPARATOR) == -1) {
+                trigrams.computeIfAbsent(trigram, t -> new Postings()).add(index);
+            }
+        }
+    }
+
+    /** @return the IDs of the nodes matching the query in the order they were added, at most {@code limit} IDs */
+    public List<String> search(String query, int limit) {
+        if (query == null || query.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+        String q = query.trim().toLowerCase();
+        List<String> result = new ArrayList<>();
+        if (q.length() < N) {
+            for (int i = 0; i < texts.size() && result.size() < limit; i++) {
+                if (texts.get(i).contains(q)) {
+                    result.add(ids.get(i));
+                }
+            }
+        } else {
+            Postings candidates = candidates(q);
+            for (int i = 0; i < candidates.size && result.size() < limit; i++) {
+                int index = candidates.values[i];
+                if (texts.get(index).contains(q)) {
+                    result.add(ids.get(index));
+                }
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return ids.size();
+    }
+
+    private Postings candidates(String query) {
+        List<Postings> lists = new ArrayList<>();
+        for (int i = 0; i + N <= query.length(); i++) {
+            Postings postings = trigrams.get(query.substring(i, i + N));
+            if (postings == null) {
+                return new Postings();
+            }
+            lists.add(postings);
+        }
+        lists.sort((p1, p2) -> Integer.compare(p1.size, p2.size));
+        Postings candidates = lists.get(0);
+        for (int i = 1; i < lists.size() && candidates.size > 0; i++) {
+            candidates = candidates.intersect(lists.get(i));
+        }
+        return candidates;
+    }
+
+
+    /** Sorted list of node indices without boxing. */
+    private static class Postings {
+
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            // values are added in ascending order: skip duplicates of the same node
+            if (size > 0 && values[size - 1] == value) {
+                return;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        Postings intersect(Postings other) {
+            Postings result = new Postings();
+            int i = 0;
+            int j = 0;
+            while (i < size && j < other.size) {
+                if (values[i] < other.values[j]) {
+                    i++;
+                } else if (values[i] > other.values[j]) {
+                    j++;
+                } else {
+                    result.add(values[i]);
+                    i++;
+                    j++;
+                }
+            }
+            return result;
+        }
+    }
+}
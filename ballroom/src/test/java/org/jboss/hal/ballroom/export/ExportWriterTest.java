@@ -0,0 +1,102 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.ballroom.export;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings({"HardCodedStringLiteral", "DuplicateStringLiteralInspection"})
+public class ExportWriterTest {
+
+    private static final String[] NAMES = new String[]{"name", "value"};
+
+    private List<String> chunks;
+
+    @Before
+    public void setUp() {
+        chunks = new ArrayList<>();
+    }
+
+    @Test
+    public void csv() {
+        ExportWriter writer = new ExportWriter(ExportFormat.CSV, NAMES, chunks::add);
+        writer.start();
+        writer.row(new String[]{"foo", "bar"});
+        writer.row(new String[]{"a,b", "say \"hi\""});
+        writer.row(new String[]{"line\nbreak", null});
+        writer.finish();
+
+        assertEquals(3, writer.rows());
+        assertEquals("name,value\r\n" +
+                "foo,bar\r\n" +
+                "\"a,b\",\"say \"\"hi\"\"\"\r\n" +
+                "\"line\nbreak\",\r\n", String.join("", chunks));
+    }
+
+    @Test
+    public void json() {
+        ExportWriter writer = new ExportWriter(ExportFormat.JSON, NAMES, chunks::add);
+        writer.start();
+        writer.row(new String[]{"foo", "bar"});
+        writer.row(new String[]{"\"quoted\"\t\\", null});
+        writer.row(new String[]{"\u0001", "line\nbreak"});
+        writer.finish();
+
+        assertEquals(3, writer.rows());
+        assertEquals("[\r\n" +
+                "{\"name\":\"foo\",\"value\":\"bar\"},\r\n" +
+                "{\"name\":\"\\\"quoted\\\"\\t\\\\\",\"value\":null},\r\n" +
+                "{\"name\":\"\\u0001\",\"value\":\"line\\nbreak\"}\r\n" +
+                "]", String.join("", chunks));
+    }
+
+    @Test
+    public void emptyJson() {
+        ExportWriter writer = new ExportWriter(ExportFormat.JSON, NAMES, chunks::add);
+        writer.start();
+        writer.finish();
+
+        assertEquals("[]", String.join("", chunks));
+    }
+
+    @Test
+    public void chunks() {
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            value.append('x');
+        }
+        ExportWriter writer = new ExportWriter(ExportFormat.CSV, NAMES, chunks::add);
+        writer.start();
+        for (int i = 0; i < 1000; i++) {
+            writer.row(new String[]{String.valueOf(i), value.toString()});
+        }
+        assertTrue(chunks.size() > 1);
+        for (String chunk : chunks) {
+            // a chunk is flushed as soon as it reaches the chunk size
+            assertTrue(chunk.length() < ExportWriter.CHUNK_SIZE + 1024);
+        }
+        writer.finish();
+
+        String csv = String.join("", chunks);
+        assertEquals(1001, csv.split("\r\n").length);
+    }
+}
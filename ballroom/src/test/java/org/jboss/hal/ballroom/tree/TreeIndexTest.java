@@ -0,0 +1,94 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.ballroom.tree;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+
+@SuppressWarnings({"HardCodedStringLiteral", "DuplicateStringLiteralInspection"})
+public class TreeIndexTest {
+
+    private TreeIndex index;
+
+    @Before
+    public void setUp() {
+        index = new TreeIndex();
+        index.add("1", "java:jboss", "java:jboss");
+        index.add("2", "datasources", "java:jboss/datasources");
+        index.add("3", "ExampleDS", "java:jboss/datasources/ExampleDS");
+        index.add("4", "mail", "java:jboss/mail");
+        index.add("5", "Default", "java:jboss/mail/Default");
+    }
+
+    @Test
+    public void substring() {
+        assertEquals(asList("3"), index.search("example", 10));
+        assertEquals(asList("2", "3"), index.search("datasources", 10));
+    }
+
+    @Test
+    public void caseInsensitive() {
+        assertEquals(asList("3"), index.search("EXAMPLEds", 10));
+    }
+
+    @Test
+    public void matchesUri() {
+        // the name does not contain the query, but the URI does
+        assertEquals(asList("3"), index.search("sources/ex", 10));
+    }
+
+    @Test
+    public void shortQuery() {
+        assertEquals(asList("4", "5"), index.search("ma", 10));
+    }
+
+    @Test
+    public void noMatch() {
+        assertEquals(emptyList(), index.search("foo", 10));
+        assertEquals(emptyList(), index.search("", 10));
+        assertEquals(emptyList(), index.search(null, 10));
+    }
+
+    @Test
+    public void trigramsOnlyNoSubstring() {
+        // each trigram of the query is indexed, but no single text contains the query
+        index.add("6", "jbo", "ssm");
+        assertEquals(emptyList(), index.search("jbossm", 10));
+    }
+
+    @Test
+    public void limit() {
+        List<String> result = index.search("java", 2);
+        assertEquals(asList("1", "2"), result);
+    }
+
+    @Test
+    public void many() {
+        TreeIndex big = new TreeIndex();
+        for (int i = 0; i < 50000; i++) {
+            big.add(String.valueOf(i), "binding-" + i, "java:global/app/binding-" + i);
+        }
+        assertEquals(50000, big.size());
+        assertEquals(asList("12345"), big.search("binding-12345", 10));
+        assertEquals(11, big.search("binding-4999", 100).size()); // 4999, 49990 - 49999
+    }
+}
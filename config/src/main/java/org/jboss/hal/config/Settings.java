@@ -32,6 +32,7 @@ import static java.util.stream.StreamSupport.stream;
 public class Settings {
 
     @Inject public static Settings INSTANCE; // use only if no DI is available!
+    public static final int DEFAULT_LIFECYCLE_BATCH_SIZE = 5;
     public static final String DEFAULT_LOCALE = "en";
     public static final int DEFAULT_PAGE_SIZE = 10;
     // keep in sync with the poll-time attribute of settings.dmr
@@ -86,11 +87,14 @@ public class Settings {
     public enum Key {
         TITLE("title", true),
         COLLECT_USER_DATA("collect-user-data", true),
+        DECODE_IN_WORKER("decode-in-worker", true),
+        LIFECYCLE_BATCH_SIZE("lifecycle-batch-size", true),
         LOCALE("locale", true),
         PAGE_SIZE("page-size", true),
         POLL("poll", true),
         POLL_TIME("poll-time", true),
-        RUN_AS("run-as", false); // can contain multiple roles separated by ","
+        RUN_AS("run-as", false), // can contain multiple roles separated by ","
+        SPLIT_METADATA("split-metadata", true);
 
         public static Key from(String key) {
             switch (key) {
@@ -98,6 +102,10 @@ public class Settings {
                     return TITLE;
                 case "collect-user-data":
                     return COLLECT_USER_DATA;
+                case "decode-in-worker":
+                    return DECODE_IN_WORKER;
+                case "lifecycle-batch-size":
+                    return LIFECYCLE_BATCH_SIZE;
                 case "locale":
                     return LOCALE;
                 case "page-size":
@@ -108,6 +116,8 @@ public class Settings {
                     return POLL_TIME;
                 case "run-as":
                     return RUN_AS;
+                case "split-metadata":
+                    return SPLIT_METADATA;
                 default:
                     return null;
             }
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.core;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+
+import com.google.common.collect.Lists;
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.flow.Progress;
+import org.jboss.hal.spi.Footer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Executes one operation for each item of a list in batches of at most {@link #BATCH_SIZE} items. The batches are
+ * executed one after another and the footer progress is advanced for each item. The outcome of each item is reported
+ * as {@link BatchResult}.
+ * <p>
+ * Use {@link #execute(List, Function, Consumer)} for operations which are completely rolled back if a composite
+ * fails, like {@code deploy} or {@code undeploy}. The operations of a batch are sent as one composite. If one step
+ * fails, the failed batch is split in halves which are executed again until the failed items are isolated. This needs
+ * far less requests than executing the operations of the failed batch one by one.
+ * <p>
+ * Use {@link #executeSeparately(List, Function, Consumer)} for operations which take effect in the runtime stage and
+ * are not undone by a rollback, like {@code reload}, {@code restart}, {@code start} or {@code stop} of a server. The
+ * steps before a failing step would already have taken effect and must not be executed again. These operations are
+ * sent one by one, but the requests of a batch are sent at once.
+ */
+public class BatchOperations {
+
+    /** The maximum number of operations sent in one composite. */
+    public static final int BATCH_SIZE = 25;
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchOperations.class);
+
+    private final Dispatcher dispatcher;
+    private final Provider<Progress> progress;
+
+    @Inject
+    public BatchOperations(Dispatcher dispatcher, @Footer Provider<Progress> progress) {
+        this.dispatcher = dispatcher;
+        this.progress = progress;
+    }
+
+    /**
+     * Executes the operation returned by {@code operation} for each item using batches of {@link #BATCH_SIZE} items.
+     */
+    public <T> void execute(List<T> items, Function<T, Operation> operation, Consumer<BatchResult<T>> callback) {
+        execute(items, BATCH_SIZE, operation, callback);
+    }
+
+    /** Executes the operation returned by {@code operation} for each item using batches of {@code batchSize} items. */
+    public <T> void execute(List<T> items, int batchSize, Function<T, Operation> operation,
+            Consumer<BatchResult<T>> callback) {
+        Progress p = progress.get();
+        p.reset(items.size());
+        BatchResult<T> result = new BatchResult<>();
+        Iterator<List<T>> batches = Lists.partition(items, Math.max(1, batchSize)).iterator();
+        nextBatch(batches, operation, result, p, () -> {
+            p.finish();
+            logger.debug("Executed {} operations: {} successful, {} failed", result.size(),
+                    result.successful().size(), result.failed().size());
+            callback.accept(result);
+        });
+    }
+
+    /**
+     * Executes the operation returned by {@code operation} for each item as a single request. The requests of at most
+     * {@link #BATCH_SIZE} items are sent at once.
+     */
+    public <T> void executeSeparately(List<T> items, Function<T, Operation> operation,
+            Consumer<BatchResult<T>> callback) {
+        Progress p = progress.get();
+        p.reset(items.size());
+        BatchResult<T> result = new BatchResult<>();
+        Iterator<List<T>> batches = Lists.partition(items, BATCH_SIZE).iterator();
+        nextSeparateBatch(batches, operation, result, p, () -> {
+            p.finish();
+            logger.debug("Executed {} separate operations: {} successful, {} failed", result.size(),
+                    result.successful().size(), result.failed().size());
+            callback.accept(result);
+        });
+    }
+
+    private <T> void nextBatch(Iterator<List<T>> batches, Function<T, Operation> operation, BatchResult<T> result,
+            Progress progress, Runnable done) {
+        if (batches.hasNext()) {
+            executeBatch(batches.next(), operation, result, progress,
+                    () -> nextBatch(batches, operation, result, progress, done));
+        } else {
+            done.run();
+        }
+    }
+
+    private <T> void nextSeparateBatch(Iterator<List<T>> batches, Function<T, Operation> operation,
+            BatchResult<T> result, Progress progress, Runnable done) {
+        if (batches.hasNext()) {
+            List<T> batch = batches.next();
+            int[] pending = new int[]{batch.size()};
+            Runnable next = () -> {
+                if (--pending[0] == 0) {
+                    nextSeparateBatch(batches, operation, result, progress, done);
+                }
+            };
+            for (T item : batch) {
+                executeBatch(singletonList(item), operation, result, progress, next);
+            }
+        } else {
+            done.run();
+        }
+    }
+
+    private <T> void executeBatch(List<T> batch, Function<T, Operation> operation, BatchResult<T> result,
+            Progress progress, Runnable next) {
+        if (batch.size() == 1) {
+            T item = batch.get(0);
+            dispatcher.execute(operation.apply(item),
+                    modelNode -> {
+                        success(batch, result, progress);
+                        next.run();
+                    },
+                    (o, failure) -> {
+                        failure(batch, failure, result, progress);
+                        next.run();
+                    },
+                    (o, exception) -> {
+                        failure(batch, exception.getMessage(), result, progress);
+                        next.run();
+                    });
+        } else {
+            Composite composite = new Composite(batch.stream().map(operation).collect(toList()));
+            dispatcher.execute(composite,
+                    (CompositeResult compositeResult) -> {
+                        success(batch, result, progress);
+                        next.run();
+                    },
+                    (o, failure) -> {
+                        // the composite has been rolled back: split the batch to find the failed items
+                        logger.debug("Batch of {} operations failed: {}", batch.size(), failure);
+                        int half = batch.size() / 2;
+                        List<T> head = batch.subList(0, half);
+                        List<T> tail = batch.subList(half, batch.size());
+                        executeBatch(head, operation, result, progress,
+                                () -> executeBatch(tail, operation, result, progress, next));
+                    },
+                    (o, exception) -> {
+                        failure(batch, exception.getMessage(), result, progress);
+                        next.run();
+                    });
+        }
+    }
+
+    private <T> void success(List<T> batch, BatchResult<T> result, Progress progress) {
+        for (T item : batch) {
+            result.success(item);
+            progress.tick();
+        }
+    }
+
+    private <T> void failure(List<T> batch, String failure, BatchResult<T> result, Progress progress) {
+        for (T item : batch) {
+            result.failure(item, failure);
+            progress.tick();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.core;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * The per-item outcome of a batch executed by {@link BatchOperations}. Items are kept in the order they were executed.
+ *
+ * @param <T> the type of the items
+ */
+public class BatchResult<T> {
+
+    private final List<T> successful;
+    private final List<T> failed;
+    private final Map<T, String> failures;
+
+    BatchResult() {
+        this.successful = new ArrayList<>();
+        this.failed = new ArrayList<>();
+        this.failures = new IdentityHashMap<>();
+    }
+
+    void success(T item) {
+        successful.add(item);
+    }
+
+    void failure(T item, String description) {
+        failed.add(item);
+        failures.put(item, description);
+    }
+
+    /** @return the number of processed items */
+    public int size() {
+        return successful.size() + failed.size();
+    }
+
+    /** @return {@code true} if no item failed */
+    public boolean isSuccessful() {
+        return failed.isEmpty();
+    }
+
+    public List<T> successful() {
+        return unmodifiableList(successful);
+    }
+
+    public List<T> failed() {
+        return unmodifiableList(failed);
+    }
+
+    /** @return the failure description of the specified item or {@code null} if the item did not fail */
+    public String failure(T item) {
+        return failures.get(item);
+    }
+
+    /**
+     * @return the failure descriptions of all failed items in the form {@code "<name>: <failure>"} separated by new
+     * lines
+     */
+    public String failureDetails(Function<T, String> name) {
+        return failed.stream()
+                .map(item -> name.apply(item) + ": " + failures.get(item))
+                .collect(joining("\n"));
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.core;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jboss.hal.dmr.ModelNode;
+
+/**
+ * Changed values of a form together with the model as it was before the changes were made. {@link OperationFactory}
+ * uses the original model to skip values which were changed and restored and to write only the changed elements of
+ * lists and maps.
+ */
+public class ChangeSet extends HashMap<String, Object> {
+
+    private final ModelNode original;
+
+    public ChangeSet(Map<String, Object> changedValues, ModelNode original) {
+        super(changedValues);
+        this.original = original;
+    }
+
+    /** @return the model before the changes were made, might be {@code null} */
+    public ModelNode getOriginal() {
+        return original;
+    }
+}
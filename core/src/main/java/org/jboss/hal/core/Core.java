@@ -27,6 +27,7 @@ import jsinterop.annotations.JsType;
 import org.jboss.hal.ballroom.dialog.Dialog;
 import org.jboss.hal.config.Endpoints;
 import org.jboss.hal.config.Environment;
+import org.jboss.hal.core.expression.ExpressionResolver;
 import org.jboss.hal.core.extension.ExtensionRegistry;
 import org.jboss.hal.core.mbui.form.ModelNodeForm;
 import org.jboss.hal.core.mbui.table.ModelNodeTable;
@@ -68,6 +69,7 @@ public class Core {
     private final Endpoints endpoints;
     private final Environment environment;
     private final EventBus eventBus;
+    private final ExpressionResolver expressionResolver;
     private final ExtensionRegistry extensionRegistry;
     private final MetadataProcessor metadataProcessor;
     private final MetadataRegistry metadataRegistry;
@@ -81,6 +83,7 @@ public class Core {
             Endpoints endpoints,
             Environment environment,
             EventBus eventBus,
+            ExpressionResolver expressionResolver,
             ExtensionRegistry extensionRegistry,
             MetadataProcessor metadataProcessor,
             MetadataRegistry metadataRegistry,
@@ -91,6 +94,7 @@ public class Core {
         this.endpoints = endpoints;
         this.environment = environment;
         this.eventBus = eventBus;
+        this.expressionResolver = expressionResolver;
         this.extensionRegistry = extensionRegistry;
         this.metadataProcessor = metadataProcessor;
         this.metadataRegistry = metadataRegistry;
@@ -135,6 +139,11 @@ public class Core {
         return eventBus;
     }
 
+    @JsIgnore
+    public ExpressionResolver expressionResolver() {
+        return expressionResolver;
+    }
+
     /**
      * @return extension registry
      */
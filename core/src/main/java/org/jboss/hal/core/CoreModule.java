@@ -34,6 +34,7 @@ import org.jboss.hal.core.mbui.MbuiContext;
 import org.jboss.hal.core.mbui.table.TableButtonFactory;
 import org.jboss.hal.core.modelbrowser.ModelBrowser;
 import org.jboss.hal.core.mvp.Places;
+import org.jboss.hal.core.runtime.TopologyCache;
 import org.jboss.hal.core.runtime.group.ServerGroupActions;
 import org.jboss.hal.core.runtime.host.HostActions;
 import org.jboss.hal.core.runtime.server.ServerActions;
@@ -74,6 +75,7 @@ public class CoreModule extends AbstractGinModule {
         bind(StatementContext.class).to(CoreStatementContext.class).asEagerSingleton(); // to register the event handler
         bind(Subsystems.class).in(Singleton.class);
         bind(TableButtonFactory.class).in(Singleton.class);
+        bind(TopologyCache.class).in(Singleton.class);
         bind(MbuiContext.class).in(Singleton.class);
         bind(UIRegistry.class).in(Singleton.class);
 
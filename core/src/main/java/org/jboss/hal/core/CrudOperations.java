@@ -53,6 +53,7 @@ import org.jboss.hal.meta.Metadata;
 import org.jboss.hal.meta.StatementContext;
 import org.jboss.hal.meta.processing.MetadataProcessor;
 import org.jboss.hal.meta.processing.SuccessfulMetadataCallback;
+import org.jboss.hal.meta.search.GlobalSearch;
 import org.jboss.hal.resources.Ids;
 import org.jboss.hal.resources.Resources;
 import org.jboss.hal.spi.Callback;
@@ -83,6 +84,7 @@ public class CrudOperations {
     private final StatementContext statementContext;
     private final Resources resources;
     private final OperationFactory operationFactory;
+    private final GlobalSearch globalSearch;
 
     @Inject
     @JsIgnore
@@ -91,6 +93,7 @@ public class CrudOperations {
             MetadataProcessor metadataProcessor,
             @Footer Provider<Progress> progress,
             StatementContext statementContext,
+            GlobalSearch globalSearch,
             Resources resources) {
         this.eventBus = eventBus;
         this.dispatcher = dispatcher;
@@ -99,6 +102,7 @@ public class CrudOperations {
         this.statementContext = statementContext;
         this.resources = resources;
         this.operationFactory = new OperationFactory();
+        this.globalSearch = globalSearch;
     }
 
 
@@ -566,7 +570,20 @@ public class CrudOperations {
     }
 
     private void readChildren(Operation operation, ReadChildrenCallback callback) {
-        dispatcher.execute(operation, result -> callback.execute(result.asPropertyList()));
+        dispatcher.execute(operation, result -> {
+            List<Property> children = result.asPropertyList();
+            index(operation, children);
+            callback.execute(children);
+        });
+    }
+
+    /** Adds the names of the children read by the specified operation to the global search index. */
+    private void index(Operation operation, List<Property> children) {
+        ResourceAddress address = operation.getAddress();
+        String childType = operation.get(CHILD_TYPE).asString();
+        if (!address.toString().contains("*") && !childType.equals("*")) {
+            globalSearch.update(address, childType, children.stream().map(Property::getName).collect(toList()));
+        }
     }
 
 
@@ -656,7 +673,115 @@ public class CrudOperations {
     }
 
     private Single<List<Property>> readChildren(Operation operation) {
-        return dispatcher.execute(operation).map(ModelNode::asPropertyList);
+        return dispatcher.execute(operation).map(result -> {
+            List<Property> children = result.asPropertyList();
+            index(operation, children);
+            return children;
+        });
+    }
+
+
+    // ------------------------------------------------------ refresh
+
+    /**
+     * Re-reads the resource at {@code address} recursively and patches the result into {@code model}. Use this method
+     * after a resource below {@code root} has been added, saved or reset instead of re-reading the whole model of
+     * {@code root}.
+     *
+     * @param root     the address of {@code model}
+     * @param model    the recursive model of {@code root} as returned by {@link #readRecursive(ResourceAddress,
+     *                 ReadCallback)}. The model is modified in place.
+     * @param address  the address of the modified resource. Must be {@code root} or a descendant of {@code root}.
+     * @param callback the callback which gets the patched model
+     */
+    @JsIgnore
+    public void refresh(ResourceAddress root, ModelNode model, ResourceAddress address, ReadCallback callback) {
+        ModelNode node = subModel(root, model, address);
+        readRecursive(address, result -> {
+            node.set(result);
+            callback.execute(model);
+        });
+    }
+
+    /**
+     * Re-reads the attributes of the resource at {@code address} and patches them into {@code model}. The child
+     * resources are not read. Use this method after the attributes of {@code root} itself have been saved or reset.
+     *
+     * @param root     the address of {@code model}
+     * @param model    the recursive model of {@code root} as returned by {@link #readRecursive(ResourceAddress,
+     *                 ReadCallback)}. The model is modified in place.
+     * @param address  the address of the modified resource. Must be {@code root} or a descendant of {@code root}.
+     * @param callback the callback which gets the patched model
+     */
+    @JsIgnore
+    public void refreshAttributes(ResourceAddress root, ModelNode model, ResourceAddress address,
+            ReadCallback callback) {
+        ModelNode node = subModel(root, model, address);
+        read(new Operation.Builder(address, READ_RESOURCE_OPERATION)
+                        .param(ATTRIBUTES_ONLY, true)
+                        .param(INCLUDE_ALIASES, true)
+                        .build(),
+                result -> {
+                    for (String attribute : result.keys()) {
+                        node.get(attribute).set(result.get(attribute));
+                    }
+                    callback.execute(model);
+                });
+    }
+
+    /**
+     * Re-reads all children of the specified type recursively and patches them into {@code model}. Use this method
+     * after a child resource has been removed (or when several children might have changed).
+     *
+     * @param root      the address of {@code model}
+     * @param model     the recursive model of {@code root} as returned by {@link #readRecursive(ResourceAddress,
+     *                  ReadCallback)}. The model is modified in place.
+     * @param parent    the address of the parent resource. Must be {@code root} or a descendant of {@code root}.
+     * @param childType the child resource (not human readable, but the actual child resource name!)
+     * @param callback  the callback which gets the patched model
+     */
+    @JsIgnore
+    public void refreshChildren(ResourceAddress root, ModelNode model, ResourceAddress parent, String childType,
+            ReadCallback callback) {
+        ModelNode node = subModel(root, model, parent);
+        Operation operation = new Operation.Builder(parent, READ_CHILDREN_RESOURCES_OPERATION)
+                .param(CHILD_TYPE, childType)
+                .param(INCLUDE_ALIASES, true)
+                .param(RECURSIVE, true)
+                .build();
+        dispatcher.execute(operation, result -> {
+            List<Property> children = result.asPropertyList();
+            index(operation, children);
+            if (children.isEmpty()) {
+                // same as the result of a recursive read-resource w/o children of that type
+                node.get(childType).clear();
+            } else {
+                node.get(childType).set(result);
+            }
+            callback.execute(model);
+        });
+    }
+
+    /** Returns the node of {@code model} which corresponds to {@code address}. */
+    private ModelNode subModel(ResourceAddress root, ModelNode model, ResourceAddress address) {
+        List<Property> rootSegments = root.asPropertyList();
+        List<Property> segments = address.asPropertyList();
+        if (segments.size() < rootSegments.size()) {
+            throw new IllegalArgumentException(address + " is not a descendant of " + root);
+        }
+        for (int i = 0; i < rootSegments.size(); i++) {
+            Property rootSegment = rootSegments.get(i);
+            Property segment = segments.get(i);
+            if (!rootSegment.getName().equals(segment.getName()) ||
+                    !rootSegment.getValue().asString().equals(segment.getValue().asString())) {
+                throw new IllegalArgumentException(address + " is not a descendant of " + root);
+            }
+        }
+        ModelNode node = model;
+        for (Property segment : segments.subList(rootSegments.size(), segments.size())) {
+            node = node.get(segment.getName()).get(segment.getValue().asString());
+        }
+        return node;
     }
 
 
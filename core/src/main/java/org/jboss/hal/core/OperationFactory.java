@@ -76,6 +76,14 @@ public class OperationFactory {
      * The composite operation will contain {@linkplain org.jboss.hal.dmr.ModelDescriptionConstants#UNDEFINE_ATTRIBUTE_OPERATION
      * undefine-attribute} operations which reflect the alternative attributes as defined in the specified metadata.
      *
+     * <p>
+     * If the change-set is a {@link ChangeSet} which contains the original model, values which are equal to the
+     * original values are skipped. Lists and simple maps which differ in only a few elements are not written as a
+     * whole, but using {@linkplain org.jboss.hal.dmr.ModelDescriptionConstants#LIST_ADD_OPERATION list-add}, {@linkplain
+     * org.jboss.hal.dmr.ModelDescriptionConstants#LIST_REMOVE_OPERATION list-remove}, {@linkplain
+     * org.jboss.hal.dmr.ModelDescriptionConstants#MAP_PUT_OPERATION map-put} and {@linkplain
+     * org.jboss.hal.dmr.ModelDescriptionConstants#MAP_REMOVE_OPERATION map-remove} operations.
+     *
      * @param address   the fq address used for the operations
      * @param changeSet the changed values
      * @param metadata  the metadata which should contain the attribute definitions of the change-set
@@ -84,15 +92,20 @@ public class OperationFactory {
             Metadata metadata) {
 
         // TODO Is it safe to always use ATTRIBUTES as path when calling ResourceDescription methods?
-        Map<String, Operation> operations = new HashMap<>();
-        HashMap<String, Object> localChanges = new HashMap<>(changeSet);
         ResourceDescription resourceDescription = metadata.getDescription();
+        ModelNode original = changeSet instanceof ChangeSet ? ((ChangeSet) changeSet).getOriginal() : null;
+        Map<String, Object> changes = original != null
+                ? withoutUnchanged(changeSet, original, resourceDescription)
+                : changeSet;
+        Map<String, Operation> operations = new HashMap<>();
+        List<Operation> deltas = new ArrayList<>();
+        HashMap<String, Object> localChanges = new HashMap<>(changes);
 
         // look for alternatives
         Set<String> conflicts = new HashSet<>();
         Map<String, List<String>> allAlternatives = localChanges.keySet().stream()
                 .filter(name -> {
-                    Object value = changeSet.get(name);
+                    Object value = changes.get(name);
                     return !isNullOrEmpty(value);
                 })
                 .collect(toMap(identity(), name -> resourceDescription.findAlternatives(ATTRIBUTES, name)));
@@ -100,7 +113,7 @@ public class OperationFactory {
 
             logger.debug("Alternatives resolution for {} -> [{}]", attribute, String.join(", ", alternatives));
             HashSet<String> intersection = new HashSet<>(alternatives);
-            intersection.retainAll(changeSet.keySet());
+            intersection.retainAll(changes.keySet());
             if (intersection.isEmpty()) {
 
                 // the easy part: no conflicts
@@ -137,7 +150,7 @@ public class OperationFactory {
             // null, empty or default
             logger.debug("Try to resolve conflicts between alternatives [{}]", String.join(", ", conflicts));
             Map<Boolean, List<String>> resolution = conflicts.stream().collect(groupingBy(conflict -> {
-                Object value = changeSet.get(conflict);
+                Object value = changes.get(conflict);
                 return isNullOrEmpty(value) || resourceDescription.isDefaultValue(ATTRIBUTES, conflict, value);
             }));
             List<String> undefine = resolution.getOrDefault(true, Collections.emptyList());
@@ -162,7 +175,7 @@ public class OperationFactory {
             });
 
             write.forEach(w -> {
-                operations.putIfAbsent(w, writeAttribute(address, w, changeSet.get(w), resourceDescription, true));
+                operations.putIfAbsent(w, writeAttribute(address, w, changes.get(w), resourceDescription, true));
                 localChanges.remove(w);
                 List<String> writeAlternatives = resourceDescription.findAlternatives(ATTRIBUTES, w);
                 // process alternatives of the current write attribute
@@ -175,9 +188,20 @@ public class OperationFactory {
 
         // handle the remaining attributes
         logger.debug("Process remaining attributes [{}]", String.join(", ", localChanges.keySet()));
-        localChanges.forEach((name, value) ->
-                operations.putIfAbsent(name, writeAttribute(address, name, value, resourceDescription, false)));
-        return new Composite(operations.values().stream().filter(Objects::nonNull).collect(toList()));
+        localChanges.forEach((name, value) -> {
+            List<Operation> delta = original != null && !operations.containsKey(name)
+                    ? delta(address, name, value, original, resourceDescription)
+                    : null;
+            if (delta != null) {
+                logger.debug("Write {} changed element(s) of {}", delta.size(), name);
+                deltas.addAll(delta);
+            } else {
+                operations.putIfAbsent(name, writeAttribute(address, name, value, resourceDescription, false));
+            }
+        });
+        List<Operation> all = operations.values().stream().filter(Objects::nonNull).collect(toList());
+        all.addAll(deltas);
+        return new Composite(all);
     }
 
     /**
@@ -269,6 +293,111 @@ public class OperationFactory {
                 || (value instanceof Map && ((Map) value).isEmpty()));
     }
 
+    private Map<String, Object> withoutUnchanged(Map<String, Object> changeSet, ModelNode original,
+            ResourceDescription resourceDescription) {
+        Map<String, Object> changes = new HashMap<>();
+        changeSet.forEach((name, value) -> {
+            if (unchanged(name, value, original, resourceDescription)) {
+                logger.debug("Skip unchanged attribute {}", name);
+            } else {
+                changes.put(name, value);
+            }
+        });
+        return changes;
+    }
+
+    private boolean unchanged(String name, Object value, ModelNode original, ResourceDescription resourceDescription) {
+        boolean defined = original.hasDefined(name);
+        if (isNullOrEmpty(value)) {
+            return !defined;
+        } else if (defined && resourceDescription.findAttribute(ATTRIBUTES, name) != null) {
+            ModelNode valueNode = asValueNode(name, value, resourceDescription);
+            return valueNode != null && valueNode.equals(original.get(name));
+        }
+        return false;
+    }
+
+    /**
+     * @return the operations to turn the original value into the new value or {@code null} if the value should be
+     * written as a whole.
+     */
+    private List<Operation> delta(ResourceAddress address, String name, Object value, ModelNode original,
+            ResourceDescription resourceDescription) {
+        Property attribute = resourceDescription.findAttribute(ATTRIBUTES, name);
+        if (nameFn != null || attribute == null || isNullOrEmpty(value) || !original.hasDefined(name)) {
+            return null;
+        }
+        ModelNode oldValue = original.get(name);
+        ModelNode newValue = asValueNode(name, value, resourceDescription);
+        if (newValue == null || oldValue.getType() != newValue.getType()) {
+            return null;
+        }
+        if (newValue.getType() == ModelType.LIST) {
+            return listDelta(address, name, oldValue.asList(), newValue.asList());
+        } else if (newValue.getType() == ModelType.OBJECT) {
+            ModelNode valueType = attribute.getValue().get(VALUE_TYPE);
+            if (valueType.getType() == ModelType.TYPE && valueType.asType() == ModelType.STRING) {
+                return mapDelta(address, name, oldValue, newValue);
+            }
+        }
+        return null;
+    }
+
+    private List<Operation> listDelta(ResourceAddress address, String name, List<ModelNode> before,
+            List<ModelNode> after) {
+        if (new HashSet<>(before).size() != before.size() || new HashSet<>(after).size() != after.size()) {
+            return null; // list-remove removes the first occurrence only
+        }
+        List<ModelNode> removed = new ArrayList<>(before);
+        removed.removeAll(after);
+        List<ModelNode> added = new ArrayList<>(after);
+        added.removeAll(before);
+
+        // list-add appends the values, so the order has to match
+        List<ModelNode> expected = new ArrayList<>(before);
+        expected.removeAll(removed);
+        expected.addAll(added);
+        if (!expected.equals(after) || removed.size() + added.size() >= after.size()) {
+            return null;
+        }
+
+        List<Operation> operations = new ArrayList<>();
+        removed.forEach(node -> operations.add(new Operation.Builder(address, LIST_REMOVE_OPERATION)
+                .param(NAME, name)
+                .param(VALUE, node)
+                .build()));
+        added.forEach(node -> operations.add(new Operation.Builder(address, LIST_ADD_OPERATION)
+                .param(NAME, name)
+                .param(VALUE, node)
+                .build()));
+        return operations;
+    }
+
+    private List<Operation> mapDelta(ResourceAddress address, String name, ModelNode before, ModelNode after) {
+        Set<String> keys = before.keys();
+        List<Operation> operations = new ArrayList<>();
+        for (Property property : after.asPropertyList()) {
+            String key = property.getName();
+            if (!keys.contains(key) || !before.get(key).equals(property.getValue())) {
+                operations.add(new Operation.Builder(address, MAP_PUT_OPERATION)
+                        .param(NAME, name)
+                        .param(KEY, key)
+                        .param(VALUE, property.getValue())
+                        .build());
+            }
+        }
+        Set<String> afterKeys = after.keys();
+        for (String key : keys) {
+            if (!afterKeys.contains(key)) {
+                operations.add(new Operation.Builder(address, MAP_REMOVE_OPERATION)
+                        .param(NAME, name)
+                        .param(KEY, key)
+                        .build());
+            }
+        }
+        return operations.size() < afterKeys.size() ? operations : null;
+    }
+
     private Operation undefineAttribute(ResourceAddress address, String name) {
         return new Operation.Builder(address, UNDEFINE_ATTRIBUTE_OPERATION)
                 .param(NAME, attributeName(name))
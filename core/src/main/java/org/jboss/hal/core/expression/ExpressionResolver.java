@@ -15,9 +15,14 @@
  */
 package org.jboss.hal.core.expression;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import javax.inject.Inject;
 
@@ -27,27 +32,41 @@ import com.google.web.bindery.event.shared.EventBus;
 import org.jboss.hal.ballroom.form.ResolveExpressionEvent;
 import org.jboss.hal.config.Environment;
 import org.jboss.hal.core.runtime.server.Server;
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.Property;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.dmr.dispatch.ModelChangedEvent;
+import org.jboss.hal.dmr.dispatch.ModelChangedEvent.ModelChangedHandler;
 import org.jboss.hal.resources.Resources;
 import org.jboss.hal.spi.Message;
 import org.jboss.hal.spi.MessageEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static java.util.Arrays.asList;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
 
-public class ExpressionResolver implements ResolveExpressionEvent.ResolveExpressionHandler {
+/**
+ * Resolves expressions either one by one or in bulk. Resolved values are cached per expression and host / server
+ * ({@link Server#STANDALONE} in standalone mode). The cache is cleared as soon as a resource which might change the
+ * value of an expression (system properties and credential stores) is modified.
+ */
+public class ExpressionResolver implements ResolveExpressionEvent.ResolveExpressionHandler, ModelChangedHandler {
 
+    /** Resources which are used to resolve expressions. Changing them invalidates the cache. */
+    private static final Set<String> EXPRESSION_SOURCES = new LinkedHashSet<>(asList(SYSTEM_PROPERTY,
+            CREDENTIAL_STORE));
     private static final Logger logger = LoggerFactory.getLogger(ExpressionResolver.class);
 
     private final Dispatcher dispatcher;
     private final EventBus eventBus;
     private final Environment environment;
     private final Resources resources;
+    private final Map<String, Map<String, String>> cache;
 
     @Inject
     public ExpressionResolver(final EventBus eventBus,
@@ -58,8 +77,10 @@ public class ExpressionResolver implements ResolveExpressionEvent.ResolveExpress
         this.environment = environment;
         this.dispatcher = dispatcher;
         this.resources = resources;
+        this.cache = new HashMap<>();
 
         eventBus.addHandler(ResolveExpressionEvent.getType(), this);
+        eventBus.addHandler(ModelChangedEvent.getType(), this);
     }
 
     @Override
@@ -67,28 +88,170 @@ public class ExpressionResolver implements ResolveExpressionEvent.ResolveExpress
         new ExpressionDialog(this, environment, resources).showAndResolve(event.getExpression());
     }
 
+    @Override
+    public void onModelChanged(final ModelChangedEvent event) {
+        if (!cache.isEmpty() && modifiesExpressionSource(event.getOperation())) {
+            logger.debug("Clear {} cached expression(s)", cache.size());
+            cache.clear();
+        }
+    }
+
     void resolve(final Expression expression, final AsyncCallback<Map<String, String>> callback) {
+        String key = expression.toString();
+        if (cache.containsKey(key)) {
+            callback.onSuccess(cache.get(key));
+            return;
+        }
+
         logger.debug("Resolving {}", expression);
         if (environment.isStandalone()) {
             Operation operation = new Operation.Builder(ResourceAddress.root(), RESOLVE_EXPRESSION)
-                    .param(EXPRESSION, expression.toString())
+                    .param(EXPRESSION, key)
                     .build();
             dispatcher.execute(operation,
-                    (result) -> callback.onSuccess(ImmutableMap.of(Server.STANDALONE.getName(), result.asString())),
+                    (result) -> callback.onSuccess(cache(key,
+                            ImmutableMap.of(Server.STANDALONE.getName(), result.asString()))),
                     (op1, failure) -> callback.onFailure(new RuntimeException(failure)),
                     (op2, exception) -> callback.onFailure(exception));
         } else {
             Operation operation = new Operation.Builder(ResourceAddress.root(), RESOLVE_EXPRESSION_ON_DOMAIN)
-                    .param(EXPRESSION, expression.toString())
+                    .param(EXPRESSION, key)
                     .build();
             dispatcher.executeDMR(operation,
-                    (res) -> callback.onSuccess(parseServerGroups(res.get(SERVER_GROUPS))),
+                    (res) -> callback.onSuccess(cache(key, parseServerGroups(res.get(SERVER_GROUPS), -1))),
                     (op1, failure) -> callback.onFailure(new RuntimeException(failure)),
                     (op2, exception) -> callback.onFailure(exception));
         }
     }
 
-    private Map<String, String> parseServerGroups(ModelNode serverGroups) {
+    /**
+     * Resolves all specified expressions. Expressions which are not yet cached are resolved using one composite
+     * operation. If the composite fails as a whole, the expressions are resolved one by one.
+     *
+     * @param expressions the expressions to resolve
+     * @param callback    receives a map with the expressions as keys. The values are maps with the resolved value per
+     *                    server (host / server in domain mode). Expressions which could not be resolved are not part
+     *                    of the map.
+     */
+    public void resolve(final Collection<String> expressions,
+            final Consumer<Map<String, Map<String, String>>> callback) {
+        List<String> unresolved = new ArrayList<>();
+        for (String expression : new LinkedHashSet<>(expressions)) {
+            if (!cache.containsKey(expression)) {
+                unresolved.add(expression);
+            }
+        }
+        if (unresolved.isEmpty()) {
+            callback.accept(cached(expressions));
+            return;
+        }
+
+        logger.debug("Resolving {} expression(s) in one composite", unresolved.size());
+        String name = environment.isStandalone() ? RESOLVE_EXPRESSION : RESOLVE_EXPRESSION_ON_DOMAIN;
+        Composite composite = new Composite();
+        for (String expression : unresolved) {
+            composite.add(new Operation.Builder(ResourceAddress.root(), name).param(EXPRESSION, expression).build());
+        }
+        dispatcher.executeDMR(composite,
+                payload -> {
+                    if (environment.isStandalone()) {
+                        CompositeResult result = new CompositeResult(payload.get(RESULT));
+                        for (int i = 0; i < unresolved.size(); i++) {
+                            ModelNode step = result.step(i);
+                            if (!step.isFailure() && step.hasDefined(RESULT)) {
+                                cache(unresolved.get(i), ImmutableMap.of(Server.STANDALONE.getName(),
+                                        step.get(RESULT).asString()));
+                            }
+                        }
+                    } else {
+                        for (int i = 0; i < unresolved.size(); i++) {
+                            Map<String, String> values = parseServerGroups(payload.get(SERVER_GROUPS), i);
+                            if (!values.isEmpty()) {
+                                cache(unresolved.get(i), values);
+                            }
+                        }
+                    }
+                    callback.accept(cached(expressions));
+                },
+                (op, failure) -> {
+                    logger.debug("Unable to resolve expressions in one composite: {}. Fall back to single operations",
+                            failure);
+                    resolveOneByOne(unresolved, 0, () -> callback.accept(cached(expressions)));
+                },
+                (op, exception) -> {
+                    logger.error("Unable to resolve expressions: {}", exception.getMessage());
+                    callback.accept(cached(expressions));
+                });
+    }
+
+    private void resolveOneByOne(List<String> expressions, int index, Runnable finished) {
+        if (index < expressions.size()) {
+            try {
+                resolve(Expression.of(expressions.get(index)), new AsyncCallback<Map<String, String>>() {
+                    @Override
+                    public void onFailure(Throwable caught) {
+                        logger.error("Unable to resolve {}: {}", expressions.get(index), caught.getMessage());
+                        resolveOneByOne(expressions, index + 1, finished);
+                    }
+
+                    @Override
+                    public void onSuccess(Map<String, String> result) {
+                        resolveOneByOne(expressions, index + 1, finished);
+                    }
+                });
+            } catch (IllegalArgumentException e) {
+                resolveOneByOne(expressions, index + 1, finished);
+            }
+        } else {
+            finished.run();
+        }
+    }
+
+    /** Removes all resolved values from the cache. */
+    public void invalidate() {
+        cache.clear();
+    }
+
+    private Map<String, String> cache(String expression, Map<String, String> values) {
+        cache.put(expression, values);
+        return values;
+    }
+
+    private Map<String, Map<String, String>> cached(Collection<String> expressions) {
+        Map<String, Map<String, String>> result = new HashMap<>();
+        for (String expression : expressions) {
+            if (cache.containsKey(expression)) {
+                result.put(expression, cache.get(expression));
+            }
+        }
+        return result;
+    }
+
+    private boolean modifiesExpressionSource(Operation operation) {
+        if (operation instanceof Composite) {
+            for (Operation step : (Composite) operation) {
+                if (modifiesExpressionSource(step)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        ResourceAddress address = operation.getAddress();
+        if (address != null && address.isDefined()) {
+            for (Property segment : address.asPropertyList()) {
+                if (EXPRESSION_SOURCES.contains(segment.getName())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param step the zero based index of the step if the server groups are part of a composite response, -1
+     *             otherwise
+     */
+    private Map<String, String> parseServerGroups(ModelNode serverGroups, int step) {
         Map<String, String> values = new HashMap<>();
         if (serverGroups.isDefined()) {
             List<Property> groups = serverGroups.asPropertyList();
@@ -97,9 +260,13 @@ public class ExpressionResolver implements ResolveExpressionEvent.ResolveExpress
                 for (Property host : hosts) {
                     List<Property> servers = host.getValue().asPropertyList();
                     for (Property server : servers) {
-                        values.put(server.getName(),
-                                server.getValue().get(RESPONSE).get(RESULT).asString()
-                        );
+                        ModelNode response = server.getValue().get(RESPONSE);
+                        if (step >= 0) {
+                            response = new CompositeResult(response.get(RESULT)).step(step);
+                        }
+                        if (!response.isFailure() && response.hasDefined(RESULT)) {
+                            values.put(host.getName() + "/" + server.getName(), response.get(RESULT).asString());
+                        }
                     }
                 }
             }
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.core.finder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import elemental2.dom.HTMLElement;
+import org.jboss.gwt.elemento.core.Elements;
+import org.jboss.hal.ballroom.Alert;
+import org.jboss.hal.ballroom.dialog.Dialog;
+import org.jboss.hal.ballroom.table.DataTable;
+import org.jboss.hal.ballroom.table.OptionsBuilder;
+import org.jboss.hal.ballroom.table.Table;
+import org.jboss.hal.resources.Icons;
+import org.jboss.hal.resources.Ids;
+import org.jboss.hal.resources.Resources;
+
+import static org.jboss.gwt.elemento.core.Elements.collect;
+import static org.jboss.gwt.elemento.core.Elements.div;
+import static org.jboss.gwt.elemento.core.Elements.p;
+
+/**
+ * Dialog to select several items of a finder column and to execute one operation for all selected items. Used by
+ * columns which support bulk operations like enabling a set of deployments or restarting a set of servers.
+ *
+ * @param <T> the type of the column items
+ */
+public class BulkActionDialog<T> {
+
+    private final List<T> items;
+    private final Consumer<List<T>> callback;
+    private final Alert noItemsSelected;
+    private final Table<T> table;
+    private final Dialog dialog;
+
+    private BulkActionDialog(Builder<T> builder) {
+        this.items = builder.items;
+        this.callback = builder.callback;
+        this.noItemsSelected = new Alert(Icons.ERROR, builder.resources.messages().noItemsSelected());
+
+        OptionsBuilder<T> options = new OptionsBuilder<T>().checkboxColumn();
+        for (int i = 0; i < builder.columnTitles.size(); i++) {
+            Function<T, String> value = builder.columnValues.get(i);
+            options.column(builder.columnTitles.get(i), (cell, type, row, meta) -> value.apply(row));
+        }
+        options.keys(false)
+                .paging(false)
+                .multiselect();
+        table = new DataTable<>(Ids.build(builder.id, Ids.TABLE), options.options());
+
+        Iterable<HTMLElement> elements = collect()
+                .add(div().add(noItemsSelected))
+                .add(p().innerHtml(builder.resources.messages().bulkOperationDescription(builder.operation)))
+                .add(table).elements();
+        dialog = new Dialog.Builder(builder.operation)
+                .add(elements)
+                .primary(builder.operation, this::finish)
+                .cancel()
+                .size(Dialog.Size.MEDIUM)
+                .build();
+        dialog.registerAttachable(table);
+    }
+
+    private boolean finish() {
+        boolean hasSelection = table.hasSelection();
+        Elements.setVisible(noItemsSelected.element(), !hasSelection);
+        if (hasSelection) {
+            callback.accept(table.selectedRows());
+        }
+        return hasSelection;
+    }
+
+    public void show() {
+        dialog.show();
+        Elements.setVisible(noItemsSelected.element(), false);
+        table.update(items);
+    }
+
+
+    public static class Builder<T> {
+
+        private final String id;
+        private final String operation;
+        private final Resources resources;
+        private final List<String> columnTitles;
+        private final List<Function<T, String>> columnValues;
+        private List<T> items;
+        private Consumer<List<T>> callback;
+
+        /**
+         * @param id        the base id used for the dialog elements
+         * @param operation the human readable name of the operation used as title and for the primary button
+         * @param resources the resources
+         */
+        public Builder(String id, String operation, Resources resources) {
+            this.id = id;
+            this.operation = operation;
+            this.resources = resources;
+            this.columnTitles = new ArrayList<>();
+            this.columnValues = new ArrayList<>();
+            this.items = new ArrayList<>();
+        }
+
+        public Builder<T> column(String title, Function<T, String> value) {
+            columnTitles.add(title);
+            columnValues.add(value);
+            return this;
+        }
+
+        /** The items which can be selected. Should contain only items which support the operation. */
+        public Builder<T> items(List<T> items) {
+            this.items = items;
+            return this;
+        }
+
+        /** Called with the selected items once the primary button has been pressed. */
+        public Builder<T> onSelection(Consumer<List<T>> callback) {
+            this.callback = callback;
+            return this;
+        }
+
+        public BulkActionDialog<T> build() {
+            return new BulkActionDialog<>(this);
+        }
+    }
+}
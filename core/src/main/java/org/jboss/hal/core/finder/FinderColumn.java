@@ -20,8 +20,10 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -96,6 +98,7 @@ import static org.jboss.hal.resources.UIConstants.TABINDEX;
 public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
 
     private static final String DOT = ".";
+    private static final int ITEMS_CACHE_SIZE = 10;
     private static final Constants CONSTANTS = GWT.create(Constants.class);
     private static final Logger logger = LoggerFactory.getLogger(FinderColumn.class);
 
@@ -117,6 +120,7 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     private final List<HandlerRegistration> handlers;
     private final Map<String, FinderRow<T>> rows;
     private final FinderColumnStorage storage;
+    private final Map<String, List<T>> itemsCache;
 
     private boolean asElement;
     private final boolean firstActionAsBreadcrumbHandler;
@@ -149,6 +153,12 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
 
         this.rows = new HashMap<>();
         this.storage = new FinderColumnStorage(id);
+        this.itemsCache = builder.cacheItems ? new LinkedHashMap<String, List<T>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<T>> eldest) {
+                return size() > ITEMS_CACHE_SIZE;
+            }
+        } : null;
         this.handlers = new ArrayList<>();
 
         // header
@@ -327,7 +337,10 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
             // show the 'clear' icon when there are typed chars
             Elements.setVisible(clearFilterElement, true);
         }
+        applyFilter();
+    }
 
+    private void applyFilter() {
         int matched = 0;
         String filter = filterElement.value;
         for (HTMLElement li : Elements.children(ulElement)) {
@@ -624,11 +637,31 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
         }
     }
 
+    /**
+     * Sets the items of this column. If the column caches its items and there are cached items for the current
+     * context, the cached items are shown right away and revalidated in the background. Otherwise the items are loaded
+     * using the {@link ItemsProvider}.
+     */
     void setItems(AsyncCallback<FinderColumn> callback) {
+        if (itemsCache != null && initialItems.isEmpty() && itemsProvider != null) {
+            String key = cacheKey();
+            List<T> cached = itemsCache.get(key);
+            if (cached != null) {
+                // start revalidation before the callback is called and the context changes
+                revalidate(key, cached);
+                setItems(cached, callback);
+                return;
+            }
+        }
+        loadItems(callback);
+    }
+
+    private void loadItems(AsyncCallback<FinderColumn> callback) {
         if (!initialItems.isEmpty()) {
             setItems(initialItems, callback);
 
         } else if (itemsProvider != null) {
+            String key = itemsCache != null ? cacheKey() : null;
             itemsProvider.get(finder.getContext(), new AsyncCallback<List<T>>() {
                 @Override
                 public void onFailure(Throwable throwable) {
@@ -639,6 +672,9 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
 
                 @Override
                 public void onSuccess(List<T> items) {
+                    if (key != null) {
+                        itemsCache.put(key, items);
+                    }
                     setItems(items, callback);
                 }
             });
@@ -648,6 +684,40 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
         }
     }
 
+    private void revalidate(String key, List<T> cached) {
+        itemsProvider.get(finder.getContext(), new AsyncCallback<List<T>>() {
+            @Override
+            public void onFailure(Throwable throwable) {
+                logger.warn("Unable to revalidate items of column {}: {}", id, throwable.getMessage());
+            }
+
+            @Override
+            public void onSuccess(List<T> items) {
+                itemsCache.put(key, items);
+                // patch only if the column still shows the cached items
+                if (currentItems == cached && !items.equals(cached)) {
+                    logger.debug("Cached items of column {} are stale: patch column", id);
+                    patchItems(items);
+                }
+            }
+        });
+    }
+
+    /**
+     * The items of a column depend on the finder token and the selected items of the previous columns. That's why the
+     * cache key is made of the token and the segments before this column.
+     */
+    private String cacheKey() {
+        StringBuilder builder = new StringBuilder(String.valueOf(finder.getContext().getToken()));
+        for (FinderSegment segment : finder.getContext().getPath()) {
+            if (id.equals(segment.getColumnId())) {
+                break;
+            }
+            builder.append('/').append(segment.getColumnId()).append('=').append(segment.getItemId());
+        }
+        return builder.toString();
+    }
+
     private void setItems(List<T> items, AsyncCallback<FinderColumn> callback) {
         rows.clear();
         currentItems = items;
@@ -656,6 +726,67 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
             filterElement.value = "";
         }
 
+        appendRows(items, Collections.emptyMap());
+        updateHeader(items.size());
+        Tooltip.select(HASH + id + " [data-" + UIConstants.TOGGLE + "=" + UIConstants.TOOLTIP + "]").init(); //NON-NLS
+
+        if (items.isEmpty()) {
+            ulElement.appendChild(noItems);
+        }
+
+        if (callback != null) {
+            callback.onSuccess(this);
+        }
+    }
+
+    /**
+     * Replaces the items of this column w/o rebuilding the whole column. Rows of unchanged items are kept, rows of
+     * changed or new items are created and rows of removed items are dropped. The filter and the selection are kept
+     * as long as the selected item is still available.
+     */
+    private void patchItems(List<T> items) {
+        FinderRow<T> oldSelection = selectedRow();
+        Map<String, FinderRow<T>> oldRows = new HashMap<>(rows);
+        rows.clear();
+        currentItems = items;
+        Elements.removeChildrenFrom(ulElement);
+
+        appendRows(items, oldRows);
+        Tooltip.select(HASH + id + " [data-" + UIConstants.TOGGLE + "=" + UIConstants.TOOLTIP + "]").init(); //NON-NLS
+        if (filterElement != null && filterElement.value != null && filterElement.value.trim().length() != 0) {
+            applyFilter();
+        } else {
+            updateHeader(items.size());
+            if (items.isEmpty()) {
+                ulElement.appendChild(noItems);
+            }
+        }
+
+        if (oldSelection != null) {
+            FinderRow<T> newSelection = rows.get(oldSelection.getId());
+            if (newSelection == null) {
+                finder.selectPreviousColumn(id);
+            } else if (newSelection != oldSelection) {
+                newSelection.markSelected(true);
+                if (showsPreview()) {
+                    newSelection.updatePreview();
+                }
+            }
+        }
+    }
+
+    /** @return whether the selected item of this column is the last selected item in the finder */
+    private boolean showsPreview() {
+        String lastColumn = null;
+        for (FinderSegment segment : finder.getContext().getPath()) {
+            if (segment.getItemId() != null) {
+                lastColumn = segment.getColumnId();
+            }
+        }
+        return id.equals(lastColumn);
+    }
+
+    private void appendRows(List<T> items, Map<String, FinderRow<T>> reusableRows) {
         List<T> pinnedItems = new ArrayList<>();
         List<T> unpinnedItems = new ArrayList<>();
         Set<String> pinnedItemIds = storage.pinnedItems();
@@ -672,31 +803,30 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
             unpinnedItems.addAll(items);
         }
         for (Iterator<T> iterator = pinnedItems.iterator(); iterator.hasNext(); ) {
-            T item = iterator.next();
-            FinderRow<T> row = new FinderRow<>(finder, this, item, true,
-                    itemRenderer.render(item), previewCallback);
+            FinderRow<T> row = row(iterator.next(), true, reusableRows);
             rows.put(row.getId(), row);
             ulElement.appendChild(row.element());
             if (!iterator.hasNext()) {
                 row.element().classList.add(last);
+            } else {
+                row.element().classList.remove(last);
             }
         }
         for (T item : unpinnedItems) {
-            FinderRow<T> row = new FinderRow<>(finder, this, item, false,
-                    itemRenderer.render(item), previewCallback);
+            FinderRow<T> row = row(item, false, reusableRows);
             rows.put(row.getId(), row);
             ulElement.appendChild(row.element());
         }
-        updateHeader(items.size());
-        Tooltip.select(HASH + id + " [data-" + UIConstants.TOGGLE + "=" + UIConstants.TOOLTIP + "]").init(); //NON-NLS
+    }
 
-        if (items.isEmpty()) {
-            ulElement.appendChild(noItems);
-        }
-
-        if (callback != null) {
-            callback.onSuccess(this);
+    private FinderRow<T> row(T item, boolean pinned, Map<String, FinderRow<T>> reusableRows) {
+        ItemDisplay<T> display = itemRenderer.render(item);
+        FinderRow<T> row = reusableRows.get(display.getId());
+        if (row != null && Objects.equals(row.getItem(), item)
+                && row.element().classList.contains(CSS.pinned) == pinned) {
+            return row;
         }
+        return new FinderRow<>(finder, this, item, pinned, display, previewCallback);
     }
 
     /**
@@ -897,8 +1027,11 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
         });
     }
 
+    /**
+     * Reloads the items using the {@link ItemsProvider}. Cached items are not used, but updated.
+     */
     public void refresh(Callback callback) {
-        setItems(new AsyncCallback<FinderColumn>() {
+        loadItems(new AsyncCallback<FinderColumn>() {
             @Override
             public void onFailure(Throwable throwable) {
                 logger.error("Unable to refresh column {}: {}", id, throwable.getMessage());
@@ -991,6 +1124,7 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
         private BreadcrumbItemsProvider<T> breadcrumbItemsProvider;
         private ItemSelectionHandler<T> selectionHandler;
         private String filterDescription;
+        private boolean cacheItems;
 
         public Builder(Finder finder, String id, String title) {
             this.finder = finder;
@@ -1087,6 +1221,18 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
             return this;
         }
 
+        /**
+         * Caches the items returned by the {@link ItemsProvider} per finder context. When the column is shown again in
+         * the same context, the cached items are shown immediately and revalidated in the background. If the items
+         * have changed, the column is patched accordingly. Explicit refreshes always load the items.
+         * <p>
+         * Use this for columns whose items are expensive to read.
+         */
+        public Builder<T> cacheItems() {
+            this.cacheItems = true;
+            return this;
+        }
+
         public FinderColumn<T> build() {
             return new FinderColumn<>(this);
         }
@@ -17,10 +17,14 @@ package org.jboss.hal.core.finder;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import com.google.common.base.Joiner;
 import com.google.gwt.core.client.GWT;
 import com.google.gwt.safehtml.shared.SafeHtml;
 import elemental2.dom.Element;
@@ -59,6 +63,8 @@ public class PreviewAttributes<T extends ModelNode> implements Iterable<HTMLElem
     private final Iterable<HTMLElement> elements;
     private final Map<String, HTMLLIElement> listItems;
     private final Map<String, PreviewAttributeFunction<T>> functions;
+    private final Map<String, ExpressionValue> expressions;
+    private final HTMLElement resolveExpressions;
 
     public PreviewAttributes(T model) {
         this(model, CONSTANTS.mainAttributes(), null, Collections.emptyList());
@@ -80,6 +86,7 @@ public class PreviewAttributes<T extends ModelNode> implements Iterable<HTMLElem
         this.model = model;
         this.functions = new HashMap<>();
         this.listItems = new HashMap<>();
+        this.expressions = new LinkedHashMap<>();
         this.lb = new LabelBuilder();
 
         ElementsBuilder builder = collect();
@@ -94,6 +101,13 @@ public class PreviewAttributes<T extends ModelNode> implements Iterable<HTMLElem
         }
 
         builder.add(this.ul = ul().css(listGroup).element());
+        builder.add(this.resolveExpressions = p()
+                .add(a().css(clickable)
+                        .on(click, event -> resolveExpressions())
+                        .add(span().css(fontAwesome("link"), marginRight5))
+                        .add(span().textContent(CONSTANTS.resolveExpressions())))
+                .element());
+        Elements.setVisible(this.resolveExpressions, false);
         attributes.forEach(this::append);
         this.elements = builder.elements();
     }
@@ -148,9 +162,14 @@ public class PreviewAttributes<T extends ModelNode> implements Iterable<HTMLElem
                             .on(click, event -> Core.INSTANCE.eventBus()
                                     .fireEvent(new ResolveExpressionEvent(previewAttribute.value))).element();
                     HTMLElement nextValueContainer = span().element();
+                    HTMLElement resolvedValue = span().css(marginLeft5).element();
+                    Elements.setVisible(resolvedValue, false);
                     valueContainer.appendChild(nextValueContainer);
                     valueContainer.appendChild(resolveExpression);
+                    valueContainer.appendChild(resolvedValue);
                     valueContainer = nextValueContainer;
+                    expressions.put(id, new ExpressionValue(previewAttribute.value, resolvedValue));
+                    Elements.setVisible(resolveExpressions, true);
                 }
                 valueContainer.textContent = previewAttribute.value;
                 if (previewAttribute.value.length() > 15) {
@@ -207,11 +226,35 @@ public class PreviewAttributes<T extends ModelNode> implements Iterable<HTMLElem
                             valueElement.textContent = previewAttribute.value;
                         }
                     }
+                    ExpressionValue expressionValue = expressions.get(id);
+                    if (expressionValue != null) {
+                        expressionValue.reset(previewAttribute.value);
+                    }
                 }
             }
         }
     }
 
+    /**
+     * Resolves all expressions of this preview using one composite operation and shows the resolved values next to
+     * the expressions.
+     */
+    public void resolveExpressions() {
+        Set<String> values = new HashSet<>();
+        for (ExpressionValue expressionValue : expressions.values()) {
+            if (expressionValue.isExpression()) {
+                values.add(expressionValue.expression);
+            }
+        }
+        if (!values.isEmpty()) {
+            Core.INSTANCE.expressionResolver().resolve(values, resolved -> {
+                for (ExpressionValue expressionValue : expressions.values()) {
+                    expressionValue.show(resolved.get(expressionValue.expression));
+                }
+            });
+        }
+    }
+
     public void setVisible(String attribute, boolean visible) {
         Elements.setVisible(listItems.get(lb.label(attribute)), visible);
     }
@@ -301,6 +344,44 @@ public class PreviewAttributes<T extends ModelNode> implements Iterable<HTMLElem
     }
 
 
+    private static class ExpressionValue {
+
+        private String expression;
+        private final HTMLElement element;
+
+        private ExpressionValue(String expression, HTMLElement element) {
+            this.expression = expression;
+            this.element = element;
+        }
+
+        private boolean isExpression() {
+            return Expression.isExpression(expression);
+        }
+
+        private void reset(String expression) {
+            this.expression = expression;
+            element.textContent = "";
+            Elements.setVisible(element, false);
+        }
+
+        private void show(Map<String, String> values) {
+            if (values == null || values.isEmpty()) {
+                reset(expression);
+            } else {
+                String value;
+                if (new HashSet<>(values.values()).size() == 1) {
+                    value = values.values().iterator().next();
+                } else {
+                    value = Joiner.on(", ").withKeyValueSeparator(" \u21D2 ").join(values);
+                }
+                element.textContent = "\u21D2 " + value;
+                element.title = value;
+                Elements.setVisible(element, true);
+            }
+        }
+    }
+
+
     @FunctionalInterface
     public interface PreviewAttributeFunction<T> {
 
@@ -17,8 +17,10 @@ package org.jboss.hal.core.mbui;
 
 import com.google.web.bindery.event.shared.EventBus;
 import com.gwtplatform.mvp.client.proxy.ProxyPlace;
+import org.jboss.hal.core.CrudOperations;
 import org.jboss.hal.core.finder.Finder;
 import org.jboss.hal.core.mvp.ApplicationFinderPresenter;
+import org.jboss.hal.dmr.ResourceAddress;
 
 public abstract class MbuiPresenter<V extends MbuiView, Proxy_ extends ProxyPlace<?>>
         extends ApplicationFinderPresenter<V, Proxy_> {
@@ -31,4 +33,24 @@ public abstract class MbuiPresenter<V extends MbuiView, Proxy_ extends ProxyPlac
     // re-overridden here in order to use in MbuiViewImpl
     @Override
     protected abstract void reload();
+
+    /**
+     * Called after the resource at the specified address has been added, saved or reset. Defaults to {@link
+     * #reload()}. Presenters which keep the recursive model of their resource should override this method and use
+     * {@link CrudOperations#refresh(ResourceAddress, org.jboss.hal.dmr.ModelNode, ResourceAddress,
+     * CrudOperations.ReadCallback)} to re-read only the modified resource.
+     */
+    protected void reload(ResourceAddress address) {
+        reload();
+    }
+
+    /**
+     * Called after a child resource of the specified type has been removed from {@code parent}. Defaults to {@link
+     * #reload()}. Presenters which keep the recursive model of their resource should override this method and use
+     * {@link CrudOperations#refreshChildren(ResourceAddress, org.jboss.hal.dmr.ModelNode, ResourceAddress, String,
+     * CrudOperations.ReadCallback)} to re-read only the children of that type.
+     */
+    protected void reloadChildren(ResourceAddress parent, String childType) {
+        reload();
+    }
 }
@@ -42,21 +42,21 @@ public abstract class MbuiViewImpl<P extends MbuiPresenter> extends HalViewImpl
     }
 
     protected void add(final String id, final String type, final AddressTemplate template) {
-        mbuiContext.crud().add(id, type, template, (name, address) -> presenter.reload());
+        mbuiContext.crud().add(id, type, template, (name, address) -> presenter.reload(address));
     }
 
     protected void addSingleton(final String id, final String type, final AddressTemplate template) {
-        mbuiContext.crud().addSingleton(id, type, template, address -> presenter.reload());
+        mbuiContext.crud().addSingleton(id, type, template, address -> presenter.reload(address));
     }
 
     protected void saveForm(final String type, final String name, final ResourceAddress address,
             final Map<String, Object> changedValues, final Metadata metadata) {
-        mbuiContext.crud().save(type, name, address, changedValues, metadata, () -> presenter.reload());
+        mbuiContext.crud().save(type, name, address, changedValues, metadata, () -> presenter.reload(address));
     }
 
     protected void saveSingletonForm(final String type, final ResourceAddress address,
             final Map<String, Object> changedValues, final Metadata metadata) {
-        mbuiContext.crud().saveSingleton(type, address, changedValues, metadata, () -> presenter.reload());
+        mbuiContext.crud().saveSingleton(type, address, changedValues, metadata, () -> presenter.reload(address));
     }
 
     protected <T> void resetForm(final String type, final String name, final ResourceAddress address,
@@ -64,7 +64,7 @@ public abstract class MbuiViewImpl<P extends MbuiPresenter> extends HalViewImpl
         mbuiContext.crud().reset(type, name, address, form, metadata, new FinishReset<T>(form) {
             @Override
             public void afterReset(final Form<T> form) {
-                presenter.reload();
+                presenter.reload(address);
             }
         });
     }
@@ -74,7 +74,7 @@ public abstract class MbuiViewImpl<P extends MbuiPresenter> extends HalViewImpl
         mbuiContext.crud().resetSingleton(type, address, form, metadata, new FinishReset<T>(form) {
             @Override
             public void afterReset(final Form<T> form) {
-                presenter.reload();
+                presenter.reload(address);
             }
         });
     }
@@ -83,11 +83,21 @@ public abstract class MbuiViewImpl<P extends MbuiPresenter> extends HalViewImpl
         mbuiContext.crud().removeSingleton(type, address, new FinishRemove<T>(form) {
             @Override
             public void afterRemove(final Form<T> form) {
-                presenter.reload();
+                presenter.reloadChildren(address.getParent(), address.lastName());
             }
         });
     }
 
+    /** Lets the presenter re-read the resource which has been added at the specified address. */
+    protected void reload(final ResourceAddress address) {
+        presenter.reload(address);
+    }
+
+    /** Lets the presenter re-read the children after a resource matching the specified template has been removed. */
+    protected void reloadChildren(final AddressTemplate template) {
+        presenter.reloadChildren(template.getParent().resolve(statementContext()), template.lastName());
+    }
+
     /**
      * Subclasses may override this method to provide a custom {@code SelectionAwareStatementContext} that resolves
      * a dynamic part of the address template. The .mbui.xml may define templates such as
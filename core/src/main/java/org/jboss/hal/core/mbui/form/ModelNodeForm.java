@@ -54,6 +54,7 @@ import org.jboss.hal.ballroom.form.FormItemProvider;
 import org.jboss.hal.ballroom.form.ReadOnlyStateMachine;
 import org.jboss.hal.ballroom.form.SingletonStateMachine;
 import org.jboss.hal.ballroom.form.StateMachine;
+import org.jboss.hal.core.ChangeSet;
 import org.jboss.hal.core.Core;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.ModelType;
@@ -97,6 +98,7 @@ public class ModelNodeForm<T extends ModelNode> extends AbstractForm<T> {
     private final ResourceDescription resourceDescription;
     private final String attributePath;
     private Metadata metadata;
+    private ModelNode original;
 
     protected ModelNodeForm(Builder<T> builder) {
         super(builder.id, builder.stateMachine(),
@@ -279,6 +281,13 @@ public class ModelNodeForm<T extends ModelNode> extends AbstractForm<T> {
         }
     }
 
+    @Override
+    protected void prepareEditState() {
+        super.prepareEditState();
+        // remember the model before the form items are persisted into the model
+        original = getModel() != null && getModel().isDefined() ? getModel().clone() : null;
+    }
+
     @Override
     protected void prepare(State state) {
         super.prepare(state);
@@ -329,11 +338,12 @@ public class ModelNodeForm<T extends ModelNode> extends AbstractForm<T> {
     }
 
     /**
-     * @return only the changed values w/ {@code "access-type" => "read-write"}.
+     * @return only the changed values w/ {@code "access-type" => "read-write"}. The values are returned as {@link
+     * ChangeSet} which contains the model as it was before editing.
      */
     @Override
     protected Map<String, Object> getChangedValues() {
-        Map<String, Object> writableChanges = new HashMap<>(super.getChangedValues());
+        ChangeSet writableChanges = new ChangeSet(super.getChangedValues(), original);
         writableChanges.entrySet().removeIf(entry -> {
             ModelNode metadata = attributeDescriptions.get(entry.getKey());
             return metadata != null && metadata.hasDefined(ACCESS_TYPE) && !READ_WRITE
@@ -34,6 +34,8 @@ import org.jboss.hal.ballroom.dataprovider.DataProvider;
 import org.jboss.hal.ballroom.dataprovider.Display;
 import org.jboss.hal.ballroom.dataprovider.PageInfo;
 import org.jboss.hal.ballroom.dataprovider.SelectionInfo;
+import org.jboss.hal.ballroom.export.Export;
+import org.jboss.hal.ballroom.export.ExportFormat;
 import org.jboss.hal.ballroom.listview.ItemAction;
 import org.jboss.hal.ballroom.listview.ItemRenderer;
 import org.jboss.hal.ballroom.listview.ListView;
@@ -265,6 +267,15 @@ public class ModelNodeListView<T extends ModelNode> implements Display<T>, Itera
             return this;
         }
 
+        /** Adds toolbar actions to export the filtered items as CSV and JSON. */
+        public Builder<T> export(Export<T> export) {
+            toolbarActions.add(new Toolbar.Action(Ids.build(id, Ids.EXPORT, ExportFormat.CSV.extension()),
+                    CONSTANTS.exportCsv(), () -> export.download(ExportFormat.CSV, dataProvider)));
+            toolbarActions.add(new Toolbar.Action(Ids.build(id, Ids.EXPORT, ExportFormat.JSON.extension()),
+                    CONSTANTS.exportJson(), () -> export.download(ExportFormat.JSON, dataProvider)));
+            return this;
+        }
+
         public Builder<T> noItems(String header) {
             return noItems(header, null);
         }
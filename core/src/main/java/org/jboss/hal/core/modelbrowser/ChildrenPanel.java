@@ -87,7 +87,7 @@ class ChildrenPanel implements Iterable<HTMLElement>, Attachable {
                             modelBrowser.remove(fq);
                         }, Scope.SELECTED
                 )
-                .paging(false)
+                .virtualScroll()
                 .options();
 
         table = new DataTable<>(Ids.build(Ids.MODEL_BROWSER, "children", Ids.TABLE), options);
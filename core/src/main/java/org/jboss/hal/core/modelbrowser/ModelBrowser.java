@@ -57,6 +57,7 @@ import org.jboss.hal.meta.AddressTemplate;
 import org.jboss.hal.meta.Metadata;
 import org.jboss.hal.meta.processing.MetadataProcessor;
 import org.jboss.hal.meta.processing.SuccessfulMetadataCallback;
+import org.jboss.hal.meta.search.GlobalSearch;
 import org.jboss.hal.resources.CSS;
 import org.jboss.hal.resources.Ids;
 import org.jboss.hal.resources.Names;
@@ -101,6 +102,7 @@ public class ModelBrowser implements IsElement<HTMLElement> {
     private MetadataProcessor metadataProcessor;
     private Provider<Progress> progress;
     private final Dispatcher dispatcher;
+    private final GlobalSearch globalSearch;
     private final EventBus eventBus;
     private final Resources resources;
     private final Stack<FilterInfo> filterStack;
@@ -127,6 +129,7 @@ public class ModelBrowser implements IsElement<HTMLElement> {
             MetadataProcessor metadataProcessor,
             @Footer Provider<Progress> progress,
             Dispatcher dispatcher,
+            GlobalSearch globalSearch,
             Environment environment,
             EventBus eventBus,
             Resources resources) {
@@ -134,6 +137,7 @@ public class ModelBrowser implements IsElement<HTMLElement> {
         this.metadataProcessor = metadataProcessor;
         this.progress = progress;
         this.dispatcher = dispatcher;
+        this.globalSearch = globalSearch;
         this.eventBus = eventBus;
         this.resources = resources;
         this.filterStack = new Stack<>();
@@ -190,7 +194,7 @@ public class ModelBrowser implements IsElement<HTMLElement> {
         Node<Context> rootNode = new Node.Builder<>(MODEL_BROWSER_ROOT, text, context)
                 .asyncFolder()
                 .build();
-        tree = new Tree<>(Ids.MODEL_BROWSER, rootNode, new ReadChildren(dispatcher));
+        tree = new Tree<>(Ids.MODEL_BROWSER, rootNode, new ReadChildren(dispatcher, globalSearch));
         Elements.removeChildrenFrom(treeContainer);
         treeContainer.appendChild(tree.element());
 
@@ -35,7 +35,9 @@ import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.meta.search.GlobalSearch;
 
+import static java.util.stream.Collectors.toList;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.CHILD_TYPE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.INCLUDE_SINGLETONS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_NAMES_OPERATION;
@@ -65,9 +67,11 @@ final class ReadChildren implements DataFunction<Context> {
     }
 
     private final Dispatcher dispatcher;
+    private final GlobalSearch globalSearch;
 
-    ReadChildren(final Dispatcher dispatcher) {
+    ReadChildren(final Dispatcher dispatcher, final GlobalSearch globalSearch) {
         this.dispatcher = dispatcher;
+        this.globalSearch = globalSearch;
     }
 
     @Override
@@ -119,6 +123,8 @@ final class ReadChildren implements DataFunction<Context> {
                 List<ModelNode> modelNodes = result.asList();
                 List<Node<Context>> children = new ArrayList<>();
                 SortedSet<String> singletons = new TreeSet<>(node.data.getSingletons());
+                globalSearch.update(parentAddress, node.text,
+                        modelNodes.stream().map(ModelNode::asString).collect(toList()));
 
                 // Add existing children
                 for (ModelNode modelNode : modelNodes) {
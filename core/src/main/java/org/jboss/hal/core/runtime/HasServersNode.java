@@ -52,6 +52,16 @@ public abstract class HasServersNode extends NamedNode {
         servers.add(server);
     }
 
+    /** Replaces the server with the same {@linkplain Server#getId() ID}. Does nothing if there's no such server. */
+    public void replaceServer(Server server) {
+        for (int i = 0; i < servers.size(); i++) {
+            if (servers.get(i).getId().equals(server.getId())) {
+                servers.set(i, server);
+                break;
+            }
+        }
+    }
+
     public List<Server> getServers() {
         return servers;
     }
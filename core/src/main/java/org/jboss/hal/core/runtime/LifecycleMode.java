@@ -0,0 +1,29 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.core.runtime;
+
+/** Defines how lifecycle operations are applied to the servers of a server group. */
+public enum LifecycleMode {
+
+    /** All servers are processed at the same time using the server group operation. */
+    PARALLEL,
+
+    /**
+     * The servers are processed in batches of {@code lifecycle-batch-size} servers. The next batch starts once all
+     * servers of a batch are up.
+     */
+    ROLLING
+}
@@ -72,6 +72,26 @@ public interface Timeouts {
         return timeout;
     }
 
+    /** Timeout for a lifecycle operation executed for a batch of servers. */
+    static int serverBatchTimeout(int servers, Action action) {
+        int timeout;
+        switch (action) {
+            case RESTART:
+                timeout = SERVER_RESTART_TIMEOUT;
+                break;
+            case START:
+                timeout = SERVER_START_TIMEOUT;
+                break;
+            case STOP:
+                timeout = SERVER_STOP_TIMEOUT;
+                break;
+            default:
+                timeout = SERVER_RELOAD_TIMEOUT;
+                break;
+        }
+        return max(1, servers) * timeout;
+    }
+
 
     // ------------------------------------------------------ host
 
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.core.runtime;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.inject.Inject;
+
+import com.google.web.bindery.event.shared.EventBus;
+import org.jboss.hal.core.runtime.group.ServerGroupActionEvent;
+import org.jboss.hal.core.runtime.group.ServerGroupActionEvent.ServerGroupActionHandler;
+import org.jboss.hal.core.runtime.host.HostActionEvent;
+import org.jboss.hal.core.runtime.host.HostActionEvent.HostActionHandler;
+import org.jboss.hal.core.runtime.server.Server;
+import org.jboss.hal.core.runtime.server.ServerActionEvent;
+import org.jboss.hal.core.runtime.server.ServerActionEvent.ServerActionHandler;
+
+/**
+ * Keeps the last {@link TopologySnapshot} read by the runtime views, so that the server column doesn't have to read
+ * the servers of a host again right after the host column or the topology preview read them.
+ * <p>
+ * The snapshot is only used while it's valid: it's dropped as soon as a host, server group or server action starts,
+ * and it expires after {@link #MAX_AGE} ms. The servers of a host are served at most once per snapshot. Later loads
+ * of the same host, e.g. when refreshing the server column, read the servers again.
+ */
+public class TopologyCache implements HostActionHandler, ServerGroupActionHandler, ServerActionHandler {
+
+    static final long MAX_AGE = 10_000;
+
+    private final Set<String> served;
+    private TopologySnapshot snapshot;
+    private long timestamp;
+
+    @Inject
+    public TopologyCache(EventBus eventBus) {
+        this.served = new HashSet<>();
+        this.snapshot = TopologySnapshot.EMPTY;
+
+        eventBus.addHandler(HostActionEvent.getType(), this);
+        eventBus.addHandler(ServerGroupActionEvent.getType(), this);
+        eventBus.addHandler(ServerActionEvent.getType(), this);
+    }
+
+    public void set(TopologySnapshot snapshot) {
+        this.snapshot = snapshot;
+        this.timestamp = System.currentTimeMillis();
+        served.clear();
+    }
+
+    public void invalidate() {
+        snapshot = TopologySnapshot.EMPTY;
+        served.clear();
+    }
+
+    /**
+     * @param host the {@linkplain org.jboss.hal.core.runtime.host.Host#getAddressName() address name} of the host
+     *
+     * @return the servers of the host ordered by name or {@code null} if the snapshot is not valid anymore, the host
+     * is not part of the snapshot or not alive or its servers have already been served. In that case the servers have
+     * to be read.
+     */
+    public List<Server> servers(String host) {
+        if (System.currentTimeMillis() - timestamp > MAX_AGE) {
+            invalidate();
+        }
+        for (int i = 0; i < snapshot.hostCount(); i++) {
+            if (snapshot.hostAddressName(i).equals(host)) {
+                return snapshot.isHostAlive(i) && served.add(host) ? snapshot.getServers(i) : null;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void onHostAction(HostActionEvent event) {
+        invalidate();
+    }
+
+    @Override
+    public void onServerGroupAction(ServerGroupActionEvent event) {
+        invalidate();
+    }
+
+    @Override
+    public void onServerAction(ServerActionEvent event) {
+        invalidate();
+    }
+}
@@ -0,0 +1,462 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.core.runtime;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+import org.jboss.hal.core.runtime.group.ServerGroup;
+import org.jboss.hal.core.runtime.host.Host;
+import org.jboss.hal.core.runtime.server.Server;
+import org.jboss.hal.core.runtime.server.ServerConfigStatus;
+import org.jboss.hal.resources.Ids;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Columnar snapshot of the domain topology as read by {@link TopologyTasks#topology} and {@link TopologyTasks#hosts}.
+ * <p>
+ * Everything the topology grid needs is kept in arrays indexed by host, server group and server: interned names,
+ * the host flags and the server states as byte codes. The relations host &rarr; servers, server group &rarr; servers
+ * and (host, server group) &rarr; servers are int arrays ordered by server name. Render from these methods and use
+ * {@link #host(int)}, {@link #serverGroup(int)} and {@link #server(int)} only where the full model node is required,
+ * e.g. for the details of the selected element or to execute an action.
+ * <p>
+ * Use {@link #update(Server)} to replace a single server after its state has changed instead of reloading the whole
+ * topology.
+ */
+public class TopologySnapshot {
+
+    // host flags
+    private static final byte ALIVE = 1;
+    private static final byte CONNECTED = 1 << 1;
+    private static final byte DOMAIN_CONTROLLER = 1 << 2;
+
+    // server flags
+    private static final byte BOOT_ERRORS = 1;
+    private static final byte ADMIN_MODE = 1 << 1;
+
+    private static final ServerConfigStatus[] CONFIG_STATUS = ServerConfigStatus.values();
+    private static final RunningState[] RUNNING_STATE = RunningState.values();
+    private static final SuspendState[] SUSPEND_STATE = SuspendState.values();
+
+    /**
+     * Names shared by all snapshots. Each refresh parses new strings for the same hosts, server groups and servers
+     * (and the same server names repeat across hosts), so the snapshots reference one instance per name.
+     */
+    private static final Map<String, String> NAMES = new HashMap<>();
+
+    // declared after the tables above, the constructor uses them
+    public static final TopologySnapshot EMPTY = new TopologySnapshot(emptyList(), emptyList());
+
+    private static String intern(String name) {
+        return name == null ? null : NAMES.computeIfAbsent(name, n -> n);
+    }
+
+    // model nodes: details and actions only
+    private final Host[] hosts;
+    private final ServerGroup[] serverGroups;
+    private final Server[] servers;
+
+    private final Map<String, Integer> hostIndex;
+    private final Map<String, Integer> serverGroupIndex;
+    private final Map<String, Integer> serverIndex;
+
+    private final String[] hostNames;
+    private final String[] hostAddressNames;
+    private final byte[] hostFlags;
+
+    private final String[] serverGroupNames;
+
+    private final String[] serverNames;
+    private final int[] serverHost;
+    private final int[] serverGroup;
+    private final byte[] serverConfigStatus;
+    private final byte[] serverState;
+    private final byte[] suspendState;
+    private final byte[] serverFlags;
+
+    // index maps: the servers of bucket i are values[offsets[i]] .. values[offsets[i + 1] - 1]
+    private final int[] hostOffsets;
+    private final int[] serversByHost;
+    private final int[] serverGroupOffsets;
+    private final int[] serversByServerGroup;
+    private final int[] cellOffsets;
+    private final int[] serversByCell;
+
+    /**
+     * @param hosts        the ordered hosts incl. their servers
+     * @param serverGroups the ordered server groups (might be empty)
+     */
+    TopologySnapshot(List<Host> hosts, List<ServerGroup> serverGroups) {
+        this.hosts = hosts.toArray(new Host[0]);
+        this.serverGroups = serverGroups.toArray(new ServerGroup[0]);
+
+        this.hostIndex = new HashMap<>();
+        this.hostNames = new String[this.hosts.length];
+        this.hostAddressNames = new String[this.hosts.length];
+        this.hostFlags = new byte[this.hosts.length];
+        for (int i = 0; i < this.hosts.length; i++) {
+            Host host = this.hosts[i];
+            hostNames[i] = intern(host.getName());
+            hostAddressNames[i] = intern(host.getAddressName());
+            hostFlags[i] = (byte) ((host.isAlive() ? ALIVE : 0)
+                    | (host.isConnected() ? CONNECTED : 0)
+                    | (host.isDomainController() ? DOMAIN_CONTROLLER : 0));
+            hostIndex.put(hostNames[i], i);
+        }
+
+        this.serverGroupIndex = new HashMap<>();
+        this.serverGroupNames = new String[this.serverGroups.length];
+        for (int i = 0; i < this.serverGroups.length; i++) {
+            serverGroupNames[i] = intern(this.serverGroups[i].getName());
+            serverGroupIndex.put(serverGroupNames[i], i);
+        }
+
+        int count = 0;
+        for (Host host : this.hosts) {
+            count += host.getServers().size();
+        }
+        this.servers = new Server[count];
+        this.serverIndex = new HashMap<>();
+        this.serverNames = new String[count];
+        this.serverHost = new int[count];
+        this.serverGroup = new int[count];
+        this.serverConfigStatus = new byte[count];
+        this.serverState = new byte[count];
+        this.suspendState = new byte[count];
+        this.serverFlags = new byte[count];
+
+        int index = 0;
+        for (int h = 0; h < this.hosts.length; h++) {
+            for (Server server : this.hosts[h].getServers()) {
+                servers[index] = server;
+                serverNames[index] = intern(server.getName());
+                serverHost[index] = h;
+                serverGroup[index] = serverGroupIndex.getOrDefault(server.getServerGroup(), -1);
+                state(index, server);
+                serverIndex.put(server.getId(), index);
+                index++;
+            }
+        }
+
+        // sort once by name, the buckets keep that order
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparing(i -> serverNames[i]));
+        int[] byName = new int[count];
+        for (int i = 0; i < count; i++) {
+            byName[i] = order[i];
+        }
+
+        int[] cell = new int[count];
+        for (int i = 0; i < count; i++) {
+            cell[i] = serverGroup[i] < 0 ? -1 : serverHost[i] * this.serverGroups.length + serverGroup[i];
+        }
+        this.hostOffsets = offsets(serverHost, this.hosts.length);
+        this.serversByHost = bucket(serverHost, hostOffsets, byName);
+        this.serverGroupOffsets = offsets(serverGroup, this.serverGroups.length);
+        this.serversByServerGroup = bucket(serverGroup, serverGroupOffsets, byName);
+        this.cellOffsets = offsets(cell, this.hosts.length * this.serverGroups.length);
+        this.serversByCell = bucket(cell, cellOffsets, byName);
+    }
+
+    private void state(int index, Server server) {
+        serverConfigStatus[index] = (byte) server.getServerConfigStatus().ordinal();
+        serverState[index] = (byte) server.getServerState().ordinal();
+        suspendState[index] = (byte) server.getSuspendState().ordinal();
+        serverFlags[index] = (byte) ((server.hasBootErrors() ? BOOT_ERRORS : 0)
+                | (server.isAdminMode() ? ADMIN_MODE : 0));
+    }
+
+    private static int[] offsets(int[] keys, int buckets) {
+        int[] offsets = new int[buckets + 1];
+        for (int key : keys) {
+            if (key >= 0) {
+                offsets[key + 1]++;
+            }
+        }
+        for (int i = 0; i < buckets; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+        return offsets;
+    }
+
+    private static int[] bucket(int[] keys, int[] offsets, int[] order) {
+        int[] values = new int[offsets[offsets.length - 1]];
+        int[] next = Arrays.copyOf(offsets, offsets.length - 1);
+        for (int server : order) {
+            int key = keys[server];
+            if (key >= 0) {
+                values[next[key]++] = server;
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Replaces the state of the server with the same ID. The server node is replaced in the server lists of its
+     * host and server group as well.
+     *
+     * @return {@code true} if the server was updated in place, {@code false} if the server is not part of this
+     * snapshot or has been moved to another server group. In that case the topology has to be reloaded.
+     */
+    public boolean update(Server server) {
+        int index = indexOfServer(server.getId());
+        if (index < 0 || serverGroup[index] != serverGroupIndex.getOrDefault(server.getServerGroup(), -1)) {
+            return false;
+        }
+        state(index, server);
+        servers[index] = server;
+        hosts[serverHost[index]].replaceServer(server);
+        if (serverGroup[index] >= 0) {
+            serverGroups[serverGroup[index]].replaceServer(server);
+        }
+        return true;
+    }
+
+
+    // ------------------------------------------------------ hosts
+
+    public int hostCount() {
+        return hosts.length;
+    }
+
+    /** @return the index of the host or -1 if there's no such host */
+    public int indexOfHost(String name) {
+        return hostIndex.getOrDefault(name, -1);
+    }
+
+    public String hostName(int host) {
+        return hostNames[host];
+    }
+
+    public String hostAddressName(int host) {
+        return hostAddressNames[host];
+    }
+
+    /** @see Host#isAlive() */
+    public boolean isHostAlive(int host) {
+        return (hostFlags[host] & ALIVE) != 0;
+    }
+
+    /** @see Host#isConnected() */
+    public boolean isHostConnected(int host) {
+        return (hostFlags[host] & CONNECTED) != 0;
+    }
+
+    /** @see Host#isDomainController() */
+    public boolean isDomainController(int host) {
+        return (hostFlags[host] & DOMAIN_CONTROLLER) != 0;
+    }
+
+    /** @return the indexes of the servers of the host ordered by name */
+    public int[] serversOfHost(int host) {
+        return Arrays.copyOfRange(serversByHost, hostOffsets[host], hostOffsets[host + 1]);
+    }
+
+    /** @return the host node incl. its servers */
+    public Host host(int host) {
+        return hosts[host];
+    }
+
+    /** @return the host nodes incl. their servers */
+    public List<Host> getHosts() {
+        return unmodifiableList(Arrays.asList(hosts));
+    }
+
+    /** @return the server nodes of the host ordered by name */
+    public List<Server> getServers(int host) {
+        int from = hostOffsets[host];
+        int to = hostOffsets[host + 1];
+        if (from == to) {
+            return emptyList();
+        }
+        return new AbstractList<Server>() {
+            @Override
+            public Server get(int index) {
+                if (index < 0 || index >= to - from) {
+                    throw new IndexOutOfBoundsException("Index: " + index + ", size: " + (to - from));
+                }
+                return servers[serversByHost[from + index]];
+            }
+
+            @Override
+            public int size() {
+                return to - from;
+            }
+        };
+    }
+
+
+    // ------------------------------------------------------ server groups
+
+    public int serverGroupCount() {
+        return serverGroups.length;
+    }
+
+    /** @return the index of the server group or -1 if there's no such server group */
+    public int indexOfServerGroup(String name) {
+        return serverGroupIndex.getOrDefault(name, -1);
+    }
+
+    public String serverGroupName(int serverGroup) {
+        return serverGroupNames[serverGroup];
+    }
+
+    /** @return the indexes of the servers of the server group ordered by name */
+    public int[] serversOfServerGroup(int serverGroup) {
+        return Arrays.copyOfRange(serversByServerGroup, serverGroupOffsets[serverGroup],
+                serverGroupOffsets[serverGroup + 1]);
+    }
+
+    /** @return whether the server group has at least one server matching the predicate */
+    public boolean hasServers(int serverGroup, IntPredicate predicate) {
+        return countServers(serverGroup, predicate) != 0;
+    }
+
+    /** @return the number of servers of the server group matching the predicate */
+    public int countServers(int serverGroup, IntPredicate predicate) {
+        int count = 0;
+        for (int i = serverGroupOffsets[serverGroup]; i < serverGroupOffsets[serverGroup + 1]; i++) {
+            if (predicate.test(serversByServerGroup[i])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /** @return the server group node incl. its servers */
+    public ServerGroup serverGroup(int serverGroup) {
+        return serverGroups[serverGroup];
+    }
+
+
+    // ------------------------------------------------------ servers
+
+    public int serverCount() {
+        return servers.length;
+    }
+
+    /** @return the index of the server with the specified {@linkplain Server#getId() ID} or -1 */
+    public int indexOfServer(String id) {
+        return serverIndex.getOrDefault(id, -1);
+    }
+
+    /** @return the indexes of the servers of the host which belong to the server group ordered by name */
+    public int[] servers(int host, int serverGroup) {
+        int cell = host * serverGroups.length + serverGroup;
+        return Arrays.copyOfRange(serversByCell, cellOffsets[cell], cellOffsets[cell + 1]);
+    }
+
+    /** @return the host index of the server */
+    public int hostOf(int server) {
+        return serverHost[server];
+    }
+
+    /** @return the server group index of the server or -1 if the server group is not part of this snapshot */
+    public int serverGroupOf(int server) {
+        return serverGroup[server];
+    }
+
+    public String serverName(int server) {
+        return serverNames[server];
+    }
+
+    /** @see Server#getId() */
+    public String serverId(int server) {
+        return Ids.hostServer(hostAddressNames[serverHost[server]], serverNames[server]);
+    }
+
+    /** @see Server#getServerConfigStatus() */
+    public ServerConfigStatus serverConfigStatus(int server) {
+        return CONFIG_STATUS[serverConfigStatus[server]];
+    }
+
+    /** @see Server#getServerState() */
+    public RunningState serverState(int server) {
+        return RUNNING_STATE[serverState[server]];
+    }
+
+    /** @see Server#getSuspendState() */
+    public SuspendState suspendState(int server) {
+        return SUSPEND_STATE[suspendState[server]];
+    }
+
+    /** @see Server#hasBootErrors() */
+    public boolean hasBootErrors(int server) {
+        return (serverFlags[server] & BOOT_ERRORS) != 0;
+    }
+
+    /** @see Server#isAdminMode() */
+    public boolean isAdminMode(int server) {
+        return (serverFlags[server] & ADMIN_MODE) != 0;
+    }
+
+    /** @see Server#isStarted() */
+    public boolean isStarted(int server) {
+        return serverConfigStatus(server) == ServerConfigStatus.STARTED || serverState(server) == RunningState.RUNNING;
+    }
+
+    /** @see Server#isStarting() */
+    public boolean isStarting(int server) {
+        return serverState(server) == RunningState.STARTING;
+    }
+
+    /** @see Server#isRunning() */
+    public boolean isRunning(int server) {
+        return serverState(server) == RunningState.RUNNING && !isSuspended(server);
+    }
+
+    /** @see Server#isSuspended() */
+    public boolean isSuspended(int server) {
+        return suspendState(server) == SuspendState.SUSPENDED;
+    }
+
+    /** @see Server#isStopped() */
+    public boolean isStopped(int server) {
+        ServerConfigStatus status = serverConfigStatus(server);
+        return status == ServerConfigStatus.STOPPED || status == ServerConfigStatus.DISABLED;
+    }
+
+    /** @see Server#isFailed() */
+    public boolean isFailed(int server) {
+        return serverConfigStatus(server) == ServerConfigStatus.FAILED;
+    }
+
+    /** @see Server#needsReload() */
+    public boolean needsReload(int server) {
+        return serverState(server) == RunningState.RELOAD_REQUIRED;
+    }
+
+    /** @see Server#needsRestart() */
+    public boolean needsRestart(int server) {
+        return serverState(server) == RunningState.RESTART_REQUIRED;
+    }
+
+    /** @return the server node */
+    public Server server(int server) {
+        return servers[server];
+    }
+}
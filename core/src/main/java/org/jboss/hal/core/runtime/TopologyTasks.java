@@ -65,6 +65,8 @@ public final class TopologyTasks {
     public static final String HOSTS = "topologyFunctions.hosts";                    // List<Host>
     public static final String SERVER_GROUPS = "topologyFunctions.serverGroups";     // List<ServerGroup>
     public static final String SERVERS = "topologyFunctions.servers";                // List<Server>
+    public static final String SERVER = "topologyFunctions.server";                  // Server
+    public static final String TOPOLOGY = "topologyFunctions.topology";              // TopologySnapshot
 
     private static final String HOST_NAMES = "topologyFunctions.hostNames";           // List<String>
     private static final String WILDCARD = "*";
@@ -97,6 +99,7 @@ public final class TopologyTasks {
      * its servers.</li>
      * <li>{@link #SERVER_GROUPS}: The ordered list of server groups. Each server group contains its servers.</li>
      * <li>{@link #SERVERS}: The list of all servers in the domain.</li>
+     * <li>{@link #TOPOLOGY}: The {@linkplain TopologySnapshot snapshot} of hosts, server groups and servers.</li>
      * </ul>
      * Started servers contain additional attributes and optional server boot errors.
      */
@@ -118,6 +121,7 @@ public final class TopologyTasks {
      * <ul>
      * <li>{@link #HOSTS}: The ordered list of hosts with the domain controller as first element. Each host contains
      * its servers.</li>
+     * <li>{@link #TOPOLOGY}: The {@linkplain TopologySnapshot snapshot} of hosts and servers (w/o server groups).</li>
      * </ul>
      * Started servers contain additional attributes and optional server boot errors.
      */
@@ -166,6 +170,23 @@ public final class TopologyTasks {
         return tasks;
     }
 
+    /**
+     * Returns a list of tasks to read one server. Use this to update a single server of a {@link TopologySnapshot}.
+     *
+     * <p>The context is populated with the following keys:
+     * <ul>
+     * <li>{@link #SERVER}: The server.</li>
+     * </ul>
+     * Started servers contain additional attributes and optional server boot errors.
+     */
+    public static List<Task<FlowContext>> server(Environment environment, Dispatcher dispatcher, String host,
+            String server) {
+        List<Task<FlowContext>> tasks = new ArrayList<>();
+        tasks.add(new SingleServer(environment, dispatcher, host, server));
+        tasks.add(new StartedServers(environment, dispatcher));
+        return tasks;
+    }
+
     /**
      * Returns a list of tasks to read the servers of one server group.
      *
@@ -255,6 +276,7 @@ public final class TopologyTasks {
                 context.set(HOSTS, hosts);
                 context.set(SERVER_GROUPS, serverGroups);
                 context.set(SERVERS, servers);
+                context.set(TOPOLOGY, TopologySnapshot.EMPTY);
                 return Completable.complete();
 
             } else {
@@ -297,6 +319,7 @@ public final class TopologyTasks {
                 context.set(HOSTS, hosts);
                 context.set(SERVER_GROUPS, serverGroups);
                 context.set(SERVERS, servers);
+                context.set(TOPOLOGY, new TopologySnapshot(hosts, serverGroups));
                 return Completable.complete();
             }
         }
@@ -528,6 +551,47 @@ public final class TopologyTasks {
         }
     }
 
+    private static class SingleServer implements Task<FlowContext> {
+
+        private final Environment environment;
+        private final Dispatcher dispatcher;
+        private final String host;
+        private final String server;
+
+        private SingleServer(Environment environment, Dispatcher dispatcher, String host, String server) {
+            this.environment = environment;
+            this.dispatcher = dispatcher;
+            this.host = host;
+            this.server = server;
+        }
+
+        @Override
+        public Completable call(FlowContext context) {
+            Completable completable = Completable.complete();
+            List<Server> servers = new ArrayList<>();
+            context.set(SERVERS, servers);
+
+            if (!environment.isStandalone()) {
+                ResourceAddress address = new ResourceAddress()
+                        .add(ModelDescriptionConstants.HOST, host)
+                        .add(SERVER_CONFIG, server);
+                Operation operation = new Operation.Builder(address, READ_RESOURCE_OPERATION)
+                        .param(INCLUDE_RUNTIME, true)
+                        .build();
+                completable = dispatcher.execute(operation)
+                        .doOnSuccess(result -> {
+                            Server s = new Server(host, result);
+                            servers.add(s);
+                            context.set(SERVER, s);
+                        })
+                        .doOnError(throwable -> logger.error("TopologyTasks.SingleServer failed: {}",
+                                throwable.getMessage()))
+                        .toCompletable();
+            }
+            return completable;
+        }
+    }
+
     private static class ServersOfServerGroup implements Task<FlowContext> {
 
         private final Environment environment;
@@ -685,36 +749,36 @@ public final class TopologyTasks {
                                             READ_BOOT_ERRORS
                                     ).build());
                         }
-                        if (!operations.isEmpty()) {
-                            Composite composite = new Composite(operations);
-                            completable = dispatcher.execute(composite)
-                                    .doOnSuccess((CompositeResult result) -> {
-                                        Map<String, Server> serverConfigsByName = servers.stream()
-                                                .collect(toMap(Server::getId, identity()));
-
-                                        for (Iterator<ModelNode> iterator = result.iterator(); iterator.hasNext(); ) {
-                                            ModelNode attributes = iterator.next().get(RESULT);
-                                            String serverId = Ids.hostServer(
-                                                    attributes.get(ModelDescriptionConstants.HOST).asString(),
-                                                    attributes.get(NAME).asString());
-                                            Server runningServer = serverConfigsByName.get(serverId);
-                                            if (runningServer != null) {
-                                                runningServer.addServerAttributes(attributes);
-                                                if (iterator.hasNext()) {
-                                                    List<ModelNode> bootErrors = iterator.next().get(RESULT).asList();
-                                                    runningServer.setBootErrors(!bootErrors.isEmpty());
-                                                } else {
-                                                    logger.error(
-                                                            "No second step containing the boot errors for server {}",
-                                                            runningServer.getName());
-                                                }
+                    }
+                    if (!operations.isEmpty()) {
+                        Composite composite = new Composite(operations);
+                        completable = dispatcher.execute(composite)
+                                .doOnSuccess((CompositeResult result) -> {
+                                    Map<String, Server> serverConfigsByName = servers.stream()
+                                            .collect(toMap(Server::getId, identity()));
+
+                                    for (Iterator<ModelNode> iterator = result.iterator(); iterator.hasNext(); ) {
+                                        ModelNode attributes = iterator.next().get(RESULT);
+                                        String serverId = Ids.hostServer(
+                                                attributes.get(ModelDescriptionConstants.HOST).asString(),
+                                                attributes.get(NAME).asString());
+                                        Server runningServer = serverConfigsByName.get(serverId);
+                                        if (runningServer != null) {
+                                            runningServer.addServerAttributes(attributes);
+                                            if (iterator.hasNext()) {
+                                                List<ModelNode> bootErrors = iterator.next().get(RESULT).asList();
+                                                runningServer.setBootErrors(!bootErrors.isEmpty());
+                                            } else {
+                                                logger.error(
+                                                        "No second step containing the boot errors for server {}",
+                                                        runningServer.getName());
                                             }
                                         }
-                                    })
-                                    .doOnError(throwable -> logger.error("TopologyTasks.StartedServers failed: {}",
-                                            throwable.getMessage()))
-                                    .toCompletable();
-                        }
+                                    }
+                                })
+                                .doOnError(throwable -> logger.error("TopologyTasks.StartedServers failed: {}",
+                                        throwable.getMessage()))
+                                .toCompletable();
                     }
                 }
             }
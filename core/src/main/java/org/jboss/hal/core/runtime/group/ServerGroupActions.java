@@ -18,30 +18,41 @@ package org.jboss.hal.core.runtime.group;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
 
+import com.google.common.collect.Lists;
 import com.google.gwt.safehtml.shared.SafeHtml;
 import com.google.web.bindery.event.shared.EventBus;
+import org.jboss.hal.ballroom.LabelBuilder;
 import org.jboss.hal.ballroom.dialog.Dialog;
 import org.jboss.hal.ballroom.dialog.DialogFactory;
 import org.jboss.hal.ballroom.form.Form;
 import org.jboss.hal.ballroom.form.FormItemValidation;
+import org.jboss.hal.ballroom.form.NumberItem;
+import org.jboss.hal.ballroom.form.SingleSelectBoxItem;
+import org.jboss.hal.config.Settings;
 import org.jboss.hal.core.Core;
 import org.jboss.hal.core.mbui.dialog.AddResourceDialog;
 import org.jboss.hal.core.mbui.dialog.NameItem;
 import org.jboss.hal.core.mbui.form.ModelNodeForm;
 import org.jboss.hal.core.mbui.form.OperationFormBuilder;
 import org.jboss.hal.core.runtime.Action;
+import org.jboss.hal.core.runtime.LifecycleMode;
 import org.jboss.hal.core.runtime.Result;
 import org.jboss.hal.core.runtime.SuspendState;
 import org.jboss.hal.core.runtime.server.Server;
 import org.jboss.hal.core.runtime.server.ServerActions;
 import org.jboss.hal.core.runtime.server.ServerConfigStatus;
+import org.jboss.hal.core.runtime.server.ServerProgressEvent;
 import org.jboss.hal.dmr.Composite;
 import org.jboss.hal.dmr.CompositeResult;
 import org.jboss.hal.dmr.ModelNode;
@@ -49,6 +60,7 @@ import org.jboss.hal.dmr.ModelType;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.Property;
 import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.DispatchFailure;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
 import org.jboss.hal.flow.Progress;
 import org.jboss.hal.meta.AddressTemplate;
@@ -63,13 +75,16 @@ import org.jboss.hal.spi.Message;
 import org.jboss.hal.spi.MessageEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import rx.Completable;
 import rx.CompletableSubscriber;
 import rx.Subscription;
 
 import static java.util.stream.Collectors.toList;
+import static org.jboss.hal.config.Settings.Key.LIFECYCLE_BATCH_SIZE;
 import static org.jboss.hal.core.runtime.Action.RESUME;
 import static org.jboss.hal.core.runtime.SuspendState.RUNNING;
 import static org.jboss.hal.core.runtime.SuspendState.SUSPENDED;
+import static org.jboss.hal.core.runtime.Timeouts.serverBatchTimeout;
 import static org.jboss.hal.core.runtime.Timeouts.serverGroupTimeout;
 import static org.jboss.hal.core.runtime.server.ServerConfigStatus.DISABLED;
 import static org.jboss.hal.core.runtime.server.ServerConfigStatus.STARTED;
@@ -79,7 +94,12 @@ import static org.jboss.hal.dmr.ModelNodeHelper.asEnumValue;
 import static org.jboss.hal.dmr.ModelNodeHelper.getOrDefault;
 import static org.jboss.hal.dmr.dispatch.TimeoutHandler.repeatCompositeUntil;
 
-/** TODO Fire events for the servers of a server group as well. */
+/**
+ * Lifecycle actions for server groups. While waiting for the servers to reach their target state, a
+ * {@link ServerProgressEvent} is fired for each server as soon as it has transitioned. Servers which didn't reach
+ * their target state are reported with the result of the whole operation ({@link Result#TIMEOUT} or
+ * {@link Result#ERROR}).
+ */
 public class ServerGroupActions {
 
     private static final Logger logger = LoggerFactory.getLogger(ServerGroupActions.class);
@@ -93,8 +113,10 @@ public class ServerGroupActions {
     private final MetadataProcessor metadataProcessor;
     private final Provider<Progress> progress;
     private final ServerActions serverActions;
+    private final Settings settings;
     private final Resources resources;
     private final Map<String, ServerGroup> pendingServerGroups;
+    private final Map<String, Server> inFlight;
 
     @Inject
     public ServerGroupActions(EventBus eventBus,
@@ -102,51 +124,95 @@ public class ServerGroupActions {
             MetadataProcessor metadataProcessor,
             @Footer Provider<Progress> progress,
             ServerActions serverActions,
+            Settings settings,
             Resources resources) {
         this.eventBus = eventBus;
         this.dispatcher = dispatcher;
         this.metadataProcessor = metadataProcessor;
         this.progress = progress;
         this.serverActions = serverActions;
+        this.settings = settings;
         this.resources = resources;
         this.pendingServerGroups = new HashMap<>();
+        this.inFlight = new HashMap<>();
     }
 
+    /**
+     * Reloads the started servers of the server group. If the server group has more than one started server, the
+     * user can choose between reloading all servers at once and a rolling reload in batches of servers.
+     */
     public void reload(ServerGroup serverGroup) {
-        reloadRestart(serverGroup,
-                new Operation.Builder(serverGroup.getAddress(), RELOAD_SERVERS).param(BLOCKING, false).build(),
-                Action.RELOAD,
-                resources.messages().reload(serverGroup.getName()),
-                resources.messages().reloadServerGroupQuestion(serverGroup.getName()),
-                resources.messages().reloadServerGroupSuccess(serverGroup.getName()),
-                resources.messages().reloadServerGroupError(serverGroup.getName()));
+        String name = serverGroup.getName();
+        reloadRestart(serverGroup, RELOAD_SERVERS, RELOAD, Action.RELOAD,
+                resources.messages().reload(name),
+                resources.messages().reloadServerGroupQuestion(name),
+                resources.messages().reloadServerGroupSuccess(name),
+                resources.messages().reloadServerGroupError(name));
     }
 
+    /**
+     * Restarts the started servers of the server group. If the server group has more than one started server, the
+     * user can choose between restarting all servers at once and a rolling restart in batches of servers.
+     */
     public void restart(ServerGroup serverGroup) {
-        reloadRestart(serverGroup,
-                new Operation.Builder(serverGroup.getAddress(), RESTART_SERVERS).param(BLOCKING, false).build(),
-                Action.RESTART,
-                resources.messages().restart(serverGroup.getName()),
-                resources.messages().restartServerGroupQuestion(serverGroup.getName()),
-                resources.messages().restartServerGroupSuccess(serverGroup.getName()),
-                resources.messages().restartServerGroupError(serverGroup.getName()));
+        String name = serverGroup.getName();
+        reloadRestart(serverGroup, RESTART_SERVERS, RESTART, Action.RESTART,
+                resources.messages().restart(name),
+                resources.messages().restartServerGroupQuestion(name),
+                resources.messages().restartServerGroupSuccess(name),
+                resources.messages().restartServerGroupError(name));
     }
 
-    private void reloadRestart(ServerGroup serverGroup, Operation operation, Action action,
-            String title, SafeHtml question, SafeHtml successMessage, SafeHtml errorMessage) {
+    private void reloadRestart(ServerGroup serverGroup, String serverGroupOperation, String serverOperation,
+            Action action, String title, SafeHtml question, SafeHtml successMessage, SafeHtml errorMessage) {
 
         List<Server> startedServers = serverGroup.getServers(Server::isStarted);
-        if (!startedServers.isEmpty()) {
-            DialogFactory.showConfirmation(title, question, () -> {
-                prepare(serverGroup, startedServers, action);
-                dispatcher.execute(operation,
-                        result -> repeatCompositeUntil(dispatcher, serverGroupTimeout(serverGroup, action),
-                                readServerConfigStatus(startedServers),
-                                checkServerConfigStatus(startedServers.size(), STARTED))
-                                .subscribe(new ServerGroupTimeoutCallback(serverGroup, startedServers, successMessage)),
-                        new ServerGroupFailedCallback(serverGroup, startedServers, errorMessage),
-                        new ServerGroupExceptionCallback(serverGroup, startedServers, errorMessage));
+        if (startedServers.size() == 1) {
+            DialogFactory.showConfirmation(title, question,
+                    () -> reloadRestart(serverGroup, startedServers, serverGroupOperation, action, successMessage,
+                            errorMessage));
+
+        } else if (startedServers.size() > 1) {
+            LabelBuilder labelBuilder = new LabelBuilder();
+            List<String> modes = Stream.of(LifecycleMode.values())
+                    .map(mode -> mode.name().toLowerCase())
+                    .collect(toList());
+            SingleSelectBoxItem modeItem = new SingleSelectBoxItem(MODE, labelBuilder.label(MODE), modes, false);
+            modeItem.setRequired(true);
+            NumberItem batchSizeItem = new NumberItem(BATCH_SIZE, labelBuilder.label(BATCH_SIZE), null, 1,
+                    startedServers.size());
+            batchSizeItem.setRequired(true);
+
+            String id = Ids.build(serverGroupOperation, serverGroup.getName(), Ids.FORM);
+            ModelNodeForm<ModelNode> form = new ModelNodeForm.Builder<>(id, Metadata.empty())
+                    .fromRequestProperties()
+                    .unboundFormItem(modeItem, 0, resources.messages().lifecycleModeHelp())
+                    .unboundFormItem(batchSizeItem, 1, resources.messages().lifecycleBatchSizeHelp())
+                    .requiredOnly()
+                    .build();
+
+            Dialog dialog = DialogFactory.buildConfirmation(title, question, form.element(), () -> {
+                form.save();
+                LifecycleMode mode = modeItem.getValue() != null
+                        ? LifecycleMode.valueOf(modeItem.getValue().toUpperCase())
+                        : LifecycleMode.PARALLEL;
+                int batchSize = batchSizeItem.getValue() != null
+                        ? (int) Math.max(1, batchSizeItem.getValue())
+                        : batchSize();
+                if (mode == LifecycleMode.ROLLING && batchSize < startedServers.size()) {
+                    rollingReloadRestart(serverGroup, startedServers, batchSize, serverOperation, action,
+                            successMessage, errorMessage);
+                } else {
+                    reloadRestart(serverGroup, startedServers, serverGroupOperation, action, successMessage,
+                            errorMessage);
+                }
             });
+            dialog.registerAttachable(form);
+            dialog.show();
+
+            form.edit(new ModelNode());
+            modeItem.setValue(LifecycleMode.PARALLEL.name().toLowerCase());
+            batchSizeItem.setValue((long) Math.min(batchSize(), startedServers.size()));
 
         } else {
             MessageEvent.fire(eventBus,
@@ -154,6 +220,53 @@ public class ServerGroupActions {
         }
     }
 
+    /** Executes the server group operation which reloads / restarts all started servers at once. */
+    private void reloadRestart(ServerGroup serverGroup, List<Server> startedServers, String serverGroupOperation,
+            Action action, SafeHtml successMessage, SafeHtml errorMessage) {
+        prepare(serverGroup, startedServers, action);
+        Operation operation = new Operation.Builder(serverGroup.getAddress(), serverGroupOperation)
+                .param(BLOCKING, false)
+                .build();
+        dispatcher.execute(operation,
+                result -> repeatCompositeUntil(dispatcher, serverGroupTimeout(serverGroup, action),
+                        readServerConfigStatus(startedServers),
+                        trackServerConfigStatus(startedServers, STARTED))
+                        .subscribe(new ServerGroupTimeoutCallback(serverGroup, startedServers, successMessage)),
+                new ServerGroupFailedCallback(serverGroup, startedServers, errorMessage),
+                new ServerGroupExceptionCallback(serverGroup, startedServers, errorMessage));
+    }
+
+    /**
+     * Reloads / restarts the started servers in batches. Each batch is a composite of server-config operations. The
+     * next batch starts once all servers of the current batch are up again.
+     */
+    private void rollingReloadRestart(ServerGroup serverGroup, List<Server> startedServers, int batchSize,
+            String serverOperation, Action action, SafeHtml successMessage, SafeHtml errorMessage) {
+        prepare(serverGroup, startedServers, action);
+        List<Completable> batches = Lists.partition(startedServers, batchSize).stream()
+                .map(batch -> Completable.defer(() -> {
+                    // start tracking the servers of this batch *before* the operations are sent
+                    Predicate<CompositeResult> reached = trackServerConfigStatus(batch, STARTED);
+                    Composite composite = new Composite(batch.stream()
+                            .map(server -> new Operation.Builder(server.getServerConfigAddress(), serverOperation)
+                                    .param(BLOCKING, false)
+                                    .build())
+                            .collect(toList()));
+                    return dispatcher.execute(composite).toCompletable()
+                            .andThen(repeatCompositeUntil(dispatcher, serverBatchTimeout(batch.size(), action),
+                                    readServerConfigStatus(batch), reached));
+                }))
+                .collect(toList());
+        logger.debug("Rolling {} of {} servers of server group {} in {} batches", action, startedServers.size(),
+                serverGroup.getName(), batches.size());
+        Completable.concat(batches)
+                .subscribe(new ServerGroupBatchCallback(serverGroup, startedServers, successMessage, errorMessage));
+    }
+
+    private int batchSize() {
+        return Math.max(1, settings.get(LIFECYCLE_BATCH_SIZE).asInt(Settings.DEFAULT_LIFECYCLE_BATCH_SIZE));
+    }
+
     public void suspend(ServerGroup serverGroup) {
         List<Server> startedServers = serverGroup.getServers(Server::isStarted);
         if (!startedServers.isEmpty()) {
@@ -180,7 +293,7 @@ public class ServerGroupActions {
                                         .build();
                                 dispatcher.execute(operation, result -> repeatCompositeUntil(dispatcher, uiTimeout,
                                         readSuspendState(startedServers),
-                                        checkSuspendState(startedServers.size(), SUSPENDED))
+                                        trackSuspendState(startedServers, SUSPENDED))
                                                 .subscribe(new ServerGroupTimeoutCallback(serverGroup, startedServers,
                                                         resources.messages().suspendServerGroupSuccess(serverGroup.getName()))),
                                         new ServerGroupFailedCallback(serverGroup, startedServers, resources
@@ -216,7 +329,7 @@ public class ServerGroupActions {
             Operation operation = new Operation.Builder(serverGroup.getAddress(), RESUME_SERVERS).build();
             dispatcher.execute(operation,
                     result -> repeatCompositeUntil(dispatcher, serverGroupTimeout(serverGroup, RESUME),
-                            readSuspendState(suspendedServers), checkSuspendState(suspendedServers.size(), RUNNING))
+                            readSuspendState(suspendedServers), trackSuspendState(suspendedServers, RUNNING))
                             .subscribe(new ServerGroupTimeoutCallback(serverGroup, suspendedServers,
                                     resources.messages().resumeServerGroupSuccess(serverGroup.getName()))),
                     new ServerGroupFailedCallback(serverGroup, suspendedServers,
@@ -259,7 +372,7 @@ public class ServerGroupActions {
                                         .build();
                                 dispatcher.execute(operation, result -> repeatCompositeUntil(dispatcher, uiTimeout,
                                         readServerConfigStatus(startedServers),
-                                        checkServerConfigStatus(startedServers.size(), STOPPED, DISABLED))
+                                        trackServerConfigStatus(startedServers, STOPPED, DISABLED))
                                                 .subscribe(new ServerGroupTimeoutCallback(serverGroup, startedServers,
                                                         resources.messages().stopServerGroupSuccess(serverGroup.getName()))),
                                         new ServerGroupFailedCallback(serverGroup, startedServers, resources
@@ -297,7 +410,7 @@ public class ServerGroupActions {
                     .build();
             dispatcher.execute(operation,
                     result -> repeatCompositeUntil(dispatcher, serverGroupTimeout(serverGroup, Action.START),
-                            readServerConfigStatus(downServers), checkServerConfigStatus(downServers.size(), STARTED))
+                            readServerConfigStatus(downServers), trackServerConfigStatus(downServers, STARTED))
                             .subscribe(new ServerGroupTimeoutCallback(serverGroup, downServers,
                                     resources.messages().startServerGroupSuccess(serverGroup.getName()))),
                     new ServerGroupFailedCallback(serverGroup, downServers,
@@ -321,7 +434,7 @@ public class ServerGroupActions {
                     dispatcher.execute(operation,
                             result -> repeatCompositeUntil(dispatcher, serverGroupTimeout(serverGroup, Action.DESTROY),
                                     readServerConfigStatus(startedServers),
-                                    checkServerConfigStatus(startedServers.size(), STOPPED, DISABLED))
+                                    trackServerConfigStatus(startedServers, STOPPED, DISABLED))
                                     .subscribe(new ServerGroupTimeoutCallback(serverGroup, startedServers,
                                             resources.messages().destroyServerGroupSuccess(serverGroup.getName()))),
                             new ServerGroupFailedCallback(serverGroup, startedServers,
@@ -341,7 +454,7 @@ public class ServerGroupActions {
                     dispatcher.execute(operation,
                             result -> repeatCompositeUntil(dispatcher, serverGroupTimeout(serverGroup, Action.KILL),
                                     readServerConfigStatus(startedServers),
-                                    checkServerConfigStatus(startedServers.size(), STOPPED, DISABLED))
+                                    trackServerConfigStatus(startedServers, STOPPED, DISABLED))
                                     .subscribe(new ServerGroupTimeoutCallback(serverGroup, startedServers,
                                             resources.messages().killServerGroupSuccess(serverGroup.getName()))),
                             new ServerGroupFailedCallback(serverGroup, startedServers,
@@ -476,6 +589,11 @@ public class ServerGroupActions {
     private void finish(ServerGroup serverGroup, List<Server> servers, Result result, Message message) {
         clearPending(serverGroup); // clear pending state *before* firing the event!
         servers.forEach(serverActions::clearPending);
+        // servers which have been sent the operation, but didn't reach their target state
+        servers.stream()
+                .map(server -> inFlight.remove(server.getId()))
+                .filter(Objects::nonNull)
+                .forEach(server -> eventBus.fireEvent(new ServerProgressEvent(server, result)));
         eventBus.fireEvent(new ServerGroupResultEvent(serverGroup, servers, result));
         MessageEvent.fire(eventBus, message);
     }
@@ -493,7 +611,12 @@ public class ServerGroupActions {
     }
 
     public boolean isPending(ServerGroup serverGroup) {
-        return pendingServerGroups.containsKey(serverGroup.getName());
+        return isPending(serverGroup.getName());
+    }
+
+    /** @param serverGroup the name of the server group */
+    public boolean isPending(String serverGroup) {
+        return pendingServerGroups.containsKey(serverGroup);
     }
 
     private Composite readServerConfigStatus(List<Server> servers) {
@@ -504,15 +627,11 @@ public class ServerGroupActions {
                 .collect(toList()));
     }
 
-    private Predicate<CompositeResult> checkServerConfigStatus(long servers, ServerConfigStatus first,
+    private Predicate<CompositeResult> trackServerConfigStatus(List<Server> servers, ServerConfigStatus first,
             ServerConfigStatus... rest) {
-        return compositeResult -> {
-            long statusCount = compositeResult.stream()
-                    .map(step -> asEnumValue(step, RESULT, ServerConfigStatus::valueOf, ServerConfigStatus.UNDEFINED))
-                    .filter(status -> EnumSet.of(first, rest).contains(status))
-                    .count();
-            return statusCount == servers;
-        };
+        EnumSet<ServerConfigStatus> statuses = EnumSet.of(first, rest);
+        return track(servers, step -> statuses.contains(
+                asEnumValue(step, RESULT, ServerConfigStatus::valueOf, ServerConfigStatus.UNDEFINED)));
     }
 
     private Composite readSuspendState(List<Server> servers) {
@@ -523,13 +642,31 @@ public class ServerGroupActions {
                 .collect(toList()));
     }
 
-    private Predicate<CompositeResult> checkSuspendState(long servers, SuspendState statusToReach) {
+    private Predicate<CompositeResult> trackSuspendState(List<Server> servers, SuspendState statusToReach) {
+        return track(servers,
+                step -> asEnumValue(step, RESULT, SuspendState::valueOf, SuspendState.UNDEFINED) == statusToReach);
+    }
+
+    /**
+     * Returns a predicate which is {@code true} once all servers reached their target state. The steps of the
+     * composite result must be in the same order as the servers. Fires a {@link ServerProgressEvent} for each server
+     * as soon as it has reached its target state. Servers which are still in flight when the operation finishes are
+     * reported by {@link #finish(ServerGroup, List, Result, Message)}.
+     */
+    private Predicate<CompositeResult> track(List<Server> servers, Predicate<ModelNode> reached) {
+        Set<String> done = new HashSet<>();
+        servers.forEach(server -> inFlight.put(server.getId(), server));
         return compositeResult -> {
-            long statusCount = compositeResult.stream()
-                    .map(step -> asEnumValue(step, RESULT, SuspendState::valueOf, SuspendState.UNDEFINED))
-                    .filter(status -> status == statusToReach)
-                    .count();
-            return statusCount == servers;
+            int steps = Math.min(servers.size(), compositeResult.size());
+            for (int i = 0; i < steps; i++) {
+                Server server = servers.get(i);
+                if (!done.contains(server.getId()) && reached.test(compositeResult.step(i))) {
+                    done.add(server.getId());
+                    inFlight.remove(server.getId());
+                    eventBus.fireEvent(new ServerProgressEvent(server, Result.SUCCESS));
+                }
+            }
+            return done.size() == servers.size();
         };
     }
 
@@ -564,6 +701,42 @@ public class ServerGroupActions {
     }
 
 
+    private class ServerGroupBatchCallback implements CompletableSubscriber {
+
+        private final ServerGroup serverGroup;
+        private final List<Server> servers;
+        private final SafeHtml successMessage;
+        private final SafeHtml errorMessage;
+
+        ServerGroupBatchCallback(ServerGroup serverGroup, List<Server> servers, SafeHtml successMessage,
+                SafeHtml errorMessage) {
+            this.serverGroup = serverGroup;
+            this.servers = servers;
+            this.successMessage = successMessage;
+            this.errorMessage = errorMessage;
+        }
+
+        @Override
+        public void onCompleted() {
+            finish(serverGroup, servers, Result.SUCCESS, Message.success(successMessage));
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            if (e instanceof DispatchFailure) {
+                finish(serverGroup, servers, Result.ERROR, Message.error(errorMessage, e.getMessage()));
+            } else {
+                finish(serverGroup, servers, Result.TIMEOUT,
+                        Message.error(resources.messages().serverGroupTimeout(serverGroup.getName())));
+            }
+        }
+
+        @Override
+        public void onSubscribe(Subscription d) {
+        }
+    }
+
+
     private class ServerGroupFailedCallback implements Dispatcher.OnFail {
 
         private final ServerGroup serverGroup;
@@ -287,7 +287,12 @@ public class HostActions implements Timeouts {
     }
 
     public boolean isPending(Host host) {
-        return pendingHosts.containsKey(host.getName());
+        return isPending(host.getName());
+    }
+
+    /** @param host the name of the host */
+    public boolean isPending(String host) {
+        return pendingHosts.containsKey(host);
     }
 
     private Operation ping(Host host) {
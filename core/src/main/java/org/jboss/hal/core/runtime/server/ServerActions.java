@@ -18,8 +18,10 @@ package org.jboss.hal.core.runtime.server;
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -39,6 +41,8 @@ import org.jboss.hal.ballroom.dialog.DialogFactory;
 import org.jboss.hal.ballroom.form.Form;
 import org.jboss.hal.ballroom.form.SingleSelectBoxItem;
 import org.jboss.hal.ballroom.form.TextBoxItem;
+import org.jboss.hal.core.BatchOperations;
+import org.jboss.hal.core.BatchResult;
 import org.jboss.hal.core.Core;
 import org.jboss.hal.core.mbui.dialog.AddResourceDialog;
 import org.jboss.hal.core.mbui.dialog.NameItem;
@@ -83,11 +87,13 @@ import rx.CompletableSubscriber;
 import rx.Subscription;
 
 import static elemental2.dom.DomGlobal.setTimeout;
+import static java.util.stream.Collectors.toList;
 import static org.jboss.gwt.elemento.core.Elements.a;
 import static org.jboss.gwt.elemento.core.Elements.p;
 import static org.jboss.gwt.elemento.core.Elements.span;
 import static org.jboss.hal.core.runtime.RunningState.RUNNING;
 import static org.jboss.hal.core.runtime.SuspendState.SUSPENDED;
+import static org.jboss.hal.core.runtime.Timeouts.serverBatchTimeout;
 import static org.jboss.hal.core.runtime.server.ServerConfigStatus.DISABLED;
 import static org.jboss.hal.core.runtime.server.ServerConfigStatus.STARTED;
 import static org.jboss.hal.core.runtime.server.ServerConfigStatus.STOPPED;
@@ -95,6 +101,7 @@ import static org.jboss.hal.core.runtime.server.ServerUrlTasks.URL_KEY;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
 import static org.jboss.hal.dmr.ModelNodeHelper.asEnumValue;
 import static org.jboss.hal.dmr.ModelNodeHelper.getOrDefault;
+import static org.jboss.hal.dmr.dispatch.TimeoutHandler.repeatCompositeUntil;
 import static org.jboss.hal.dmr.dispatch.TimeoutHandler.repeatOperationUntil;
 import static org.jboss.hal.dmr.dispatch.TimeoutHandler.repeatUntilTimeout;
 import static org.jboss.hal.flow.Flow.series;
@@ -116,6 +123,7 @@ public class ServerActions implements Timeouts {
 
     private final EventBus eventBus;
     private final Dispatcher dispatcher;
+    private final BatchOperations batchOperations;
     private final MetadataProcessor metadataProcessor;
     private final Provider<Progress> progress;
     private final Resources resources;
@@ -126,6 +134,7 @@ public class ServerActions implements Timeouts {
     @Inject
     public ServerActions(EventBus eventBus,
             Dispatcher dispatcher,
+            BatchOperations batchOperations,
             ServerUrlStorage serverUrlStorage,
             StatementContext statementContext,
             MetadataProcessor metadataProcessor,
@@ -133,6 +142,7 @@ public class ServerActions implements Timeouts {
             Resources resources) {
         this.eventBus = eventBus;
         this.dispatcher = dispatcher;
+        this.batchOperations = batchOperations;
         this.serverUrlStorage = serverUrlStorage;
         this.statementContext = statementContext;
         this.metadataProcessor = metadataProcessor;
@@ -562,6 +572,111 @@ public class ServerActions implements Timeouts {
     }
 
 
+    // ------------------------------------------------------ bulk lifecycle operations
+
+    /**
+     * Reloads the specified servers. The operations are sent in bounded batches using {@link
+     * BatchOperations#executeSeparately}. The servers which accepted the operation are tracked until they're up again.
+     * A {@link ServerProgressEvent} is fired for each server as soon as it has reached its target state. The outcome
+     * is reported in one aggregated message.
+     */
+    public void reload(List<Server> servers) {
+        bulk(servers, RELOAD, Action.RELOAD, resources.constants().reload(), STARTED);
+    }
+
+    /** Restarts the specified servers. See {@link #reload(List)} for details. */
+    public void restart(List<Server> servers) {
+        bulk(servers, RESTART, Action.RESTART, resources.constants().restart(), STARTED);
+    }
+
+    /** Starts the specified servers. See {@link #reload(List)} for details. */
+    public void start(List<Server> servers) {
+        bulk(servers, START, Action.START, resources.constants().start(), STARTED);
+    }
+
+    /** Stops the specified servers immediately. See {@link #reload(List)} for details. */
+    public void stop(List<Server> servers) {
+        bulk(servers, STOP, Action.STOP, resources.constants().stop(), STOPPED, DISABLED);
+    }
+
+    private void bulk(List<Server> servers, String operation, Action action, String title,
+            ServerConfigStatus first, ServerConfigStatus... rest) {
+        servers.forEach(server -> prepare(server, action));
+        // lifecycle operations are not rolled back if a composite fails: send them one by one
+        batchOperations.executeSeparately(servers,
+                server -> new Operation.Builder(server.getServerConfigAddress(), operation)
+                        .param(BLOCKING, false)
+                        .build(),
+                result -> {
+                    result.failed().forEach(server -> finish(server, Result.ERROR));
+                    List<Server> accepted = result.successful();
+                    if (accepted.isEmpty()) {
+                        MessageEvent.fire(eventBus, bulkMessage(title, result));
+                    } else {
+                        repeatCompositeUntil(dispatcher, serverBatchTimeout(accepted.size(), action),
+                                readServerConfigStatus(accepted), trackServerConfigStatus(accepted, first, rest))
+                                .subscribe(new CompletableSubscriber() {
+                                    @Override
+                                    public void onCompleted() {
+                                        if (Action.isStop(action)) {
+                                            // update servers for the events
+                                            readServers(accepted, stoppedServers -> {
+                                                stoppedServers.forEach(server -> finish(server, Result.SUCCESS));
+                                                MessageEvent.fire(eventBus, bulkMessage(title, result));
+                                            });
+                                        } else {
+                                            accepted.forEach(server -> finish(server, Result.SUCCESS));
+                                            MessageEvent.fire(eventBus, bulkMessage(title, result));
+                                        }
+                                    }
+
+                                    @Override
+                                    public void onError(Throwable e) {
+                                        accepted.forEach(server -> finish(server, Result.TIMEOUT));
+                                        if (!result.isSuccessful()) {
+                                            MessageEvent.fire(eventBus, bulkMessage(title, result));
+                                        }
+                                        MessageEvent.fire(eventBus, Message.error(
+                                                resources.messages().bulkServerTimeout(title, accepted.size())));
+                                    }
+
+                                    @Override
+                                    public void onSubscribe(Subscription d) {
+                                    }
+                                });
+                    }
+                });
+    }
+
+    private Message bulkMessage(String title, BatchResult<Server> result) {
+        if (result.isSuccessful()) {
+            return Message.success(resources.messages().bulkOperationSuccess(title, result.size()));
+        } else {
+            return Message.error(resources.messages().bulkOperationError(title, result.failed().size(),
+                    result.size()), result.failureDetails(server -> server.getHost() + " / " + server.getName()));
+        }
+    }
+
+    private void readServers(List<Server> servers, Consumer<List<Server>> callback) {
+        Composite composite = new Composite(servers.stream()
+                .map(server -> new Operation.Builder(server.getServerConfigAddress(), READ_RESOURCE_OPERATION)
+                        .param(ATTRIBUTES_ONLY, true)
+                        .param(INCLUDE_RUNTIME, true)
+                        .build())
+                .collect(toList()));
+        dispatcher.execute(composite, (CompositeResult compositeResult) -> {
+            List<Server> updated = new ArrayList<>();
+            for (int i = 0; i < servers.size(); i++) {
+                ModelNode step = compositeResult.step(i);
+                updated.add(step.hasDefined(RESULT)
+                        ? new Server(servers.get(i).getHost(), step.get(RESULT))
+                        : servers.get(i));
+            }
+            callback.accept(updated);
+        }, (o, failure) -> callback.accept(servers), (o, exception) -> callback.accept(servers));
+    }
+
+
     // ------------------------------------------------------ server url methods
 
     /** Reads the URL and updates the specified HTML element */
@@ -691,9 +806,13 @@ public class ServerActions implements Timeouts {
     }
 
     private void finish(Server server, Result result, Message message) {
+        finish(server, result);
+        MessageEvent.fire(eventBus, message);
+    }
+
+    private void finish(Server server, Result result) {
         clearPending(server); // clear pending state *before* firing the event!
         eventBus.fireEvent(new ServerResultEvent(server, result));
-        MessageEvent.fire(eventBus, message);
     }
 
     public void markAsPending(Server server) {
@@ -709,7 +828,12 @@ public class ServerActions implements Timeouts {
     }
 
     public boolean isPending(Server server) {
-        return pendingServers.containsKey(Ids.hostServer(server.getHost(), server.getName()));
+        return isPending(Ids.hostServer(server.getHost(), server.getName()));
+    }
+
+    /** @param serverId the {@linkplain Server#getId() ID} of the server */
+    public boolean isPending(String serverId) {
+        return pendingServers.containsKey(serverId);
     }
 
     private Operation readServerConfigStatus(Server server) {
@@ -718,6 +842,31 @@ public class ServerActions implements Timeouts {
                 .build();
     }
 
+    private Composite readServerConfigStatus(List<Server> servers) {
+        return new Composite(servers.stream().map(this::readServerConfigStatus).collect(toList()));
+    }
+
+    /**
+     * Returns a predicate which is {@code true} once all servers reached one of the specified states. Fires a
+     * {@link ServerProgressEvent} for each server as soon as it has reached its target state.
+     */
+    private Predicate<CompositeResult> trackServerConfigStatus(List<Server> servers, ServerConfigStatus first,
+            ServerConfigStatus... rest) {
+        Set<String> done = new HashSet<>();
+        Predicate<ModelNode> reached = checkServerConfigStatus(first, rest);
+        return compositeResult -> {
+            int steps = Math.min(servers.size(), compositeResult.size());
+            for (int i = 0; i < steps; i++) {
+                Server server = servers.get(i);
+                if (!done.contains(server.getId()) && reached.test(compositeResult.step(i).get(RESULT))) {
+                    done.add(server.getId());
+                    eventBus.fireEvent(new ServerProgressEvent(server, Result.SUCCESS));
+                }
+            }
+            return done.size() == servers.size();
+        };
+    }
+
     private Operation readServerState(Server server) {
         return new Operation.Builder(server.getServerAddress(), READ_ATTRIBUTE_OPERATION)
                 .param(NAME, SERVER_STATE)
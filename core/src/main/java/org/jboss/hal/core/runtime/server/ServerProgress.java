@@ -0,0 +1,33 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.core.runtime.server;
+
+import com.gwtplatform.dispatch.annotation.GenEvent;
+import com.gwtplatform.dispatch.annotation.Order;
+import org.jboss.hal.core.runtime.Result;
+
+/**
+ * Fired for each server of a server group or bulk lifecycle operation as soon as the server has reached its target
+ * state ({@link Result#SUCCESS}). Servers which have been sent the operation, but didn't reach their target state are
+ * reported with {@link Result#TIMEOUT} or {@link Result#ERROR} once the operation has finished. The overall result is
+ * reported by {@code ServerGroupResultEvent} or {@code ServerResultEvent} respectively.
+ */
+@GenEvent
+public class ServerProgress {
+
+    @Order(1) Server server;
+    @Order(2) Result result;
+}
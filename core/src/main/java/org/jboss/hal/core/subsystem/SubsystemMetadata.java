@@ -15,6 +15,8 @@
  */
 package org.jboss.hal.core.subsystem;
 
+import java.util.Objects;
+
 import com.google.gwt.resources.client.ExternalTextResource;
 
 public class SubsystemMetadata {
@@ -37,6 +39,29 @@ public class SubsystemMetadata {
         this.generic = builder.generic;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        SubsystemMetadata that = (SubsystemMetadata) o;
+        return generic == that.generic &&
+                Objects.equals(name, that.name) &&
+                Objects.equals(title, that.title) &&
+                Objects.equals(subtitle, that.subtitle) &&
+                Objects.equals(token, that.token) &&
+                Objects.equals(nextColumn, that.nextColumn) &&
+                externalTextResource == that.externalTextResource;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, title, subtitle, token, nextColumn, generic);
+    }
+
     @Override
     public String toString() {
         return "Subsystem(" + name + ")";
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.core;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.flow.Progress;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ADD;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SuppressWarnings({"HardCodedStringLiteral", "unchecked"})
+public class BatchOperationsTest {
+
+    private static final String ITEM = "item";
+
+    private Set<String> failing;
+    private List<Integer> requests;
+    private Map<String, Integer> executed;
+    private Progress progress;
+    private BatchOperations batchOperations;
+    private BatchResult<String> result;
+
+    /**
+     * Sets up a dispatcher which fails all operations for the items in {@link #failing}. Like the management
+     * endpoint, a composite with a failing step fails as a whole. The size of each request is recorded in
+     * {@link #requests}.
+     * <p>
+     * Like operations executed in the runtime stage, the steps before a failing step are not rolled back: {@link
+     * #executed} counts how often the operation of an item took effect.
+     */
+    @Before
+    public void setUp() {
+        failing = new HashSet<>();
+        requests = new ArrayList<>();
+        executed = new HashMap<>();
+        progress = mock(Progress.class);
+
+        Dispatcher dispatcher = mock(Dispatcher.class);
+        doAnswer(invocation -> {
+            Composite composite = invocation.getArgument(0);
+            requests.add(composite.size());
+            boolean failed = false;
+            for (Operation operation : composite) {
+                failed |= failing.contains(item(operation));
+                if (!failed) {
+                    executed.merge(item(operation), 1, Integer::sum);
+                }
+            }
+            if (failed) {
+                ((Dispatcher.OnFail) invocation.getArgument(2)).onFailed(composite, "composite failed");
+            } else {
+                ((Consumer<CompositeResult>) invocation.getArgument(1)).accept(new CompositeResult(new ModelNode()));
+            }
+            return null;
+        }).when(dispatcher).execute(any(Composite.class), any(Consumer.class), any(Dispatcher.OnFail.class),
+                any(Dispatcher.OnError.class));
+        doAnswer(invocation -> {
+            Operation operation = invocation.getArgument(0);
+            requests.add(1);
+            if (failing.contains(item(operation))) {
+                ((Dispatcher.OnFail) invocation.getArgument(2)).onFailed(operation, item(operation) + " failed");
+            } else {
+                executed.merge(item(operation), 1, Integer::sum);
+                ((Consumer<ModelNode>) invocation.getArgument(1)).accept(new ModelNode());
+            }
+            return null;
+        }).when(dispatcher).execute(any(Operation.class), any(Consumer.class), any(Dispatcher.OnFail.class),
+                any(Dispatcher.OnError.class));
+
+        batchOperations = new BatchOperations(dispatcher, () -> progress);
+    }
+
+    @Test
+    public void allSuccessful() {
+        execute(items(60));
+
+        assertEquals(asList(25, 25, 10), requests);
+        assertTrue(result.isSuccessful());
+        assertEquals(items(60), result.successful());
+        assertEquals(emptyList(), result.failed());
+        verify(progress, times(60)).tick();
+    }
+
+    @Test
+    public void oneFailure() {
+        failing.add("item-0");
+        execute(items(25));
+
+        // 25 (failed) -> 12 (failed) + 13 -> 6 (failed) + 6 -> 3 (failed) + 3 -> 1 (failed) + 2
+        assertEquals(9, requests.size());
+        assertEquals(asList(25, 12, 6, 3, 1, 2, 3, 6, 13), requests);
+        assertEquals(25, result.size());
+        assertEquals(24, result.successful().size());
+        assertEquals(asList("item-0"), result.failed());
+        // failures are stored per item instance
+        assertEquals("item-0 failed", result.failure(result.failed().get(0)));
+        assertNull(result.failure(result.successful().get(0)));
+        verify(progress, times(25)).tick();
+    }
+
+    @Test
+    public void severalFailures() {
+        failing.addAll(asList("item-3", "item-4", "item-20"));
+        execute(items(25));
+
+        // far less requests than executing the 25 operations one by one
+        assertEquals(19, requests.size());
+        assertEquals(25, result.size());
+        assertEquals(22, result.successful().size());
+        assertEquals(asList("item-3", "item-4", "item-20"), result.failed());
+        for (String item : result.failed()) {
+            assertEquals(item + " failed", result.failure(item));
+        }
+        for (String item : result.successful()) {
+            assertFalse(failing.contains(item));
+        }
+        verify(progress, times(25)).tick();
+    }
+
+    @Test
+    public void allFailed() {
+        List<String> items = items(25);
+        failing.addAll(items);
+        execute(items);
+
+        assertEquals(25, result.failed().size());
+        assertEquals(emptyList(), result.successful());
+        items.forEach(item -> assertEquals(item + " failed", result.failure(item)));
+        // every composite fails and is split until all items are isolated: 24 composites + 25 single operations
+        assertEquals(49, requests.size());
+    }
+
+    @Test
+    public void bisectionRepeatsRuntimeSteps() {
+        failing.add("item-3");
+        execute(items(4));
+
+        // item-0 .. item-2 took effect in the failed composite and again when the halves were executed
+        assertEquals(Integer.valueOf(2), executed.get("item-0"));
+        assertEquals(Integer.valueOf(2), executed.get("item-1"));
+        assertEquals(Integer.valueOf(3), executed.get("item-2"));
+    }
+
+    @Test
+    public void separately() {
+        failing.addAll(asList("item-3", "item-27"));
+        List<String> items = items(30);
+        batchOperations.executeSeparately(items,
+                item -> new Operation.Builder(new ResourceAddress().add(ITEM, item), ADD).build(),
+                batchResult -> result = batchResult);
+        assertNotNull("Callback not called", result);
+
+        // no composites: each operation takes effect exactly once
+        assertEquals(30, requests.size());
+        assertTrue(requests.stream().allMatch(size -> size == 1));
+        for (String item : items) {
+            if (failing.contains(item)) {
+                assertNull(executed.get(item));
+            } else {
+                assertEquals(item, Integer.valueOf(1), executed.get(item));
+            }
+        }
+        assertEquals(asList("item-3", "item-27"), result.failed());
+        assertEquals(28, result.successful().size());
+        verify(progress, times(30)).tick();
+    }
+
+    private void execute(List<String> items) {
+        batchOperations.execute(items,
+                item -> new Operation.Builder(new ResourceAddress().add(ITEM, item), ADD).build(),
+                batchResult -> result = batchResult);
+        assertNotNull("Callback not called", result);
+    }
+
+    private List<String> items(int count) {
+        List<String> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            items.add("item-" + i);
+        }
+        return items;
+    }
+
+    private String item(Operation operation) {
+        return operation.getAddress().lastValue();
+    }
+}
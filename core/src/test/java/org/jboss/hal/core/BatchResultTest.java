@@ -0,0 +1,77 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.core;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class BatchResultTest {
+
+    private BatchResult<String> result;
+
+    @Before
+    public void setUp() {
+        result = new BatchResult<>();
+    }
+
+    @Test
+    public void empty() {
+        assertEquals(0, result.size());
+        assertTrue(result.isSuccessful());
+        assertEquals(emptyList(), result.successful());
+        assertEquals(emptyList(), result.failed());
+        assertEquals("", result.failureDetails(item -> item));
+    }
+
+    @Test
+    public void successful() {
+        result.success("foo");
+        result.success("bar");
+
+        assertEquals(2, result.size());
+        assertTrue(result.isSuccessful());
+        assertEquals(asList("foo", "bar"), result.successful());
+        assertNull(result.failure("foo"));
+    }
+
+    @Test
+    public void failed() {
+        result.success("foo");
+        result.failure("bar", "bar failed");
+        result.failure("baz", "baz failed");
+
+        assertEquals(3, result.size());
+        assertFalse(result.isSuccessful());
+        assertEquals(asList("foo"), result.successful());
+        assertEquals(asList("bar", "baz"), result.failed());
+        assertEquals("bar failed", result.failure("bar"));
+        assertEquals("BAR: bar failed\nBAZ: baz failed", result.failureDetails(String::toUpperCase));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void unmodifiable() {
+        result.success("foo");
+        result.successful().add("bar");
+    }
+}
@@ -16,13 +16,16 @@
 package org.jboss.hal.core;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Sets;
 import org.jboss.hal.dmr.Composite;
 import org.jboss.hal.dmr.ExternalModelNode;
 import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.ModelType;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.meta.AddressTemplate;
@@ -33,10 +36,20 @@ import org.jboss.hal.meta.security.SecurityContext;
 import org.junit.Before;
 import org.junit.Test;
 
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.StreamSupport.stream;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ATTRIBUTES;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.KEY;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.LIST_ADD_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.LIST_REMOVE_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.MAP_PUT_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.MAP_REMOVE_OPERATION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.NAME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.TYPE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.UNDEFINE_ATTRIBUTE_OPERATION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.VALUE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.VALUE_TYPE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.WRITE_ATTRIBUTE_OPERATION;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
@@ -173,6 +186,87 @@ public class OperationFactoryTest {
         assertWrite(composite, "security-domain", "foo");
     }
 
+    @Test
+    public void unchanged() {
+        ModelNode original = new ModelNode();
+        original.get("allocation-retry").set(23);
+        original.get("jndi-name").set("java:/foo");
+        Composite composite = operationFactory.fromChangeSet(address, new ChangeSet(
+                ImmutableMap.of("allocation-retry", 23L, "jndi-name", "java:/bar", "class-name", ""), original),
+                metadata);
+
+        assertEquals(1, composite.size());
+        assertWrite(composite, "jndi-name", "java:/bar");
+    }
+
+    @Test
+    public void unchangedExpression() {
+        ModelNode original = new ModelNode();
+        original.get("jndi-name").setExpression("${foo:bar}");
+        Composite composite = operationFactory.fromChangeSet(address,
+                new ChangeSet(ImmutableMap.of("jndi-name", "${foo:bar}"), original), metadata);
+
+        assertTrue(composite.isEmpty());
+    }
+
+    @Test
+    public void mapDelta() {
+        ModelNode original = new ModelNode();
+        original.get("capacity-incrementer-properties").get("a").set("1");
+        original.get("capacity-incrementer-properties").get("b").set("2");
+        original.get("capacity-incrementer-properties").get("c").set("3");
+        original.get("capacity-incrementer-properties").get("d").set("4");
+        Composite composite = operationFactory.fromChangeSet(address, new ChangeSet(
+                ImmutableMap.of("capacity-incrementer-properties",
+                        ImmutableMap.of("a", "1", "b", "two", "c", "3", "e", "5")), original), metadata);
+
+        assertEquals(3, composite.size());
+        assertMapPut(composite, "capacity-incrementer-properties", "b", "two");
+        assertMapPut(composite, "capacity-incrementer-properties", "e", "5");
+        assertMapRemove(composite, "capacity-incrementer-properties", "d");
+    }
+
+    @Test
+    public void mapTooManyChanges() {
+        ModelNode original = new ModelNode();
+        original.get("capacity-incrementer-properties").get("a").set("1");
+        Composite composite = operationFactory.fromChangeSet(address, new ChangeSet(
+                ImmutableMap.of("capacity-incrementer-properties", ImmutableMap.of("a", "2")), original), metadata);
+
+        assertEquals(1, composite.size());
+        assertTrue(writeOperation(composite, "capacity-incrementer-properties").isPresent());
+    }
+
+    @Test
+    public void listDelta() {
+        ModelNode original = new ModelNode();
+        for (String value : asList("a", "b", "c", "d")) {
+            original.get("list").add(value);
+        }
+        Composite composite = operationFactory.fromChangeSet(address, new ChangeSet(
+                ImmutableMap.of("list", ImmutableList.of("a", "c", "d", "e")), original), listMetadata());
+
+        assertEquals(2, composite.size());
+        List<Operation> operations = stream(composite.spliterator(), false).collect(toList());
+        assertEquals(LIST_REMOVE_OPERATION, operations.get(0).getName());
+        assertEquals("b", operations.get(0).get(VALUE).asString());
+        assertEquals(LIST_ADD_OPERATION, operations.get(1).getName());
+        assertEquals("e", operations.get(1).get(VALUE).asString());
+    }
+
+    @Test
+    public void listReordered() {
+        ModelNode original = new ModelNode();
+        for (String value : asList("a", "b", "c", "d")) {
+            original.get("list").add(value);
+        }
+        Composite composite = operationFactory.fromChangeSet(address, new ChangeSet(
+                ImmutableMap.of("list", ImmutableList.of("e", "a", "b", "c", "d")), original), listMetadata());
+
+        assertEquals(1, composite.size());
+        assertTrue(writeOperation(composite, "list").isPresent());
+    }
+
     @Test
     public void reset() {
         Composite composite = operationFactory.resetResource(address,
@@ -192,6 +286,30 @@ public class OperationFactoryTest {
         assertUndefineNotPresent(composite, "xa-resource-timeout");
     }
 
+    private Metadata listMetadata() {
+        ModelNode description = new ModelNode();
+        ModelNode list = description.get(ATTRIBUTES).get("list");
+        list.get(TYPE).set(ModelType.LIST);
+        list.get(VALUE_TYPE).set(ModelType.STRING);
+        return new Metadata(metadata.getTemplate(), () -> SecurityContext.RWX, new ResourceDescription(description),
+                new Capabilities(null));
+    }
+
+    private void assertMapPut(Composite composite, String name, String key, String value) {
+        assertTrue(stream(composite.spliterator(), false)
+                .anyMatch(operation -> MAP_PUT_OPERATION.equals(operation.getName()) &&
+                        operation.get(NAME).asString().equals(name) &&
+                        operation.get(KEY).asString().equals(key) &&
+                        operation.get(VALUE).asString().equals(value)));
+    }
+
+    private void assertMapRemove(Composite composite, String name, String key) {
+        assertTrue(stream(composite.spliterator(), false)
+                .anyMatch(operation -> MAP_REMOVE_OPERATION.equals(operation.getName()) &&
+                        operation.get(NAME).asString().equals(name) &&
+                        operation.get(KEY).asString().equals(key)));
+    }
+
     private void assertUndefine(Composite composite, String name) {
         assertTrue(stream(composite.spliterator(), false)
                 .anyMatch(operation -> UNDEFINE_ATTRIBUTE_OPERATION.equals(operation.getName()) &&
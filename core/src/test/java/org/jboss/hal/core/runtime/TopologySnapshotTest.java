@@ -0,0 +1,185 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.core.runtime;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.jboss.hal.core.runtime.group.ServerGroup;
+import org.jboss.hal.core.runtime.host.Host;
+import org.jboss.hal.core.runtime.server.Server;
+import org.jboss.hal.core.runtime.server.ServerConfigStatus;
+import org.jboss.hal.dmr.ModelNode;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings({"HardCodedStringLiteral", "DuplicateStringLiteralInspection"})
+public class TopologySnapshotTest {
+
+    private Host master;
+    private Host slave;
+    private ServerGroup main;
+    private ServerGroup other;
+    private TopologySnapshot snapshot;
+
+    @Before
+    public void setUp() {
+        master = Host.failed("master");
+        slave = Host.disconnected("slave", null, null);
+        main = new ServerGroup("main-server-group", new ModelNode());
+        other = new ServerGroup("other-server-group", new ModelNode());
+
+        add(master, main, server("master", "server-two", "main-server-group", "started"));
+        add(master, main, server("master", "server-one", "main-server-group", "started"));
+        add(master, other, server("master", "server-three", "other-server-group", "stopped"));
+        add(slave, other, server("slave", new String("server-one"), "other-server-group", "started"));
+        slave.addServer(server("slave", "orphan", "unknown-server-group", "disabled"));
+
+        snapshot = new TopologySnapshot(asList(master, slave), asList(main, other));
+    }
+
+    private void add(Host host, ServerGroup serverGroup, Server server) {
+        host.addServer(server);
+        serverGroup.addServer(server);
+    }
+
+    private Server server(String host, String name, String serverGroup, String status) {
+        ModelNode node = new ModelNode();
+        node.get(NAME).set(name);
+        node.get(GROUP).set(serverGroup);
+        node.get(STATUS).set(status);
+        return new Server(host, node);
+    }
+
+    private List<String> names(int[] servers) {
+        return Arrays.stream(servers).mapToObj(snapshot::serverName).collect(toList());
+    }
+
+    @Test
+    public void counts() {
+        assertEquals(2, snapshot.hostCount());
+        assertEquals(2, snapshot.serverGroupCount());
+        assertEquals(5, snapshot.serverCount());
+        assertEquals(0, TopologySnapshot.EMPTY.serverCount());
+    }
+
+    @Test
+    public void indexes() {
+        assertEquals(1, snapshot.indexOfHost("slave"));
+        assertEquals(-1, snapshot.indexOfHost("foo"));
+        assertEquals(1, snapshot.indexOfServerGroup("other-server-group"));
+        assertEquals(-1, snapshot.indexOfServerGroup("unknown-server-group"));
+
+        Server orphan = slave.getServers().get(1);
+        int index = snapshot.indexOfServer(orphan.getId());
+        assertSame(orphan, snapshot.server(index));
+        assertEquals(orphan.getId(), snapshot.serverId(index));
+        assertEquals(1, snapshot.hostOf(index));
+        assertEquals(-1, snapshot.serverGroupOf(index));
+        assertEquals(-1, snapshot.indexOfServer("foo"));
+    }
+
+    @Test
+    public void hosts() {
+        assertEquals("master", snapshot.hostName(0));
+        assertTrue(snapshot.isHostAlive(0));
+        assertTrue(snapshot.isHostConnected(0));
+        assertFalse(snapshot.isDomainController(0));
+        assertFalse(snapshot.isHostAlive(1));
+        assertFalse(snapshot.isHostConnected(1));
+        assertSame(master, snapshot.host(0));
+    }
+
+    @Test
+    public void states() {
+        int index = snapshot.indexOfServer(master.getServers().get(2).getId());
+        assertEquals("server-three", snapshot.serverName(index));
+        assertEquals(ServerConfigStatus.STOPPED, snapshot.serverConfigStatus(index));
+        assertEquals(RunningState.UNDEFINED, snapshot.serverState(index));
+        assertEquals(SuspendState.UNDEFINED, snapshot.suspendState(index));
+        assertTrue(snapshot.isStopped(index));
+        assertFalse(snapshot.isStarted(index));
+        assertFalse(snapshot.hasBootErrors(index));
+
+        int orphan = snapshot.indexOfServer(slave.getServers().get(1).getId());
+        assertEquals(ServerConfigStatus.DISABLED, snapshot.serverConfigStatus(orphan));
+        assertTrue(snapshot.isStopped(orphan));
+    }
+
+    @Test
+    public void internedNames() {
+        int masterServerOne = snapshot.indexOfServer(master.getServers().get(1).getId());
+        int slaveServerOne = snapshot.indexOfServer(slave.getServers().get(0).getId());
+        assertSame(snapshot.serverName(masterServerOne), snapshot.serverName(slaveServerOne));
+    }
+
+    @Test
+    public void serversOfHost() {
+        assertEquals(asList("server-one", "server-three", "server-two"), names(snapshot.serversOfHost(0)));
+        assertEquals(asList("orphan", "server-one"), names(snapshot.serversOfHost(1)));
+        assertEquals(asList(master.getServers().get(1), master.getServers().get(2), master.getServers().get(0)),
+                snapshot.getServers(0));
+    }
+
+    @Test
+    public void serversOfServerGroup() {
+        assertEquals(asList("server-one", "server-two"), names(snapshot.serversOfServerGroup(0)));
+        assertEquals(asList("server-one", "server-three"), names(snapshot.serversOfServerGroup(1)));
+        assertEquals(2, snapshot.countServers(0, snapshot::isStarted));
+        assertEquals(1, snapshot.countServers(1, snapshot::isStarted));
+        assertTrue(snapshot.hasServers(1, snapshot::isStopped));
+        assertFalse(snapshot.hasServers(0, snapshot::isStopped));
+    }
+
+    @Test
+    public void cells() {
+        assertEquals(asList("server-one", "server-two"), names(snapshot.servers(0, 0)));
+        assertEquals(singletonList("server-three"), names(snapshot.servers(0, 1)));
+        assertEquals(0, snapshot.servers(1, 0).length);
+        assertEquals(singletonList("server-one"), names(snapshot.servers(1, 1)));
+    }
+
+    @Test
+    public void update() {
+        Server started = server("master", "server-three", "other-server-group", "started");
+        started.setBootErrors(true);
+        assertTrue(snapshot.update(started));
+
+        int index = snapshot.indexOfServer(started.getId());
+        assertEquals(ServerConfigStatus.STARTED, snapshot.serverConfigStatus(index));
+        assertTrue(snapshot.isStarted(index));
+        assertTrue(snapshot.hasBootErrors(index));
+        assertEquals(2, snapshot.countServers(1, snapshot::isStarted));
+        assertSame(started, snapshot.server(index));
+        assertSame(started, master.getServers().get(2));
+        assertSame(started, other.getServers().get(0));
+    }
+
+    @Test
+    public void updateRequiresReload() {
+        assertFalse(snapshot.update(server("master", "server-four", "main-server-group", "started")));
+        assertFalse(snapshot.update(server("master", "server-three", "main-server-group", "started")));
+    }
+}
@@ -18,6 +18,8 @@ package org.jboss.hal.dmr;
 import com.google.gwt.inject.client.AbstractGinModule;
 import com.google.inject.Singleton;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.dmr.dispatch.DmrDecoder;
+import org.jboss.hal.dmr.dispatch.Metrics;
 import org.jboss.hal.dmr.dispatch.ProcessStateProcessor;
 import org.jboss.hal.dmr.dispatch.ResponseHeadersProcessors;
 import org.jboss.hal.dmr.macro.Macros;
@@ -28,10 +30,13 @@ public class DmrModule extends AbstractGinModule {
 
     @Override
     protected void configure() {
+        bind(DmrDecoder.class).in(Singleton.class);
         bind(Macros.class).in(Singleton.class);
+        bind(Metrics.class).in(Singleton.class);
         bind(ProcessStateProcessor.class).in(Singleton.class);
         bind(ResponseHeadersProcessors.class).in(Singleton.class);
 
         bind(Dispatcher.class);
+        requestStaticInjection(Metrics.class);
     }
 }
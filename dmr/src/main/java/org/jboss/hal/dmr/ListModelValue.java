@@ -75,6 +75,11 @@ class ListModelValue extends ModelValue {
         return list.getClass() == ArrayList.class ? new ListModelValue(Collections.unmodifiableList(list)) : this;
     }
 
+    @Override
+    boolean isProtected() {
+        return list.getClass() != ArrayList.class;
+    }
+
     @Override
     long asLong() {
         return asInt();
@@ -176,6 +181,16 @@ class ListModelValue extends ModelValue {
         return new ListModelValue(this);
     }
 
+    @Override
+    ModelValue unshare() {
+        // copy() shares the nodes, which is not an option for protected nodes
+        ArrayList<ModelNode> copy = new ArrayList<>(list.size());
+        for (ModelNode node : list) {
+            copy.add(node.clone());
+        }
+        return new ListModelValue(copy);
+    }
+
     @Override
     ModelValue resolve() {
         ArrayList<ModelNode> copy = new ArrayList<>(list.size());
@@ -467,6 +467,7 @@ public interface ModelDescriptionConstants {
     String JSR77 = "jsr77";
     String JVM = "jvm";
     String KERBEROS_SECURITY_FACTORY = "kerberos-security-factory";
+    String KEY = "key";
     String KEY_ALIAS = "key-alias";
     String KEY_MANAGER = "key-manager";
     String KEY_OVERRIDES = "key-overrides";
@@ -537,6 +538,8 @@ public interface ModelDescriptionConstants {
     String MANAGEMENT_OPERATIONS = "management-operations";
     String MANAGEMENT_SPEC_VERSION = "management-spec-version";
     String MANAGEMENT_VERSION = "management-version";
+    String MAP_PUT_OPERATION = "map-put";
+    String MAP_REMOVE_OPERATION = "map-remove";
     String MAPPED_REGEX_REALM_MAPPER = "mapped-regex-realm-mapper";
     String MAPPED_ROLE_MAPPER = "mapped-role-mapper";
     String MAPPED_ROLES = "mapped-roles";
@@ -545,6 +548,7 @@ public interface ModelDescriptionConstants {
     String MATCH_ALL = "match-all";
     String MAX = "max";
     String MAX_ACTIVE_SESSIONS = "max-active-sessions";
+    String MAX_LENGTH = "max-length";
     String MAX_POOL_SIZE = "max-pool-size";
     String MAX_PROCESSING_TIME = "max-processing-time";
     String MAX_RETRIES = "max-retries";
@@ -566,6 +570,7 @@ public interface ModelDescriptionConstants {
     String MICROPROFILE_METRICS_SMALLRYE = "microprofile-metrics-smallrye";
     String MIME_MAPPING = "mime-mapping";
     String MIN = "min";
+    String MIN_LENGTH = "min-length";
     String MIN_POOL_SIZE = "min-pool-size";
     String MIN_PROCESSING_TIME = "min-processing-time";
     String MINIMUM_PERMISSIONS = "minimum-permissions";
@@ -600,6 +605,7 @@ public interface ModelDescriptionConstants {
     String NON_DURABLE_SUBSCRIPTION_COUNT = "non-durable-subscription-count";
     String NONE = "none";
     String NOT = "not";
+    String NOTIFICATIONS = "notifications";
     String NUMBER_OF_ABORTED_TRANSACTIONS = "number-of-aborted-transactions";
     String NUMBER_OF_APPLICATION_ROLLBACKS = "number-of-application-rollbacks";
     String NUMBER_OF_COMMITTED_TRANSACTIONS = "number-of-committed-transactions";
@@ -618,6 +624,7 @@ public interface ModelDescriptionConstants {
     String OPERATION = "operation";
     String OPERATION_DATE = "operation-date";
     String OPERATION_HEADERS = "operation-headers";
+    String OPERATION_NAME = "operation-name";
     String OPERATIONS = "operations";
     String ORDINAL = "ordinal";
     String ORGANIZATION = "organization";
@@ -720,6 +727,7 @@ public interface ModelDescriptionConstants {
     String READ_IDENTITY = "read-identity";
     String READ_LOG_FILE = "read-log-file";
     String READ_ONLY = "read-only";
+    String READ_OPERATION_DESCRIPTION_OPERATION = "read-operation-description";
     String READ_RESOURCE_DESCRIPTION_OPERATION = "read-resource-description";
     String READ_RESOURCE_OPERATION = "read-resource";
     String READ_WRITE = "read-write";
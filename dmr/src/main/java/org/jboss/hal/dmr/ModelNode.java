@@ -60,6 +60,32 @@ public class ModelNode implements Cloneable {
         return node;
     }
 
+    /**
+     * Creates a new node from the compact structure produced by the DMR decoder worker ({@code js/dmr-decoder.js}).
+     * Each node is an array whose first element is the {@linkplain ModelType#getTypeChar() type char} followed by
+     * the value(s):
+     * <ul>
+     * <li>objects: {@code ['o', [key1, node1, key2, node2, ...]]}</li>
+     * <li>lists: {@code ['l', [node1, node2, ...]]}</li>
+     * <li>properties: {@code ['p', name, node]}</li>
+     * <li>longs: {@code ['J', high, low]}</li>
+     * <li>big integers and bytes: {@code ['i'|'b', [byte1, byte2, ...]]}</li>
+     * <li>types: {@code ['t', typeChar]}</li>
+     * <li>undefined: {@code ['u']}</li>
+     * <li>all other types: {@code [typeChar, value]}</li>
+     * </ul>
+     *
+     * @param compact The compact structure.
+     *
+     * @return the new model node
+     */
+    @JsIgnore
+    public static ModelNode fromCompact(Object[] compact) {
+        ModelNode node = new ModelNode();
+        node.readCompact(compact);
+        return node;
+    }
+
     private static native byte[] toBytes(String str) /*-{
         var bytes = [];
         for (var i = 0; i < str.length; ++i) {
@@ -85,6 +111,9 @@ public class ModelNode implements Cloneable {
     /**
      * Prevent further modifications to this node and its sub-nodes. Note that copies
      * of this node made after this method call will not be protected.
+     * <p>
+     * Copies of a protected node are cheap: They share the protected value and copy it on the first modification
+     * (copy-on-write). Only the modified path is copied, all other sub-nodes remain shared.
      */
     @JsIgnore
     public void protect() {
@@ -537,7 +566,7 @@ public class ModelNode implements Cloneable {
             throw new IllegalArgumentException(NEW_VALUE_IS_NULL);
         }
         checkProtect();
-        value = newValue.value.copy();
+        value = copyOnWrite(newValue.value);
         return this;
     }
 
@@ -856,7 +885,7 @@ public class ModelNode implements Cloneable {
             this.value = new ObjectModelValue();
             return this.value.getChild(name);
         }
-        return value.getChild(name);
+        return writableValue().getChild(name);
     }
 
     /**
@@ -873,7 +902,7 @@ public class ModelNode implements Cloneable {
      */
     @JsIgnore
     public ModelNode require(String name) throws NoSuchElementException {
-        return value.requireChild(name);
+        return writableValue().requireChild(name);
     }
 
     /**
@@ -889,7 +918,7 @@ public class ModelNode implements Cloneable {
      */
     @JsIgnore
     public ModelNode remove(String name) throws NoSuchElementException {
-        return value.removeChild(name);
+        return writableValue().removeChild(name);
     }
 
     /**
@@ -911,7 +940,7 @@ public class ModelNode implements Cloneable {
             checkProtect();
             return (this.value = new ListModelValue()).getChild(index);
         }
-        return value.getChild(index);
+        return writableValue().getChild(index);
     }
 
     /**
@@ -928,7 +957,7 @@ public class ModelNode implements Cloneable {
      */
     @JsIgnore
     public ModelNode require(int index) {
-        return value.requireChild(index);
+        return writableValue().requireChild(index);
     }
 
     /**
@@ -1219,7 +1248,7 @@ public class ModelNode implements Cloneable {
             this.value = new ListModelValue();
             return this.value.addChild();
         }
-        return value.addChild();
+        return writableValue().addChild();
     }
 
     /**
@@ -1284,7 +1313,7 @@ public class ModelNode implements Cloneable {
      */
     @JsIgnore
     public boolean hasDefined(int index) {
-        return value.has(index) && get(index).isDefined();
+        return value.has(index) && value.getChild(index).isDefined();
     }
 
     /**
@@ -1296,7 +1325,7 @@ public class ModelNode implements Cloneable {
      * @return true if there is a node at the given index and its type is not undefined
      */
     public boolean hasDefined(String key) {
-        return value.has(key) && get(key).isDefined();
+        return value.has(key) && value.getChild(key).isDefined();
     }
 
     /**
@@ -1319,7 +1348,7 @@ public class ModelNode implements Cloneable {
      */
     @JsIgnore
     public List<ModelNode> asList() {
-        return value.asList();
+        return writableValue().asList();
     }
 
     /**
@@ -1433,10 +1462,26 @@ public class ModelNode implements Cloneable {
     @JsIgnore
     public ModelNode clone() {
         ModelNode clone = new ModelNode();
-        clone.value = value.copy();
+        clone.value = copyOnWrite(value);
         return clone;
     }
 
+    /** Protected values are shared and copied by {@link #writableValue()} on the first modification. */
+    private static ModelValue copyOnWrite(ModelValue value) {
+        return value.isProtected() ? value : value.copy();
+    }
+
+    /**
+     * Returns the value for operations which modify the value or hand out sub-nodes which might be modified. If this
+     * node shares a protected value, the value is copied first.
+     */
+    private ModelValue writableValue() {
+        if (!protect && value.isProtected()) {
+            value = value.unshare();
+        }
+        return value;
+    }
+
     protected void format(StringBuilder builder, int indent, boolean multiLine) {
         value.format(builder, indent, multiLine);
     }
@@ -1533,6 +1578,76 @@ public class ModelNode implements Cloneable {
         }
     }
 
+    private void readCompact(Object[] compact) {
+        checkProtect();
+        ModelType type = ModelType.forChar(((String) compact[0]).charAt(0));
+        switch (type) {
+            case UNDEFINED:
+                value = ModelValue.UNDEFINED;
+                return;
+            case BIG_DECIMAL:
+                value = new BigDecimalModelValue(new BigDecimal((String) compact[1]));
+                return;
+            case BIG_INTEGER:
+                value = new BigIntegerModelValue(new BigInteger(compactBytes((Object[]) compact[1])));
+                return;
+            case BOOLEAN:
+                value = BooleanModelValue.valueOf((Boolean) compact[1]);
+                return;
+            case BYTES:
+                value = new BytesModelValue(compactBytes((Object[]) compact[1]));
+                return;
+            case DOUBLE:
+                value = new DoubleModelValue(((Number) compact[1]).doubleValue());
+                return;
+            case EXPRESSION:
+                value = new ExpressionValue((String) compact[1]);
+                return;
+            case INT:
+                value = new IntModelValue(((Number) compact[1]).intValue());
+                return;
+            case LIST:
+                value = new ListModelValue();
+                for (Object element : (Object[]) compact[1]) {
+                    add().readCompact((Object[]) element);
+                }
+                return;
+            case LONG:
+                long high = ((Number) compact[1]).longValue();
+                long low = ((Number) compact[2]).longValue();
+                value = new LongModelValue((high << 32) | (low & 0xFFFFFFFFL));
+                return;
+            case OBJECT:
+                value = new ObjectModelValue();
+                Object[] entries = (Object[]) compact[1];
+                for (int i = 0; i < entries.length; i += 2) {
+                    get((String) entries[i]).readCompact((Object[]) entries[i + 1]);
+                }
+                return;
+            case PROPERTY:
+                ModelNode propertyValue = new ModelNode();
+                propertyValue.readCompact((Object[]) compact[2]);
+                value = new PropertyModelValue((String) compact[1], propertyValue);
+                return;
+            case STRING:
+                value = new StringModelValue((String) compact[1]);
+                return;
+            case TYPE:
+                value = TypeModelValue.of(ModelType.forChar(((String) compact[1]).charAt(0)));
+                return;
+            default:
+                throw new IllegalStateException("Invalid type read: " + type);
+        }
+    }
+
+    private static byte[] compactBytes(Object[] compact) {
+        byte[] bytes = new byte[compact.length];
+        for (int i = 0; i < compact.length; i++) {
+            bytes[i] = ((Number) compact[i]).byteValue();
+        }
+        return bytes;
+    }
+
     private void checkProtect() {
         if (protect) {
             throw new UnsupportedOperationException();
@@ -1598,7 +1713,7 @@ public class ModelNode implements Cloneable {
     @JsMethod(name = "asList")
     @EsReturn("ModelNode[]")
     public ModelNode[] jsAsList() {
-        List<ModelNode> modelNodes = value.asList();
+        List<ModelNode> modelNodes = writableValue().asList();
         if (modelNodes != null) {
             return modelNodes.toArray(new ModelNode[modelNodes.size()]);
         }
@@ -258,10 +258,26 @@ abstract class ModelValue implements Cloneable {
         return this;
     }
 
+    /**
+     * @return {@code true} if this is a protected collection value. Protected values cannot change and are shared
+     * between nodes until one of the nodes is modified.
+     */
+    boolean isProtected() {
+        return false;
+    }
+
     ModelValue copy() {
         return this;
     }
 
+    /**
+     * Returns a modifiable copy of a protected value. Defaults to {@link #copy()}, which is expected to clone the
+     * children. Since the children are protected as well, cloning them is cheap.
+     */
+    ModelValue unshare() {
+        return copy();
+    }
+
     @Override
     public abstract boolean equals(Object other);
 
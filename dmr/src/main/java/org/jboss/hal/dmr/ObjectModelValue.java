@@ -16,9 +16,7 @@
 package org.jboss.hal.dmr;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -29,14 +27,14 @@ import java.util.Set;
  */
 class ObjectModelValue extends ModelValue {
 
-    private final Map<String, ModelNode> map;
+    private final OrderedStringMap<ModelNode> map;
 
     ObjectModelValue() {
         super(ModelType.OBJECT);
-        map = new LinkedHashMap<>();
+        map = new OrderedStringMap<>();
     }
 
-    private ObjectModelValue(Map<String, ModelNode> map) {
+    private ObjectModelValue(OrderedStringMap<ModelNode> map) {
         super(ModelType.OBJECT);
         this.map = map;
     }
@@ -44,7 +42,7 @@ class ObjectModelValue extends ModelValue {
     ObjectModelValue(DataInput in) {
         super(ModelType.OBJECT);
         int count = in.readInt();
-        LinkedHashMap<String, ModelNode> map = new LinkedHashMap<>();
+        OrderedStringMap<ModelNode> map = new OrderedStringMap<>(count);
         for (int i = 0; i < count; i++) {
             String key = in.readUTF();
             ModelNode value = new ModelNode();
@@ -56,22 +54,25 @@ class ObjectModelValue extends ModelValue {
 
     @Override
     void writeExternal(DataOutput out) {
-        Map<String, ModelNode> map = this.map;
-        int size = map.size();
-        out.writeInt(size);
-        for (Map.Entry<String, ModelNode> entry : map.entrySet()) {
-            out.writeUTF(entry.getKey());
-            entry.getValue().writeExternal(out);
-        }
+        out.writeInt(map.size());
+        map.forEach((key, node) -> {
+            out.writeUTF(key);
+            node.writeExternal(out);
+        });
     }
 
     @Override
     ModelValue protect() {
-        Map<String, ModelNode> map = this.map;
-        for (ModelNode node : map.values()) {
-            node.protect();
+        if (!map.isFrozen()) {
+            map.forEach((key, node) -> node.protect());
+            map.freeze();
         }
-        return map.getClass() == LinkedHashMap.class ? new ObjectModelValue(Collections.unmodifiableMap(map)) : this;
+        return this;
+    }
+
+    @Override
+    boolean isProtected() {
+        return map.isFrozen();
     }
 
     @Override
@@ -142,10 +143,8 @@ class ObjectModelValue extends ModelValue {
 
     @Override
     List<Property> asPropertyList() {
-        List<Property> propertyList = new ArrayList<>();
-        for (Map.Entry<String, ModelNode> entry : map.entrySet()) {
-            propertyList.add(new Property(entry.getKey(), entry.getValue()));
-        }
+        List<Property> propertyList = new ArrayList<>(map.size());
+        map.forEach((key, node) -> propertyList.add(new Property(key, node)));
         return propertyList;
     }
 
@@ -160,21 +159,15 @@ class ObjectModelValue extends ModelValue {
     }
 
     ModelValue copy(boolean resolve) {
-        LinkedHashMap<String, ModelNode> newMap = new LinkedHashMap<>();
-        for (Map.Entry<String, ModelNode> entry : map.entrySet()) {
-            newMap.put(entry.getKey(), resolve ? entry.getValue().resolve() : entry.getValue().clone());
-        }
+        OrderedStringMap<ModelNode> newMap = new OrderedStringMap<>(map.size());
+        map.forEach((key, node) -> newMap.put(key, resolve ? node.resolve() : node.clone()));
         return new ObjectModelValue(newMap);
     }
 
     @Override
     List<ModelNode> asList() {
-        ArrayList<ModelNode> nodes = new ArrayList<>();
-        for (Map.Entry<String, ModelNode> entry : map.entrySet()) {
-            ModelNode node = new ModelNode();
-            node.set(entry.getKey(), entry.getValue());
-            nodes.add(node);
-        }
+        ArrayList<ModelNode> nodes = new ArrayList<>(map.size());
+        map.forEach((key, value) -> nodes.add(new ModelNode().set(key, value)));
         return nodes;
     }
 
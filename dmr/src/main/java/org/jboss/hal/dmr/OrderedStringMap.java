@@ -0,0 +1,404 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
+
+/**
+ * String keyed map used by {@link ObjectModelValue}. Keys and values are stored in insertion order in two parallel
+ * arrays. An open addressing hash table (linear probing) maps the keys to their position in the arrays. Compared to
+ * {@link java.util.LinkedHashMap} this needs no entry objects and makes lookups cheaper for the wide objects found in
+ * resource descriptions.
+ * <p>
+ * New keys are interned against the most common DMR keys, so that the keys of decoded payloads don't keep thousands
+ * of equal strings.
+ * <p>
+ * Null keys and values are not supported. Once {@linkplain #freeze() frozen}, all modifications throw an {@link
+ * UnsupportedOperationException}.
+ */
+final class OrderedStringMap<V> extends AbstractMap<String, V> {
+
+    private static final int FREE = 0;
+    private static final int DELETED = -1;
+    private static final int MIN_CAPACITY = 4;
+
+    private static final String[] COMMON_KEYS = {
+            ACCESS_CONSTRAINTS, ACCESS_CONTROL, ACCESS_TYPE, ADDRESS, ALLOWED, ALTERNATIVES, ATTRIBUTE_GROUP,
+            ATTRIBUTES, CAPABILITY_REFERENCE, CHILDREN, DEFAULT, DEPRECATED, DESCRIPTION, EXCEPTIONS, EXECUTE,
+            EXPRESSIONS_ALLOWED, FAILURE_DESCRIPTION, MAX, MAX_LENGTH, MIN, MIN_LENGTH, MODEL_DESCRIPTION, NAME,
+            NILLABLE, NOTIFICATIONS, OP, OPERATION_NAME, OPERATIONS, OUTCOME, READ, READ_ONLY, REASON,
+            REPLY_PROPERTIES, REQUEST_PROPERTIES, REQUIRED, REQUIRES, RESPONSE_HEADERS, RESTART_REQUIRED, RESULT,
+            SENSITIVE, SINCE, STEPS, STORAGE, TYPE, UNIT, VALUE, VALUE_TYPE, WRITE,
+    };
+    private static final String[] INTERNED = new String[128];
+
+    static {
+        for (String key : COMMON_KEYS) {
+            int slot = spread(key.hashCode()) & (INTERNED.length - 1);
+            while (INTERNED[slot] != null) {
+                slot = (slot + 1) & (INTERNED.length - 1);
+            }
+            INTERNED[slot] = key;
+        }
+    }
+
+    /** @return the common key equal to the specified key or the key itself */
+    static String intern(String key) {
+        int slot = spread(key.hashCode()) & (INTERNED.length - 1);
+        String interned;
+        while ((interned = INTERNED[slot]) != null) {
+            if (interned.equals(key)) {
+                return interned;
+            }
+            slot = (slot + 1) & (INTERNED.length - 1);
+        }
+        return key;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private String[] keys;
+    private Object[] values;
+    private int[] table; // index + 1 of the entry in keys / values, FREE or DELETED
+    private int count; // number of used array positions including removed entries
+    private int size;
+    private int modifications;
+    private boolean frozen;
+
+    OrderedStringMap() {
+        this(MIN_CAPACITY);
+    }
+
+    OrderedStringMap(int capacity) {
+        allocate(Math.max(MIN_CAPACITY, capacity));
+    }
+
+    private void allocate(int capacity) {
+        keys = new String[capacity];
+        values = new Object[capacity];
+        table = new int[tableSize(capacity)];
+        count = 0;
+        size = 0;
+    }
+
+    private static int tableSize(int capacity) {
+        // at least twice the capacity to keep the load factor <= 0.5
+        int tableSize = 1;
+        while (tableSize < capacity * 2) {
+            tableSize <<= 1;
+        }
+        return tableSize;
+    }
+
+
+    // ------------------------------------------------------ lookup
+
+    private int indexOf(Object key) {
+        if (!(key instanceof String)) {
+            return -1;
+        }
+        int mask = table.length - 1;
+        int slot = spread(key.hashCode()) & mask;
+        int entry;
+        while ((entry = table[slot]) != FREE) {
+            if (entry != DELETED) {
+                String k = keys[entry - 1];
+                if (k == key || k.equals(key)) {
+                    return entry - 1;
+                }
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) != -1;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        int index = indexOf(key);
+        return index == -1 ? null : (V) values[index];
+    }
+
+
+    // ------------------------------------------------------ modification
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(String key, V value) {
+        checkFrozen();
+        if (key == null || value == null) {
+            throw new NullPointerException();
+        }
+        int index = indexOf(key);
+        if (index != -1) {
+            V old = (V) values[index];
+            values[index] = value;
+            return old;
+        }
+
+        if (count == keys.length) {
+            // compact if at least half of the entries have been removed, grow otherwise
+            resize(size * 2 <= keys.length ? keys.length : keys.length * 2);
+        }
+        String interned = intern(key);
+        keys[count] = interned;
+        values[count] = value;
+        insert(interned, count);
+        count++;
+        size++;
+        modifications++;
+        return null;
+    }
+
+    @Override
+    public V remove(Object key) {
+        checkFrozen();
+        int index = indexOf(key);
+        return index == -1 ? null : removeAt(index);
+    }
+
+    @SuppressWarnings("unchecked")
+    private V removeAt(int index) {
+        int mask = table.length - 1;
+        int slot = spread(keys[index].hashCode()) & mask;
+        while (table[slot] != index + 1) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = DELETED;
+        V old = (V) values[index];
+        keys[index] = null;
+        values[index] = null;
+        size--;
+        modifications++;
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        checkFrozen();
+        allocate(MIN_CAPACITY);
+        modifications++;
+    }
+
+    private void insert(String key, int index) {
+        int mask = table.length - 1;
+        int slot = spread(key.hashCode()) & mask;
+        while (table[slot] > FREE) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = index + 1;
+    }
+
+    private void resize(int capacity) {
+        String[] oldKeys = keys;
+        Object[] oldValues = values;
+        int oldCount = count;
+        allocate(capacity);
+        for (int i = 0; i < oldCount; i++) {
+            if (oldKeys[i] != null) {
+                keys[count] = oldKeys[i];
+                values[count] = oldValues[i];
+                insert(oldKeys[i], count);
+                count++;
+            }
+        }
+        size = count;
+    }
+
+    /** Prevents further modifications. */
+    void freeze() {
+        frozen = true;
+    }
+
+    boolean isFrozen() {
+        return frozen;
+    }
+
+    private void checkFrozen() {
+        if (frozen) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+
+    // ------------------------------------------------------ iteration
+
+    /** Iterates over the entries in insertion order w/o creating entry objects. */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super String, ? super V> action) {
+        int expectedModifications = modifications;
+        for (int i = 0; i < count; i++) {
+            if (keys[i] != null) {
+                action.accept(keys[i], (V) values[i]);
+                if (modifications != expectedModifications) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<String, V>> entrySet() {
+        return new AbstractSet<Map.Entry<String, V>>() {
+            @Override
+            public Iterator<Map.Entry<String, V>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private class EntryIterator implements Iterator<Map.Entry<String, V>> {
+
+        private int next;
+        private int current;
+        private int expectedModifications;
+
+        EntryIterator() {
+            this.next = skipRemoved(0);
+            this.current = -1;
+            this.expectedModifications = modifications;
+        }
+
+        private int skipRemoved(int index) {
+            while (index < count && keys[index] == null) {
+                index++;
+            }
+            return index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < count;
+        }
+
+        @Override
+        public Map.Entry<String, V> next() {
+            if (modifications != expectedModifications) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= count) {
+                throw new NoSuchElementException();
+            }
+            current = next;
+            next = skipRemoved(next + 1);
+            return new Entry(current);
+        }
+
+        @Override
+        public void remove() {
+            if (current == -1) {
+                throw new IllegalStateException();
+            }
+            checkFrozen();
+            if (modifications != expectedModifications) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(current);
+            current = -1;
+            expectedModifications = modifications;
+        }
+    }
+
+    private class Entry implements Map.Entry<String, V> {
+
+        private final int index;
+        private final String key;
+
+        Entry(int index) {
+            this.index = index;
+            this.key = keys[index];
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V getValue() {
+            // the map might have been resized or modified in the meantime
+            return index < keys.length && keys[index] == key ? (V) values[index] : get(key);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V setValue(V value) {
+            checkFrozen();
+            if (value == null) {
+                throw new NullPointerException();
+            }
+            if (index >= keys.length || keys[index] != key) {
+                return put(key, value);
+            }
+            V old = (V) values[index];
+            values[index] = value;
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+            return key.equals(entry.getKey()) && Objects.equals(getValue(), entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+}
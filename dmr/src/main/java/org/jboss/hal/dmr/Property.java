@@ -67,6 +67,6 @@ public class Property implements Cloneable {
 
     @JsIgnore
     public Property clone() {
-        return new Property(name, value.clone());
+        return new Property(name, value); // the constructor clones the value
     }
 }
@@ -16,6 +16,7 @@
 package org.jboss.hal.dmr.dispatch;
 
 import com.google.web.bindery.event.shared.EventBus;
+import elemental2.core.ArrayBuffer;
 import elemental2.dom.*;
 import elemental2.dom.Blob.ConstructorBlobPartsArrayUnionType;
 import elemental2.dom.FormData.AppendValueUnionType;
@@ -37,8 +38,10 @@ import org.jboss.hal.spi.Message;
 import org.jboss.hal.spi.MessageEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import rx.Observable;
 import rx.Single;
 import rx.SingleSubscriber;
+import rx.functions.Action0;
 
 import javax.inject.Inject;
 import java.util.ArrayList;
@@ -49,6 +52,8 @@ import java.util.function.Consumer;
 import static com.google.common.collect.Sets.difference;
 import static elemental2.core.Global.encodeURIComponent;
 import static elemental2.dom.DomGlobal.navigator;
+import static elemental2.dom.DomGlobal.performance;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.stream.Collectors.joining;
 import static org.jboss.hal.config.Settings.Key.RUN_AS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
@@ -56,7 +61,13 @@ import static org.jboss.hal.dmr.dispatch.Dispatcher.HttpMethod.GET;
 import static org.jboss.hal.dmr.dispatch.Dispatcher.HttpMethod.POST;
 import static org.jboss.hal.dmr.dispatch.RequestHeader.*;
 
-/** Executes operations against the management endpoint. */
+/**
+ * Executes operations against the management endpoint.
+ * <p>
+ * Read-only operations are idempotent and get special treatment based on the latencies recorded by {@link
+ * LatencyTracker}: They time out adaptively, are hedged (sent a second time) if they're slow and are retried with
+ * jittered exponential back-off after temporary errors. Write operations are sent exactly once.
+ */
 @JsType(namespace = "hal.dmr")
 public class Dispatcher implements RecordingHandler {
 
@@ -81,6 +92,8 @@ public class Dispatcher implements RecordingHandler {
     private final Settings settings;
     private final EventBus eventBus;
     private final ResponseHeadersProcessors responseHeadersProcessors;
+    private final DmrDecoder dmrDecoder;
+    private final Metrics metrics;
     private final Macros macros;
     private final OnFail failedCallback;
     private final OnError exceptionCallback;
@@ -88,13 +101,15 @@ public class Dispatcher implements RecordingHandler {
     @Inject
     @JsIgnore
     public Dispatcher(Environment environment, Endpoints endpoints, Settings settings,
-            EventBus eventBus, ResponseHeadersProcessors responseHeadersProcessors,
-            Macros macros, Resources resources) {
+            EventBus eventBus, ResponseHeadersProcessors responseHeadersProcessors, DmrDecoder dmrDecoder,
+            Metrics metrics, Macros macros, Resources resources) {
         this.environment = environment;
         this.endpoints = endpoints;
         this.settings = settings;
         this.eventBus = eventBus;
         this.responseHeadersProcessors = responseHeadersProcessors;
+        this.dmrDecoder = dmrDecoder;
+        this.metrics = metrics;
         this.macros = macros;
 
         this.eventBus.addHandler(RecordingEvent.getType(), this);
@@ -186,7 +201,7 @@ public class Dispatcher implements RecordingHandler {
         Operation dmrOperation = runAs(operation); // runAs might mutate the operation, so do it synchronously
         String url = endpoints.dmr();
         // ^-- those eager fields are useful if we don't want to evaluate it on each Single subscription
-        return Single.fromEmitter(emitter -> {
+        Single<ModelNode> request = Single.<ModelNode>fromEmitter(emitter -> {
             // in general, code inside the RX type should be able to be executed multiple times and always returns
             // the same result, so we need to be careful to not mutate anything (like the operation). This is useful
             // for example if we want to use the retry operator which will try again (subscribe again) if it fails.
@@ -195,9 +210,149 @@ public class Dispatcher implements RecordingHandler {
                     (op, error) -> emitter.onError(error));
             xhr.setRequestHeader(ACCEPT.header(), APPLICATION_DMR_ENCODED);
             xhr.setRequestHeader(CONTENT_TYPE.header(), APPLICATION_DMR_ENCODED);
+            if (dmrDecoder.enabled()) {
+                xhr.responseType = DmrDecoder.ARRAY_BUFFER;
+            }
+            // abort timed out requests and hedged requests which lost the race
+            emitter.setCancellation(xhr::abort);
             xhr.send(dmrOperation.toBase64String());
             logger.trace("DMR operation: {}", operation);
-            recordOperation(operation);
+        });
+
+        if (readOnlyOperation(operation)) {
+            // reads are idempotent: apply adaptive timeouts, hedge slow requests and retry temporary errors
+            request = retry(hedge(withTimeout(request, operation), operation), operation, 0);
+        }
+        return request
+                .doOnSubscribe(() -> recordOperation(operation))
+                .doOnSuccess(payload -> {
+                    if (!readOnlyOperation(operation)) {
+                        eventBus.fireEvent(new ModelChangedEvent(operation));
+                    }
+                });
+    }
+
+    private Single<ModelNode> withTimeout(Single<ModelNode> request, Operation operation) {
+        return Single.defer(() -> {
+            double timeout = metrics.latencies().timeout(operation);
+            if (timeout < 0 || pendingLifecycleAction) {
+                return request;
+            }
+            return request.timeout((long) timeout, MILLISECONDS, Single.defer(() -> {
+                logger.debug("DMR operation timed out after {} ms: {}", (long) timeout, operation.asCli());
+                metrics.timeout(operation, timeout);
+                return Single.error(new DispatchError(LatencyTracker.TIMEOUT_STATUS,
+                        "Operation timed out after " + (long) timeout + " ms.", operation));
+            }));
+        });
+    }
+
+    /**
+     * Sends a second request if the first one did not return within the hedge delay of the endpoint. The first
+     * response wins, the other request is aborted. The call fails only if both requests failed (or if the first
+     * request failed before the second one was sent).
+     */
+    private Single<ModelNode> hedge(Single<ModelNode> request, Operation operation) {
+        return Single.defer(() -> {
+            double delay = metrics.latencies().hedgeDelay(operation);
+            if (delay < 0 || pendingLifecycleAction) {
+                return request;
+            }
+            // state of this subscription
+            List<Throwable> errors = new ArrayList<>();
+            boolean[] hedgeSent = new boolean[]{false};
+
+            Observable<ModelNode> original = request.toObservable().onErrorResumeNext(error -> {
+                if (!hedgeSent[0]) {
+                    return Observable.error(error);
+                }
+                errors.add(error);
+                return Observable.empty();
+            });
+            Observable<ModelNode> hedged = Observable.timer((long) delay, MILLISECONDS).flatMap(tick -> {
+                LatencyTracker latencies = metrics.latencies();
+                if (!latencies.acquireHedge()) {
+                    return Observable.empty();
+                }
+                hedgeSent[0] = true;
+                boolean[] released = new boolean[]{false};
+                Action0 release = () -> {
+                    if (!released[0]) {
+                        released[0] = true;
+                        latencies.releaseHedge();
+                    }
+                };
+                logger.debug("Hedge DMR operation after {} ms: {}", (long) delay, operation.asCli());
+                metrics.hedge(operation);
+                return request.toObservable()
+                        .doOnTerminate(release)
+                        .doOnUnsubscribe(release)
+                        .doOnNext(payload -> metrics.hedgeWon(operation))
+                        .onErrorResumeNext(error -> {
+                            errors.add(error);
+                            return Observable.empty();
+                        });
+            });
+            return Observable.merge(original, hedged)
+                    .take(1)
+                    .switchIfEmpty(Observable.defer(() -> Observable.error(errors.get(0))))
+                    .toSingle();
+        });
+    }
+
+    private Single<ModelNode> retry(Single<ModelNode> request, Operation operation, int attempt) {
+        return request.onErrorResumeNext(error -> {
+            if (attempt < LatencyTracker.MAX_RETRIES && !pendingLifecycleAction && LatencyTracker.retryable(error)) {
+                long delay = (long) LatencyTracker.retryDelay(attempt, Math.random());
+                logger.debug("Retry DMR operation in {} ms after {}: {}", delay, error.getMessage(),
+                        operation.asCli());
+                metrics.retry(operation);
+                return Observable.timer(delay, MILLISECONDS).toSingle()
+                        .flatMap(tick -> retry(request, operation, attempt + 1));
+            }
+            return Single.error(error);
+        });
+    }
+
+
+    // ------------------------------------------------------ execute w/o decoding
+
+    /**
+     * Executes the composite operation, but does not decode the response. Instead the base64 encoded DMR response is
+     * emitted as array buffer which can be transferred to a web worker. Failures are decoded on the UI thread and
+     * emitted as {@link DispatchFailure}.
+     * <p>
+     * Use this method for read-only operations with big responses only: Response headers are not processed and no
+     * {@link ModelChangedEvent} is fired.
+     */
+    @JsIgnore
+    public Single<ArrayBuffer> executeEncoded(Composite composite) {
+        Operation dmrOperation = runAs(composite);
+        String url = endpoints.dmr();
+        return Single.fromEmitter(emitter -> {
+            double start = performance.now();
+            XMLHttpRequest xhr = newXhr(url, POST, dmrOperation, (op, error) -> emitter.onError(error), x -> {
+                int status = x.status;
+                if (status == 200) {
+                    ArrayBuffer buffer = DmrDecoder.response(x);
+                    metrics.record(composite, performance.now() - start, (int) buffer.byteLength, 0, 0);
+                    emitter.onSuccess(buffer);
+                } else if (status == 500) {
+                    String contentType = x.getResponseHeader(CONTENT_TYPE.header());
+                    ModelNode payload = new DmrPayloadProcessor().processPayload(POST, contentType,
+                            DmrDecoder.asText(DmrDecoder.response(x)));
+                    emitter.onError(new DispatchFailure(payload.getFailureDescription(), composite));
+                } else {
+                    // always emit an error, even during lifecycle actions: the metadata flow waits for this single
+                    handleErrorCodes(url, status, composite, (op, error) -> emitter.onError(error));
+                }
+            });
+            xhr.setRequestHeader(ACCEPT.header(), APPLICATION_DMR_ENCODED);
+            xhr.setRequestHeader(CONTENT_TYPE.header(), APPLICATION_DMR_ENCODED);
+            xhr.responseType = DmrDecoder.ARRAY_BUFFER;
+            xhr.send(dmrOperation.toBase64String());
+            logger.trace("DMR operation (encoded response): {}", composite);
+            recordOperation(composite);
         });
     }
 
@@ -340,34 +495,23 @@ public class Dispatcher implements RecordingHandler {
 
     private XMLHttpRequest newDmrXhr(String url, Operation operation, PayloadProcessor payloadProcessor,
             Consumer<ModelNode> success, OnFail fail, OnError error) {
+        double start = performance.now();
         return newXhr(url, POST, operation, error, xhr -> {
+            double network = performance.now() - start;
             int status = xhr.status;
-            String responseText = xhr.responseText;
             String contentType = xhr.getResponseHeader(CONTENT_TYPE.header());
 
             if (status == 200 || status == 500) {
-                ModelNode payload = payloadProcessor.processPayload(POST, contentType, responseText);
-                if (!payload.isFailure()) {
-                    if (environment.isStandalone()) {
-                        if (payload.hasDefined(RESPONSE_HEADERS)) {
-                            Header[] headers = new Header[]{new Header(payload.get(RESPONSE_HEADERS))};
-                            for (ResponseHeadersProcessor processor : responseHeadersProcessors.processors()) {
-                                processor.process(headers);
-                            }
-                        }
-                    } else {
-                        if (payload.hasDefined(SERVER_GROUPS)) {
-                            Header[] headers = collectHeaders(payload.get(SERVER_GROUPS));
-                            if (headers.length != 0) {
-                                for (ResponseHeadersProcessor processor : responseHeadersProcessors.processors()) {
-                                    processor.process(headers);
-                                }
-                            }
-                        }
-                    }
-                    success.accept(payload);
+                int bytes = DmrDecoder.bytes(xhr); // read before the decoder transfers the buffer to the worker
+                double decodeStart = performance.now();
+                if (dmrDecoder.accept(xhr)) {
+                    dmrDecoder.decode(xhr, contentType,
+                            payload -> processPayload(operation, payload, success, fail,
+                                    network, bytes, performance.now() - decodeStart));
                 } else {
-                    fail.onFailed(operation, payload.getFailureDescription());
+                    ModelNode payload = payloadProcessor.processPayload(POST, contentType, xhr.responseText);
+                    processPayload(operation, payload, success, fail,
+                            network, bytes, performance.now() - decodeStart);
                 }
             } else {
                 if (!pendingLifecycleAction) {
@@ -377,6 +521,33 @@ public class Dispatcher implements RecordingHandler {
         });
     }
 
+    private void processPayload(Operation operation, ModelNode payload, Consumer<ModelNode> success, OnFail fail,
+            double network, int bytes, double decode) {
+        double callbackStart = performance.now();
+        if (!payload.isFailure()) {
+            // read-only operations cannot change the process state: skip the response headers
+            if (!readOnlyOperation(operation)) {
+                Header[] headers;
+                if (environment.isStandalone()) {
+                    headers = new Header[]{new Header(responseHeaders(payload))};
+                } else {
+                    headers = payload.hasDefined(SERVER_GROUPS)
+                            ? collectHeaders(payload.get(SERVER_GROUPS))
+                            : new Header[0];
+                }
+                if (headers.length != 0) {
+                    for (ResponseHeadersProcessor processor : responseHeadersProcessors.processors()) {
+                        processor.process(headers);
+                    }
+                }
+            }
+            success.accept(payload);
+        } else {
+            fail.onFailed(operation, payload.getFailureDescription());
+        }
+        metrics.record(operation, network, bytes, decode, performance.now() - callbackStart);
+    }
+
     private XMLHttpRequest newXhr(String url, HttpMethod method, Operation operation, OnError error, OnLoad onLoad) {
         XMLHttpRequest xhr = new XMLHttpRequest();
 
@@ -430,18 +601,21 @@ public class Dispatcher implements RecordingHandler {
 
     private Header[] collectHeaders(ModelNode serverGroups) {
         List<Header> headers = new ArrayList<>();
-        for (Property serverGroup : serverGroups.asPropertyList()) {
-            ModelNode serverGroupValue = serverGroup.getValue();
+        for (String serverGroup : serverGroups.keys()) {
+            ModelNode serverGroupValue = serverGroups.get(serverGroup);
             if (serverGroupValue.hasDefined(HOST)) {
-                List<Property> hosts = serverGroupValue.get(HOST).asPropertyList();
-                for (Property host : hosts) {
-                    ModelNode hostValue = host.getValue();
-                    List<Property> servers = hostValue.asPropertyList();
-                    for (Property server : servers) {
-                        ModelNode serverResponse = server.getValue().get(RESPONSE);
-                        if (serverResponse.hasDefined(RESPONSE_HEADERS)) {
-                            headers.add(new Header(serverGroup.getName(), host.getName(), server.getName(),
-                                    serverResponse.get(RESPONSE_HEADERS)));
+                ModelNode hosts = serverGroupValue.get(HOST);
+                for (String host : hosts.keys()) {
+                    ModelNode servers = hosts.get(host);
+                    for (String server : servers.keys()) {
+                        // servers w/o response headers are passed as well: they're no longer in a reload / restart
+                        // required state
+                        ModelNode serverValue = servers.get(server);
+                        if (serverValue.hasDefined(RESPONSE)) {
+                            ModelNode serverResponse = serverValue.get(RESPONSE);
+                            if (serverResponse.hasDefined(RESPONSE_HEADERS) || !serverResponse.isFailure()) {
+                                headers.add(new Header(serverGroup, host, server, responseHeaders(serverResponse)));
+                            }
                         }
                     }
                 }
@@ -450,6 +624,11 @@ public class Dispatcher implements RecordingHandler {
         return headers.toArray(new Header[0]);
     }
 
+    private ModelNode responseHeaders(ModelNode response) {
+        // don't use get() which would add an undefined node to the response
+        return response.hasDefined(RESPONSE_HEADERS) ? response.get(RESPONSE_HEADERS) : new ModelNode();
+    }
+
 
     // ------------------------------------------------------ macro recording
 
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+import java.util.function.Consumer;
+
+import javax.inject.Inject;
+
+import elemental2.core.ArrayBuffer;
+import elemental2.dom.XMLHttpRequest;
+import org.jboss.hal.config.Settings;
+import org.jboss.hal.dmr.ModelNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.FAILED;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.hal.dmr.dispatch.Dispatcher.HttpMethod.POST;
+
+/**
+ * Decodes DMR responses either inline or in a web worker ({@code js/dmr-decoder.js}). Decoding in a worker is opt-in
+ * and controlled by {@link Settings.Key#DECODE_IN_WORKER}. If enabled, the response is requested as array buffer.
+ * Responses smaller than {@link #WORKER_THRESHOLD} bytes are decoded inline, bigger ones are transferred to the
+ * worker which decodes them into a compact structure understood by {@link ModelNode#fromCompact(Object[])}.
+ */
+public class DmrDecoder {
+
+    /** Responses with less bytes than this threshold are decoded inline. */
+    static final int WORKER_THRESHOLD = 256 * 1024;
+
+    static final String ARRAY_BUFFER = "arraybuffer";
+    private static final String DMR_DECODER_JS = "js/dmr-decoder.js";
+    private static final Logger logger = LoggerFactory.getLogger(DmrDecoder.class);
+
+    private final Settings settings;
+    private final WorkerChannel<Consumer<ModelNode>> channel;
+
+    @Inject
+    public DmrDecoder(Settings settings) {
+        this.settings = settings;
+        this.channel = new WorkerChannel<>(DMR_DECODER_JS, this::onDecoded);
+    }
+
+    /** @return {@code true} if decoding in a worker is turned on and supported by the browser */
+    boolean enabled() {
+        return WorkerChannel.enabled(settings);
+    }
+
+    /** @return {@code true} if the response of the specified request is an array buffer */
+    boolean accept(XMLHttpRequest xhr) {
+        return ARRAY_BUFFER.equals(xhr.responseType);
+    }
+
+    void decode(XMLHttpRequest xhr, String contentType, Consumer<ModelNode> callback) {
+        ArrayBuffer buffer = response(xhr);
+        if (buffer.byteLength < WORKER_THRESHOLD || contentType == null ||
+                !contentType.startsWith(Dispatcher.APPLICATION_DMR_ENCODED)) {
+            callback.accept(new DmrPayloadProcessor().processPayload(POST, contentType, asText(buffer)));
+        } else {
+            double bytes = buffer.byteLength;
+            int id = channel.post(buffer, callback);
+            logger.debug("Decode response #{} ({} bytes) in worker", id, (int) bytes);
+        }
+    }
+
+    /** @return the size of the response in bytes (characters if the response is not an array buffer) */
+    static int bytes(XMLHttpRequest xhr) {
+        return ARRAY_BUFFER.equals(xhr.responseType) ? (int) response(xhr).byteLength : xhr.responseText.length();
+    }
+
+    private void onDecoded(int id, Consumer<ModelNode> callback, Object[] compact, String error, boolean done,
+            double time) {
+        ModelNode payload;
+        if (error != null) {
+            payload = new ModelNode();
+            payload.get(OUTCOME).set(FAILED);
+            payload.get(FAILURE_DESCRIPTION).set(error);
+        } else {
+            payload = ModelNode.fromCompact(compact);
+        }
+        logger.debug("Decoded response #{} in worker in {} ms", id, (int) time);
+        callback.accept(payload);
+    }
+
+    static native ArrayBuffer response(XMLHttpRequest xhr) /*-{
+        return xhr.response;
+    }-*/;
+
+    static native String asText(ArrayBuffer buffer) /*-{
+        if (typeof $wnd.TextDecoder !== "undefined") {
+            return new $wnd.TextDecoder("ascii").decode(buffer);
+        }
+        var bytes = new Uint8Array(buffer);
+        var chunks = [];
+        for (var i = 0; i < bytes.length; i += 0x8000) {
+            chunks.push(String.fromCharCode.apply(null, bytes.subarray(i, i + 0x8000)));
+        }
+        return chunks.join("");
+    }-*/;
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+/**
+ * Simple histogram with exponential buckets. Bucket 0 holds values &lt;= 1, bucket <em>n</em> holds values in
+ * (2<sup>n-1</sup>, 2<sup>n</sup>]. Percentiles are estimated using the upper bound of the bucket and are therefore
+ * accurate up to a factor of two, which is good enough to spot slow operations.
+ */
+public class Histogram {
+
+    private static final int BUCKETS = 40;
+
+    private final long[] buckets;
+    private long count;
+    private double sum;
+    private double min;
+    private double max;
+
+    public Histogram() {
+        this.buckets = new long[BUCKETS];
+    }
+
+    public void add(double value) {
+        double v = Math.max(0, value);
+        buckets[bucket(v)]++;
+        if (count == 0) {
+            min = v;
+            max = v;
+        } else {
+            min = Math.min(min, v);
+            max = Math.max(max, v);
+        }
+        count++;
+        sum += v;
+    }
+
+    static int bucket(double value) {
+        int bucket = 0;
+        double bound = 1;
+        while (value > bound && bucket < BUCKETS - 1) {
+            bound *= 2;
+            bucket++;
+        }
+        return bucket;
+    }
+
+    /** @param p the percentile between 0 and 100 */
+    public double percentile(double p) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(count * p / 100.0));
+        long seen = 0;
+        double bound = 1;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return Math.max(min, Math.min(bound, max));
+            }
+            bound *= 2;
+        }
+        return max;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public double sum() {
+        return sum;
+    }
+
+    public double min() {
+        return min;
+    }
+
+    public double max() {
+        return max;
+    }
+
+    public double mean() {
+        return count == 0 ? 0 : sum / count;
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.Property;
+
+import static java.util.stream.Collectors.toList;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.HOST;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RECURSIVE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SERVER;
+
+/**
+ * Tracks the latency of DMR operations per endpoint using exponentially weighted moving averages (EWMA) for the
+ * latency and its deviation (like the round trip time estimation of TCP). An endpoint is the host controller or
+ * server an operation is addressed to combined with the operation name. Operations w/o host are addressed to the
+ * domain controller or the standalone server.
+ * <p>
+ * The averages are used to derive adaptive timeouts and the delay after which a read-only operation is hedged, that
+ * is sent a second time. The retry policy for idempotent reads lives here as well. All times are in milliseconds.
+ */
+public class LatencyTracker {
+
+    /** Gain of the average latency */
+    static final double ALPHA = 0.125;
+    /** Gain of the latency deviation */
+    static final double BETA = 0.25;
+    /** Operations to endpoints with less samples have no timeout and are not hedged. */
+    static final int MIN_SAMPLES = 5;
+    static final double TIMEOUT_FACTOR = 3;
+    static final double MIN_TIMEOUT = 10_000;
+    static final double MAX_TIMEOUT = 60_000;
+    static final double MIN_HEDGE_DELAY = 250;
+    /** Maximum number of hedged requests in flight across all dispatchers */
+    static final int MAX_HEDGES_IN_FLIGHT = 2;
+    static final int MAX_RETRIES = 2;
+    static final double RETRY_DELAY = 250;
+    static final double MAX_RETRY_DELAY = 4_000;
+    /** Status code of the {@link DispatchError} emitted for operations which timed out. */
+    static final int TIMEOUT_STATUS = 408;
+
+    private static final String ALL_ENDPOINTS = "*";
+    private static final String ROOT_ENDPOINT = "/";
+
+    private final Map<String, Endpoint> endpoints;
+    private int hedgesInFlight;
+
+    LatencyTracker() {
+        this.endpoints = new HashMap<>();
+        this.hedgesInFlight = 0;
+    }
+
+    void record(Operation operation, double latency) {
+        endpoints.computeIfAbsent(key(operation), Endpoint::new).add(latency);
+    }
+
+    /** @return the timeout for the specified operation or -1 if there's not enough data to derive a timeout */
+    double timeout(Operation operation) {
+        Endpoint endpoint = endpoints.get(key(operation));
+        return endpoint != null ? endpoint.timeout() : -1;
+    }
+
+    /** @return the delay after which the specified operation is hedged or -1 if the operation should not be hedged */
+    double hedgeDelay(Operation operation) {
+        Endpoint endpoint = endpoints.get(key(operation));
+        return endpoint != null ? endpoint.hedgeDelay() : -1;
+    }
+
+    /**
+     * Reserves a slot for a hedged request. The tracker is owned by the {@link Metrics} singleton, so the limit of
+     * {@link #MAX_HEDGES_IN_FLIGHT} applies to all dispatchers.
+     *
+     * @return {@code true} if the hedged request may be sent. In that case call {@link #releaseHedge()} once the
+     * hedged request has finished.
+     */
+    boolean acquireHedge() {
+        if (hedgesInFlight >= MAX_HEDGES_IN_FLIGHT) {
+            return false;
+        }
+        hedgesInFlight++;
+        return true;
+    }
+
+    void releaseHedge() {
+        if (hedgesInFlight > 0) {
+            hedgesInFlight--;
+        }
+    }
+
+    /** @return the endpoints ordered by average latency (descending) */
+    public List<Endpoint> endpoints() {
+        return endpoints.values().stream()
+                .sorted(Comparator.comparingDouble(Endpoint::getAverage).reversed())
+                .collect(toList());
+    }
+
+    void clear() {
+        endpoints.clear();
+    }
+
+    static String key(Operation operation) {
+        String key = endpoint(operation) + " " + Metrics.name(operation);
+        return recursive(operation) ? key + " " + RECURSIVE : key;
+    }
+
+    static String endpoint(Operation operation) {
+        if (operation instanceof Composite) {
+            TreeSet<String> endpoints = new TreeSet<>();
+            for (Operation step : (Composite) operation) {
+                endpoints.add(endpoint(step));
+            }
+            return endpoints.size() == 1 ? endpoints.first() : ALL_ENDPOINTS;
+        }
+        List<Property> segments = operation.getAddress().asPropertyList();
+        if (!segments.isEmpty() && HOST.equals(segments.get(0).getName())) {
+            String endpoint = HOST + "=" + segments.get(0).getValue().asString();
+            if (segments.size() > 1 && SERVER.equals(segments.get(1).getName())) {
+                endpoint += "/" + SERVER + "=" + segments.get(1).getValue().asString();
+            }
+            return endpoint;
+        }
+        return ROOT_ENDPOINT;
+    }
+
+    private static boolean recursive(Operation operation) {
+        if (operation instanceof Composite) {
+            for (Operation step : (Composite) operation) {
+                if (recursive(step)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return operation.hasDefined(RECURSIVE) && operation.get(RECURSIVE).asBoolean();
+    }
+
+    /**
+     * @param attempt the number of the retry starting with 0
+     * @param random  a random number between 0 and 1
+     *
+     * @return the exponential back-off delay for the specified attempt with jitter applied
+     */
+    static double retryDelay(int attempt, double random) {
+        double delay = Math.min(MAX_RETRY_DELAY, RETRY_DELAY * Math.pow(2, attempt));
+        // equal jitter: keep half of the delay and randomize the other half
+        return delay / 2 + random * delay / 2;
+    }
+
+    /** @return whether the error is likely to be temporary, so that an idempotent read can be retried */
+    static boolean retryable(Throwable error) {
+        if (error instanceof DispatchError) {
+            switch (((DispatchError) error).getStatusCode()) {
+                case 0:
+                case TIMEOUT_STATUS:
+                case 502:
+                case 503:
+                case 504:
+                    return true;
+                default:
+                    return false;
+            }
+        }
+        return false;
+    }
+
+
+    public static class Endpoint {
+
+        private final String name;
+        private long samples;
+        private double average;
+        private double deviation;
+
+        Endpoint(String name) {
+            this.name = name;
+        }
+
+        void add(double latency) {
+            if (samples == 0) {
+                average = latency;
+                deviation = latency / 2;
+            } else {
+                deviation = (1 - BETA) * deviation + BETA * Math.abs(average - latency);
+                average = (1 - ALPHA) * average + ALPHA * latency;
+            }
+            samples++;
+        }
+
+        public double timeout() {
+            if (samples < MIN_SAMPLES) {
+                return -1;
+            }
+            return Math.min(MAX_TIMEOUT, Math.max(MIN_TIMEOUT, TIMEOUT_FACTOR * average + 4 * deviation));
+        }
+
+        public double hedgeDelay() {
+            if (samples < MIN_SAMPLES) {
+                return -1;
+            }
+            return Math.max(MIN_HEDGE_DELAY, average + 2 * deviation);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getSamples() {
+            return samples;
+        }
+
+        public double getAverage() {
+            return average;
+        }
+
+        public double getDeviation() {
+            return deviation;
+        }
+    }
+}
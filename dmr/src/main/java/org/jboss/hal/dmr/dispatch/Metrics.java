@@ -0,0 +1,333 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import javax.inject.Inject;
+
+import jsinterop.annotations.JsIgnore;
+import jsinterop.annotations.JsMethod;
+import jsinterop.annotations.JsType;
+import jsinterop.base.JsPropertyMap;
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.Operation;
+
+import static java.util.stream.Collectors.toList;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.COMPOSITE;
+
+/**
+ * Records the costs of the DMR operations executed by the {@link Dispatcher}. For each operation name there are
+ * histograms for the network time, the size of the response, the decode time and the time spent in the callbacks.
+ * In addition the slowest executions of the session are kept and the network time is fed into a {@link
+ * LatencyTracker} which drives the adaptive timeouts, retries and hedged requests of read-only operations.
+ * <p>
+ * Use {@code hal.dmr.metrics.dump()}, {@code hal.dmr.metrics.slowest()} and {@code hal.dmr.metrics.latency()} in the
+ * browser console to inspect the metrics and {@code hal.dmr.metrics.reset()} to start over. Resetting the metrics
+ * keeps the latency estimates. All times are in milliseconds.
+ */
+@JsType(namespace = "hal.dmr", name = "metrics")
+public class Metrics {
+
+    @JsIgnore static final int SLOWEST = 25;
+    @Inject @JsIgnore public static Metrics INSTANCE;
+
+    private final Map<String, OperationMetrics> operations;
+    private final List<Sample> slowest;
+    private final LatencyTracker latencies;
+
+    @Inject
+    @JsIgnore
+    public Metrics() {
+        this.operations = new HashMap<>();
+        this.slowest = new ArrayList<>();
+        this.latencies = new LatencyTracker();
+    }
+
+    @JsIgnore
+    public void record(Operation operation, double network, int bytes, double decode, double callback) {
+        String name = name(operation);
+        OperationMetrics metrics = operations.computeIfAbsent(name, OperationMetrics::new);
+        metrics.network.add(network);
+        metrics.bytes.add(bytes);
+        metrics.decode.add(decode);
+        metrics.callback.add(callback);
+        latencies.record(operation, network);
+
+        Sample sample = new Sample(name, operation, network, bytes, decode, callback);
+        if (slowest.size() < SLOWEST || sample.total() > slowest.get(slowest.size() - 1).total()) {
+            int index = Collections.binarySearch(slowest, sample, Sample.SLOWEST_FIRST);
+            slowest.add(index < 0 ? -index - 1 : index, sample);
+            if (slowest.size() > SLOWEST) {
+                slowest.remove(slowest.size() - 1);
+            }
+        }
+    }
+
+    @JsIgnore
+    public void retry(Operation operation) {
+        operations.computeIfAbsent(name(operation), OperationMetrics::new).retries++;
+    }
+
+    /** Records a timed out operation and feeds the timeout into the latency estimate. */
+    @JsIgnore
+    public void timeout(Operation operation, double timeout) {
+        operations.computeIfAbsent(name(operation), OperationMetrics::new).timeouts++;
+        latencies.record(operation, timeout);
+    }
+
+    @JsIgnore
+    public void hedge(Operation operation) {
+        operations.computeIfAbsent(name(operation), OperationMetrics::new).hedges++;
+    }
+
+    /** Records that the hedged request of an operation returned before the original request. */
+    @JsIgnore
+    public void hedgeWon(Operation operation) {
+        operations.computeIfAbsent(name(operation), OperationMetrics::new).hedgesWon++;
+    }
+
+    @JsIgnore
+    public LatencyTracker latencies() {
+        return latencies;
+    }
+
+    /** @return the metrics of all operations ordered by the total time spent (descending) */
+    @JsIgnore
+    public List<OperationMetrics> operations() {
+        return operations.values().stream()
+                .sorted(Comparator.comparingDouble(OperationMetrics::total).reversed())
+                .collect(toList());
+    }
+
+    /** @return the slowest executions of this session, slowest first */
+    @JsIgnore
+    public List<Sample> slowest() {
+        return Collections.unmodifiableList(slowest);
+    }
+
+    @JsIgnore
+    public void clear() {
+        operations.clear();
+        slowest.clear();
+    }
+
+    static String name(Operation operation) {
+        if (operation instanceof Composite) {
+            TreeSet<String> steps = new TreeSet<>();
+            for (Operation step : (Composite) operation) {
+                steps.add(step.getName());
+            }
+            return COMPOSITE + "(" + String.join(", ", steps) + ")";
+        }
+        return operation.getName();
+    }
+
+
+    // ------------------------------------------------------ JS methods
+
+    /** Returns the metrics per operation name ordered by the total time spent. */
+    @JsMethod(name = "dump")
+    public static Object[] jsDump() {
+        return INSTANCE.operations().stream()
+                .map(om -> {
+                    JsPropertyMap<Object> map = JsPropertyMap.of();
+                    map.set("operation", om.getName()); //NON-NLS
+                    map.set("count", (double) om.getNetwork().count()); //NON-NLS
+                    map.set("network", histogram(om.getNetwork())); //NON-NLS
+                    map.set("bytes", histogram(om.getBytes())); //NON-NLS
+                    map.set("decode", histogram(om.getDecode())); //NON-NLS
+                    map.set("callback", histogram(om.getCallback())); //NON-NLS
+                    map.set("retries", (double) om.getRetries()); //NON-NLS
+                    map.set("timeouts", (double) om.getTimeouts()); //NON-NLS
+                    map.set("hedges", (double) om.getHedges()); //NON-NLS
+                    map.set("hedgesWon", (double) om.getHedgesWon()); //NON-NLS
+                    return map;
+                })
+                .toArray();
+    }
+
+    /** Returns the slowest executions of this session. */
+    @JsMethod(name = "slowest")
+    public static Object[] jsSlowest() {
+        return INSTANCE.slowest().stream()
+                .map(sample -> {
+                    JsPropertyMap<Object> map = JsPropertyMap.of();
+                    map.set("operation", sample.getOperation().asCli()); //NON-NLS
+                    map.set("total", sample.total()); //NON-NLS
+                    map.set("network", sample.getNetwork()); //NON-NLS
+                    map.set("bytes", (double) sample.getBytes()); //NON-NLS
+                    map.set("decode", sample.getDecode()); //NON-NLS
+                    map.set("callback", sample.getCallback()); //NON-NLS
+                    return map;
+                })
+                .toArray();
+    }
+
+    /** Returns the latency estimates per endpoint ordered by the average latency. */
+    @JsMethod(name = "latency")
+    public static Object[] jsLatency() {
+        return INSTANCE.latencies().endpoints().stream()
+                .map(endpoint -> {
+                    JsPropertyMap<Object> map = JsPropertyMap.of();
+                    map.set("endpoint", endpoint.getName()); //NON-NLS
+                    map.set("samples", (double) endpoint.getSamples()); //NON-NLS
+                    map.set("average", endpoint.getAverage()); //NON-NLS
+                    map.set("deviation", endpoint.getDeviation()); //NON-NLS
+                    map.set("timeout", endpoint.timeout()); //NON-NLS
+                    map.set("hedgeDelay", endpoint.hedgeDelay()); //NON-NLS
+                    return map;
+                })
+                .toArray();
+    }
+
+    /** Resets all metrics. */
+    @JsMethod(name = "reset")
+    public static void jsReset() {
+        INSTANCE.clear();
+    }
+
+    private static JsPropertyMap<Object> histogram(Histogram histogram) {
+        JsPropertyMap<Object> map = JsPropertyMap.of();
+        map.set("min", histogram.min()); //NON-NLS
+        map.set("mean", histogram.mean()); //NON-NLS
+        map.set("p50", histogram.percentile(50)); //NON-NLS
+        map.set("p95", histogram.percentile(95)); //NON-NLS
+        map.set("max", histogram.max()); //NON-NLS
+        return map;
+    }
+
+
+    // ------------------------------------------------------ inner classes
+
+    public static class OperationMetrics {
+
+        private final String name;
+        private final Histogram network;
+        private final Histogram bytes;
+        private final Histogram decode;
+        private final Histogram callback;
+        private int retries;
+        private int timeouts;
+        private int hedges;
+        private int hedgesWon;
+
+        OperationMetrics(String name) {
+            this.name = name;
+            this.network = new Histogram();
+            this.bytes = new Histogram();
+            this.decode = new Histogram();
+            this.callback = new Histogram();
+        }
+
+        /** @return the sum of network, decode and callback time */
+        public double total() {
+            return network.sum() + decode.sum() + callback.sum();
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Histogram getNetwork() {
+            return network;
+        }
+
+        public Histogram getBytes() {
+            return bytes;
+        }
+
+        public Histogram getDecode() {
+            return decode;
+        }
+
+        public Histogram getCallback() {
+            return callback;
+        }
+
+        public int getRetries() {
+            return retries;
+        }
+
+        public int getTimeouts() {
+            return timeouts;
+        }
+
+        public int getHedges() {
+            return hedges;
+        }
+
+        public int getHedgesWon() {
+            return hedgesWon;
+        }
+    }
+
+
+    public static class Sample {
+
+        static final Comparator<Sample> SLOWEST_FIRST = Comparator.comparingDouble(Sample::total).reversed();
+
+        private final String name;
+        private final Operation operation;
+        private final double network;
+        private final int bytes;
+        private final double decode;
+        private final double callback;
+
+        Sample(String name, Operation operation, double network, int bytes, double decode, double callback) {
+            this.name = name;
+            this.operation = operation;
+            this.network = network;
+            this.bytes = bytes;
+            this.decode = decode;
+            this.callback = callback;
+        }
+
+        public double total() {
+            return network + decode + callback;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Operation getOperation() {
+            return operation;
+        }
+
+        public double getNetwork() {
+            return network;
+        }
+
+        public int getBytes() {
+            return bytes;
+        }
+
+        public double getDecode() {
+            return decode;
+        }
+
+        public double getCallback() {
+            return callback;
+        }
+    }
+}
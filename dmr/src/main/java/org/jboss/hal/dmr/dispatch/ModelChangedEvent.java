@@ -0,0 +1,60 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+import com.google.gwt.event.shared.EventHandler;
+import com.google.gwt.event.shared.GwtEvent;
+import org.jboss.hal.dmr.Operation;
+
+/**
+ * Fired by the {@link Dispatcher} after an operation which is not read-only has been executed successfully. Use this
+ * event to invalidate data which was derived from the management model.
+ */
+public class ModelChangedEvent extends GwtEvent<ModelChangedEvent.ModelChangedHandler> {
+
+    private static final Type<ModelChangedHandler> TYPE = new Type<>();
+
+    public static Type<ModelChangedHandler> getType() {
+        return TYPE;
+    }
+
+    private final Operation operation;
+
+    ModelChangedEvent(Operation operation) {
+        this.operation = operation;
+    }
+
+    /** @return the executed operation, might be a {@link org.jboss.hal.dmr.Composite} */
+    public Operation getOperation() {
+        return operation;
+    }
+
+    @Override
+    protected void dispatch(ModelChangedHandler handler) {
+        handler.onModelChanged(this);
+    }
+
+    @Override
+    public Type<ModelChangedHandler> getAssociatedType() {
+        return TYPE;
+    }
+
+
+    public interface ModelChangedHandler extends EventHandler {
+
+        void onModelChanged(ModelChangedEvent event);
+    }
+}
@@ -15,6 +15,9 @@
  */
 package org.jboss.hal.dmr.dispatch;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import javax.inject.Inject;
 
 import com.google.web.bindery.event.shared.EventBus;
@@ -24,33 +27,84 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.PROCESS_STATE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RELOAD_REQUIRED;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RESTART_REQUIRED;
 
+/**
+ * Keeps track of the servers which require a reload or restart. The processor remembers the last known state of each
+ * server and fires a {@link ProcessStateEvent} only if a server enters a new reload / restart required state. The
+ * event contains all servers which currently require a reload or restart.
+ * <p>
+ * A header w/o a {@code process-state} marks the server as running again. Since the lifecycle operations don't
+ * report the state of the affected servers, call {@link #reset()} after a server, server group or host was reloaded
+ * or restarted.
+ */
 public class ProcessStateProcessor implements ResponseHeadersProcessor {
 
     private final EventBus eventBus;
+    private final Map<String, ServerState> serverStates;
 
     @Inject
     public ProcessStateProcessor(final EventBus eventBus) {
         this.eventBus = eventBus;
+        this.serverStates = new HashMap<>();
     }
 
     @Override
     public void process(final Header[] headers) {
-        ProcessState processState = new ProcessState();
+        ProcessState processState = update(headers);
+        if (processState != null) {
+            eventBus.fireEvent(new ProcessStateEvent(processState));
+        }
+    }
+
+    /** Forgets the state of all servers. */
+    public void reset() {
+        serverStates.clear();
+    }
+
+    /**
+     * Applies the headers to the known server states.
+     *
+     * @return the servers which require a reload or restart or {@code null} if no server entered a new reload /
+     * restart required state
+     */
+    ProcessState update(final Header[] headers) {
+        boolean changed = false;
         for (Header header : headers) {
-            if (header.getHeader().hasDefined(PROCESS_STATE)) {
-                String processStateValue = header.getHeader().get(PROCESS_STATE).asString();
-                if (RESTART_REQUIRED.equals(processStateValue)) {
-                    ServerState state = new ServerState(header.getHost(), header.getServer(), State.RESTART_REQUIRED);
-                    processState.add(state);
-
-                } else if (RELOAD_REQUIRED.equals(processStateValue)) {
-                    ServerState state = new ServerState(header.getHost(), header.getServer(), State.RELOAD_REQUIRED);
-                    processState.add(state);
+            String key = key(header);
+            State state = state(header);
+            if (state == null) {
+                serverStates.remove(key);
+            } else {
+                ServerState current = serverStates.get(key);
+                if (current == null || current.getState() != state) {
+                    serverStates.put(key, new ServerState(header.getHost(), header.getServer(), state));
+                    changed = true;
                 }
             }
         }
-        if (!processState.isEmpty()) {
-            eventBus.fireEvent(new ProcessStateEvent(processState));
+
+        if (changed) {
+            ProcessState processState = new ProcessState();
+            for (ServerState serverState : serverStates.values()) {
+                processState.add(serverState);
+            }
+            return processState;
+        }
+        return null;
+    }
+
+    private String key(Header header) {
+        return header.getHost() != null ? header.getHost() + "/" + header.getServer() : header.getServer();
+    }
+
+    private State state(Header header) {
+        if (header.getHeader().hasDefined(PROCESS_STATE)) {
+            String processStateValue = header.getHeader().get(PROCESS_STATE).asString();
+            if (RESTART_REQUIRED.equals(processStateValue)) {
+                return State.RESTART_REQUIRED;
+            } else if (RELOAD_REQUIRED.equals(processStateValue)) {
+                return State.RELOAD_REQUIRED;
+            }
         }
+        return null;
     }
 }
@@ -78,6 +78,9 @@ public interface ResponseHeadersProcessor {
     /**
      * Method to process the response headers. It's guaranteed that the array contains at least one element. In domain
      * mode the array contains an element for each server group-host-server triple.
+     * <p>
+     * The method is only called for operations which are not read-only. If a response doesn't contain response
+     * headers, the header node of the related element is undefined.
      */
     void process(Header[] headers);
 
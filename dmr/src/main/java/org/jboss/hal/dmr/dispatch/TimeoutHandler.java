@@ -33,10 +33,16 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.FAILED;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.FAILURE_DESCRIPTION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.OUTCOME;
 
-/** Executes a DMR operation until a specific condition is met or a timeout occurs. */
+/**
+ * Executes a DMR operation until a specific condition is met or a timeout occurs. The operation is repeated using an
+ * exponential back-off: The first repetition starts after {@value #INTERVAL} ms, each following delay is multiplied by
+ * {@value #BACKOFF_FACTOR} up to a maximum of {@value #MAX_INTERVAL} ms.
+ */
 public class TimeoutHandler {
 
-    private static int INTERVAL = 500;
+    private static final int INTERVAL = 500;
+    private static final double BACKOFF_FACTOR = 1.5;
+    private static final int MAX_INTERVAL = 5000;
     private static Logger logger = LoggerFactory.getLogger(TimeoutHandler.class);
 
     /** Executes the operation until it successfully returns. */
@@ -62,8 +68,7 @@ public class TimeoutHandler {
             until = r -> !r.isFailure(); // default: until success
         }
 
-        return Observable
-                .interval(INTERVAL, MILLISECONDS) // execute a operation each INTERVAL millis
+        return backoff() // execute the operation with an increasing delay
                 .doOnEach(n -> logger.debug("#{}: execute {}", n.getValue(), operation.asCli()))
                 .flatMapSingle(n -> execution, false, 1)
                 .takeUntil(until::test) // until succeeded
@@ -86,14 +91,23 @@ public class TimeoutHandler {
             until = r -> r.stream().noneMatch(ModelNode::isFailure); // default: until success
         }
 
-        return Observable
-                .interval(INTERVAL, MILLISECONDS) // execute a operation each INTERVAL millis
+        return backoff() // execute the operation with an increasing delay
                 .doOnEach(n -> logger.debug("#{}: execute {}", n.getValue(), composite))
                 .flatMapSingle(n -> execution, false, 1)
                 .takeUntil(until::test) // until succeeded
                 .toCompletable().timeout(timeout, SECONDS); // wait succeeded or stop after timeout seconds
     }
 
+    /** Emits 0, 1, 2, ... where the delay between two emissions grows exponentially up to {@link #MAX_INTERVAL}. */
+    private static Observable<Integer> backoff() {
+        return Observable.range(0, Integer.MAX_VALUE)
+                .concatMap(n -> Observable.timer(delay(n), MILLISECONDS).map(tick -> n));
+    }
+
+    static long delay(int attempt) {
+        return (long) Math.min(INTERVAL * Math.pow(BACKOFF_FACTOR, attempt), MAX_INTERVAL);
+    }
+
     private static ModelNode operationFailure(String reason) {
         ModelNode node = new ModelNode();
         node.get(OUTCOME).set(FAILED);
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import elemental2.core.ArrayBuffer;
+import elemental2.dom.Worker;
+import org.jboss.hal.config.Settings;
+import org.jboss.hal.js.Browser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.jboss.hal.config.Settings.Key.DECODE_IN_WORKER;
+
+/**
+ * Transfers array buffers to a web worker and routes the messages of the worker back to the pending requests. The
+ * worker is started on first use.
+ * <p>
+ * The worker has to answer with messages like {@code {id, data, error, done, time}}: {@code id} is the ID of the
+ * request, {@code data} the (partial) result, {@code error} an error message, {@code done} marks the last message of a
+ * request and {@code time} the processing time in ms. A message with an error is always the last message of a
+ * request.
+ * <p>
+ * If the worker script cannot be loaded or throws an uncaught error, all pending requests get an error message and
+ * the worker is started again for the next request.
+ *
+ * @param <T> the type of the pending requests
+ */
+public class WorkerChannel<T> {
+
+    /** @return {@code true} if using web workers is turned on and supported by the browser */
+    public static boolean enabled(Settings settings) {
+        return !Browser.isIE() && settings.get(DECODE_IN_WORKER).asBoolean();
+    }
+
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkerChannel.class);
+
+    private final String script;
+    private final Callback<T> callback;
+    private final Map<Integer, T> pending;
+    private Worker worker;
+    private int counter;
+
+    /**
+     * @param script   the URL of the worker script
+     * @param callback called for each message of the worker
+     */
+    public WorkerChannel(String script, Callback<T> callback) {
+        this.script = script;
+        this.callback = callback;
+        this.pending = new HashMap<>();
+        this.counter = 0;
+    }
+
+    /**
+     * Transfers the buffer to the worker. The buffer is no longer usable afterwards.
+     *
+     * @return the ID of the request
+     */
+    public int post(ArrayBuffer buffer, T request) {
+        int id = counter++;
+        pending.put(id, request);
+        post(worker(), id, buffer);
+        return id;
+    }
+
+    /** Ignores all further messages for the specified request. */
+    public void cancel(int id) {
+        pending.remove(id);
+    }
+
+    private Worker worker() {
+        if (worker == null) {
+            worker = new Worker(script);
+            listen(worker);
+        }
+        return worker;
+    }
+
+    @SuppressWarnings("unused") // called from JSNI
+    private void onMessage(int id, Object[] data, String error, boolean done, double time) {
+        boolean last = done || error != null;
+        T request = last ? pending.remove(id) : pending.get(id);
+        if (request != null) {
+            callback.onMessage(id, request, data, error, last, time);
+        }
+    }
+
+    @SuppressWarnings("unused") // called from JSNI
+    private void onError(String message) {
+        String error = message != null ? message : "Unable to run web worker " + script;
+        logger.error("Web worker {} failed: {}", script, error);
+        worker.terminate();
+        worker = null;
+
+        List<Map.Entry<Integer, T>> failed = new ArrayList<>(pending.entrySet());
+        pending.clear();
+        for (Map.Entry<Integer, T> entry : failed) {
+            callback.onMessage(entry.getKey(), entry.getValue(), null, error, true, 0);
+        }
+    }
+
+    private native void listen(Worker worker) /*-{
+        var that = this;
+        worker.onmessage = function (e) {
+            var data = e.data;
+            that.@org.jboss.hal.dmr.dispatch.WorkerChannel::onMessage(I[Ljava/lang/Object;Ljava/lang/String;ZD)(
+                data.id, data.data || null, data.error || null, !!data.done, data.time || 0);
+        };
+        worker.onerror = function (e) {
+            e.preventDefault();
+            that.@org.jboss.hal.dmr.dispatch.WorkerChannel::onError(Ljava/lang/String;)(e.message || null);
+        };
+    }-*/;
+
+    private static native void post(Worker worker, int id, ArrayBuffer buffer) /*-{
+        // transfer the buffer: no copy, but the buffer is no longer usable on the UI thread
+        worker.postMessage({id: id, buffer: buffer}, [buffer]);
+    }-*/;
+
+
+    @FunctionalInterface
+    public interface Callback<T> {
+
+        /**
+         * @param data  the (partial) result or {@code null} if there's no result
+         * @param error the error message or {@code null} if the worker processed the request successfully
+         * @param done  {@code true} for the last message of the request
+         * @param time  the processing time in ms
+         */
+        void onMessage(int id, T request, Object[] data, String error, boolean done, double time);
+    }
+}
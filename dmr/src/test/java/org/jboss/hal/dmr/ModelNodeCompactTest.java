@@ -0,0 +1,70 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings({"HardCodedStringLiteral", "DuplicateStringLiteralInspection"})
+public class ModelNodeCompactTest {
+
+    @Test
+    public void undefined() {
+        ModelNode node = ModelNode.fromCompact(new Object[]{"u"});
+        assertFalse(node.isDefined());
+    }
+
+    @Test
+    public void simpleTypes() {
+        assertTrue(ModelNode.fromCompact(new Object[]{"Z", true}).asBoolean());
+        assertEquals(42, ModelNode.fromCompact(new Object[]{"I", 42.0}).asInt());
+        assertEquals(4.2, ModelNode.fromCompact(new Object[]{"D", 4.2}).asDouble(), 0.0);
+        assertEquals("foo", ModelNode.fromCompact(new Object[]{"s", "foo"}).asString());
+        assertEquals(ModelType.EXPRESSION, ModelNode.fromCompact(new Object[]{"e", "${foo:bar}"}).getType());
+        assertEquals(ModelType.INT, ModelNode.fromCompact(new Object[]{"t", "I"}).asType());
+    }
+
+    @Test
+    public void longValue() {
+        long value = 0x1234_5678_9ABC_DEF0L;
+        int high = (int) (value >>> 32);
+        int low = (int) value;
+        ModelNode node = ModelNode.fromCompact(new Object[]{"J", (double) high, (double) low});
+        assertEquals(value, node.asLong());
+    }
+
+    @Test
+    public void nested() {
+        Object[] compact = new Object[]{"o", new Object[]{
+                "outcome", new Object[]{"s", "success"},
+                "result", new Object[]{"l", new Object[]{
+                        new Object[]{"p", "foo", new Object[]{"I", 1.0}},
+                        new Object[]{"o", new Object[]{}}
+                }}
+        }};
+        ModelNode node = ModelNode.fromCompact(compact);
+
+        assertFalse(node.isFailure());
+        assertEquals(2, node.get(ModelDescriptionConstants.RESULT).asList().size());
+        Property property = node.get(ModelDescriptionConstants.RESULT).get(0).asProperty();
+        assertEquals("foo", property.getName());
+        assertEquals(1, property.getValue().asInt());
+        assertEquals(ModelType.OBJECT, node.get(ModelDescriptionConstants.RESULT).get(1).getType());
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings({"HardCodedStringLiteral", "DuplicateStringLiteralInspection"})
+public class ModelNodeCopyOnWriteTest {
+
+    private ModelNode protectedNode;
+
+    /**
+     * Creates the protected model node
+     * <pre>
+     *     ("foo" => ("bar" => 42, "baz" => [1, 2]), "qux" => "quux")
+     * </pre>
+     */
+    @Before
+    public void setUp() {
+        protectedNode = new ModelNode();
+        protectedNode.get("foo").get("bar").set(42);
+        protectedNode.get("foo").get("baz").add(1).add(2);
+        protectedNode.get("qux").set("quux");
+        protectedNode.protect();
+    }
+
+    @Test
+    public void cloneEqualsProtected() {
+        ModelNode clone = protectedNode.clone();
+        assertEquals(protectedNode, clone);
+        assertEquals(42, clone.get("foo").get("bar").asInt());
+    }
+
+    @Test
+    public void modifyClone() {
+        ModelNode clone = protectedNode.clone();
+        clone.get("qux").set("corge");
+        clone.get("grault").set(true);
+
+        assertEquals("corge", clone.get("qux").asString());
+        assertTrue(clone.hasDefined("grault"));
+        assertEquals("quux", protectedNode.get("qux").asString());
+        assertEquals(2, protectedNode.keys().size());
+    }
+
+    @Test
+    public void modifyNested() {
+        ModelNode clone = protectedNode.clone();
+        clone.get("foo").get("bar").set(23);
+        clone.get("foo").get("baz").add(3);
+        clone.get("foo").get("baz").get(0).set(0);
+
+        assertEquals(23, clone.get("foo").get("bar").asInt());
+        assertEquals(3, clone.get("foo").get("baz").asList().size());
+        assertEquals(0, clone.get("foo").get("baz").get(0).asInt());
+        assertEquals(42, protectedNode.get("foo").get("bar").asInt());
+        assertEquals(2, protectedNode.get("foo").get("baz").asList().size());
+        assertEquals(1, protectedNode.get("foo").get("baz").get(0).asInt());
+    }
+
+    @Test
+    public void modifyChildren() {
+        ModelNode clone = protectedNode.clone();
+        for (ModelNode node : clone.get("foo").get("baz").asList()) {
+            node.set(0);
+        }
+        for (Property property : clone.asPropertyList()) {
+            property.getValue().set("garply");
+        }
+        clone.remove("qux");
+
+        assertEquals(0, clone.get("foo").get("baz").get(1).asInt());
+        assertEquals(1, clone.keys().size());
+        assertEquals(2, protectedNode.get("foo").get("baz").get(1).asInt());
+        assertEquals(2, protectedNode.keys().size());
+    }
+
+    @Test
+    public void set() {
+        ModelNode node = new ModelNode().set(protectedNode);
+        node.get("foo").remove("bar");
+
+        assertNotEquals(protectedNode, node);
+        assertTrue(protectedNode.get("foo").hasDefined("bar"));
+    }
+
+    @Test
+    public void cloneOfClone() {
+        ModelNode clone = protectedNode.clone();
+        ModelNode cloneOfClone = clone.clone();
+        cloneOfClone.get("foo").get("bar").set(23);
+
+        assertEquals(42, clone.get("foo").get("bar").asInt());
+        assertEquals(42, protectedNode.get("foo").get("bar").asInt());
+    }
+
+    @Test
+    public void unprotected() {
+        ModelNode node = new ModelNode();
+        node.get("foo").get("bar").set(42);
+        ModelNode clone = node.clone();
+        clone.get("foo").get("bar").set(23);
+
+        assertEquals(42, node.get("foo").get("bar").asInt());
+    }
+
+    /**
+     * Simulates a recursive read of 200 resources with 50 attributes each (roughly the size of a recursive read of
+     * the datasources subsystem) which is copied ten times, each copy modifying one attribute of one resource (like
+     * forms do when editing a resource). Counts the model nodes and values retained by the copies and checks that
+     * copy-on-write retains only a fraction of what a deep copy retains.
+     */
+    @Test
+    public void largeRecursiveRead() throws Exception {
+        ModelNode unprotected = recursiveRead(200, 50);
+        ModelNode shared = recursiveRead(200, 50);
+        shared.protect();
+        int original = retained(shared);
+
+        int copied = retained(copies(unprotected, 10)) - original;
+        int copiedOnWrite = retained(copies(shared, 10)) - original;
+
+        assertTrue("Copy-on-write should retain fewer objects than a copy", copiedOnWrite < copied);
+        // each copy-on-write copy only duplicates the path to the modified attribute
+        assertTrue(copiedOnWrite < copied / 50);
+    }
+
+    private ModelNode recursiveRead(int resources, int attributes) {
+        ModelNode node = new ModelNode();
+        ModelNode result = node.get(RESULT);
+        for (int i = 0; i < resources; i++) {
+            ModelNode resource = result.get("resource-" + i);
+            for (int j = 0; j < attributes; j++) {
+                String name = "attribute-" + j;
+                switch (j % 4) {
+                    case 0:
+                        resource.get(name).set("value-" + i + "-" + j);
+                        break;
+                    case 1:
+                        resource.get(name).set(i * j);
+                        break;
+                    case 2:
+                        resource.get(name).add("element-" + i).add("element-" + j);
+                        break;
+                    default:
+                        resource.get(name).get("key-" + i).set(j);
+                        break;
+                }
+            }
+        }
+        node.get(OUTCOME).set(SUCCESS);
+        return node;
+    }
+
+    private List<ModelNode> copies(ModelNode node, int count) {
+        List<ModelNode> copies = new ArrayList<>();
+        copies.add(node);
+        for (int i = 0; i < count; i++) {
+            ModelNode copy = node.clone();
+            copy.get(RESULT).get("resource-" + i).get("attribute-0").set("modified");
+            copies.add(copy);
+        }
+        return copies;
+    }
+
+    private int retained(Object root) throws Exception {
+        IdentityHashMap<Object, Boolean> visited = new IdentityHashMap<>();
+        collect(root, visited);
+        return visited.size();
+    }
+
+    private void collect(Object object, IdentityHashMap<Object, Boolean> visited) throws Exception {
+        if (object instanceof Collection) {
+            for (Object element : (Collection<?>) object) {
+                collect(element, visited);
+            }
+        } else if (object instanceof Map) {
+            collect(((Map<?, ?>) object).values(), visited);
+        } else if (object instanceof Property) {
+            collect(((Property) object).getValue(), visited);
+        } else if ((object instanceof ModelNode || object instanceof ModelValue) && visited.put(object, true) == null) {
+            for (Class<?> c = object.getClass(); c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (!field.getType().isPrimitive() && !Modifier.isStatic(field.getModifiers())) {
+                        field.setAccessible(true);
+                        collect(field.get(object), visited);
+                    }
+                }
+            }
+        }
+    }
+}
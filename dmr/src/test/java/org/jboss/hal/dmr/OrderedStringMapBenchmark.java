@@ -0,0 +1,157 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compares {@link OrderedStringMap} with {@link LinkedHashMap} (the map used by {@link ObjectModelValue} before) using
+ * the objects of a recursive read-resource-description payload. Logs lookup throughput and approximate heap
+ * footprint. The numbers are not asserted since they depend on the JVM and the machine. Not part of the default test
+ * suite: Run with {@code mvn test -Pbenchmark}.
+ */
+@SuppressWarnings({"HardCodedStringLiteral", "DuplicateStringLiteralInspection"})
+public class OrderedStringMapBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderedStringMapBenchmark.class);
+    /** How often the objects of the payload are repeated to get a payload of realistic size */
+    private static final int PAYLOADS = 100;
+    private static final int WARM_UP = 20;
+    private static final int ROUNDS = 50;
+    private static final int COPIES = 20;
+
+    private static List<List<String>> objects;
+    private static List<String> lookups;
+
+    @BeforeClass
+    public static void setUpClass() {
+        ModelNode payload = ExternalModelNode.read(OrderedStringMapBenchmark.class
+                .getResourceAsStream("resource_description.dmr"));
+        objects = new ArrayList<>();
+        lookups = new ArrayList<>();
+        for (int i = 0; i < PAYLOADS; i++) {
+            collect(payload);
+        }
+    }
+
+    private static void collect(ModelNode node) {
+        if (node.getType() == ModelType.OBJECT) {
+            List<String> keys = new ArrayList<>(node.keys());
+            objects.add(keys);
+            for (String key : keys) {
+                // lookups typically use the constants from ModelDescriptionConstants
+                lookups.add(OrderedStringMap.intern(key));
+            }
+            lookups.add("not-there");
+            for (String key : keys) {
+                collect(node.get(key));
+            }
+        } else if (node.getType() == ModelType.LIST) {
+            for (ModelNode element : node.asList()) {
+                collect(element);
+            }
+        }
+    }
+
+    @Test
+    public void lookup() {
+        List<Map<String, ModelNode>> linked = maps(LinkedHashMap::new);
+        List<Map<String, ModelNode>> ordered = maps(OrderedStringMap::new);
+        assertEquals(linked, ordered);
+
+        for (int i = 0; i < WARM_UP; i++) {
+            lookup(linked);
+            lookup(ordered);
+        }
+        long linkedTime = 0;
+        long orderedTime = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            linkedTime += lookup(linked);
+            orderedTime += lookup(ordered);
+        }
+        long operations = (long) ROUNDS * lookups.size();
+        logger.info("Lookups in {} objects: LinkedHashMap {} ops/ms, OrderedStringMap {} ops/ms", objects.size(),
+                operations * 1_000_000 / Math.max(1, linkedTime), operations * 1_000_000 / Math.max(1, orderedTime));
+    }
+
+    @Test
+    public void footprint() {
+        long linked = footprint(LinkedHashMap::new);
+        long ordered = footprint(OrderedStringMap::new);
+        logger.info("Heap for {} objects: LinkedHashMap ~{} KB, OrderedStringMap ~{} KB", objects.size(),
+                linked / 1024, ordered / 1024);
+    }
+
+    private List<Map<String, ModelNode>> maps(Supplier<Map<String, ModelNode>> factory) {
+        ModelNode value = new ModelNode();
+        List<Map<String, ModelNode>> maps = new ArrayList<>();
+        for (List<String> keys : objects) {
+            Map<String, ModelNode> map = factory.get();
+            for (String key : keys) {
+                // a decoded payload contains a new string for each key
+                map.put(new String(key.toCharArray()), value);
+            }
+            maps.add(map);
+        }
+        return maps;
+    }
+
+    private long lookup(List<Map<String, ModelNode>> maps) {
+        int found = 0;
+        long start = System.nanoTime();
+        int index = 0;
+        for (Map<String, ModelNode> map : maps) {
+            for (int i = 0; i <= map.size(); i++) {
+                if (map.get(lookups.get(index++)) != null) {
+                    found++;
+                }
+            }
+        }
+        long time = System.nanoTime() - start;
+        assertEquals(lookups.size() - maps.size(), found);
+        return time;
+    }
+
+    private long footprint(Supplier<Map<String, ModelNode>> factory) {
+        List<List<Map<String, ModelNode>>> copies = new ArrayList<>();
+        long before = usedMemory();
+        for (int i = 0; i < COPIES; i++) {
+            copies.add(maps(factory));
+        }
+        long after = usedMemory();
+        assertEquals(COPIES, copies.size());
+        return (after - before) / COPIES;
+    }
+
+    private static long usedMemory() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
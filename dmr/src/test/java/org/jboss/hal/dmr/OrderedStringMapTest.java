@@ -0,0 +1,154 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.DESCRIPTION;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings({"HardCodedStringLiteral", "DuplicateStringLiteralInspection"})
+public class OrderedStringMapTest {
+
+    private OrderedStringMap<Integer> map;
+
+    @Before
+    public void setUp() {
+        map = new OrderedStringMap<>();
+    }
+
+    @Test
+    public void empty() {
+        assertTrue(map.isEmpty());
+        assertNull(map.get("foo"));
+        assertFalse(map.containsKey("foo"));
+        assertFalse(map.entrySet().iterator().hasNext());
+    }
+
+    @Test
+    public void putAndGet() {
+        assertNull(map.put("foo", 1));
+        assertNull(map.put("bar", 2));
+        assertEquals(Integer.valueOf(1), map.put("foo", 3));
+
+        assertEquals(2, map.size());
+        assertEquals(Integer.valueOf(3), map.get("foo"));
+        assertEquals(Integer.valueOf(2), map.get("bar"));
+        assertNull(map.get(42));
+    }
+
+    @Test
+    public void insertionOrder() {
+        for (String key : asList("c", "a", "d", "b")) {
+            map.put(key, key.charAt(0) - 'a');
+        }
+        map.put("a", 42);
+
+        assertEquals(asList("c", "a", "d", "b"), new ArrayList<>(map.keySet()));
+        assertEquals(asList(2, 42, 3, 1), new ArrayList<>(map.values()));
+    }
+
+    @Test
+    public void remove() {
+        map.put("foo", 1);
+        map.put("bar", 2);
+        map.put("baz", 3);
+
+        assertEquals(Integer.valueOf(2), map.remove("bar"));
+        assertNull(map.remove("bar"));
+        map.put("bar", 4);
+
+        assertEquals(3, map.size());
+        assertEquals(asList("foo", "baz", "bar"), new ArrayList<>(map.keySet()));
+    }
+
+    @Test
+    public void iteratorRemove() {
+        map.put("foo", 1);
+        map.put("bar", 2);
+        map.put("baz", 3);
+        for (Iterator<Map.Entry<String, Integer>> iterator = map.entrySet().iterator(); iterator.hasNext(); ) {
+            if (iterator.next().getValue() % 2 == 1) {
+                iterator.remove();
+            }
+        }
+
+        assertEquals(1, map.size());
+        assertEquals(Integer.valueOf(2), map.get("bar"));
+    }
+
+    @Test
+    public void grow() {
+        Map<String, Integer> expected = new LinkedHashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            map.put("key-" + i, i);
+            expected.put("key-" + i, i);
+            if (i % 3 == 0) {
+                map.remove("key-" + (i / 2));
+                expected.remove("key-" + (i / 2));
+            }
+        }
+
+        assertEquals(expected, map);
+        assertEquals(map, expected);
+        assertEquals(expected.hashCode(), map.hashCode());
+        assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(map.keySet()));
+    }
+
+    @Test
+    public void removeAll() {
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            keys.add("key-" + i);
+            map.put("key-" + i, i);
+        }
+        keys.forEach(map::remove);
+        map.put("foo", 1);
+
+        assertEquals(1, map.size());
+        assertEquals(Integer.valueOf(1), map.get("foo"));
+    }
+
+    @Test
+    public void intern() {
+        String key = new String(DESCRIPTION.toCharArray());
+        map.put(key, 1);
+
+        assertSame(DESCRIPTION, map.keySet().iterator().next());
+        assertSame(DESCRIPTION, OrderedStringMap.intern(key));
+        String unknown = "foo-bar";
+        assertSame(unknown, OrderedStringMap.intern(unknown));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void frozen() {
+        map.put("foo", 1);
+        map.freeze();
+        map.put("bar", 2);
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+import java.util.List;
+
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings({"HardCodedStringLiteral", "DuplicateStringLiteralInspection"})
+public class LatencyTrackerTest {
+
+    private static final double DELTA = 0.0001;
+
+    private LatencyTracker tracker;
+    private Operation readResource;
+
+    @Before
+    public void setUp() {
+        tracker = new LatencyTracker();
+        readResource = new Operation.Builder(ResourceAddress.root(), READ_RESOURCE_OPERATION).build();
+    }
+
+    @Test
+    public void endpoint() {
+        Operation server = new Operation.Builder(
+                ResourceAddress.from("host=master/server=server-one/subsystem=logging"), READ_RESOURCE_OPERATION)
+                .build();
+        Operation host = new Operation.Builder(ResourceAddress.from("host=master/interface=public"),
+                READ_RESOURCE_OPERATION).build();
+        Operation profile = new Operation.Builder(ResourceAddress.from("profile=full/subsystem=ee"),
+                READ_RESOURCE_OPERATION).build();
+
+        assertEquals("/", LatencyTracker.endpoint(readResource));
+        assertEquals("/", LatencyTracker.endpoint(profile));
+        assertEquals("host=master", LatencyTracker.endpoint(host));
+        assertEquals("host=master/server=server-one", LatencyTracker.endpoint(server));
+        assertEquals("host=master", LatencyTracker.endpoint(new Composite(host)));
+        assertEquals("*", LatencyTracker.endpoint(new Composite(host, server)));
+    }
+
+    @Test
+    public void key() {
+        Operation recursive = new Operation.Builder(ResourceAddress.root(), READ_RESOURCE_OPERATION)
+                .param(RECURSIVE, true)
+                .build();
+
+        assertEquals("/ " + READ_RESOURCE_OPERATION, LatencyTracker.key(readResource));
+        assertEquals("/ " + READ_RESOURCE_OPERATION + " " + RECURSIVE, LatencyTracker.key(recursive));
+        assertFalse(readResource.hasDefined(RECURSIVE));
+    }
+
+    @Test
+    public void ewma() {
+        tracker.record(readResource, 100);
+        LatencyTracker.Endpoint endpoint = tracker.endpoints().get(0);
+        assertEquals(100, endpoint.getAverage(), DELTA);
+        assertEquals(50, endpoint.getDeviation(), DELTA);
+
+        tracker.record(readResource, 200);
+        assertEquals(2, endpoint.getSamples());
+        assertEquals(112.5, endpoint.getAverage(), DELTA); // 0.875 * 100 + 0.125 * 200
+        assertEquals(62.5, endpoint.getDeviation(), DELTA); // 0.75 * 50 + 0.25 * 100
+    }
+
+    @Test
+    public void notEnoughSamples() {
+        for (int i = 1; i < LatencyTracker.MIN_SAMPLES; i++) {
+            tracker.record(readResource, 100);
+        }
+        assertEquals(-1, tracker.timeout(readResource), DELTA);
+        assertEquals(-1, tracker.hedgeDelay(readResource), DELTA);
+
+        Operation unknown = new Operation.Builder(ResourceAddress.root(), READ_ATTRIBUTE_OPERATION).build();
+        assertEquals(-1, tracker.timeout(unknown), DELTA);
+        assertEquals(-1, tracker.hedgeDelay(unknown), DELTA);
+    }
+
+    @Test
+    public void timeout() {
+        for (int i = 0; i < 50; i++) {
+            tracker.record(readResource, 100);
+        }
+        assertEquals(LatencyTracker.MIN_TIMEOUT, tracker.timeout(readResource), DELTA);
+
+        for (int i = 0; i < 50; i++) {
+            tracker.record(readResource, 100_000);
+        }
+        assertEquals(LatencyTracker.MAX_TIMEOUT, tracker.timeout(readResource), DELTA);
+
+        tracker.clear();
+        for (int i = 0; i < 50; i++) {
+            tracker.record(readResource, 5000);
+        }
+        // deviation converges to zero
+        assertEquals(15_000, tracker.timeout(readResource), 1);
+    }
+
+    @Test
+    public void hedgeDelay() {
+        for (int i = 0; i < 50; i++) {
+            tracker.record(readResource, 10);
+        }
+        assertEquals(LatencyTracker.MIN_HEDGE_DELAY, tracker.hedgeDelay(readResource), DELTA);
+
+        for (int i = 0; i < 50; i++) {
+            tracker.record(readResource, i % 2 == 0 ? 800 : 1200);
+        }
+        double delay = tracker.hedgeDelay(readResource);
+        assertTrue(delay > 1000);
+        assertTrue(delay < 2000);
+    }
+
+    @Test
+    public void hedgesInFlight() {
+        for (int i = 0; i < LatencyTracker.MAX_HEDGES_IN_FLIGHT; i++) {
+            assertTrue(tracker.acquireHedge());
+        }
+        assertFalse(tracker.acquireHedge());
+
+        tracker.releaseHedge();
+        assertTrue(tracker.acquireHedge());
+        assertFalse(tracker.acquireHedge());
+
+        for (int i = 0; i < LatencyTracker.MAX_HEDGES_IN_FLIGHT + 1; i++) {
+            tracker.releaseHedge();
+        }
+        assertTrue(tracker.acquireHedge());
+    }
+
+    @Test
+    public void retryDelay() {
+        assertEquals(125, LatencyTracker.retryDelay(0, 0), DELTA);
+        assertEquals(250, LatencyTracker.retryDelay(0, 1), DELTA);
+        assertEquals(250, LatencyTracker.retryDelay(1, 0), DELTA);
+        assertEquals(500, LatencyTracker.retryDelay(1, 1), DELTA);
+        // capped
+        assertEquals(LatencyTracker.MAX_RETRY_DELAY, LatencyTracker.retryDelay(10, 1), DELTA);
+    }
+
+    @Test
+    public void retryable() {
+        assertTrue(LatencyTracker.retryable(new DispatchError(0, "network", readResource)));
+        assertTrue(LatencyTracker.retryable(new DispatchError(LatencyTracker.TIMEOUT_STATUS, "timeout",
+                readResource)));
+        assertTrue(LatencyTracker.retryable(new DispatchError(503, "unavailable", readResource)));
+        assertFalse(LatencyTracker.retryable(new DispatchError(401, "unauthorized", readResource)));
+        assertFalse(LatencyTracker.retryable(new DispatchError(500, "internal", readResource)));
+        assertFalse(LatencyTracker.retryable(new DispatchFailure("failed", readResource)));
+    }
+
+    @Test
+    public void metrics() {
+        Metrics metrics = new Metrics();
+        metrics.record(readResource, 100, 10, 0, 0);
+        metrics.retry(readResource);
+        metrics.timeout(readResource, 10_000);
+        metrics.hedge(readResource);
+        metrics.hedgeWon(readResource);
+
+        List<Metrics.OperationMetrics> operations = metrics.operations();
+        assertEquals(1, operations.size());
+        assertEquals(1, operations.get(0).getRetries());
+        assertEquals(1, operations.get(0).getTimeouts());
+        assertEquals(1, operations.get(0).getHedges());
+        assertEquals(1, operations.get(0).getHedgesWon());
+        assertEquals(2, metrics.latencies().endpoints().get(0).getSamples());
+
+        metrics.clear();
+        assertTrue(metrics.operations().isEmpty());
+        assertEquals(1, metrics.latencies().endpoints().size());
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+import java.util.List;
+
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings({"HardCodedStringLiteral", "DuplicateStringLiteralInspection"})
+public class MetricsTest {
+
+    private static final double DELTA = 0.0001;
+
+    private Metrics metrics;
+    private Operation readResource;
+    private Operation readAttribute;
+
+    @Before
+    public void setUp() {
+        metrics = new Metrics();
+        readResource = new Operation.Builder(ResourceAddress.root(), READ_RESOURCE_OPERATION).build();
+        readAttribute = new Operation.Builder(ResourceAddress.root(), READ_ATTRIBUTE_OPERATION).build();
+    }
+
+    @Test
+    public void histogram() {
+        Histogram histogram = new Histogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.add(i);
+        }
+        assertEquals(100, histogram.count());
+        assertEquals(1, histogram.min(), DELTA);
+        assertEquals(100, histogram.max(), DELTA);
+        assertEquals(50.5, histogram.mean(), DELTA);
+        // percentiles are upper bounds of the exponential buckets
+        assertEquals(64, histogram.percentile(50), DELTA);
+        assertEquals(100, histogram.percentile(95), DELTA);
+    }
+
+    @Test
+    public void emptyHistogram() {
+        Histogram histogram = new Histogram();
+        assertEquals(0, histogram.count());
+        assertEquals(0, histogram.mean(), DELTA);
+        assertEquals(0, histogram.percentile(95), DELTA);
+    }
+
+    @Test
+    public void recordByName() {
+        metrics.record(readResource, 10, 100, 1, 2);
+        metrics.record(readResource, 20, 200, 1, 2);
+        metrics.record(readAttribute, 1, 10, 0, 0);
+
+        List<Metrics.OperationMetrics> operations = metrics.operations();
+        assertEquals(2, operations.size());
+        assertEquals(READ_RESOURCE_OPERATION, operations.get(0).getName());
+        assertEquals(2, operations.get(0).getNetwork().count());
+        assertEquals(150, operations.get(0).getBytes().mean(), DELTA);
+        assertEquals(36, operations.get(0).total(), DELTA);
+    }
+
+    @Test
+    public void compositeName() {
+        Composite composite = new Composite(readResource, readAttribute, readResource);
+        assertEquals("composite(read-attribute, read-resource)", Metrics.name(composite));
+    }
+
+    @Test
+    public void slowest() {
+        for (int i = 0; i < Metrics.SLOWEST * 2; i++) {
+            metrics.record(readResource, i, 0, 0, 0);
+        }
+        List<Metrics.Sample> slowest = metrics.slowest();
+        assertEquals(Metrics.SLOWEST, slowest.size());
+        assertEquals(Metrics.SLOWEST * 2 - 1, slowest.get(0).total(), DELTA);
+        for (int i = 1; i < slowest.size(); i++) {
+            assertTrue(slowest.get(i - 1).total() >= slowest.get(i).total());
+        }
+    }
+
+    @Test
+    public void clear() {
+        metrics.record(readResource, 10, 100, 1, 2);
+        metrics.clear();
+        assertTrue(metrics.operations().isEmpty());
+        assertTrue(metrics.slowest().isEmpty());
+    }
+}
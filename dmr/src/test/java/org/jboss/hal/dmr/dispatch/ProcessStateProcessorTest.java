@@ -0,0 +1,125 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.dispatch.ResponseHeadersProcessor.Header;
+import org.jboss.hal.dmr.dispatch.ServerState.State;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.PROCESS_STATE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RELOAD_REQUIRED;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESTART_REQUIRED;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+@SuppressWarnings({"HardCodedStringLiteral", "DuplicateStringLiteralInspection"})
+public class ProcessStateProcessorTest {
+
+    private ProcessStateProcessor processor;
+
+    @Before
+    public void setUp() {
+        processor = new ProcessStateProcessor(null);
+    }
+
+    @Test
+    public void running() {
+        assertNull(processor.update(headers(running("server-one"))));
+    }
+
+    @Test
+    public void transition() {
+        ProcessState processState = processor.update(headers(reloadRequired("server-one")));
+        assertNotNull(processState);
+        assertEquals(1, processState.size());
+        assertEquals(State.RELOAD_REQUIRED, processState.first().getState());
+        assertEquals("server-one", processState.first().getServer());
+        assertEquals("master", processState.first().getHost());
+    }
+
+    @Test
+    public void sameState() {
+        processor.update(headers(reloadRequired("server-one")));
+        assertNull(processor.update(headers(reloadRequired("server-one"))));
+    }
+
+    @Test
+    public void changedState() {
+        processor.update(headers(reloadRequired("server-one")));
+        ProcessState processState = processor.update(headers(restartRequired("server-one")));
+        assertNotNull(processState);
+        assertEquals(1, processState.size());
+        assertEquals(State.RESTART_REQUIRED, processState.first().getState());
+    }
+
+    @Test
+    public void allServers() {
+        processor.update(headers(reloadRequired("server-one")));
+        ProcessState processState = processor.update(headers(reloadRequired("server-one"),
+                restartRequired("server-two")));
+        assertNotNull(processState);
+        assertEquals(2, processState.size());
+    }
+
+    @Test
+    public void runningAgain() {
+        processor.update(headers(reloadRequired("server-one")));
+        assertNull(processor.update(headers(running("server-one"))));
+        assertNotNull(processor.update(headers(reloadRequired("server-one"))));
+    }
+
+    @Test
+    public void reset() {
+        processor.update(headers(reloadRequired("server-one")));
+        processor.reset();
+        assertNotNull(processor.update(headers(reloadRequired("server-one"))));
+    }
+
+    @Test
+    public void standalone() {
+        ModelNode node = new ModelNode();
+        node.get(PROCESS_STATE).set(RELOAD_REQUIRED);
+        assertNotNull(processor.update(headers(new Header(node))));
+        assertNull(processor.update(headers(new Header(node))));
+        assertNull(processor.update(headers(new Header(new ModelNode()))));
+        assertNotNull(processor.update(headers(new Header(node))));
+    }
+
+    private Header[] headers(Header... headers) {
+        return headers;
+    }
+
+    private Header running(String server) {
+        return new Header("main-server-group", "master", server, new ModelNode());
+    }
+
+    private Header reloadRequired(String server) {
+        return header(server, RELOAD_REQUIRED);
+    }
+
+    private Header restartRequired(String server) {
+        return header(server, RESTART_REQUIRED);
+    }
+
+    private Header header(String server, String processState) {
+        ModelNode node = new ModelNode();
+        node.get(PROCESS_STATE).set(processState);
+        return new Header("main-server-group", "master", server, node);
+    }
+}
@@ -21,7 +21,9 @@ import org.jboss.hal.meta.capabilitiy.Capabilities;
 import org.jboss.hal.meta.description.ResourceDescriptionDatabase;
 import org.jboss.hal.meta.description.ResourceDescriptionRegistry;
 import org.jboss.hal.meta.processing.MetadataProcessor;
+import org.jboss.hal.meta.processing.RrdWorker;
 import org.jboss.hal.meta.processing.WorkerChannel;
+import org.jboss.hal.meta.search.GlobalSearch;
 import org.jboss.hal.meta.security.SecurityContextDatabase;
 import org.jboss.hal.meta.security.SecurityContextRegistry;
 import org.jboss.hal.spi.GinModule;
@@ -32,10 +34,12 @@ public class MetaModule extends AbstractGinModule {
     @Override
     protected void configure() {
         bind(Capabilities.class).in(Singleton.class);
+        bind(GlobalSearch.class).in(Singleton.class);
         bind(MetadataProcessor.class).in(Singleton.class);
         bind(MetadataRegistry.class).in(Singleton.class);
         bind(ResourceDescriptionDatabase.class).in(Singleton.class);
         bind(ResourceDescriptionRegistry.class).in(Singleton.class);
+        bind(RrdWorker.class).in(Singleton.class);
         bind(SecurityContextDatabase.class).in(Singleton.class);
         bind(SecurityContextRegistry.class).in(Singleton.class);
         bind(WorkerChannel.class).in(Singleton.class);
@@ -52,7 +52,9 @@ public class ResourceDescriptionDatabase extends AbstractDatabase<ResourceDescri
 
     @Override
     public ResourceDescription asMetadata(Document document) {
-        return new ResourceDescription(ModelNode.fromBase64(document.getAny(PAYLOAD).asString()));
+        ModelNode payload = ModelNode.fromBase64(document.getAny(PAYLOAD).asString());
+        payload.protect(); // shared by the resource description
+        return new ResourceDescription(payload);
     }
 
     @Override
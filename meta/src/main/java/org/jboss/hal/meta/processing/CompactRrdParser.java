@@ -0,0 +1,87 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.meta.processing;
+
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.ResourceAddress;
+
+import static org.jboss.hal.meta.processing.CompositeRrdParser.makeFqAddress;
+import static org.jboss.hal.meta.processing.CompositeRrdParser.operationAddress;
+
+/**
+ * Parses the entries posted by the rrd parser worker ({@code js/rrd-parser.js}). The worker has already walked the
+ * nested children and removed them from the descriptions. What's left is to resolve the addresses and to turn the
+ * flat descriptions into resource descriptions and security contexts.
+ * <p>
+ * The parser is meant to be called for each chunk posted by the worker. The results are collected in one {@link
+ * RrdResult}.
+ */
+class CompactRrdParser {
+
+    static final String OPERATION_ADDRESS = "o";
+    static final String RESULT_ADDRESS = "r";
+    static final String ABSOLUTE_ADDRESS = "a";
+
+    private final Composite composite;
+    private final RrdResult rrdResult;
+    private final SingleRrdParser singleRrdParser;
+
+    CompactRrdParser(Composite composite) {
+        this.composite = composite;
+        this.rrdResult = new RrdResult();
+        this.singleRrdParser = new SingleRrdParser(rrdResult);
+    }
+
+    /**
+     * Parses one chunk of entries.
+     *
+     * @param entries entries of the form {@code [step, kind, base, path, node]}
+     */
+    void parse(Object[] entries) throws ParserException {
+        for (Object e : entries) {
+            Object[] entry = (Object[]) e;
+            int step = ((Number) entry[0]).intValue();
+            String kind = (String) entry[1];
+            ResourceAddress base = address((Object[]) entry[2]);
+            ResourceAddress path = address((Object[]) entry[3]);
+
+            ResourceAddress address;
+            if (OPERATION_ADDRESS.equals(kind)) {
+                address = operationAddress(composite, step).add(path);
+            } else if (RESULT_ADDRESS.equals(kind)) {
+                address = makeFqAddress(operationAddress(composite, step), base).add(path);
+            } else if (ABSOLUTE_ADDRESS.equals(kind)) {
+                address = base.add(path);
+            } else {
+                throw new ParserException("Unknown kind '" + kind + "' in entry for step " + step);
+            }
+            singleRrdParser.parseFlat(address, ModelNode.fromCompact((Object[]) entry[4]));
+        }
+    }
+
+    RrdResult result() {
+        return rrdResult;
+    }
+
+    private ResourceAddress address(Object[] segments) {
+        ResourceAddress address = new ResourceAddress();
+        for (int i = 0; i + 1 < segments.length; i += 2) {
+            address.add((String) segments[i], (String) segments[i + 1]);
+        }
+        return address;
+    }
+}
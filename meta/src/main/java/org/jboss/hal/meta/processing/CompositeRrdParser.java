@@ -55,7 +55,7 @@ class CompositeRrdParser {
                 for (ModelNode modelNode : stepResult.asList()) {
                     ModelNode result = modelNode.get(RESULT);
                     if (result.isDefined()) {
-                        ResourceAddress operationAddress = operationAddress(index);
+                        ResourceAddress operationAddress = operationAddress(composite, index);
                         ResourceAddress resultAddress = new ResourceAddress(modelNode.get(ADDRESS));
                         ResourceAddress resolvedAddress = makeFqAddress(operationAddress, resultAddress);
 
@@ -65,7 +65,7 @@ class CompositeRrdParser {
 
             } else {
                 // a single rrd result
-                ResourceAddress address = operationAddress(index);
+                ResourceAddress address = operationAddress(composite, index);
                 new SingleRrdParser(rrdResult).parse(address, stepResult);
             }
             index++;
@@ -74,7 +74,7 @@ class CompositeRrdParser {
         return rrdResult;
     }
 
-    private ResourceAddress operationAddress(int index) {
+    static ResourceAddress operationAddress(Composite composite, int index) {
         List<ModelNode> steps = composite.get(STEPS).asList();
         if (index >= steps.size()) {
             throw new ParserException("Cannot get operation at index " + index + " from composite " + composite);
@@ -84,7 +84,7 @@ class CompositeRrdParser {
     }
 
     @SuppressWarnings("DuplicateStringLiteralInspection")
-    private ResourceAddress makeFqAddress(ResourceAddress operationAddress, ResourceAddress resultAddress) {
+    static ResourceAddress makeFqAddress(ResourceAddress operationAddress, ResourceAddress resultAddress) {
         ResourceAddress resolved = resultAddress;
         List<Property> operationSegments = operationAddress.asPropertyList();
         List<Property> resultSegments = resultAddress.asPropertyList();
@@ -21,12 +21,12 @@ import java.util.List;
 import org.jboss.hal.config.Environment;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.meta.AddressTemplate;
 import org.jboss.hal.meta.StatementContext;
 import org.jboss.hal.meta.description.ResourceDescriptionStatementContext;
 import org.jboss.hal.meta.security.SecurityContextStatementContext;
 
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
-import static org.jboss.hal.meta.processing.LookupResult.ALL_PRESENT;
 import static org.jboss.hal.meta.processing.LookupResult.NOTHING_PRESENT;
 import static org.jboss.hal.meta.processing.LookupResult.RESOURCE_DESCRIPTION_PRESENT;
 import static org.jboss.hal.meta.processing.LookupResult.SECURITY_CONTEXT_PRESENT;
@@ -37,13 +37,27 @@ class CreateRrdOperations {
     private final ResourceDescriptionStatementContext resourceDescriptionStatementContext;
     private final int depth;
     private final String locale;
+    private final boolean split;
 
     CreateRrdOperations(Environment environment, StatementContext statementContext, String locale, int depth) {
+        this(environment, statementContext, locale, depth, false);
+    }
+
+    /**
+     * @param split if {@code true} resource descriptions and security contexts are never read using one operation.
+     *              Instead two independent operations are created: One w/o access control information resolved
+     *              against the resource description statement context and one with {@code
+     *              access-control=trim-descriptions} resolved against the security context statement context. This
+     *              way resource descriptions can be cached regardless of the current roles and scope.
+     */
+    CreateRrdOperations(Environment environment, StatementContext statementContext, String locale, int depth,
+            boolean split) {
         this.securityContextStatementContext = new SecurityContextStatementContext(statementContext, environment);
         this.resourceDescriptionStatementContext = new ResourceDescriptionStatementContext(statementContext,
                 environment);
         this.locale = locale;
         this.depth = depth;
+        this.split = split;
     }
 
     public List<Operation> create(LookupContext context, boolean recursive, boolean optional) {
@@ -53,38 +67,49 @@ class CreateRrdOperations {
                 .filter(template -> optional == template.isOptional())
                 .forEach(template -> {
                     int missingMetadata = lookupResult.missingMetadata(template);
-                    if (missingMetadata != ALL_PRESENT) {
-
-                        ResourceAddress address;
-                        Operation.Builder builder = null;
-
-                        if (missingMetadata == NOTHING_PRESENT) {
-                            address = template.resolve(securityContextStatementContext);
-                            builder = new Operation.Builder(address, READ_RESOURCE_DESCRIPTION_OPERATION)
+                    if (missingMetadata == NOTHING_PRESENT) {
+                        if (split) {
+                            operations.add(resourceDescription(template, recursive));
+                            operations.add(securityContext(template, recursive));
+                        } else {
+                            ResourceAddress address = template.resolve(securityContextStatementContext);
+                            Operation.Builder builder = new Operation.Builder(address,
+                                    READ_RESOURCE_DESCRIPTION_OPERATION)
                                     .param(ACCESS_CONTROL, COMBINED_DESCRIPTIONS)
                                     .param(OPERATIONS, true);
-
-                        } else if (missingMetadata == RESOURCE_DESCRIPTION_PRESENT) {
-                            address = template.resolve(securityContextStatementContext);
-                            builder = new Operation.Builder(address, READ_RESOURCE_DESCRIPTION_OPERATION)
-                                    .param(ACCESS_CONTROL, TRIM_DESCRIPTIONS)
-                                    .param(OPERATIONS, true);
-
-                        } else if (missingMetadata == SECURITY_CONTEXT_PRESENT) {
-                            address = template.resolve(resourceDescriptionStatementContext);
-                            builder = new Operation.Builder(address, READ_RESOURCE_DESCRIPTION_OPERATION)
-                                    .param(OPERATIONS, true);
+                            operations.add(finish(builder, recursive));
                         }
 
-                        if (builder != null) {
-                            if (recursive) {
-                                builder.param(RECURSIVE_DEPTH, depth);
-                            }
-                            builder.param(LOCALE, locale);
-                            operations.add(builder.build());
-                        }
+                    } else if (missingMetadata == RESOURCE_DESCRIPTION_PRESENT) {
+                        operations.add(securityContext(template, recursive));
+
+                    } else if (missingMetadata == SECURITY_CONTEXT_PRESENT) {
+                        operations.add(resourceDescription(template, recursive));
                     }
                 });
         return operations;
     }
+
+    private Operation resourceDescription(AddressTemplate template, boolean recursive) {
+        ResourceAddress address = template.resolve(resourceDescriptionStatementContext);
+        Operation.Builder builder = new Operation.Builder(address, READ_RESOURCE_DESCRIPTION_OPERATION)
+                .param(OPERATIONS, true);
+        return finish(builder, recursive);
+    }
+
+    private Operation securityContext(AddressTemplate template, boolean recursive) {
+        ResourceAddress address = template.resolve(securityContextStatementContext);
+        Operation.Builder builder = new Operation.Builder(address, READ_RESOURCE_DESCRIPTION_OPERATION)
+                .param(ACCESS_CONTROL, TRIM_DESCRIPTIONS)
+                .param(OPERATIONS, true);
+        return finish(builder, recursive);
+    }
+
+    private Operation finish(Operation.Builder builder, boolean recursive) {
+        if (recursive) {
+            builder.param(RECURSIVE_DEPTH, depth);
+        }
+        builder.param(LOCALE, locale);
+        return builder.build();
+    }
 }
@@ -23,11 +23,13 @@ import javax.inject.Inject;
 
 import com.google.common.base.Stopwatch;
 import com.google.gwt.user.client.rpc.AsyncCallback;
+import com.google.web.bindery.event.shared.EventBus;
 import jsinterop.annotations.JsFunction;
 import jsinterop.annotations.JsIgnore;
 import jsinterop.annotations.JsMethod;
 import jsinterop.annotations.JsType;
 import org.jboss.hal.config.Environment;
+import org.jboss.hal.config.RolesChangedEvent;
 import org.jboss.hal.config.Settings;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
 import org.jboss.hal.flow.Outcome;
@@ -78,6 +80,7 @@ public class MetadataProcessor {
     private final SecurityContextRegistry securityContextRegistry;
     private final Settings settings;
     private final WorkerChannel workerChannel;
+    private final RrdWorker rrdWorker;
 
     @Inject
     @JsIgnore
@@ -91,7 +94,9 @@ public class MetadataProcessor {
             ResourceDescriptionDatabase resourceDescriptionDatabase,
             ResourceDescriptionRegistry resourceDescriptionRegistry,
             Settings settings,
-            WorkerChannel workerChannel) {
+            WorkerChannel workerChannel,
+            RrdWorker rrdWorker,
+            EventBus eventBus) {
         this.environment = environment;
         this.dispatcher = dispatcher;
         this.statementContext = statementContext;
@@ -103,6 +108,16 @@ public class MetadataProcessor {
         this.resourceDescriptionRegistry = resourceDescriptionRegistry;
         this.settings = settings;
         this.workerChannel = workerChannel;
+        this.rrdWorker = rrdWorker;
+
+        // resource descriptions don't depend on roles: only drop the security contexts
+        eventBus.addHandler(RolesChangedEvent.getType(), event -> {
+            if (settings.get(Settings.Key.SPLIT_METADATA).asBoolean()) {
+                logger.debug("Roles changed -> clear security contexts");
+                securityContextRegistry.clear();
+                securityContextDatabase.reset();
+            }
+        });
     }
 
     @JsIgnore
@@ -153,7 +168,8 @@ public class MetadataProcessor {
             if (!ie) {
                 tasks.add(new LookupDatabaseTask(resourceDescriptionDatabase, securityContextDatabase));
             }
-            tasks.add(new RrdTask(environment, dispatcher, statementContext, settings, BATCH_SIZE, RRD_DEPTH));
+            tasks.add(new RrdTask(environment, dispatcher, statementContext, settings, rrdWorker, BATCH_SIZE,
+                    RRD_DEPTH));
             tasks.add(new UpdateRegistryTask(resourceDescriptionRegistry, securityContextRegistry));
             if (!ie) {
                 tasks.add(new UpdateDatabaseTask(workerChannel));
@@ -44,15 +44,17 @@ class RrdTask implements Task<LookupContext> {
     private static final Logger logger = LoggerFactory.getLogger(RrdTask.class);
 
     private final Dispatcher dispatcher;
+    private final RrdWorker rrdWorker;
     private final int batchSize;
     private final CreateRrdOperations rrdOps;
 
     RrdTask(Environment environment, Dispatcher dispatcher, StatementContext statementContext, Settings settings,
-            int batchSize, int depth) {
+            RrdWorker rrdWorker, int batchSize, int depth) {
         this.dispatcher = dispatcher;
+        this.rrdWorker = rrdWorker;
         this.batchSize = batchSize;
         this.rrdOps = new CreateRrdOperations(environment, statementContext, settings.get(Settings.Key.LOCALE).value(),
-                depth);
+                depth, settings.get(Settings.Key.SPLIT_METADATA).asBoolean());
     }
 
     @Override
@@ -64,10 +66,15 @@ class RrdTask implements Task<LookupContext> {
         List<Operation> operations = rrdOps.create(context, recursive, false);
         List<List<Operation>> piles = Lists.partition(operations, batchSize);
         List<Composite> composites = piles.stream().map(Composite::new).collect(toList());
+        boolean inWorker = recursive && rrdWorker.enabled();
         for (Composite composite : composites) {
-            completables.add(dispatcher.execute(composite)
-                    .doOnSuccess(parseRrdAction(context, composite))
-                    .toCompletable());
+            if (inWorker) {
+                completables.add(parseInWorker(context, composite));
+            } else {
+                completables.add(dispatcher.execute(composite)
+                        .doOnSuccess(parseRrdAction(context, composite))
+                        .toCompletable());
+            }
         }
 
         // create optional operations w/o partitioning!
@@ -81,7 +88,9 @@ class RrdTask implements Task<LookupContext> {
             completables.add(dispatcher.execute(composite)
                     .onErrorResumeNext(throwable -> {
                         if (throwable instanceof DispatchFailure) {
-                            logger.debug("Ignore errors on optional resource operation {}", composite.asCli());
+                            if (logger.isDebugEnabled()) {
+                                logger.debug("Ignore errors on optional resource operation {}", composite.asCli());
+                            }
                             return Single.just(new CompositeResult(new ModelNode()));
                         } else {
                             return Single.error(throwable);
@@ -114,10 +123,27 @@ class RrdTask implements Task<LookupContext> {
     private Action1<CompositeResult> parseRrdAction(LookupContext context, Composite composite) {
         return (CompositeResult compositeResult) -> {
             RrdResult rrdResult = new CompositeRrdParser(composite).parse(compositeResult);
-            context.toResourceDescriptionRegistry.putAll(rrdResult.resourceDescriptions);
-            context.toResourceDescriptionDatabase.putAll(rrdResult.resourceDescriptions);
-            context.toSecurityContextRegistry.putAll(rrdResult.securityContexts);
-            context.toSecurityContextDatabase.putAll(rrdResult.securityContexts);
+            collect(context, rrdResult);
         };
     }
+
+    /**
+     * Recursive responses can be huge. Instead of decoding and parsing them on the UI thread, the undecoded response
+     * is transferred to the {@link RrdWorker} which streams back flat descriptions in chunks.
+     */
+    private Completable parseInWorker(LookupContext context, Composite composite) {
+        CompactRrdParser parser = new CompactRrdParser(composite);
+        return dispatcher.executeEncoded(composite)
+                .toObservable()
+                .flatMap(buffer -> rrdWorker.parse(buffer, parser::parse).toObservable())
+                .toCompletable()
+                .doOnCompleted(() -> collect(context, parser.result()));
+    }
+
+    private void collect(LookupContext context, RrdResult rrdResult) {
+        context.toResourceDescriptionRegistry.putAll(rrdResult.resourceDescriptions);
+        context.toResourceDescriptionDatabase.putAll(rrdResult.resourceDescriptions);
+        context.toSecurityContextRegistry.putAll(rrdResult.securityContexts);
+        context.toSecurityContextDatabase.putAll(rrdResult.securityContexts);
+    }
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.meta.processing;
+
+import java.util.function.Consumer;
+
+import javax.inject.Inject;
+
+import elemental2.core.ArrayBuffer;
+import org.jboss.hal.config.Settings;
+import org.jboss.hal.dmr.dispatch.WorkerChannel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import rx.Completable;
+import rx.CompletableEmitter;
+
+/**
+ * Parses {@code read-resource-description} responses in a web worker ({@code js/rrd-parser.js}). The worker receives
+ * the undecoded response, walks the nested children and posts back flat descriptions in chunks. Each chunk is
+ * processed in its own event loop turn, so that the UI thread is not blocked by big recursive responses.
+ * <p>
+ * Like decoding DMR responses in a worker, this is controlled by {@link Settings.Key#DECODE_IN_WORKER}.
+ */
+public class RrdWorker {
+
+    private static final String RRD_PARSER_JS = "js/rrd-parser.js";
+    private static final Logger logger = LoggerFactory.getLogger(RrdWorker.class);
+
+    private final Settings settings;
+    private final WorkerChannel<Pending> channel;
+
+    @Inject
+    public RrdWorker(Settings settings) {
+        this.settings = settings;
+        this.channel = new WorkerChannel<>(RRD_PARSER_JS, this::onMessage);
+    }
+
+    /** @return {@code true} if parsing in a worker is turned on and supported by the browser */
+    boolean enabled() {
+        return WorkerChannel.enabled(settings);
+    }
+
+    /**
+     * Transfers the buffer to the worker. The buffer is no longer usable afterwards.
+     *
+     * @param buffer the undecoded {@code read-resource-description} response
+     * @param chunk  called for each chunk posted by the worker
+     *
+     * @return a completable which completes after the last chunk has been processed
+     */
+    Completable parse(ArrayBuffer buffer, Consumer<Object[]> chunk) {
+        return Completable.fromEmitter(emitter -> {
+            double bytes = buffer.byteLength;
+            int id = channel.post(buffer, new Pending(chunk, emitter));
+            logger.debug("Parse rrd response #{} ({} bytes) in worker", id, (int) bytes);
+        });
+    }
+
+    private void onMessage(int id, Pending pending, Object[] entries, String error, boolean done, double time) {
+        if (error != null) {
+            pending.emitter.onError(new ParserException(error));
+            return;
+        }
+        try {
+            if (entries != null && entries.length != 0) {
+                pending.chunk.accept(entries);
+            }
+            if (done) {
+                logger.debug("Parsed rrd response #{} in worker in {} ms", id, (int) time);
+                pending.emitter.onCompleted();
+            }
+        } catch (RuntimeException e) {
+            channel.cancel(id);
+            pending.emitter.onError(e);
+        }
+    }
+
+
+    private static class Pending {
+
+        private final Consumer<Object[]> chunk;
+        private final CompletableEmitter emitter;
+
+        private Pending(Consumer<Object[]> chunk, CompletableEmitter emitter) {
+            this.chunk = chunk;
+            this.emitter = emitter;
+        }
+    }
+}
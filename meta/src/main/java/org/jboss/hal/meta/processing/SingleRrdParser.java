@@ -26,6 +26,7 @@ import org.jboss.hal.meta.description.ResourceDescriptionAddressProcessor;
 import org.jboss.hal.meta.security.SecurityContext;
 
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
+import static org.jboss.hal.dmr.ModelNodeHelper.failSafeGet;
 
 /**
  * This class does the bulk of work when it comes to parse the {@code read-resource-description} response and collect
@@ -54,16 +55,40 @@ class SingleRrdParser {
     }
 
     private void parseSingle(ResourceAddress address, ModelNode modelNode) {
-        // resource description
         // to reduce the payload we only use the flat model node w/o children
         ModelNode childrenNode = modelNode.hasDefined(CHILDREN) ? modelNode.remove(CHILDREN) : new ModelNode();
+        parseFlat(address, modelNode);
+
+        // children
+        if (childrenNode.isDefined()) {
+            List<Property> children = childrenNode.asPropertyList();
+            for (Property child : children) {
+                String addressKey = child.getName();
+                if (child.getValue().hasDefined(MODEL_DESCRIPTION)) {
+                    List<Property> modelDescriptions = child.getValue().get(MODEL_DESCRIPTION).asPropertyList();
+                    for (Property modelDescription : modelDescriptions) {
+                        String addressValue = modelDescription.getName();
+                        ModelNode childNode = modelDescription.getValue();
+                        ResourceAddress childAddress = new ResourceAddress(address).add(addressKey, addressValue);
+                        parseSingle(childAddress, childNode);
+                    }
+                }
+            }
+        }
+    }
+
+    /** Parses the resource description and security contexts of a model node w/o children. */
+    void parseFlat(ResourceAddress address, ModelNode modelNode) {
+        // resource description
+        // the resource description and security contexts share the protected node instead of copying it
+        modelNode.protect();
         if (!rrdResult.containsResourceDescription(address) && modelNode.hasDefined(DESCRIPTION)) {
             rrdResult.addResourceDescription(addressProcessor.apply(address), new ResourceDescription(modelNode));
         }
 
         // security context
-        ModelNode accessControl = modelNode.get(ACCESS_CONTROL);
-        if (accessControl.isDefined()) {
+        if (modelNode.hasDefined(ACCESS_CONTROL)) {
+            ModelNode accessControl = modelNode.get(ACCESS_CONTROL);
             if (!rrdResult.containsSecurityContext(address) && accessControl.hasDefined(DEFAULT)) {
                 rrdResult.addSecurityContext(address, new SecurityContext(accessControl.get(DEFAULT)));
             }
@@ -73,29 +98,12 @@ class SingleRrdParser {
                 List<Property> exceptions = accessControl.get(EXCEPTIONS).asPropertyList();
                 for (Property property : exceptions) {
                     ModelNode exception = property.getValue();
-                    ResourceAddress exceptionAddress = new ResourceAddress(exception.get(ADDRESS));
+                    ResourceAddress exceptionAddress = new ResourceAddress(failSafeGet(exception, ADDRESS));
                     if (!rrdResult.containsSecurityContext(exceptionAddress)) {
                         rrdResult.addSecurityContext(exceptionAddress, new SecurityContext(exception));
                     }
                 }
             }
         }
-
-        // children
-        if (childrenNode.isDefined()) {
-            List<Property> children = childrenNode.asPropertyList();
-            for (Property child : children) {
-                String addressKey = child.getName();
-                if (child.getValue().hasDefined(MODEL_DESCRIPTION)) {
-                    List<Property> modelDescriptions = child.getValue().get(MODEL_DESCRIPTION).asPropertyList();
-                    for (Property modelDescription : modelDescriptions) {
-                        String addressValue = modelDescription.getName();
-                        ModelNode childNode = modelDescription.getValue();
-                        ResourceAddress childAddress = new ResourceAddress(address).add(addressKey, addressValue);
-                        parseSingle(childAddress, childNode);
-                    }
-                }
-            }
-        }
     }
 }
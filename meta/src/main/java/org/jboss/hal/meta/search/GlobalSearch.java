@@ -0,0 +1,200 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.meta.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import javax.inject.Inject;
+
+import elemental2.dom.Worker;
+import jsinterop.annotations.JsType;
+import org.jboss.hal.config.Environment;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.js.Browser;
+import org.jboss.hal.resources.Ids;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.util.Collections.emptyList;
+import static jsinterop.annotations.JsPackage.GLOBAL;
+import static org.jboss.hal.resources.UIConstants.OBJECT;
+
+/**
+ * Global search over the management model. Queries are answered by a web worker ({@code js/search-index.js}) which
+ * holds a trigram index of
+ * <ul>
+ * <li>the name tokens, their keywords and resources as provided by the generated {@link SearchIndex} and</li>
+ * <li>the resource addresses discovered by read operations (see {@link #update(ResourceAddress, String,
+ * List)}).</li>
+ * </ul>
+ * Discovered resources are stored in an IndexedDB database next to the metadata databases, so the index grows
+ * incrementally and survives reloads of the console. The worker is created on first use. If web workers are not
+ * supported, the search returns no results.
+ */
+public class GlobalSearch {
+
+    public static final String TOKEN = "token";
+    public static final String RESOURCE = "resource";
+
+    private static final String SEARCH_INDEX_JS = "js/search-index.js";
+    private static final String INIT = "init";
+    private static final String UPDATE = "update";
+    private static final String QUERY = "query";
+    private static final Logger logger = LoggerFactory.getLogger(GlobalSearch.class);
+
+    private final Environment environment;
+    private final SearchIndex searchIndex;
+    private final Map<Integer, Consumer<List<SearchResult>>> pending;
+    private Worker worker;
+    private int counter;
+
+    @Inject
+    public GlobalSearch(Environment environment, SearchIndex searchIndex) {
+        this.environment = environment;
+        this.searchIndex = searchIndex;
+        this.pending = new HashMap<>();
+        this.counter = 0;
+    }
+
+    public String name() {
+        return Ids.build("hal-db-search",
+                environment.getName(),
+                environment.getHalBuild().name(),
+                environment.getManagementVersion().toString());
+    }
+
+    public boolean supported() {
+        return !Browser.isIE();
+    }
+
+    /**
+     * Replaces the indexed children of the given type below the parent address with the specified names. Children
+     * which are no longer present are removed from the index.
+     */
+    public void update(ResourceAddress parent, String childType, List<String> names) {
+        if (supported()) {
+            Message message = new Message();
+            message.command = UPDATE;
+            message.parent = parent.toString();
+            message.type = childType;
+            message.children = names.toArray(new String[names.size()]);
+            worker().postMessage(message);
+        }
+    }
+
+    /** Searches the index and passes at most {@code limit} results to the callback. */
+    public void search(String query, int limit, Consumer<List<SearchResult>> callback) {
+        if (supported()) {
+            int id = counter++;
+            pending.put(id, callback);
+            Message message = new Message();
+            message.command = QUERY;
+            message.id = id;
+            message.query = query;
+            message.limit = limit;
+            worker().postMessage(message);
+        } else {
+            callback.accept(emptyList());
+        }
+    }
+
+    private Worker worker() {
+        if (worker == null) {
+            worker = new Worker(SEARCH_INDEX_JS);
+            listen(worker);
+
+            List<Token> tokens = new ArrayList<>();
+            for (String t : searchIndex.getTokens(environment.isStandalone())) {
+                Token token = new Token();
+                token.token = t;
+                token.keywords = searchIndex.getKeywords(t).toArray(new String[0]);
+                token.resources = searchIndex.getResources(t).toArray(new String[0]);
+                tokens.add(token);
+            }
+            Message message = new Message();
+            message.command = INIT;
+            message.database = name();
+            message.tokens = tokens.toArray(new Token[tokens.size()]);
+            worker.postMessage(message);
+            logger.debug("Initialized global search using {} tokens and database {}", tokens.size(), name());
+        }
+        return worker;
+    }
+
+    @SuppressWarnings("unused") // called from JSNI
+    private void onResults(int id, Object[] results, double time) {
+        Consumer<List<SearchResult>> callback = pending.remove(id);
+        if (callback != null) {
+            List<SearchResult> list = new ArrayList<>();
+            for (Object result : results) {
+                list.add((SearchResult) result);
+            }
+            logger.debug("Global search #{} returned {} results in {} ms", id, list.size(), (int) time);
+            callback.accept(list);
+        }
+    }
+
+    private native void listen(Worker worker) /*-{
+        var that = this;
+        worker.onmessage = function (e) {
+            var data = e.data;
+            that.@org.jboss.hal.meta.search.GlobalSearch::onResults(I[Ljava/lang/Object;D)(
+                data.id, data.results || [], data.time || 0);
+        };
+    }-*/;
+
+
+    /** A search result as returned by the worker: Either a name token or a resource address. */
+    @JsType(isNative = true, namespace = GLOBAL, name = OBJECT)
+    public static class SearchResult {
+
+        /** Either {@link GlobalSearch#TOKEN} or {@link GlobalSearch#RESOURCE} */
+        public String type;
+        public String label;
+        /** The name token if {@link #type} is {@link GlobalSearch#TOKEN}, {@code null} otherwise */
+        public String token;
+        /** The resource address if {@link #type} is {@link GlobalSearch#RESOURCE}, {@code null} otherwise */
+        public String address;
+    }
+
+
+    @JsType(isNative = true, namespace = GLOBAL, name = OBJECT)
+    private static class Message {
+
+        String command;
+        String database;
+        Token[] tokens;
+        String parent;
+        String type;
+        String[] children;
+        int id;
+        String query;
+        int limit;
+    }
+
+
+    @JsType(isNative = true, namespace = GLOBAL, name = OBJECT)
+    private static class Token {
+
+        String token;
+        String[] keywords;
+        String[] resources;
+    }
+}
@@ -75,6 +75,15 @@ public class SecurityContextDatabase extends AbstractDatabase<SecurityContext> {
         return name;
     }
 
+    /**
+     * Resets the database name which depends on the current roles. The next access to the database will use the
+     * name derived from the then current roles.
+     */
+    public void reset() {
+        name = null;
+        database = null;
+    }
+
     @Override
     public SecurityContext asMetadata(Document document) {
         return new SecurityContext(ModelNode.fromBase64(document.getAny(PAYLOAD).asString()));
@@ -54,6 +54,12 @@ public class SecurityContextRegistry extends AbstractRegistry<SecurityContext> {
         logger.debug("Added {} to {} ({})", address.toString(), type, recursive ? "recursive" : "none-recursive");
     }
 
+    /** Removes all security contexts. Resource descriptions are not affected. */
+    public void clear() {
+        cache.invalidateAll();
+        logger.debug("Cleared {} registry", type);
+    }
+
     @Override
     protected SecurityContext lookupAddress(ResourceAddress address) {
         return cache.getIfPresent(address);
@@ -0,0 +1,110 @@
+package org.jboss.hal.meta.processing;
+
+import java.util.Arrays;
+
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.junit.Test;
+
+import static java.util.stream.Collectors.toList;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_DESCRIPTION_OPERATION;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings({"DuplicateStringLiteralInspection", "HardCodedStringLiteral"})
+public class CompactRrdParserTest {
+
+    private static final Object[] SECURITY_ONLY = new Object[]{"o", new Object[]{
+            "access-control", new Object[]{"o", new Object[]{
+                    "default", new Object[]{"o", new Object[]{
+                            "read", new Object[]{"Z", true},
+                            "write", new Object[]{"Z", false}
+                    }}
+            }}
+    }};
+
+    @Test
+    public void operationAddress() {
+        CompactRrdParser parser = new CompactRrdParser(composite(
+                new ResourceAddress().add("subsystem", "undertow")));
+        parser.parse(new Object[]{
+                entry(0, CompactRrdParser.OPERATION_ADDRESS, new Object[]{}, new Object[]{}),
+                entry(0, CompactRrdParser.OPERATION_ADDRESS, new Object[]{}, new Object[]{"server", "*"})
+        });
+
+        RrdResult result = parser.result();
+        assertEquals(2, result.securityContexts.size());
+        assertTrue(result.containsSecurityContext(new ResourceAddress().add("subsystem", "undertow")));
+        assertTrue(result.containsSecurityContext(new ResourceAddress()
+                .add("subsystem", "undertow")
+                .add("server", "*")));
+    }
+
+    @Test
+    public void resultAddress() {
+        // results of rrd operations against running servers don't contain absolute addresses
+        CompactRrdParser parser = new CompactRrdParser(composite(new ResourceAddress()
+                .add("host", "master")
+                .add("server", "server-one")
+                .add("interface", "*")));
+        parser.parse(new Object[]{
+                entry(0, CompactRrdParser.RESULT_ADDRESS, new Object[]{"interface", "public"}, new Object[]{})
+        });
+
+        assertTrue(parser.result().containsSecurityContext(new ResourceAddress()
+                .add("host", "master")
+                .add("server", "server-one")
+                .add("interface", "public")));
+    }
+
+    @Test
+    public void absoluteAddress() {
+        CompactRrdParser parser = new CompactRrdParser(composite(
+                new ResourceAddress().add("subsystem", "mail"),
+                new ResourceAddress().add("subsystem", "undertow")));
+        parser.parse(new Object[]{
+                entry(1, CompactRrdParser.ABSOLUTE_ADDRESS, new Object[]{"subsystem", "io"},
+                        new Object[]{"worker", "*"})
+        });
+
+        assertEquals(1, parser.result().securityContexts.size());
+        assertTrue(parser.result().containsSecurityContext(new ResourceAddress()
+                .add("subsystem", "io")
+                .add("worker", "*")));
+    }
+
+    @Test
+    public void chunks() {
+        CompactRrdParser parser = new CompactRrdParser(composite(new ResourceAddress().add("subsystem", "undertow")));
+        parser.parse(new Object[]{entry(0, CompactRrdParser.OPERATION_ADDRESS, new Object[]{}, new Object[]{})});
+        parser.parse(new Object[]{
+                entry(0, CompactRrdParser.OPERATION_ADDRESS, new Object[]{}, new Object[]{"server", "*"}),
+                entry(0, CompactRrdParser.OPERATION_ADDRESS, new Object[]{}, new Object[]{"buffer-cache", "*"})
+        });
+
+        assertEquals(3, parser.result().securityContexts.size());
+    }
+
+    @Test(expected = ParserException.class)
+    public void unknownKind() {
+        CompactRrdParser parser = new CompactRrdParser(composite(new ResourceAddress().add("subsystem", "undertow")));
+        parser.parse(new Object[]{entry(0, "x", new Object[]{}, new Object[]{})});
+    }
+
+    @Test(expected = ParserException.class)
+    public void invalidStep() {
+        CompactRrdParser parser = new CompactRrdParser(composite(new ResourceAddress().add("subsystem", "undertow")));
+        parser.parse(new Object[]{entry(1, CompactRrdParser.OPERATION_ADDRESS, new Object[]{}, new Object[]{})});
+    }
+
+    private Composite composite(ResourceAddress... addresses) {
+        return new Composite(Arrays.stream(addresses)
+                .map(address -> new Operation.Builder(address, READ_RESOURCE_DESCRIPTION_OPERATION).build())
+                .collect(toList()));
+    }
+
+    private Object[] entry(int step, String kind, Object[] base, Object[] path) {
+        return new Object[]{(double) step, kind, base, path, SECURITY_ONLY};
+    }
+}
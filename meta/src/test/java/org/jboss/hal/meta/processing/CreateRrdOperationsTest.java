@@ -24,6 +24,7 @@ import static org.junit.Assert.assertTrue;
 public class CreateRrdOperationsTest {
 
     private CreateRrdOperations rrdOps;
+    private CreateRrdOperations splitRrdOps;
     private StatementContext statementContext;
 
     @Before
@@ -31,6 +32,7 @@ public class CreateRrdOperationsTest {
         Environment environment = Mockito.mock(Environment.class);
         statementContext = StatementContext.NOOP;
         rrdOps = new CreateRrdOperations(environment, statementContext, "en", MetadataProcessor.RRD_DEPTH);
+        splitRrdOps = new CreateRrdOperations(environment, statementContext, "en", MetadataProcessor.RRD_DEPTH, true);
     }
 
     @Test
@@ -70,6 +72,33 @@ public class CreateRrdOperationsTest {
         assertTrue(operation.get(OPERATIONS).asBoolean());
     }
 
+    @Test
+    public void split() {
+        AddressTemplate nothingPresent = AddressTemplate.of("nothing=present");
+        AddressTemplate descriptionPresent = AddressTemplate.of("description=present");
+
+        LookupResult lookupResult = new LookupResult(Sets.newHashSet(nothingPresent, descriptionPresent));
+        lookupResult.markMetadataPresent(descriptionPresent, RESOURCE_DESCRIPTION_PRESENT);
+
+        List<Operation> inputs = splitRrdOps.create(new LookupContext(lookupResult), false, false);
+        assertEquals(3, inputs.size());
+
+        ResourceAddress address = nothingPresent.resolve(statementContext);
+        long descriptionOnly = inputs.stream()
+                .filter(operation -> operation.get(ADDRESS).equals(address))
+                .filter(operation -> !operation.get(ACCESS_CONTROL).isDefined())
+                .count();
+        long securityContextOnly = inputs.stream()
+                .filter(operation -> operation.get(ADDRESS).equals(address))
+                .filter(operation -> "trim-descriptions".equals(operation.get(ACCESS_CONTROL).asString()))
+                .count();
+        assertEquals(1, descriptionOnly);
+        assertEquals(1, securityContextOnly);
+
+        Operation operation = findOperation(inputs, descriptionPresent);
+        assertEquals("trim-descriptions", operation.get(ACCESS_CONTROL).asString());
+    }
+
     @Test
     public void optional() {
         // TODO Test optional resources
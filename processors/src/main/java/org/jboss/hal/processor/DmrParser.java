@@ -0,0 +1,293 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.processor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parses the DMR text format as written by {@code ModelNode.toString()}. Objects are parsed into a {@link Map}, lists
+ * into a {@link List} and all other values into a {@link Value} which carries the Java expression to pass to the
+ * related {@code ModelNode} setter.
+ */
+class DmrParser {
+
+    static class Value {
+
+        /** {@code null} for undefined values */
+        final String setter;
+        final String argument;
+
+        Value(String setter, String argument) {
+            this.setter = setter;
+            this.argument = argument;
+        }
+    }
+
+
+    static class ParseException extends Exception {
+
+        ParseException(String message) {
+            super(message);
+        }
+    }
+
+
+    static final Value UNDEFINED = new Value(null, null);
+
+    private final String text;
+    private int pos;
+
+    DmrParser(String text) {
+        this.text = text;
+        this.pos = 0;
+    }
+
+    Object parse() throws ParseException {
+        Object value = value();
+        skipWhitespace();
+        if (pos < text.length()) {
+            throw error("Unexpected content after value");
+        }
+        return value;
+    }
+
+    private Object value() throws ParseException {
+        skipWhitespace();
+        if (pos >= text.length()) {
+            throw error("Unexpected end of input");
+        }
+        char c = text.charAt(pos);
+        if (c == '{') {
+            return object();
+        } else if (c == '[') {
+            return list();
+        } else if (c == '"') {
+            return new Value("set", literal(string()));
+        } else if (c == '-' || Character.isDigit(c)) {
+            return number();
+        } else if (c == '(') {
+            throw error("Properties are not supported");
+        } else {
+            String word = word();
+            switch (word) {
+                case "undefined":
+                    return UNDEFINED;
+                case "true":
+                case "false":
+                    return new Value("set", word);
+                case "expression":
+                    skipWhitespace();
+                    return new Value("setExpression", literal(string()));
+                case "big":
+                    skipWhitespace();
+                    String kind = word();
+                    skipWhitespace();
+                    String number = numberText();
+                    if ("decimal".equals(kind)) {
+                        return new Value("set", "new java.math.BigDecimal(\"" + number + "\")");
+                    } else if ("integer".equals(kind)) {
+                        return new Value("set", "new java.math.BigInteger(\"" + number + "\")");
+                    }
+                    throw error("Unknown big number type \"" + kind + "\"");
+                default:
+                    // model types like STRING or LONG
+                    if (!word.isEmpty() && word.equals(word.toUpperCase())) {
+                        return new Value("set", "org.jboss.hal.dmr.ModelType." + word);
+                    }
+                    throw error("Unknown value \"" + word + "\"");
+            }
+        }
+    }
+
+    private Map<String, Object> object() throws ParseException {
+        Map<String, Object> object = new LinkedHashMap<>();
+        pos++; // '{'
+        skipWhitespace();
+        while (peek() != '}') {
+            String key = string();
+            skipWhitespace();
+            expect("=>");
+            object.put(key, value());
+            if (!separator('}')) {
+                break;
+            }
+        }
+        skipWhitespace();
+        expect("}");
+        return object;
+    }
+
+    private List<Object> list() throws ParseException {
+        List<Object> list = new ArrayList<>();
+        pos++; // '['
+        skipWhitespace();
+        while (peek() != ']') {
+            list.add(value());
+            if (!separator(']')) {
+                break;
+            }
+        }
+        skipWhitespace();
+        expect("]");
+        return list;
+    }
+
+    /** @return {@code true} if another element follows (trailing commas are allowed) */
+    private boolean separator(char end) {
+        skipWhitespace();
+        if (peek() == ',') {
+            pos++;
+            skipWhitespace();
+            return peek() != end;
+        }
+        return false;
+    }
+
+    private Value number() throws ParseException {
+        String number = numberText();
+        if (peek() == 'L') {
+            pos++;
+            return new Value("set", number + "L");
+        } else if (number.contains(".") || number.contains("e") || number.contains("E")) {
+            return new Value("set", number.contains(".") ? number : number + ".0");
+        } else {
+            try {
+                Integer.parseInt(number);
+            } catch (NumberFormatException e) {
+                throw error("Invalid int \"" + number + "\"");
+            }
+            return new Value("set", number);
+        }
+    }
+
+    private String numberText() {
+        int start = pos;
+        while (pos < text.length() && "+-.eE0123456789".indexOf(text.charAt(pos)) != -1) {
+            pos++;
+        }
+        return text.substring(start, pos);
+    }
+
+    private String word() {
+        int start = pos;
+        while (pos < text.length() && (Character.isLetterOrDigit(text.charAt(pos)) || text.charAt(pos) == '_')) {
+            pos++;
+        }
+        return text.substring(start, pos);
+    }
+
+    private String string() throws ParseException {
+        expect("\"");
+        StringBuilder builder = new StringBuilder();
+        while (pos < text.length()) {
+            char c = text.charAt(pos++);
+            if (c == '"') {
+                return builder.toString();
+            } else if (c == '\\') {
+                if (pos >= text.length()) {
+                    break;
+                }
+                char escaped = text.charAt(pos++);
+                switch (escaped) {
+                    case 'n':
+                        builder.append('\n');
+                        break;
+                    case 't':
+                        builder.append('\t');
+                        break;
+                    case 'r':
+                        builder.append('\r');
+                        break;
+                    case 'u':
+                        if (pos + 4 > text.length()) {
+                            throw error("Invalid unicode escape");
+                        }
+                        builder.append((char) Integer.parseInt(text.substring(pos, pos + 4), 16));
+                        pos += 4;
+                        break;
+                    default:
+                        builder.append(escaped);
+                        break;
+                }
+            } else {
+                builder.append(c);
+            }
+        }
+        throw error("Unterminated string");
+    }
+
+    private void expect(String token) throws ParseException {
+        if (!text.startsWith(token, pos)) {
+            throw error("Expected '" + token + "'");
+        }
+        pos += token.length();
+    }
+
+    private char peek() {
+        return pos < text.length() ? text.charAt(pos) : 0;
+    }
+
+    private void skipWhitespace() {
+        while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private ParseException error(String message) {
+        int line = 1;
+        for (int i = 0; i < pos && i < text.length(); i++) {
+            if (text.charAt(i) == '\n') {
+                line++;
+            }
+        }
+        return new ParseException(message + " at line " + line);
+    }
+
+    /** @return the specified string as Java string literal */
+    static String literal(String value) {
+        StringBuilder builder = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                default:
+                    if (c < 0x20 || c > 0x7e) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+                    break;
+            }
+        }
+        return builder.append('"').toString();
+    }
+}
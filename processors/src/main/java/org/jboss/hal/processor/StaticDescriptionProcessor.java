@@ -0,0 +1,202 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.processor;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import com.google.auto.service.AutoService;
+import org.jboss.auto.AbstractProcessor;
+import org.jboss.hal.spi.StaticDescription;
+
+import static org.jboss.hal.processor.TemplateNames.CLASS_NAME;
+import static org.jboss.hal.processor.TemplateNames.GENERATED_WITH;
+import static org.jboss.hal.processor.TemplateNames.PACKAGE_NAME;
+import static org.jboss.hal.processor.TemplateNames.TEMPLATES;
+
+/**
+ * Processor which turns the DMR files referenced by {@code @StaticDescription} into Java code. For each interface
+ * with annotated methods an implementation {@code <Interface>Impl} is generated which builds the resource
+ * descriptions using plain {@code ModelNode} calls. Thus static descriptions are available without base64 decoding
+ * at runtime.
+ */
+@AutoService(Processor.class)
+@SuppressWarnings("HardCodedStringLiteral")
+@SupportedAnnotationTypes("org.jboss.hal.spi.StaticDescription")
+public class StaticDescriptionProcessor extends AbstractProcessor {
+
+    private static final String TEMPLATE = "StaticDescriptions.ftl";
+    private static final String RESOURCE_DESCRIPTION = "org.jboss.hal.meta.description.ResourceDescription";
+    private static final String ROOT = "n0";
+
+    /** Top level keys in the DMR files which are not part of the description */
+    private static final String COMMENT = "comment";
+
+    public StaticDescriptionProcessor() {
+        super(StaticDescriptionProcessor.class, TEMPLATES);
+    }
+
+    @Override
+    protected boolean onProcess(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Map<TypeElement, List<DescriptionInfo>> interfaces = new LinkedHashMap<>();
+        for (Element e : roundEnv.getElementsAnnotatedWith(StaticDescription.class)) {
+            ExecutableElement method = (ExecutableElement) e;
+            TypeElement type = (TypeElement) method.getEnclosingElement();
+            if (type.getKind() != ElementKind.INTERFACE) {
+                error(type, "@%s can only be used in interfaces", StaticDescription.class.getSimpleName());
+                continue;
+            }
+            if (!method.getParameters().isEmpty() || !RESOURCE_DESCRIPTION.equals(
+                    method.getReturnType().toString())) {
+                error(method, "@%s must be used on methods without parameters which return %s",
+                        StaticDescription.class.getSimpleName(), RESOURCE_DESCRIPTION);
+                continue;
+            }
+
+            String packageName = elementUtils.getPackageOf(type).getQualifiedName().toString();
+            String file = packageName.replace('.', '/') + "/" + method.getAnnotation(StaticDescription.class).value();
+            List<String> statements = statements(method, file);
+            if (statements != null) {
+                interfaces.computeIfAbsent(type, t -> new ArrayList<>())
+                        .add(new DescriptionInfo(method.getSimpleName().toString(), statements));
+            }
+        }
+
+        interfaces.forEach((type, descriptions) -> {
+            String packageName = elementUtils.getPackageOf(type).getQualifiedName().toString();
+            String className = type.getSimpleName() + "Impl";
+            debug("Generating code for static descriptions %s", className);
+            code(TEMPLATE, packageName, className, () -> {
+                Map<String, Object> context = new HashMap<>();
+                context.put(GENERATED_WITH, StaticDescriptionProcessor.class.getName());
+                context.put(PACKAGE_NAME, packageName);
+                context.put(CLASS_NAME, className);
+                context.put("interfaceName", type.getSimpleName().toString());
+                context.put("descriptions", descriptions);
+                return context;
+            });
+            info("Successfully generated static descriptions [%s].", className);
+        });
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> statements(ExecutableElement method, String file) {
+        String text;
+        try {
+            FileObject fileObject = processingEnv.getFiler().getResource(StandardLocation.CLASS_PATH, "", file);
+            text = fileObject.getCharContent(true).toString();
+        } catch (IOException e) {
+            error(method, "Cannot find DMR file \"%s\". Please make sure the file exists and resides in the " +
+                    "resource path.", file);
+            return null;
+        }
+
+        Object root;
+        try {
+            root = new DmrParser(text).parse();
+        } catch (DmrParser.ParseException e) {
+            error(method, "Cannot parse DMR file \"%s\": %s", file, e.getMessage());
+            return null;
+        }
+        if (!(root instanceof Map)) {
+            error(method, "DMR file \"%s\" does not contain an object", file);
+            return null;
+        }
+
+        Map<String, Object> description = new LinkedHashMap<>((Map<String, Object>) root);
+        description.remove(COMMENT);
+        StatementBuilder builder = new StatementBuilder();
+        builder.object(ROOT, description);
+        return builder.statements;
+    }
+
+
+    private static class StatementBuilder {
+
+        private final List<String> statements = new ArrayList<>();
+        private int counter = 1;
+
+        private void object(String node, Map<String, Object> object) {
+            if (object.isEmpty()) {
+                statements.add(node + ".setEmptyObject();");
+            }
+            object.forEach((key, value) -> child(node + ".get(" + DmrParser.literal(key) + ")", value));
+        }
+
+        private void list(String node, List<Object> list) {
+            if (list.isEmpty()) {
+                statements.add(node + ".setEmptyList();");
+            }
+            list.forEach(value -> child(node + ".add()", value));
+        }
+
+        @SuppressWarnings("unchecked")
+        private void child(String expression, Object value) {
+            if (value instanceof Map) {
+                String variable = "n" + counter++;
+                statements.add("ModelNode " + variable + " = " + expression + ";");
+                object(variable, (Map<String, Object>) value);
+            } else if (value instanceof List) {
+                String variable = "n" + counter++;
+                statements.add("ModelNode " + variable + " = " + expression + ";");
+                list(variable, (List<Object>) value);
+            } else {
+                DmrParser.Value v = (DmrParser.Value) value;
+                if (v.setter == null) {
+                    statements.add(expression + ";");
+                } else {
+                    statements.add(expression + "." + v.setter + "(" + v.argument + ");");
+                }
+            }
+        }
+    }
+
+
+    public static class DescriptionInfo {
+
+        private final String method;
+        private final List<String> statements;
+
+        DescriptionInfo(String method, List<String> statements) {
+            this.method = method;
+            this.statements = statements;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public List<String> getStatements() {
+            return statements;
+        }
+    }
+}
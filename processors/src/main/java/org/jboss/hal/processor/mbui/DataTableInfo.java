@@ -28,6 +28,7 @@ public class DataTableInfo extends MbuiElementInfo {
     private final MetadataInfo metadata;
     private final String title;
     private FormInfo formRef;
+    private boolean virtualScroll;
     private final List<Column> columns;
     private final List<Action> actions;
 
@@ -61,6 +62,14 @@ public class DataTableInfo extends MbuiElementInfo {
         this.formRef = formRef;
     }
 
+    public boolean isVirtualScroll() {
+        return virtualScroll;
+    }
+
+    void setVirtualScroll(final boolean virtualScroll) {
+        this.virtualScroll = virtualScroll;
+    }
+
     public List<Column> getColumns() {
         return columns;
     }
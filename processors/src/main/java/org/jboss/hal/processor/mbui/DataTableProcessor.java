@@ -48,6 +48,7 @@ class DataTableProcessor extends AbstractMbuiElementProcessor implements MbuiEle
         }
         DataTableInfo tableInfo = new DataTableInfo(field.getSimpleName().toString(), selector, getTypeParameter(field),
                 metadata, title);
+        tableInfo.setVirtualScroll(Boolean.parseBoolean(element.getAttributeValue(XmlTags.VIRTUAL_SCROLL)));
         context.addDataTableInfo(tableInfo);
 
         // actions
@@ -58,4 +58,5 @@ public interface XmlTags {
     String VALUE = "value";
     String VERTICAL_NAVIGATION = "vertical-navigation";
     String VIEW = "view";
+    String VIRTUAL_SCROLL = "virtual-scroll";
 }
@@ -231,7 +231,7 @@ public final class ${context.subclass} extends ${context.base} {
                     form,
                     (name, modelNode) -> {
                         ResourceAddress address = ${table.metadata.name}Template.resolve(statementContext(), name);
-                        mbuiContext.crud().add(${table.title}, name, address, modelNode, (n, a) -> presenter.reload());
+                        mbuiContext.crud().add(${table.title}, name, address, modelNode, (n, a) -> reload(a));
                     });
                 dialog.show();
             }))
@@ -244,7 +244,7 @@ public final class ${context.subclass} extends ${context.base} {
                     asList(<#list action.attributes as attribute>"${attribute.name}"<#if attribute_has_next>, </#if></#list>),
                     (name, modelNode) -> {
                         ResourceAddress address = ${table.metadata.name}Template.resolve(statementContext(), name);
-                        mbuiContext.crud().add(${table.title}, name, address, modelNode, (n, a) -> presenter.reload());
+                        mbuiContext.crud().add(${table.title}, name, address, modelNode, (n, a) -> reload(a));
                     });
                                     <#list action.validationHandlerAttributes as attribute>
                 dialog.getForm().getFormItem("${attribute.name}").addValidationHandler(${attribute.validationHandler});
@@ -266,24 +266,27 @@ public final class ${context.subclass} extends ${context.base} {
             }))
                                 <#else>
             .button(mbuiContext.tableButtonFactory().add(Ids.build("${table.selector}", Ids.ADD), ${table.title},
-                ${table.metadata.name}Template, <#if action.attributes?has_content>asList(<#list action.attributes as attribute>"${attribute.name}"<#if attribute_has_next>, </#if></#list>), </#if>(name, address) -> presenter.reload()))
+                ${table.metadata.name}Template, <#if action.attributes?has_content>asList(<#list action.attributes as attribute>"${attribute.name}"<#if attribute_has_next>, </#if></#list>), </#if>(name, address) -> reload(address)))
                                 </#if>
                             <#else>
             .button(mbuiContext.tableButtonFactory().add(Ids.build("${table.selector}", Ids.ADD), ${table.title},
                 ${table.metadata.name}Template,
-                (name, address) -> presenter.reload()))
+                (name, address) -> reload(address)))
                             </#if>
                             <#break>
                         <#case "REMOVE_RESOURCE">
             .button(mbuiContext.tableButtonFactory().remove(${table.title}, ${table.metadata.name}Template,
                 table -> ${action.nameResolver},
-                () -> presenter.reload()))
+                () -> reloadChildren(${table.metadata.name}Template)))
                             <#break>
                     </#switch>
                 <#else>
             .button(${action.title}, table -> ${action.handler}<#if action.scope??>, Scope.${action.scope}</#if><#if action.constraint??>, Constraint.parse("${action.constraint}")</#if>)
                 </#if>
             </#list>
+            <#if table.virtualScroll>
+            .virtualScroll()
+            </#if>
             <#if table.onlySimpleColumns>
             .columns(<#list table.columns as column>"${column.name}"<#if column_has_next>, </#if></#list>)
             <#else>
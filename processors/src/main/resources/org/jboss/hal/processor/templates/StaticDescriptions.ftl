@@ -0,0 +1,30 @@
+<#-- @ftlvariable name="generatedWith" type="java.lang.String" -->
+<#-- @ftlvariable name="packageName" type="java.lang.String" -->
+<#-- @ftlvariable name="className" type="java.lang.String" -->
+<#-- @ftlvariable name="interfaceName" type="java.lang.String" -->
+<#-- @ftlvariable name="descriptions" type="java.util.List<org.jboss.hal.processor.StaticDescriptionProcessor.DescriptionInfo>" -->
+package ${packageName};
+
+import javax.annotation.Generated;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.meta.description.ResourceDescription;
+
+/*
+ * WARNING! This class is generated. Do not modify.
+ */
+@Generated("${generatedWith}")
+public class ${className} implements ${interfaceName} {
+<#list descriptions as description>
+
+    @Override
+    public ResourceDescription ${description.method}() {
+        ModelNode n0 = new ModelNode();
+        <#list description.statements as statement>
+        ${statement}
+        </#list>
+        n0.protect(); // shared by the resource description
+        return new ResourceDescription(n0);
+    }
+</#list>
+}
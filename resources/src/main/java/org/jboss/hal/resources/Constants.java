@@ -50,8 +50,10 @@ public interface Constants extends com.google.gwt.i18n.client.Constants {
     String backToNormalMode();
     String browse();
     String browseBy();
+    String bulkOperations();
     String cacheMemory();
     String cacheStore();
+    String callback();
     String callerThread();
     String cancel();
     String cancelActiveOperation();
@@ -115,6 +117,7 @@ public interface Constants extends com.google.gwt.i18n.client.Constants {
     String days();
     String deactivate();
     String deactivateAccount();
+    String decode();
     String defaultValue();
     String deploy();
     String deployContent();
@@ -140,6 +143,7 @@ public interface Constants extends com.google.gwt.i18n.client.Constants {
     String domainController();
     String download();
     String dropSubscriptions();
+    String dryRun();
     String duplicateMacro();
     String duplicateResource();
     String duration();
@@ -178,6 +182,8 @@ public interface Constants extends com.google.gwt.i18n.client.Constants {
     String exploded();
     String export();
     String exportCertificate();
+    String exportCsv();
+    String exportJson();
     String expression();
     String expressionResolver();
     String extensionError();
@@ -205,6 +211,7 @@ public interface Constants extends com.google.gwt.i18n.client.Constants {
     String generateKeyPair();
     String getMetadata();
     String getRoles();
+    String globalSearch();
     String globalSettings();
     String gotoDeployment();
     String group();
@@ -348,6 +355,7 @@ public interface Constants extends com.google.gwt.i18n.client.Constants {
     String message();
     String messageLarge();
     String messages();
+    String metrics();
     String milliseconds();
     String minimum();
     String minute();
@@ -361,6 +369,7 @@ public interface Constants extends com.google.gwt.i18n.client.Constants {
     String nativeManagementInterface();
     String needsReload();
     String needsRestart();
+    String network();
     String networkError();
     String newContent();
     String next();
@@ -424,6 +433,7 @@ public interface Constants extends com.google.gwt.i18n.client.Constants {
     String ping();
     String platform();
     String play();
+    String playInBatches();
     String policy();
     String pool();
     String preparedStatementCache();
@@ -470,6 +480,7 @@ public interface Constants extends com.google.gwt.i18n.client.Constants {
     String resolve();
     String resolvedValue();
     String resolveExpression();
+    String resolveExpressions();
     String resourceRollback();
     String response();
     String restart();
@@ -518,6 +529,7 @@ public interface Constants extends com.google.gwt.i18n.client.Constants {
     String showSensitive();
     String size();
     String sizing();
+    String slowestOperations();
     String source();
     String specifyNames();
     String specifyParameters();
@@ -566,6 +578,7 @@ public interface Constants extends com.google.gwt.i18n.client.Constants {
     String toggleDropdown();
     String toggleNavigation();
     String tools();
+    String total();
     String totalProcessingTime();
     String tracking();
     String transactions();
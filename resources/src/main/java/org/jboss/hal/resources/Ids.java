@@ -151,6 +151,7 @@ public interface Ids {
     String DEPLOYMENT = "deployment";
     String DEPLOYMENT_ADD_ACTIONS = "deployment-add-actions";
     String DEPLOYMENT_BROWSE_BY = "deployment-browse-by";
+    String DEPLOYMENT_BULK_ACTIONS = "deployment-bulk-actions";
     String DEPLOYMENT_EMPTY_CREATE = "deployment-empty-create";
     String DEPLOYMENT_EMPTY_FORM = "deployment-empty-form";
     String DEPLOYMENT_NOT_ENABLED_EMPTY = "deployment-not-enabled-empty";
@@ -301,6 +302,7 @@ public interface Ids {
     String ENDPOINT_REFRESH = "endpoint-refresh";
     String ENDPOINT_SELECT = "endpoint-select";
     String ENDPOINT_STORAGE = "hal-local-storage-endpoint";
+    String EXPORT = "export";
     String EXTENSION = "extension";
     String EXTENSION_ADD = "extension-add";
     String EXTENSION_REVIEW_FORM = "extension-review-form";
@@ -310,6 +312,7 @@ public interface Ids {
     String FOOTER_EXTENSIONS = "footer-extensions";
     String FOOTER_EXTENSIONS_DROPDOWN = "footer-extensions-dropdown";
     String FORM = "form";
+    String GLOBAL_SEARCH = "global-search";
     String GROUP = "group";
     String HAL_MODAL = "hal-modal";
     String HAL_MODAL_TITLE = "hal-modal-title";
@@ -691,11 +694,13 @@ public interface Ids {
     String SECURITY_MANAGER_MINIMUM_PERMISSIONS = "sm-min-permissions";
     String SERVER = "server";
     String SERVER_ADD = "server-add";
+    String SERVER_BULK_ACTIONS = "server-bulk-actions";
     String SERVER_GROUP = "server-group";
     String SERVER_GROUP_ADD = "server-group-add";
     String SERVER_GROUP_DEPLOYMENT = "server-group-deployment";
     String SERVER_GROUP_DEPLOYMENT_ADD = "server-group-deployment-add";
     String SERVER_GROUP_DEPLOYMENT_ADD_ACTIONS = "server-group-deployment-add-actions";
+    String SERVER_GROUP_DEPLOYMENT_BULK_ACTIONS = "server-group-deployment-bulk-actions";
     String SERVER_GROUP_DEPLOYMENT_ENABLE = "server-group-deployment-enable";
     String SERVER_GROUP_DEPLOYMENT_REFRESH = "server-group-deployment-refresh";
     String SERVER_GROUP_DEPLOYMENT_TABLE = "server-group-deployment-table";
@@ -40,6 +40,11 @@ public interface Messages extends com.google.gwt.i18n.client.Messages {
     SafeHtml alternativesHelp(String alternatives);
     SafeHtml assignmentExcludeSuccess(String type, String name);
     SafeHtml assignmentIncludeSuccess(String type, String name);
+    SafeHtml bulkOperationDescription(String operation);
+    SafeHtml bulkOperationError(String operation, int failed, int count);
+    SafeHtml bulkOperationNoItems(String operation);
+    SafeHtml bulkOperationSuccess(String operation, int count);
+    SafeHtml bulkServerTimeout(String operation, int count);
     SafeHtml callerThreadLabel(String name);
     SafeHtml cancelActiveOperation(String operation);
     SafeHtml cancelledLabel(boolean name);
@@ -214,6 +219,8 @@ public interface Messages extends com.google.gwt.i18n.client.Messages {
     SafeHtml largeLogFile(String size);
     SafeHtml lastOperationException();
     SafeHtml lastOperationFailed();
+    SafeHtml lifecycleBatchSizeHelp();
+    SafeHtml lifecycleModeHelp();
     SafeHtml listHint();
     SafeHtml loadContentError();
     SafeHtml loadPropertiesRealmError(String name, String error);
@@ -221,6 +228,9 @@ public interface Messages extends com.google.gwt.i18n.client.Messages {
     SafeHtml loadProviderDynamicWarning();
     SafeHtml logFileError(String name);
     SafeHtml longRunningManagementOperations();
+    SafeHtml macroDryRunError();
+    SafeHtml macroDryRunSkipped(int operations);
+    SafeHtml macroDryRunSuccessful(int operations);
     SafeHtml macroPlaybackError();
     SafeHtml macroPlaybackSuccessful();
     SafeHtml managementOperationsFindNoResult();
@@ -252,6 +262,7 @@ public interface Messages extends com.google.gwt.i18n.client.Messages {
     SafeHtml noDeploymentsUploaded();
     SafeHtml noExecutions();
     SafeHtml noItems();
+    SafeHtml noItemsSelected();
     SafeHtml noLogFile();
     SafeHtml noMacrosDescription(String startMacro);
     SafeHtml noMatchingConnections();
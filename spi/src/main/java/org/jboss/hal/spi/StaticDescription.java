@@ -0,0 +1,43 @@
+/*
+ * Copyright 2015-2016 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.hal.spi;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.SOURCE;
+
+/**
+ * Turns a resource description written in the DMR text format into Java code at build time. Place this annotation on
+ * parameterless methods of an interface which return a {@code ResourceDescription}. The annotation processor
+ * generates an implementation named {@code <Interface>Impl} which builds the descriptions without any parsing or
+ * decoding at runtime.
+ */
+@Documented
+@Retention(SOURCE)
+@Target(METHOD)
+public @interface StaticDescription {
+
+    /**
+     * The DMR file which contains the resource description. The file is resolved relative to the package of the
+     * interface and has to be on the classpath when the processor runs (i.e. in {@code src/main/resources}).
+     *
+     * @return the name of the DMR file
+     */
+    String value();
+}